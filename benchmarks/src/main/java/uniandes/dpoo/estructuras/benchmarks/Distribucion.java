@@ -0,0 +1,108 @@
+package uniandes.dpoo.estructuras.benchmarks;
+
+import java.util.Arrays;
+
+import uniandes.dpoo.estructuras.logica.DistribucionEnteros;
+import uniandes.dpoo.estructuras.logica.GeneradorEnteros;
+
+/**
+ * Las distribuciones de datos con las que se ejecutan los benchmarks.
+ *
+ * Todos los datos se generan con una semilla fija para que dos ejecuciones midan exactamente los mismos valores. Como GeneradorEnteros llena por porciones con un
+ * generador separado para cada una, los valores no dependen de la cantidad de hilos de la máquina.
+ */
+public enum Distribucion
+{
+    /**
+     * Valores uniformes en todo el rango de los enteros no negativos
+     */
+    UNIFORME,
+
+    /**
+     * Valores con distribución de Zipf (exponente 1.1): unos pocos valores concentran la mayoría de las apariciones
+     */
+    ZIPF,
+
+    /**
+     * Valores uniformes ordenados de menor a mayor
+     */
+    ORDENADA,
+
+    /**
+     * Valores uniformes ordenados de mayor a menor
+     */
+    INVERTIDA,
+
+    /**
+     * Valores uniformes tomados de un conjunto de sólo 16 valores distintos
+     */
+    MUCHOS_REPETIDOS,
+
+    /**
+     * Valores con distribución normal truncada en todo el rango de los enteros no negativos: se concentran en la mitad del rango
+     */
+    GAUSSIANA_TRUNCADA,
+
+    /**
+     * Valores uniformes en tramos de GeneradorEnteros.LARGO_TRAMO elementos, cada uno ordenado: datos casi ordenados
+     */
+    TRAMOS_ORDENADOS;
+
+    /**
+     * La semilla con la que se generan todos los datos
+     */
+    public static final long SEMILLA = 20231018L;
+
+    /**
+     * Genera un arreglo de enteros con esta distribución, con el mismo GeneradorEnteros que usan los sandbox, llenándolo en paralelo
+     * @param cantidad La cantidad de valores
+     * @return Un arreglo nuevo con los valores generados
+     */
+    public int[] generar( int cantidad )
+    {
+        GeneradorEnteros generador = new GeneradorEnteros( SEMILLA );
+        switch( this )
+        {
+            case ZIPF:
+                return generador.generar( cantidad, 0, Math.max( 1, Math.min( cantidad, 1_000_000 ) ) - 1, DistribucionEnteros.ZIPF, true );
+            case MUCHOS_REPETIDOS:
+                return generador.generar( cantidad, 0, 15, DistribucionEnteros.UNIFORME, true );
+            case GAUSSIANA_TRUNCADA:
+                return generador.generar( cantidad, 0, Integer.MAX_VALUE - 1, DistribucionEnteros.GAUSSIANA_TRUNCADA, true );
+            case TRAMOS_ORDENADOS:
+                return generador.generar( cantidad, 0, Integer.MAX_VALUE - 1, DistribucionEnteros.TRAMOS_ORDENADOS, true );
+            default:
+                int[] valores = generador.generar( cantidad, 0, Integer.MAX_VALUE - 1, DistribucionEnteros.UNIFORME, true );
+                if( this == ORDENADA || this == INVERTIDA )
+                {
+                    Arrays.parallelSort( valores );
+                }
+                if( this == INVERTIDA )
+                {
+                    for( int i = 0, j = cantidad - 1; i < j; i++, j-- )
+                    {
+                        int temporal = valores[ i ];
+                        valores[ i ] = valores[ j ];
+                        valores[ j ] = temporal;
+                    }
+                }
+                return valores;
+        }
+    }
+
+    /**
+     * Genera un arreglo de cadenas con esta distribución, a partir de los enteros de generar
+     * @param cantidad La cantidad de cadenas
+     * @return Un arreglo nuevo con las cadenas generadas
+     */
+    public String[] generarCadenas( int cantidad )
+    {
+        int[] valores = generar( cantidad );
+        String[] cadenas = new String[cantidad];
+        for( int i = 0; i < cantidad; i++ )
+        {
+            cadenas[ i ] = ( i % 2 == 0 ? "c" : "C" ) + Integer.toString( valores[ i ], 36 );
+        }
+        return cadenas;
+    }
+}
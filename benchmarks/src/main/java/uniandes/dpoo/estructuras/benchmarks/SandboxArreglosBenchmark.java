@@ -0,0 +1,280 @@
+package uniandes.dpoo.estructuras.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uniandes.dpoo.estructuras.logica.AlmacenamientoEnteros;
+import uniandes.dpoo.estructuras.logica.IntIntHistogram;
+import uniandes.dpoo.estructuras.logica.SandboxArreglos;
+
+/**
+ * Benchmarks de los métodos más usados de SandboxArreglos
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Benchmark )
+public class SandboxArreglosBenchmark
+{
+    @Param( { "10", "1000", "100000", "10000000" } )
+    public int tamanio;
+
+    @Param
+    public Distribucion distribucion;
+
+    @Param
+    public AlmacenamientoEnteros almacenamiento;
+
+    private int[] valores;
+
+    private double[] decimales;
+
+    private String[] cadenas;
+
+    private int buscado;
+
+    private String cadenaBuscada;
+
+    private SandboxArreglos sandbox;
+
+    /**
+     * Un sandbox con los mismos valores, ya organizado, para medir las consultas que aprovechan el orden
+     */
+    private SandboxArreglos ordenado;
+
+    @Setup( Level.Trial )
+    public void preparar( )
+    {
+        valores = distribucion.generar( tamanio );
+        cadenas = distribucion.generarCadenas( tamanio );
+        decimales = new double[tamanio];
+        for( int i = 0; i < tamanio; i++ )
+        {
+            decimales[ i ] = valores[ i ] + 0.5;
+        }
+        buscado = valores[ tamanio / 2 ];
+        cadenaBuscada = cadenas[ tamanio / 2 ];
+        sandbox = new SandboxArreglos( almacenamiento );
+        sandbox.reiniciarArregloEnteros( decimales );
+        sandbox.reiniciarArregloCadenas( cadenas );
+        ordenado = new SandboxArreglos( almacenamiento );
+        ordenado.reiniciarArregloEnteros( decimales );
+        ordenado.organizarEnteros( );
+    }
+
+    /**
+     * Un sandbox que se vuelve a cargar antes de cada invocación, para los métodos que lo modifican de forma irreversible
+     */
+    @State( Scope.Thread )
+    public static class SandboxNuevo
+    {
+        SandboxArreglos sandbox;
+
+        @Setup( Level.Invocation )
+        public void preparar( SandboxArreglosBenchmark benchmark )
+        {
+            sandbox = new SandboxArreglos( benchmark.almacenamiento );
+            sandbox.reiniciarArregloEnteros( benchmark.decimales );
+            sandbox.reiniciarArregloCadenas( benchmark.cadenas );
+        }
+    }
+
+    @Benchmark
+    public SandboxArreglos agregarEntero( )
+    {
+        SandboxArreglos nuevo = new SandboxArreglos( almacenamiento );
+        for( int valor : valores )
+        {
+            nuevo.agregarEntero( valor );
+        }
+        return nuevo;
+    }
+
+    @Benchmark
+    public SandboxArreglos agregarCadena( )
+    {
+        SandboxArreglos nuevo = new SandboxArreglos( almacenamiento );
+        for( String cadena : cadenas )
+        {
+            nuevo.agregarCadena( cadena );
+        }
+        return nuevo;
+    }
+
+    @Benchmark
+    public SandboxArreglos agregarEnteros( )
+    {
+        SandboxArreglos nuevo = new SandboxArreglos( almacenamiento );
+        nuevo.agregarEnteros( valores );
+        return nuevo;
+    }
+
+    @Benchmark
+    public SandboxArreglos agregarCadenas( )
+    {
+        SandboxArreglos nuevo = new SandboxArreglos( almacenamiento );
+        nuevo.agregarCadenas( Arrays.asList( cadenas ) );
+        return nuevo;
+    }
+
+    @Benchmark
+    public SandboxArreglos reiniciarArregloEnteros( )
+    {
+        SandboxArreglos nuevo = new SandboxArreglos( almacenamiento );
+        nuevo.reiniciarArregloEnteros( decimales );
+        return nuevo;
+    }
+
+    /**
+     * Reinicia desde un stream que genera los decimales a medida que se consumen, sin un double[] intermedio. Con -prof gc se compara la memoria reservada con
+     * reiniciarArregloEnteros, que parte de un double[] ya construido.
+     */
+    @Benchmark
+    public SandboxArreglos reiniciarArregloEnterosDesdeStream( )
+    {
+        SandboxArreglos nuevo = new SandboxArreglos( almacenamiento );
+        nuevo.reiniciarArregloEnteros( Arrays.stream( valores ).mapToDouble( valor -> valor + 0.5 ) );
+        return nuevo;
+    }
+
+    @Benchmark
+    public int insertarYEliminarEnMedio( )
+    {
+        sandbox.insertarEntero( buscado, tamanio / 2 );
+        sandbox.eliminarEnteroPorPosicion( tamanio / 2 );
+        return sandbox.getCantidadEnteros( );
+    }
+
+    @Benchmark
+    public int[] getCopiaEnteros( )
+    {
+        return sandbox.getCopiaEnteros( );
+    }
+
+    @Benchmark
+    public long sumarConCopia( )
+    {
+        return Arrays.stream( sandbox.getCopiaEnteros( ) ).asLongStream( ).sum( );
+    }
+
+    @Benchmark
+    public long sumarConVista( )
+    {
+        return sandbox.getVistaEnteros( ).stream( ).asLongStream( ).sum( );
+    }
+
+    @Benchmark
+    public Object getInstantaneaEnteros( )
+    {
+        return sandbox.getInstantaneaEnteros( );
+    }
+
+    @Benchmark
+    public int contarApariciones( )
+    {
+        return sandbox.contarApariciones( buscado );
+    }
+
+    @Benchmark
+    public int contarAparicionesOrdenado( )
+    {
+        return ordenado.contarApariciones( buscado );
+    }
+
+    @Benchmark
+    public int contarAparicionesCadena( )
+    {
+        return sandbox.contarApariciones( cadenaBuscada );
+    }
+
+    @Benchmark
+    public int[] buscarEntero( )
+    {
+        return sandbox.buscarEntero( buscado );
+    }
+
+    @Benchmark
+    public int[] buscarEnteroOrdenado( )
+    {
+        return ordenado.buscarEntero( buscado );
+    }
+
+    @Benchmark
+    public int[] calcularRangoEnteros( )
+    {
+        return sandbox.calcularRangoEnteros( );
+    }
+
+    @Benchmark
+    public int[] calcularRangoEnterosOrdenado( )
+    {
+        return ordenado.calcularRangoEnteros( );
+    }
+
+    @Benchmark
+    public Object calcularHistograma( )
+    {
+        return sandbox.calcularHistograma( );
+    }
+
+    @Benchmark
+    public IntIntHistogram histograma( )
+    {
+        return sandbox.histograma( );
+    }
+
+    @Benchmark
+    public int contarEnterosRepetidos( )
+    {
+        return sandbox.contarEnterosRepetidos( );
+    }
+
+    @Benchmark
+    public boolean mismosEnteros( )
+    {
+        return sandbox.mismosEnteros( valores );
+    }
+
+    @Benchmark
+    public SandboxArreglos organizarEnteros( SandboxNuevo nuevo )
+    {
+        nuevo.sandbox.organizarEnteros( );
+        return nuevo.sandbox;
+    }
+
+    @Benchmark
+    public SandboxArreglos organizarCadenas( SandboxNuevo nuevo )
+    {
+        nuevo.sandbox.organizarCadenas( );
+        return nuevo.sandbox;
+    }
+
+    @Benchmark
+    public SandboxArreglos eliminarEntero( SandboxNuevo nuevo )
+    {
+        nuevo.sandbox.eliminarEntero( buscado );
+        return nuevo.sandbox;
+    }
+
+    @Benchmark
+    public SandboxArreglos volverPositivos( SandboxNuevo nuevo )
+    {
+        nuevo.sandbox.volverPositivos( );
+        return nuevo.sandbox;
+    }
+}
@@ -0,0 +1,118 @@
+package uniandes.dpoo.estructuras.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uniandes.dpoo.estructuras.logica.AlmacenamientoCadenas;
+import uniandes.dpoo.estructuras.logica.AlmacenamientoEnteros;
+import uniandes.dpoo.estructuras.logica.SandboxArreglos;
+
+/**
+ * Benchmarks de los métodos de SandboxArreglos que usan el arreglo de cadenas, con cada forma de guardarlo.
+ *
+ * Con -prof gc, gc.alloc.rate.norm de agregarCadena muestra cuánta memoria reserva cada almacenamiento para guardar las mismas cadenas, y la de contarAparicionesCadena
+ * y organizarCadenas muestra que la columna no crea objetos String para consultarlas.
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Benchmark )
+public class SandboxArreglosCadenasBenchmark
+{
+    @Param( { "1000", "100000", "10000000" } )
+    public int tamanio;
+
+    @Param( { "ZIPF", "UNIFORME", "MUCHOS_REPETIDOS" } )
+    public Distribucion distribucion;
+
+    @Param
+    public AlmacenamientoCadenas almacenamientoCadenas;
+
+    private String[] cadenas;
+
+    private String cadenaBuscada;
+
+    /**
+     * La cadena buscada en mayúsculas, para que contarAparicionesCadena tenga que comparar sin diferenciar mayúsculas y minúsculas
+     */
+    private String cadenaBuscadaEnMayusculas;
+
+    private SandboxArreglos sandbox;
+
+    @Setup( Level.Trial )
+    public void preparar( )
+    {
+        cadenas = distribucion.generarCadenas( tamanio );
+        cadenaBuscada = cadenas[ tamanio / 2 ];
+        cadenaBuscadaEnMayusculas = cadenaBuscada.toUpperCase( );
+        sandbox = new SandboxArreglos( AlmacenamientoEnteros.ARREGLO, almacenamientoCadenas );
+        sandbox.reiniciarArregloCadenas( cadenas );
+    }
+
+    /**
+     * Un sandbox que se vuelve a cargar antes de cada invocación, para los métodos que lo modifican de forma irreversible
+     */
+    @State( Scope.Thread )
+    public static class SandboxNuevo
+    {
+        SandboxArreglos sandbox;
+
+        @Setup( Level.Invocation )
+        public void preparar( SandboxArreglosCadenasBenchmark benchmark )
+        {
+            sandbox = new SandboxArreglos( AlmacenamientoEnteros.ARREGLO, benchmark.almacenamientoCadenas );
+            sandbox.reiniciarArregloCadenas( benchmark.cadenas );
+        }
+    }
+
+    @Benchmark
+    public SandboxArreglos agregarCadena( )
+    {
+        SandboxArreglos nuevo = new SandboxArreglos( AlmacenamientoEnteros.ARREGLO, almacenamientoCadenas );
+        for( String cadena : cadenas )
+        {
+            nuevo.agregarCadena( cadena );
+        }
+        return nuevo;
+    }
+
+    @Benchmark
+    public int contarAparicionesCadena( )
+    {
+        return sandbox.contarApariciones( cadenaBuscadaEnMayusculas );
+    }
+
+    @Benchmark
+    public String[] getCopiaCadenas( )
+    {
+        return sandbox.getCopiaCadenas( );
+    }
+
+    @Benchmark
+    public SandboxArreglos organizarCadenas( SandboxNuevo nuevo )
+    {
+        nuevo.sandbox.organizarCadenas( );
+        return nuevo.sandbox;
+    }
+
+    @Benchmark
+    public SandboxArreglos eliminarCadena( SandboxNuevo nuevo )
+    {
+        nuevo.sandbox.eliminarCadena( cadenaBuscada );
+        return nuevo.sandbox;
+    }
+}
@@ -0,0 +1,104 @@
+package uniandes.dpoo.estructuras.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uniandes.dpoo.estructuras.logica.AlmacenamientoEnteros;
+import uniandes.dpoo.estructuras.logica.SandboxArreglos;
+
+/**
+ * Benchmarks que comparan eliminar varios valores de SandboxArreglos de a uno con eliminarlos en un solo recorrido.
+ *
+ * Están separados de SandboxArreglosBenchmark porque son los únicos que dependen de cantidadEliminados.
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Benchmark )
+public class SandboxArreglosEliminarBenchmark
+{
+    @Param( { "10", "1000", "100000", "10000000" } )
+    public int tamanio;
+
+    @Param
+    public Distribucion distribucion;
+
+    @Param
+    public AlmacenamientoEnteros almacenamiento;
+
+    /**
+     * La cantidad de valores que se eliminan
+     */
+    @Param( { "4", "32" } )
+    public int cantidadEliminados;
+
+    private double[] decimales;
+
+    /**
+     * Valores del arreglo, repartidos a lo largo de él
+     */
+    private int[] eliminados;
+
+    @Setup( Level.Trial )
+    public void preparar( )
+    {
+        int[] valores = distribucion.generar( tamanio );
+        decimales = new double[tamanio];
+        for( int i = 0; i < tamanio; i++ )
+        {
+            decimales[ i ] = valores[ i ] + 0.5;
+        }
+        eliminados = new int[cantidadEliminados];
+        for( int i = 0; i < cantidadEliminados; i++ )
+        {
+            eliminados[ i ] = valores[ ( int )( ( long )tamanio * i / cantidadEliminados ) ];
+        }
+    }
+
+    /**
+     * Un sandbox que se vuelve a cargar antes de cada invocación, porque eliminar lo modifica
+     */
+    @State( Scope.Thread )
+    public static class SandboxNuevo
+    {
+        SandboxArreglos sandbox;
+
+        @Setup( Level.Invocation )
+        public void preparar( SandboxArreglosEliminarBenchmark benchmark )
+        {
+            sandbox = new SandboxArreglos( benchmark.almacenamiento );
+            sandbox.reiniciarArregloEnteros( benchmark.decimales );
+        }
+    }
+
+    @Benchmark
+    public SandboxArreglos eliminarEnterosDeAUno( SandboxNuevo nuevo )
+    {
+        for( int valor : eliminados )
+        {
+            nuevo.sandbox.eliminarEntero( valor );
+        }
+        return nuevo.sandbox;
+    }
+
+    @Benchmark
+    public SandboxArreglos eliminarEnteros( SandboxNuevo nuevo )
+    {
+        nuevo.sandbox.eliminarEnteros( eliminados );
+        return nuevo.sandbox;
+    }
+}
@@ -0,0 +1,94 @@
+package uniandes.dpoo.estructuras.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uniandes.dpoo.estructuras.logica.AlmacenamientoEnteros;
+import uniandes.dpoo.estructuras.logica.SandboxArreglos;
+
+/**
+ * Compara el trabajo del recolector de basura cuando un SandboxArreglos retiene muchos enteros en el heap y cuando los guarda fuera de él.
+ *
+ * El sandbox se llena una vez por trial y queda vivo durante toda la medición, como los datos de un servicio. Cada invocación simula una solicitud: consulta y modifica
+ * el sandbox y crea objetos de vida corta. Lo que interesa no es el tiempo de la solicitud sino gc.count y gc.time de -prof gc (ver el README): con el mismo heap, los
+ * enteros que viven en el heap dejan menos espacio para la generación joven y el recolector tiene que trabajar más seguido.
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( value = 1, jvmArgsAppend = { "-Xms3g", "-Xmx3g", "-XX:+UseG1GC", "-XX:MaxDirectMemorySize=4g" } )
+@State( Scope.Benchmark )
+public class SandboxArreglosFueraDelHeapBenchmark
+{
+    /**
+     * La cantidad de enteros que retiene el sandbox. 200 millones de enteros son 800 MB.
+     */
+    @Param( { "10000000", "200000000" } )
+    public int tamanio;
+
+    @Param
+    public AlmacenamientoEnteros almacenamiento;
+
+    /**
+     * La cantidad de objetos de vida corta que crea cada solicitud
+     */
+    @Param( { "1000" } )
+    public int basura;
+
+    private SandboxArreglos sandbox;
+
+    private int siguiente;
+
+    @Setup( Level.Trial )
+    public void preparar( )
+    {
+        sandbox = new SandboxArreglos( almacenamiento );
+        int cantidad = tamanio;
+        sandbox.reiniciarArregloEnteros( IntStream.range( 0, cantidad ).mapToDouble( i -> ( i * 2654435761L ) % cantidad ) );
+    }
+
+    @TearDown( Level.Trial )
+    public void liberar( )
+    {
+        sandbox.close( );
+    }
+
+    /**
+     * Agrega y elimina un entero al final del sandbox, y arma una lista de Integer con 'basura' valores que se descarta al terminar
+     */
+    @Benchmark
+    public long atenderSolicitud( )
+    {
+        siguiente++;
+        sandbox.agregarEntero( siguiente );
+        sandbox.eliminarEnteroPorPosicion( sandbox.getCantidadEnteros( ) - 1 );
+        List<Integer> respuesta = new ArrayList<Integer>( );
+        for( int i = 0; i < basura; i++ )
+        {
+            respuesta.add( siguiente + i );
+        }
+        long suma = 0;
+        for( Integer valor : respuesta )
+        {
+            suma += valor;
+        }
+        return suma;
+    }
+}
@@ -0,0 +1,143 @@
+package uniandes.dpoo.estructuras.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uniandes.dpoo.estructuras.logica.IntIntHistogram;
+import uniandes.dpoo.estructuras.logica.SandboxArreglos;
+
+/**
+ * Benchmarks de las operaciones de SandboxArreglos que pueden usar varios hilos, con y sin paralelismo.
+ *
+ * Para cada operación, el punto de cruce es el menor tamaño en el que PARALELO es más rápido que SECUENCIAL. Ese tamaño es el que conviene usar con setUmbralParalelo en
+ * la máquina donde se ejecuta (ver el README).
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Benchmark )
+public class SandboxArreglosParaleloBenchmark
+{
+    @Param( { "1000", "10000", "100000", "1000000", "10000000" } )
+    public int tamanio;
+
+    @Param( { "SECUENCIAL", "PARALELO" } )
+    public String modo;
+
+    private double[] decimales;
+
+    private int buscado;
+
+    private SandboxArreglos sandbox;
+
+    @Setup( Level.Trial )
+    public void preparar( )
+    {
+        int[] valores = Distribucion.UNIFORME.generar( tamanio );
+        decimales = new double[tamanio];
+        for( int i = 0; i < tamanio; i++ )
+        {
+            decimales[ i ] = valores[ i ] - tamanio / 2;
+        }
+        buscado = valores[ tamanio / 2 ];
+        sandbox = crear( );
+    }
+
+    /**
+     * Crea un sandbox con los valores y el umbral que corresponde al modo
+     * @return Un sandbox nuevo
+     */
+    SandboxArreglos crear( )
+    {
+        SandboxArreglos nuevo = new SandboxArreglos( );
+        nuevo.setUmbralParalelo( "PARALELO".equals( modo ) ? 0 : Integer.MAX_VALUE );
+        nuevo.reiniciarArregloEnteros( decimales );
+        return nuevo;
+    }
+
+    /**
+     * Un sandbox que se vuelve a cargar antes de cada invocación, para los métodos que lo modifican
+     */
+    @State( Scope.Thread )
+    public static class SandboxNuevo
+    {
+        SandboxArreglos sandbox;
+
+        @Setup( Level.Invocation )
+        public void preparar( SandboxArreglosParaleloBenchmark benchmark )
+        {
+            sandbox = benchmark.crear( );
+        }
+    }
+
+    @Benchmark
+    public SandboxArreglos organizarEnteros( SandboxNuevo nuevo )
+    {
+        nuevo.sandbox.organizarEnteros( );
+        return nuevo.sandbox;
+    }
+
+    @Benchmark
+    public SandboxArreglos volverPositivos( SandboxNuevo nuevo )
+    {
+        nuevo.sandbox.volverPositivos( );
+        return nuevo.sandbox;
+    }
+
+    @Benchmark
+    public int contarApariciones( )
+    {
+        return sandbox.contarApariciones( buscado );
+    }
+
+    @Benchmark
+    public int[] calcularRangoEnteros( )
+    {
+        return sandbox.calcularRangoEnteros( );
+    }
+
+    @Benchmark
+    public IntIntHistogram histograma( )
+    {
+        return sandbox.histograma( );
+    }
+
+    /**
+     * Genera un arreglo nuevo del mismo tamaño con GeneradorEnteros, en paralelo o no según el modo
+     */
+    @Benchmark
+    public SandboxArreglos generarEnteros( )
+    {
+        sandbox.generarEnteros( tamanio, -1000, 1000 );
+        return sandbox;
+    }
+
+    /**
+     * Genera los mismos valores con Math.random(), como lo hacía generarEnteros antes de usar GeneradorEnteros. Es la referencia de generarEnteros; no depende del
+     * modo.
+     */
+    @Benchmark
+    public int[] generarConMathRandom( )
+    {
+        int[] valores = new int[tamanio];
+        for( int i = 0; i < tamanio; i++ )
+        {
+            valores[ i ] = ( int )( Math.random( ) * 2001 ) - 1000;
+        }
+        return valores;
+    }
+}
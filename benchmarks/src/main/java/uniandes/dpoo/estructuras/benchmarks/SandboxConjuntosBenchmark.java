@@ -0,0 +1,105 @@
+package uniandes.dpoo.estructuras.benchmarks;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uniandes.dpoo.estructuras.logica.SandboxConjuntos;
+
+/**
+ * Benchmarks de los métodos más usados de SandboxConjuntos
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Benchmark )
+public class SandboxConjuntosBenchmark
+{
+    @Param( { "10", "1000", "100000", "10000000" } )
+    public int tamanio;
+
+    @Param
+    public Distribucion distribucion;
+
+    @Param( { "false", "true" } )
+    public boolean conIndiceSinMayusculas;
+
+    private String[] cadenas;
+
+    private String cadenaBuscada;
+
+    private SandboxConjuntos sandbox;
+
+    @Setup( Level.Trial )
+    public void preparar( )
+    {
+        cadenas = distribucion.generarCadenas( tamanio );
+        cadenaBuscada = cadenas[ tamanio / 2 ];
+        sandbox = new SandboxConjuntos( conIndiceSinMayusculas );
+        sandbox.reiniciarConjuntoCadenas( Arrays.asList( ( Object[] )cadenas ) );
+    }
+
+    @Benchmark
+    public SandboxConjuntos agregarCadena( )
+    {
+        SandboxConjuntos nuevo = new SandboxConjuntos( conIndiceSinMayusculas );
+        for( String cadena : cadenas )
+        {
+            nuevo.agregarCadena( cadena );
+        }
+        return nuevo;
+    }
+
+    @Benchmark
+    public int getSiguientes( )
+    {
+        return sandbox.getSiguientes( cadenaBuscada ).size( );
+    }
+
+    @Benchmark
+    public String getSiguientesPrimero( )
+    {
+        return sandbox.getSiguientes( cadenaBuscada ).iterator( ).next( );
+    }
+
+    @Benchmark
+    public List<String> getCadenasComoLista( )
+    {
+        return sandbox.getCadenasComoLista( );
+    }
+
+    @Benchmark
+    public boolean contieneSinMayusculasOMinusculas( )
+    {
+        return sandbox.contieneSinMayusculasOMinusculas( cadenaBuscada.toUpperCase( ) );
+    }
+
+    @Benchmark
+    public int eliminarYAgregarSinMayusculasOMinusculas( )
+    {
+        sandbox.eliminarCadenaSinMayusculasOMinusculas( cadenaBuscada.toUpperCase( ) );
+        sandbox.agregarCadena( cadenaBuscada );
+        return sandbox.getCantidadCadenas( );
+    }
+
+    @Benchmark
+    public boolean compararElementos( )
+    {
+        return sandbox.compararElementos( cadenas );
+    }
+}
@@ -0,0 +1,187 @@
+package uniandes.dpoo.estructuras.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uniandes.dpoo.estructuras.logica.SandboxConjuntos;
+import uniandes.dpoo.estructuras.logica.SandboxConjuntosConcurrente;
+
+/**
+ * Benchmarks de SandboxConjuntosConcurrente con varios hilos sobre la misma instancia.
+ *
+ * Cada benchmark se compara con un SandboxConjuntos protegido por un solo candado (synchronized). Las cadenas que se agregan y eliminan salen de un grupo fijo del
+ * doble del tamaño inicial, así que el conjunto no crece sin límite. La cantidad de hilos se escoge con -t al ejecutar (ver el README); los benchmarks del grupo
+ * 'mixto' necesitan una cantidad de hilos múltiplo de 4.
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@Threads( 4 )
+@State( Scope.Benchmark )
+public class SandboxConjuntosConcurrenteBenchmark
+{
+    /**
+     * La cantidad de cadenas con la que empieza el sandbox en cada iteración
+     */
+    @Param( { "10000" } )
+    public int tamanio;
+
+    @Param( { "CONCURRENTE", "SINCRONIZADO" } )
+    public String implementacion;
+
+    /**
+     * Las cadenas que se agregan y eliminan. Las de posición par empiezan en el conjunto.
+     */
+    private String[] cadenas;
+
+    private SandboxConjuntosConcurrente concurrente;
+
+    private SandboxConjuntos sincronizado;
+
+    @Setup( Level.Trial )
+    public void preparar( )
+    {
+        cadenas = new String[2 * tamanio];
+        for( int i = 0; i < cadenas.length; i++ )
+        {
+            cadenas[ i ] = "cadena" + i;
+        }
+    }
+
+    /**
+     * Cada iteración empieza con un sandbox nuevo, con la mitad de las cadenas
+     */
+    @Setup( Level.Iteration )
+    public void reiniciar( )
+    {
+        List<Object> iniciales = new ArrayList<Object>( tamanio );
+        for( int i = 0; i < cadenas.length; i += 2 )
+        {
+            iniciales.add( cadenas[ i ] );
+        }
+        concurrente = null;
+        sincronizado = null;
+        if( "CONCURRENTE".equals( implementacion ) )
+        {
+            concurrente = new SandboxConjuntosConcurrente( );
+            concurrente.reiniciarConjuntoCadenas( iniciales );
+        }
+        else
+        {
+            sincronizado = new SandboxConjuntos( );
+            sincronizado.reiniciarConjuntoCadenas( iniciales );
+        }
+    }
+
+    /**
+     * Todos los hilos agregan o eliminan, con la misma probabilidad, cadenas al azar del mismo conjunto
+     */
+    @Benchmark
+    public void agregarOEliminar( )
+    {
+        modificar( );
+    }
+
+    /**
+     * Todos los hilos buscan en el mismo conjunto, que no cambia
+     */
+    @Benchmark
+    public boolean compararElementos( )
+    {
+        return buscar( );
+    }
+
+    /**
+     * Tres de cada cuatro hilos agregan o eliminan mientras el cuarto recorre el conjunto completo
+     */
+    @Benchmark
+    @Group( "mixto" )
+    @GroupThreads( 3 )
+    public void mixtoModificar( )
+    {
+        modificar( );
+    }
+
+    /**
+     * El hilo lector del grupo 'mixto'
+     */
+    @Benchmark
+    @Group( "mixto" )
+    @GroupThreads( 1 )
+    public List<String> mixtoRecorrer( )
+    {
+        if( concurrente != null )
+        {
+            return concurrente.getCadenasComoLista( );
+        }
+        synchronized( sincronizado )
+        {
+            return sincronizado.getCadenasComoLista( );
+        }
+    }
+
+    private void modificar( )
+    {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current( );
+        String cadena = cadenas[ aleatorio.nextInt( cadenas.length ) ];
+        boolean agregar = aleatorio.nextBoolean( );
+        if( concurrente != null )
+        {
+            if( agregar )
+            {
+                concurrente.agregarCadena( cadena );
+            }
+            else
+            {
+                concurrente.eliminarCadena( cadena );
+            }
+        }
+        else
+        {
+            synchronized( sincronizado )
+            {
+                if( agregar )
+                {
+                    sincronizado.agregarCadena( cadena );
+                }
+                else
+                {
+                    sincronizado.eliminarCadena( cadena );
+                }
+            }
+        }
+    }
+
+    private boolean buscar( )
+    {
+        String[] buscadas = new String[]{ cadenas[ ThreadLocalRandom.current( ).nextInt( cadenas.length ) ] };
+        if( concurrente != null )
+        {
+            return concurrente.compararElementos( buscadas );
+        }
+        synchronized( sincronizado )
+        {
+            return sincronizado.compararElementos( buscadas );
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package uniandes.dpoo.estructuras.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uniandes.dpoo.estructuras.logica.EstrategiaLista;
+import uniandes.dpoo.estructuras.logica.IntIntHistogram;
+import uniandes.dpoo.estructuras.logica.SandboxListas;
+
+/**
+ * Benchmarks de los métodos más usados de SandboxListas
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Benchmark )
+public class SandboxListasBenchmark
+{
+    @Param( { "10", "1000", "100000", "10000000" } )
+    public int tamanio;
+
+    @Param
+    public Distribucion distribucion;
+
+    /**
+     * La implementación de la lista de cadenas
+     */
+    @Param
+    public EstrategiaLista estrategia;
+
+    private int[] valores;
+
+    private double[] decimales;
+
+    private List<Object> cadenas;
+
+    private int buscado;
+
+    private String cadenaBuscada;
+
+    private SandboxListas sandbox;
+
+    @Setup( Level.Trial )
+    public void preparar( )
+    {
+        valores = distribucion.generar( tamanio );
+        String[] arregloCadenas = distribucion.generarCadenas( tamanio );
+        cadenas = Arrays.asList( ( Object[] )arregloCadenas );
+        decimales = new double[tamanio];
+        for( int i = 0; i < tamanio; i++ )
+        {
+            decimales[ i ] = valores[ i ] + 0.5;
+        }
+        buscado = valores[ tamanio / 2 ];
+        cadenaBuscada = arregloCadenas[ tamanio / 2 ];
+        sandbox = new SandboxListas( estrategia );
+        sandbox.reiniciarArregloEnteros( decimales );
+        sandbox.reiniciarArregloCadenas( cadenas );
+    }
+
+    /**
+     * Un sandbox que se vuelve a cargar antes de cada invocación, para los métodos que lo modifican de forma irreversible
+     */
+    @State( Scope.Thread )
+    public static class SandboxNuevo
+    {
+        SandboxListas sandbox;
+
+        @Setup( Level.Invocation )
+        public void preparar( SandboxListasBenchmark benchmark )
+        {
+            sandbox = new SandboxListas( benchmark.estrategia );
+            sandbox.reiniciarArregloEnteros( benchmark.decimales );
+            sandbox.reiniciarArregloCadenas( benchmark.cadenas );
+        }
+    }
+
+    @Benchmark
+    public SandboxListas agregarEntero( )
+    {
+        SandboxListas nuevo = new SandboxListas( estrategia );
+        for( int valor : valores )
+        {
+            nuevo.agregarEntero( valor );
+        }
+        return nuevo;
+    }
+
+    /**
+     * Referencia para agregarEntero: una lista de Integer, como la que usaba SandboxListas antes de guardar los enteros sin empaquetar
+     */
+    @Benchmark
+    public List<Integer> agregarEnteroEnArrayList( )
+    {
+        List<Integer> nueva = new ArrayList<Integer>( );
+        for( int valor : valores )
+        {
+            nueva.add( valor );
+        }
+        return nueva;
+    }
+
+    @Benchmark
+    public SandboxListas agregarCadena( )
+    {
+        SandboxListas nuevo = new SandboxListas( estrategia );
+        for( Object cadena : cadenas )
+        {
+            nuevo.agregarCadena( ( String )cadena );
+        }
+        return nuevo;
+    }
+
+    @Benchmark
+    public int insertarYEliminarEnMedio( )
+    {
+        sandbox.insertarEntero( buscado, tamanio / 2 );
+        sandbox.eliminarEnteroPorPosicion( tamanio / 2 );
+        return sandbox.getCantidadEnteros( );
+    }
+
+    @Benchmark
+    public List<Integer> getCopiaEnteros( )
+    {
+        return sandbox.getCopiaEnteros( );
+    }
+
+    @Benchmark
+    public int[] getEnterosComoArreglo( )
+    {
+        return sandbox.getEnterosComoArreglo( );
+    }
+
+    @Benchmark
+    public int contarApariciones( )
+    {
+        return sandbox.contarApariciones( buscado );
+    }
+
+    @Benchmark
+    public int contarAparicionesCadena( )
+    {
+        return sandbox.contarApariciones( cadenaBuscada );
+    }
+
+    @Benchmark
+    public IntIntHistogram histograma( )
+    {
+        return sandbox.histograma( );
+    }
+
+    @Benchmark
+    public int contarEnterosRepetidos( )
+    {
+        return sandbox.contarEnterosRepetidos( );
+    }
+
+    @Benchmark
+    public boolean compararArregloEnteros( )
+    {
+        return sandbox.compararArregloEnteros( valores );
+    }
+
+    @Benchmark
+    public SandboxListas organizarEnteros( SandboxNuevo nuevo )
+    {
+        nuevo.sandbox.organizarEnteros( );
+        return nuevo.sandbox;
+    }
+
+    @Benchmark
+    public SandboxListas organizarCadenas( SandboxNuevo nuevo )
+    {
+        nuevo.sandbox.organizarCadenas( );
+        return nuevo.sandbox;
+    }
+
+    @Benchmark
+    public SandboxListas eliminarCadena( SandboxNuevo nuevo )
+    {
+        nuevo.sandbox.eliminarCadena( cadenaBuscada );
+        return nuevo.sandbox;
+    }
+
+    @Benchmark
+    public SandboxListas eliminarEntero( SandboxNuevo nuevo )
+    {
+        nuevo.sandbox.eliminarEntero( buscado );
+        return nuevo.sandbox;
+    }
+
+    @Benchmark
+    public SandboxListas volverPositivos( SandboxNuevo nuevo )
+    {
+        nuevo.sandbox.volverPositivos( );
+        return nuevo.sandbox;
+    }
+}
@@ -0,0 +1,155 @@
+package uniandes.dpoo.estructuras.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uniandes.dpoo.estructuras.logica.SandboxListas;
+import uniandes.dpoo.estructuras.logica.SandboxListasConcurrente;
+
+/**
+ * Benchmarks de SandboxListasConcurrente con varios hilos sobre la misma instancia.
+ *
+ * Cada benchmark se compara con un SandboxListas protegido por un solo candado (synchronized), que es la alternativa obvia. La cantidad de hilos se escoge con -t al
+ * ejecutar (ver el README); los benchmarks del grupo 'mixto' necesitan una cantidad de hilos múltiplo de 4.
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@Threads( 4 )
+@State( Scope.Benchmark )
+public class SandboxListasConcurrenteBenchmark
+{
+    /**
+     * La cantidad de enteros con la que empieza el sandbox en cada iteración
+     */
+    @Param( { "100000" } )
+    public int tamanio;
+
+    @Param( { "CONCURRENTE", "SINCRONIZADO" } )
+    public String implementacion;
+
+    private int[] valores;
+
+    private int buscado;
+
+    private SandboxListasConcurrente concurrente;
+
+    private SandboxListas sincronizado;
+
+    @Setup( Level.Trial )
+    public void preparar( )
+    {
+        valores = Distribucion.UNIFORME.generar( tamanio );
+        buscado = valores[ tamanio / 2 ];
+    }
+
+    /**
+     * Cada iteración empieza con un sandbox nuevo para que la lista no crezca sin límite durante la ejecución
+     */
+    @Setup( Level.Iteration )
+    public void reiniciar( )
+    {
+        double[] decimales = new double[tamanio];
+        for( int i = 0; i < tamanio; i++ )
+        {
+            decimales[ i ] = valores[ i ];
+        }
+        concurrente = null;
+        sincronizado = null;
+        if( "CONCURRENTE".equals( implementacion ) )
+        {
+            concurrente = new SandboxListasConcurrente( );
+            concurrente.reiniciarArregloEnteros( decimales );
+        }
+        else
+        {
+            sincronizado = new SandboxListas( );
+            sincronizado.reiniciarArregloEnteros( decimales );
+        }
+    }
+
+    /**
+     * Todos los hilos agregan al final de la misma lista
+     */
+    @Benchmark
+    public void agregarEntero( )
+    {
+        agregar( );
+    }
+
+    /**
+     * Todos los hilos leen la misma lista, que no cambia
+     */
+    @Benchmark
+    public int contarApariciones( )
+    {
+        return contar( );
+    }
+
+    /**
+     * Tres de cada cuatro hilos agregan mientras el cuarto cuenta apariciones
+     */
+    @Benchmark
+    @Group( "mixto" )
+    @GroupThreads( 3 )
+    public void mixtoAgregar( )
+    {
+        agregar( );
+    }
+
+    /**
+     * El hilo lector del grupo 'mixto'
+     */
+    @Benchmark
+    @Group( "mixto" )
+    @GroupThreads( 1 )
+    public int mixtoContar( )
+    {
+        return contar( );
+    }
+
+    private void agregar( )
+    {
+        int valor = buscado;
+        if( concurrente != null )
+        {
+            concurrente.agregarEntero( valor );
+        }
+        else
+        {
+            synchronized( sincronizado )
+            {
+                sincronizado.agregarEntero( valor );
+            }
+        }
+    }
+
+    private int contar( )
+    {
+        if( concurrente != null )
+        {
+            return concurrente.contarApariciones( buscado );
+        }
+        synchronized( sincronizado )
+        {
+            return sincronizado.contarApariciones( buscado );
+        }
+    }
+}
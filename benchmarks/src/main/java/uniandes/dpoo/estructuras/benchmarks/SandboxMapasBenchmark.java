@@ -0,0 +1,120 @@
+package uniandes.dpoo.estructuras.benchmarks;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uniandes.dpoo.estructuras.logica.SandboxMapas;
+
+/**
+ * Benchmarks de los métodos más usados de SandboxMapas
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Benchmark )
+public class SandboxMapasBenchmark
+{
+    @Param( { "10", "1000", "100000", "10000000" } )
+    public int tamanio;
+
+    @Param
+    public Distribucion distribucion;
+
+    @Param( { "false", "true" } )
+    public boolean ordenado;
+
+    private String[] cadenas;
+
+    private String cadenaBuscada;
+
+    private SandboxMapas sandbox;
+
+    @Setup( Level.Trial )
+    public void preparar( )
+    {
+        cadenas = distribucion.generarCadenas( tamanio );
+        cadenaBuscada = cadenas[ tamanio / 2 ];
+        sandbox = new SandboxMapas( ordenado );
+        sandbox.reiniciarMapaCadenas( Arrays.asList( ( Object[] )cadenas ) );
+    }
+
+    @Benchmark
+    public SandboxMapas agregarCadena( )
+    {
+        SandboxMapas nuevo = new SandboxMapas( ordenado );
+        for( String cadena : cadenas )
+        {
+            nuevo.agregarCadena( cadena );
+        }
+        return nuevo;
+    }
+
+    @Benchmark
+    public String getPrimera( )
+    {
+        return sandbox.getPrimera( );
+    }
+
+    @Benchmark
+    public String getUltima( )
+    {
+        return sandbox.getUltima( );
+    }
+
+    @Benchmark
+    public List<String> getValoresComoLista( )
+    {
+        return sandbox.getValoresComoLista( );
+    }
+
+    @Benchmark
+    public List<String> getLlavesComoListaInvertida( )
+    {
+        return sandbox.getLlavesComoListaInvertida( );
+    }
+
+    @Benchmark
+    public int getCantidadCadenasDiferentes( )
+    {
+        return sandbox.getCantidadCadenasDiferentes( );
+    }
+
+    @Benchmark
+    public int eliminarYAgregarConValor( )
+    {
+        sandbox.eliminarCadenaConValor( cadenaBuscada );
+        sandbox.agregarCadena( cadenaBuscada );
+        return sandbox.getCantidadCadenasDiferentes( );
+    }
+
+    /**
+     * Busca la llave de una cadena sin construir la cadena invertida
+     */
+    @Benchmark
+    public boolean contieneCadena( )
+    {
+        return sandbox.contieneCadena( cadenaBuscada );
+    }
+
+    @Benchmark
+    public boolean compararValores( )
+    {
+        return sandbox.compararValores( cadenas );
+    }
+}
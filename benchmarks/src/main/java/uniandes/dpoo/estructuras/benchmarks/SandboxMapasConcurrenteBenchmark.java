@@ -0,0 +1,203 @@
+package uniandes.dpoo.estructuras.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uniandes.dpoo.estructuras.logica.SandboxMapas;
+import uniandes.dpoo.estructuras.logica.SandboxMapasConcurrente;
+
+/**
+ * Benchmarks de SandboxMapasConcurrente con varios hilos sobre la misma instancia.
+ *
+ * Cada benchmark se compara con un SandboxMapas protegido por un solo candado (synchronized). Las cadenas que se agregan y eliminan salen de un grupo fijo del
+ * doble del tamaño inicial, así que el mapa no crece sin límite. La cantidad de hilos se escoge con -t al ejecutar (ver el README); los benchmarks del grupo
+ * 'mixto' necesitan una cantidad de hilos múltiplo de 4.
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@Threads( 4 )
+@State( Scope.Benchmark )
+public class SandboxMapasConcurrenteBenchmark
+{
+    /**
+     * La cantidad de cadenas con la que empieza el sandbox en cada iteración
+     */
+    @Param( { "10000" } )
+    public int tamanio;
+
+    @Param( { "CONCURRENTE", "SINCRONIZADO" } )
+    public String implementacion;
+
+    /**
+     * Las cadenas que se agregan y eliminan. Las de posición par empiezan en el mapa.
+     */
+    private String[] cadenas;
+
+    /**
+     * Las llaves de las cadenas, es decir las cadenas invertidas
+     */
+    private String[] llaves;
+
+    private SandboxMapasConcurrente concurrente;
+
+    private SandboxMapas sincronizado;
+
+    @Setup( Level.Trial )
+    public void preparar( )
+    {
+        cadenas = new String[2 * tamanio];
+        llaves = new String[2 * tamanio];
+        for( int i = 0; i < cadenas.length; i++ )
+        {
+            cadenas[ i ] = "cadena" + i;
+            llaves[ i ] = new StringBuilder( cadenas[ i ] ).reverse( ).toString( );
+        }
+    }
+
+    /**
+     * Cada iteración empieza con un sandbox nuevo, con la mitad de las cadenas
+     */
+    @Setup( Level.Iteration )
+    public void reiniciar( )
+    {
+        List<Object> iniciales = new ArrayList<Object>( tamanio );
+        for( int i = 0; i < cadenas.length; i += 2 )
+        {
+            iniciales.add( cadenas[ i ] );
+        }
+        concurrente = null;
+        sincronizado = null;
+        if( "CONCURRENTE".equals( implementacion ) )
+        {
+            concurrente = new SandboxMapasConcurrente( );
+            concurrente.reiniciarMapaCadenas( iniciales );
+        }
+        else
+        {
+            sincronizado = new SandboxMapas( );
+            sincronizado.reiniciarMapaCadenas( iniciales );
+        }
+    }
+
+    /**
+     * Todos los hilos agregan, eliminan por llave o eliminan por valor, con la misma probabilidad, cadenas al azar del mismo mapa
+     */
+    @Benchmark
+    public void agregarOEliminar( )
+    {
+        modificar( );
+    }
+
+    /**
+     * Todos los hilos buscan valores en el mismo mapa, que no cambia
+     */
+    @Benchmark
+    public boolean compararValores( )
+    {
+        return buscar( );
+    }
+
+    /**
+     * Tres de cada cuatro hilos agregan o eliminan mientras el cuarto recorre el mapa completo
+     */
+    @Benchmark
+    @Group( "mixto" )
+    @GroupThreads( 3 )
+    public void mixtoModificar( )
+    {
+        modificar( );
+    }
+
+    /**
+     * El hilo lector del grupo 'mixto'
+     */
+    @Benchmark
+    @Group( "mixto" )
+    @GroupThreads( 1 )
+    public List<String> mixtoRecorrer( )
+    {
+        if( concurrente != null )
+        {
+            return concurrente.getValoresComoLista( );
+        }
+        synchronized( sincronizado )
+        {
+            return sincronizado.getValoresComoLista( );
+        }
+    }
+
+    private void modificar( )
+    {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current( );
+        int indice = aleatorio.nextInt( cadenas.length );
+        String cadena = cadenas[ indice ];
+        int operacion = aleatorio.nextInt( 3 );
+        if( concurrente != null )
+        {
+            if( operacion == 0 )
+            {
+                concurrente.agregarCadena( cadena );
+            }
+            else if( operacion == 1 )
+            {
+                concurrente.eliminarCadenaConLLave( llaves[ indice ] );
+            }
+            else
+            {
+                concurrente.eliminarCadenaConValor( cadena );
+            }
+        }
+        else
+        {
+            synchronized( sincronizado )
+            {
+                if( operacion == 0 )
+                {
+                    sincronizado.agregarCadena( cadena );
+                }
+                else if( operacion == 1 )
+                {
+                    sincronizado.eliminarCadenaConLLave( llaves[ indice ] );
+                }
+                else
+                {
+                    sincronizado.eliminarCadenaConValor( cadena );
+                }
+            }
+        }
+    }
+
+    private boolean buscar( )
+    {
+        String[] buscadas = new String[]{ cadenas[ ThreadLocalRandom.current( ).nextInt( cadenas.length ) ] };
+        if( concurrente != null )
+        {
+            return concurrente.compararValores( buscadas );
+        }
+        synchronized( sincronizado )
+        {
+            return sincronizado.compararValores( buscadas );
+        }
+    }
+}
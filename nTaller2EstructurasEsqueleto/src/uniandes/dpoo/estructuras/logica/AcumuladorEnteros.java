@@ -0,0 +1,64 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * Recibe valores decimales uno por uno, los trunca y los agrega al final de una secuencia de enteros, registrando de paso si llegaron ordenados.
+ *
+ * Es el destino común de todas las formas de reiniciar el arreglo de enteros de SandboxArreglos, así que todas truncan igual: con el cast (int) de Java.
+ */
+class AcumuladorEnteros implements DoubleConsumer
+{
+    private final SecuenciaEnteros secuencia;
+
+    /**
+     * Indica si todos los valores recibidos hasta ahora están en orden de menor a mayor
+     */
+    private boolean ordenado;
+
+    /**
+     * El último valor agregado
+     */
+    private int anterior;
+
+    /**
+     * Crea un acumulador que agrega a una secuencia
+     * @param secuencia La secuencia, normalmente vacía
+     */
+    AcumuladorEnteros( SecuenciaEnteros secuencia )
+    {
+        this.secuencia = secuencia;
+        ordenado = true;
+        anterior = Integer.MIN_VALUE;
+    }
+
+    @Override
+    public void accept( double valor )
+    {
+        int actual = ( int )valor;
+        if( actual < anterior )
+        {
+            ordenado = false;
+        }
+        secuencia.agregar( actual );
+        anterior = actual;
+    }
+
+    /**
+     * Retorna la secuencia con los valores agregados
+     * @return La secuencia
+     */
+    SecuenciaEnteros secuencia( )
+    {
+        return secuencia;
+    }
+
+    /**
+     * Indica si los valores llegaron en orden de menor a mayor
+     * @return True si la secuencia quedó ordenada
+     */
+    boolean ordenado( )
+    {
+        return ordenado;
+    }
+}
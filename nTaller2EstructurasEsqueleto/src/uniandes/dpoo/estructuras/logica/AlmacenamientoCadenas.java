@@ -0,0 +1,43 @@
+package uniandes.dpoo.estructuras.logica;
+
+/**
+ * Las formas en las que SandboxArreglos puede guardar su arreglo de cadenas.
+ *
+ * Los resultados de todos los métodos del sandbox son los mismos con cualquiera de ellas. Lo que cambia es la memoria por cadena y si las consultas trabajan sobre
+ * objetos String o sobre bytes.
+ */
+public enum AlmacenamientoCadenas
+{
+    /**
+     * Un ArregloDinamicoCadenas: un objeto String por posición. Consultar una posición no crea objetos.
+     */
+    ARREGLO,
+
+    /**
+     * Una ColumnaCadenas con repetidos: los bytes de todas las cadenas en un solo arreglo. Cada consulta por posición decodifica la cadena.
+     */
+    COLUMNA,
+
+    /**
+     * Una ColumnaCadenas sin repetidos: cada cadena distinta se guarda una sola vez y cada posición guarda un código. Conviene cuando hay pocas cadenas distintas.
+     */
+    COLUMNA_SIN_REPETIDOS;
+
+    /**
+     * Crea una secuencia vacía con este almacenamiento
+     * @param capacidad La cantidad de cadenas esperada
+     * @return Una secuencia nueva
+     */
+    public SecuenciaCadenas crear( int capacidad )
+    {
+        switch( this )
+        {
+            case COLUMNA:
+                return new ColumnaCadenas( capacidad, false );
+            case COLUMNA_SIN_REPETIDOS:
+                return new ColumnaCadenas( capacidad, true );
+            default:
+                return new ArregloDinamicoCadenas( capacidad );
+        }
+    }
+}
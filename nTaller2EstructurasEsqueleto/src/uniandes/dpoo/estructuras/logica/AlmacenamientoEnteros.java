@@ -0,0 +1,60 @@
+package uniandes.dpoo.estructuras.logica;
+
+/**
+ * Las formas en las que SandboxArreglos y SandboxListas pueden guardar sus enteros.
+ *
+ * Los resultados de todos los métodos de los sandbox son los mismos con cualquiera de ellas. Lo que cambia es el costo de las operaciones por posición y cuánto trabajo
+ * le dan al recolector de basura.
+ */
+public enum AlmacenamientoEnteros
+{
+    /**
+     * Un ArregloDinamicoEnteros: acceso por posición en O(1), pero insertar o eliminar en una posición desplaza todos los elementos siguientes
+     */
+    ARREGLO,
+
+    /**
+     * Una SecuenciaEnterosPorBloques: insertar y eliminar en una posición cuestan O(√n), y O(1) amortizado cerca de la última posición usada
+     */
+    POR_BLOQUES,
+
+    /**
+     * Una SecuenciaEnterosFueraDelHeap: los mismos costos asintóticos que un arreglo, pero los enteros quedan fuera del heap. El sandbox que la usa debe cerrarse con close.
+     */
+    FUERA_DEL_HEAP;
+
+    /**
+     * Crea una secuencia vacía con este almacenamiento
+     * @param capacidad La cantidad de elementos esperada
+     * @return Una secuencia nueva
+     */
+    public SecuenciaEnteros crear( int capacidad )
+    {
+        switch( this )
+        {
+            case POR_BLOQUES:
+                return new SecuenciaEnterosPorBloques( capacidad );
+            case FUERA_DEL_HEAP:
+                return new SecuenciaEnterosFueraDelHeap( capacidad );
+            default:
+                return new ArregloDinamicoEnteros( capacidad );
+        }
+    }
+
+    /**
+     * Crea una secuencia con unos valores. Con ARREGLO la secuencia usa el mismo arreglo, sin copiarlo, así que quien lo llama no debe volver a usarlo; con los demás
+     * almacenamientos los valores se copian en bloque.
+     * @param valores Los valores de la secuencia
+     * @return Una secuencia nueva
+     */
+    SecuenciaEnteros adoptar( int[] valores )
+    {
+        if( this == ARREGLO )
+        {
+            return ArregloDinamicoEnteros.adoptar( valores );
+        }
+        SecuenciaEnteros secuencia = crear( valores.length );
+        secuencia.agregarTodos( valores );
+        return secuencia;
+    }
+}
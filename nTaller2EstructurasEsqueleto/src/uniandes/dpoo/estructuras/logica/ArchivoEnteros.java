@@ -0,0 +1,268 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * El formato binario con el que SandboxArreglos guarda su arreglo de enteros.
+ *
+ * Todo el archivo está en little-endian. Tiene un encabezado de TAMANIO_ENCABEZADO bytes seguido de los enteros, 4 bytes cada uno, uno tras otro:
+ * <ul>
+ * <li>bytes 0-3: el número mágico MAGICO, que identifica el formato</li>
+ * <li>bytes 4-7: la versión del formato (VERSION)</li>
+ * <li>bytes 8-15: la cantidad de enteros, como long</li>
+ * <li>bytes 16-19: indicadores. El bit 0 indica que los enteros están ordenados de menor a mayor.</li>
+ * <li>bytes 20-23: el CRC32C de los bytes de los enteros. La versión 1 usaba CRC32 y ya no se lee.</li>
+ * <li>bytes 24-31: reservados, en 0</li>
+ * </ul>
+ * El encabezado ocupa un múltiplo de 4 bytes, así que los enteros quedan alineados y el archivo se puede mapear directamente como un IntBuffer.
+ */
+final class ArchivoEnteros
+{
+    /**
+     * Los bytes "SBXE" leídos como un entero en little-endian
+     */
+    static final int MAGICO = 0x45584253;
+
+    /**
+     * La versión del formato que se escribe y la única que se sabe leer
+     */
+    static final int VERSION = 2;
+
+    /**
+     * La cantidad de bytes del encabezado
+     */
+    static final int TAMANIO_ENCABEZADO = 32;
+
+    /**
+     * El indicador de enteros ordenados
+     */
+    private static final int ORDENADO = 1;
+
+    /**
+     * El tamaño del buffer con el que se escribe y se lee el archivo, en bytes
+     */
+    private static final int TAMANIO_BUFFER = 64 * 1024;
+
+    private final Path archivo;
+
+    private final int tamanio;
+
+    private final boolean ordenado;
+
+    private final int suma;
+
+    private ArchivoEnteros( Path archivo, int tamanio, boolean ordenado, int suma )
+    {
+        this.archivo = archivo;
+        this.tamanio = tamanio;
+        this.ordenado = ordenado;
+        this.suma = suma;
+    }
+
+    /**
+     * Guarda una secuencia en un archivo. Se escribe primero en un archivo temporal de la misma carpeta y luego se reemplaza el archivo de destino, así que un error a mitad
+     * de camino no deja un archivo incompleto.
+     * @param secuencia Los enteros que se guardan
+     * @param ordenado Indica si los enteros están ordenados de menor a mayor
+     * @param archivo El archivo de destino
+     * @throws IOException Si hay un error de escritura
+     */
+    static void guardar( SecuenciaEnteros secuencia, boolean ordenado, Path archivo ) throws IOException
+    {
+        Path carpeta = archivo.toAbsolutePath( ).getParent( );
+        Path temporal = Files.createTempFile( carpeta, archivo.getFileName( ).toString( ), ".tmp" );
+        try
+        {
+            try( FileChannel canal = FileChannel.open( temporal, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING ) )
+            {
+                canal.position( TAMANIO_ENCABEZADO );
+                CRC32C crc = new CRC32C( );
+                ByteBuffer buffer = ByteBuffer.allocateDirect( TAMANIO_BUFFER ).order( ByteOrder.LITTLE_ENDIAN );
+                try
+                {
+                    secuencia.forEach( valor -> {
+                        if( !buffer.hasRemaining( ) )
+                        {
+                            vaciar( buffer, crc, canal );
+                        }
+                        buffer.putInt( valor );
+                    } );
+                }
+                catch( UncheckedIOException e )
+                {
+                    throw e.getCause( );
+                }
+                vaciar( buffer, crc, canal );
+
+                ByteBuffer encabezado = ByteBuffer.allocate( TAMANIO_ENCABEZADO ).order( ByteOrder.LITTLE_ENDIAN );
+                encabezado.putInt( MAGICO ).putInt( VERSION ).putLong( secuencia.tamanio( ) ).putInt( ordenado ? ORDENADO : 0 ).putInt( ( int )crc.getValue( ) );
+                encabezado.clear( );
+                canal.write( encabezado, 0 );
+                canal.force( false );
+            }
+            Files.move( temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+        }
+        finally
+        {
+            Files.deleteIfExists( temporal );
+        }
+    }
+
+    /**
+     * Escribe en el canal los bytes acumulados en un buffer y los suma al CRC
+     * @param buffer El buffer, listo para escribir en él
+     * @param crc El CRC de los datos
+     * @param canal El canal de destino
+     * @throws UncheckedIOException Si hay un error de escritura
+     */
+    private static void vaciar( ByteBuffer buffer, CRC32C crc, FileChannel canal )
+    {
+        buffer.flip( );
+        crc.update( buffer.duplicate( ) );
+        try
+        {
+            while( buffer.hasRemaining( ) )
+            {
+                canal.write( buffer );
+            }
+        }
+        catch( IOException e )
+        {
+            throw new UncheckedIOException( e );
+        }
+        buffer.clear( );
+    }
+
+    /**
+     * Abre un archivo y valida su encabezado y su largo. La suma de verificación no se revisa aquí, porque hay que leer todos los enteros.
+     * @param archivo El archivo
+     * @return El archivo abierto
+     * @throws IOException Si el archivo no se puede leer o no tiene el formato esperado
+     */
+    static ArchivoEnteros abrir( Path archivo ) throws IOException
+    {
+        try( FileChannel canal = FileChannel.open( archivo, StandardOpenOption.READ ) )
+        {
+            ByteBuffer encabezado = ByteBuffer.allocate( TAMANIO_ENCABEZADO ).order( ByteOrder.LITTLE_ENDIAN );
+            while( encabezado.hasRemaining( ) && canal.read( encabezado ) >= 0 )
+            {
+            }
+            if( encabezado.hasRemaining( ) )
+            {
+                throw new IOException( "El archivo es demasiado corto para tener un encabezado: " + archivo );
+            }
+            encabezado.flip( );
+            if( encabezado.getInt( ) != MAGICO )
+            {
+                throw new IOException( "El archivo no es un arreglo de enteros guardado por SandboxArreglos: " + archivo );
+            }
+            int version = encabezado.getInt( );
+            if( version != VERSION )
+            {
+                throw new IOException( "Versión de formato no soportada: " + version );
+            }
+            long tamanio = encabezado.getLong( );
+            int indicadores = encabezado.getInt( );
+            int suma = encabezado.getInt( );
+            if( tamanio < 0 || tamanio > Integer.MAX_VALUE || canal.size( ) != TAMANIO_ENCABEZADO + tamanio * Integer.BYTES )
+            {
+                throw new IOException( "El largo del archivo no corresponde a " + tamanio + " enteros: " + canal.size( ) + " bytes" );
+            }
+            return new ArchivoEnteros( archivo, ( int )tamanio, ( indicadores & ORDENADO ) != 0, suma );
+        }
+    }
+
+    /**
+     * Retorna la cantidad de enteros del archivo
+     * @return La cantidad de enteros
+     */
+    int tamanio( )
+    {
+        return tamanio;
+    }
+
+    /**
+     * Indica si los enteros del archivo están ordenados de menor a mayor
+     * @return True si están ordenados
+     */
+    boolean ordenado( )
+    {
+        return ordenado;
+    }
+
+    /**
+     * Lee todos los enteros del archivo a una secuencia nueva, verificando la suma
+     * @param almacenamiento La forma de guardar la secuencia
+     * @return Una secuencia con los enteros del archivo
+     * @throws IOException Si hay un error de lectura o la suma no coincide
+     */
+    SecuenciaEnteros cargar( AlmacenamientoEnteros almacenamiento ) throws IOException
+    {
+        SecuenciaEnteros secuencia = almacenamiento.crear( tamanio );
+        CRC32C crc = new CRC32C( );
+        try( FileChannel canal = FileChannel.open( archivo, StandardOpenOption.READ ) )
+        {
+            canal.position( TAMANIO_ENCABEZADO );
+            ByteBuffer buffer = ByteBuffer.allocateDirect( TAMANIO_BUFFER ).order( ByteOrder.LITTLE_ENDIAN );
+            IntBuffer enteros = buffer.asIntBuffer( );
+            long restantes = ( long )tamanio * Integer.BYTES;
+            while( restantes > 0 )
+            {
+                buffer.clear( );
+                if( restantes < buffer.capacity( ) )
+                {
+                    buffer.limit( ( int )restantes );
+                }
+                while( buffer.hasRemaining( ) )
+                {
+                    if( canal.read( buffer ) < 0 )
+                    {
+                        throw new IOException( "El archivo terminó antes de tiempo: " + archivo );
+                    }
+                }
+                buffer.flip( );
+                crc.update( buffer.duplicate( ) );
+                int leidos = buffer.limit( ) / Integer.BYTES;
+                for( int i = 0; i < leidos; i++ )
+                {
+                    secuencia.agregar( enteros.get( i ) );
+                }
+                restantes -= buffer.limit( );
+            }
+        }
+        verificarSuma( ( int )crc.getValue( ) );
+        return secuencia;
+    }
+
+    /**
+     * Mapea los enteros del archivo en memoria, en modo de sólo lectura. Sólo se valida el encabezado: revisar la suma obligaría a leer todo el archivo.
+     * @param almacenamiento La forma de guardar los enteros si la secuencia se modifica
+     * @return Una secuencia respaldada por el archivo
+     * @throws IOException Si el archivo no se puede mapear
+     */
+    SecuenciaEnterosMapeada mapear( AlmacenamientoEnteros almacenamiento ) throws IOException
+    {
+        try( FileChannel canal = FileChannel.open( archivo, StandardOpenOption.READ ) )
+        {
+            return new SecuenciaEnterosMapeada( canal, TAMANIO_ENCABEZADO, tamanio, almacenamiento );
+        }
+    }
+
+    private void verificarSuma( int calculada ) throws IOException
+    {
+        if( calculada != suma )
+        {
+            throw new IOException( "La suma de verificación no coincide, el archivo está dañado: " + archivo );
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Un arreglo de cadenas que crece de forma geométrica.
+ *
+ * Funciona igual que ArregloDinamicoEnteros, pero además limpia las posiciones que quedan libres para no retener referencias a cadenas eliminadas.
+ */
+public class ArregloDinamicoCadenas implements SecuenciaCadenas
+{
+    private static final String[] VACIO = new String[0];
+
+    /**
+     * Los elementos del arreglo. Sólo las primeras 'tamanio' posiciones tienen valores válidos; las demás son null.
+     */
+    private String[] elementos;
+
+    /**
+     * La cantidad de elementos válidos en el arreglo
+     */
+    private int tamanio;
+
+    /**
+     * La fracción de la capacidad por debajo de la cual el arreglo se reduce después de una eliminación. Si es 0, el arreglo nunca se reduce.
+     */
+    private double umbralReduccion;
+
+    /**
+     * Crea un arreglo vacío sin capacidad reservada
+     */
+    public ArregloDinamicoCadenas( )
+    {
+        this( 0 );
+    }
+
+    /**
+     * Crea un arreglo vacío con la capacidad indicada
+     * @param capacidadInicial La cantidad de cadenas que se pueden agregar antes de tener que crecer
+     */
+    public ArregloDinamicoCadenas( int capacidadInicial )
+    {
+        if( capacidadInicial < 0 )
+        {
+            throw new IllegalArgumentException( "La capacidad no puede ser negativa: " + capacidadInicial );
+        }
+        elementos = capacidadInicial == 0 ? VACIO : new String[capacidadInicial];
+        tamanio = 0;
+        umbralReduccion = ArregloDinamicoEnteros.UMBRAL_REDUCCION_POR_DEFECTO;
+    }
+
+    /**
+     * Retorna la cantidad de elementos en el arreglo
+     * @return El tamaño lógico del arreglo
+     */
+    public int tamanio( )
+    {
+        return tamanio;
+    }
+
+    /**
+     * Retorna la cantidad de elementos que se pueden almacenar sin reservar un nuevo arreglo
+     * @return La capacidad actual
+     */
+    public int capacidad( )
+    {
+        return elementos.length;
+    }
+
+    /**
+     * Cambia el umbral de reducción del arreglo.
+     * @param umbral Un valor entre 0 y 0.5. Si es 0, el arreglo nunca se reduce al eliminar elementos.
+     */
+    public void setUmbralReduccion( double umbral )
+    {
+        if( umbral < 0 || umbral > 0.5 )
+        {
+            throw new IllegalArgumentException( "El umbral de reducción debe estar entre 0 y 0.5: " + umbral );
+        }
+        umbralReduccion = umbral;
+    }
+
+    /**
+     * Retorna la cadena que se encuentra en una posición
+     * @param posicion La posición de la cadena
+     * @return La cadena en la posición
+     */
+    public String get( int posicion )
+    {
+        if( posicion < 0 || posicion >= tamanio )
+        {
+            throw new IndexOutOfBoundsException( "Posición: " + posicion + ", tamaño: " + tamanio );
+        }
+        return elementos[ posicion ];
+    }
+
+    /**
+     * Agrega una cadena al final del arreglo
+     * @param cadena La cadena que se va a agregar
+     */
+    public void agregar( String cadena )
+    {
+        if( tamanio == elementos.length )
+        {
+            elementos = Arrays.copyOf( elementos, ArregloDinamicoEnteros.calcularNuevaCapacidad( elementos.length, tamanio + 1 ) );
+        }
+        elementos[ tamanio ] = cadena;
+        tamanio++;
+    }
+
+    /**
+     * Agrega varias cadenas al final del arreglo. El arreglo crece a lo sumo una vez, y la colección se copia con toArray.
+     * @param cadenas Las cadenas que se van a agregar
+     */
+    public void agregarTodas( Collection<String> cadenas )
+    {
+        String[] nuevas = cadenas.toArray( VACIO );
+        if( tamanio + nuevas.length > elementos.length )
+        {
+            elementos = Arrays.copyOf( elementos, ArregloDinamicoEnteros.calcularNuevaCapacidad( elementos.length, tamanio + nuevas.length ) );
+        }
+        System.arraycopy( nuevas, 0, elementos, tamanio, nuevas.length );
+        tamanio += nuevas.length;
+    }
+
+    /**
+     * Elimina todas las apariciones de una cadena en un solo recorrido, compactando el arreglo. Las cadenas se comparan con Objects.equals, así que el arreglo puede
+     * tener cadenas null y eliminarlas.
+     * @param cadena La cadena que se va a eliminar
+     * @return La cantidad de elementos eliminados
+     */
+    public int eliminarTodas( String cadena )
+    {
+        int escritura = 0;
+        for( int lectura = 0; lectura < tamanio; lectura++ )
+        {
+            String actual = elementos[ lectura ];
+            if( !Objects.equals( actual, cadena ) )
+            {
+                elementos[ escritura ] = actual;
+                escritura++;
+            }
+        }
+        int eliminados = tamanio - escritura;
+        Arrays.fill( elementos, escritura, tamanio, null );
+        tamanio = escritura;
+        if( umbralReduccion > 0 && elementos.length > ArregloDinamicoEnteros.CAPACIDAD_MINIMA && tamanio < elementos.length * umbralReduccion )
+        {
+            elementos = Arrays.copyOf( elementos, Math.max( elementos.length / 2, ArregloDinamicoEnteros.CAPACIDAD_MINIMA ) );
+        }
+        return eliminados;
+    }
+
+    /**
+     * Cuenta cuántas cadenas son iguales a una cadena sin diferenciar mayúsculas y minúsculas
+     * @param cadena La cadena buscada
+     * @return La cantidad de apariciones
+     */
+    public int contarSinMayusculas( String cadena )
+    {
+        int contador = 0;
+        for( int i = 0; i < tamanio; i++ )
+        {
+            if( elementos[ i ].equalsIgnoreCase( cadena ) )
+            {
+                contador++;
+            }
+        }
+        return contador;
+    }
+
+    /**
+     * Ordena las cadenas lexicográficamente
+     */
+    public void ordenar( )
+    {
+        Arrays.sort( elementos, 0, tamanio );
+    }
+
+    /**
+     * Retorna un nuevo arreglo con exactamente las cadenas válidas
+     * @return Una copia de las cadenas
+     */
+    public String[] copia( )
+    {
+        return Arrays.copyOf( elementos, tamanio );
+    }
+}
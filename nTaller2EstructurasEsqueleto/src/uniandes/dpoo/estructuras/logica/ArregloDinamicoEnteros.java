@@ -0,0 +1,532 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Un arreglo de enteros que crece de forma geométrica.
+ *
+ * El arreglo interno tiene una capacidad que normalmente es mayor que la cantidad de elementos almacenados (el tamaño). Agregar al final cuesta O(1) amortizado y los
+ * desplazamientos para insertar o eliminar se hacen con System.arraycopy.
+ *
+ * Opcionalmente, el arreglo se reduce cuando después de una eliminación la cantidad de elementos queda por debajo de una fracción de la capacidad.
+ */
+public class ArregloDinamicoEnteros implements SecuenciaEnteros
+{
+    /**
+     * La capacidad que se reserva la primera vez que se agrega un elemento a un arreglo vacío
+     */
+    public static final int CAPACIDAD_MINIMA = 8;
+
+    /**
+     * El umbral de reducción que se usa por defecto
+     */
+    public static final double UMBRAL_REDUCCION_POR_DEFECTO = 0.25;
+
+    /**
+     * La capacidad máxima que se intenta reservar. Algunas máquinas virtuales reservan unas palabras de encabezado en los arreglos.
+     */
+    private static final int CAPACIDAD_MAXIMA = Integer.MAX_VALUE - 8;
+
+    private static final int[] VACIO = new int[0];
+
+    /**
+     * Los elementos del arreglo. Sólo las primeras 'tamanio' posiciones tienen valores válidos.
+     */
+    protected int[] elementos;
+
+    /**
+     * La cantidad de elementos válidos en el arreglo
+     */
+    protected int tamanio;
+
+    /**
+     * La fracción de la capacidad por debajo de la cual el arreglo se reduce después de una eliminación. Si es 0, el arreglo nunca se reduce.
+     */
+    private double umbralReduccion;
+
+    /**
+     * Crea un arreglo vacío sin capacidad reservada
+     */
+    public ArregloDinamicoEnteros( )
+    {
+        this( 0 );
+    }
+
+    /**
+     * Crea un arreglo vacío con la capacidad indicada
+     * @param capacidadInicial La cantidad de elementos que se pueden agregar antes de tener que crecer
+     */
+    public ArregloDinamicoEnteros( int capacidadInicial )
+    {
+        if( capacidadInicial < 0 )
+        {
+            throw new IllegalArgumentException( "La capacidad no puede ser negativa: " + capacidadInicial );
+        }
+        elementos = capacidadInicial == 0 ? VACIO : new int[capacidadInicial];
+        tamanio = 0;
+        umbralReduccion = UMBRAL_REDUCCION_POR_DEFECTO;
+    }
+
+    /**
+     * Crea un arreglo que usa directamente otro como almacenamiento, sin copiarlo. Quien lo llama no debe volver a usar el arreglo recibido.
+     * @param valores Los elementos del nuevo arreglo
+     * @return El nuevo arreglo
+     */
+    static ArregloDinamicoEnteros adoptar( int[] valores )
+    {
+        ArregloDinamicoEnteros arreglo = new ArregloDinamicoEnteros( );
+        if( valores.length > 0 )
+        {
+            arreglo.elementos = valores;
+            arreglo.tamanio = valores.length;
+        }
+        return arreglo;
+    }
+
+    /**
+     * Retorna la cantidad de elementos en el arreglo
+     * @return El tamaño lógico del arreglo
+     */
+    public int tamanio( )
+    {
+        return tamanio;
+    }
+
+    /**
+     * Retorna la cantidad de elementos que se pueden almacenar sin reservar un nuevo arreglo
+     * @return La capacidad actual
+     */
+    public int capacidad( )
+    {
+        return elementos.length;
+    }
+
+    /**
+     * Cambia el umbral de reducción del arreglo.
+     * @param umbral Un valor entre 0 y 0.5. Si es 0, el arreglo nunca se reduce al eliminar elementos.
+     */
+    public void setUmbralReduccion( double umbral )
+    {
+        if( umbral < 0 || umbral > 0.5 )
+        {
+            throw new IllegalArgumentException( "El umbral de reducción debe estar entre 0 y 0.5: " + umbral );
+        }
+        umbralReduccion = umbral;
+    }
+
+    /**
+     * Retorna el elemento que se encuentra en una posición
+     * @param posicion La posición del elemento
+     * @return El elemento en la posición
+     */
+    public int get( int posicion )
+    {
+        verificarPosicion( posicion );
+        return elementos[ posicion ];
+    }
+
+    /**
+     * Reemplaza el elemento que se encuentra en una posición
+     * @param posicion La posición del elemento
+     * @param valor El nuevo valor
+     */
+    public void set( int posicion, int valor )
+    {
+        verificarPosicion( posicion );
+        elementos[ posicion ] = valor;
+    }
+
+    /**
+     * Agrega un valor al final del arreglo
+     * @param valor El valor que se va a agregar
+     */
+    public void agregar( int valor )
+    {
+        asegurarCapacidad( tamanio + 1 );
+        elementos[ tamanio ] = valor;
+        tamanio++;
+    }
+
+    /**
+     * Inserta un valor en una posición, desplazando los elementos siguientes una posición hacia la derecha
+     * @param posicion La posición donde debe quedar el valor. Debe estar entre 0 y el tamaño del arreglo.
+     * @param valor El valor que se va a insertar
+     */
+    public void insertar( int posicion, int valor )
+    {
+        if( posicion < 0 || posicion > tamanio )
+        {
+            throw new IndexOutOfBoundsException( "Posición: " + posicion + ", tamaño: " + tamanio );
+        }
+        asegurarCapacidad( tamanio + 1 );
+        System.arraycopy( elementos, posicion, elementos, posicion + 1, tamanio - posicion );
+        elementos[ posicion ] = valor;
+        tamanio++;
+    }
+
+    /**
+     * Inserta todos los valores de un arreglo a partir de una posición, desplazando los elementos siguientes una sola vez, tantas posiciones como valores haya
+     * @param posicion La posición donde debe quedar el primer valor. Debe estar entre 0 y el tamaño del arreglo.
+     * @param valores Los valores que se van a insertar
+     */
+    public void insertarTodos( int posicion, int[] valores )
+    {
+        if( posicion < 0 || posicion > tamanio )
+        {
+            throw new IndexOutOfBoundsException( "Posición: " + posicion + ", tamaño: " + tamanio );
+        }
+        asegurarCapacidad( tamanio + valores.length );
+        System.arraycopy( elementos, posicion, elementos, posicion + valores.length, tamanio - posicion );
+        System.arraycopy( valores, 0, elementos, posicion, valores.length );
+        tamanio += valores.length;
+    }
+
+    /**
+     * Elimina el elemento de una posición, desplazando los elementos siguientes una posición hacia la izquierda
+     * @param posicion La posición del elemento que se va a eliminar
+     * @return El elemento eliminado
+     */
+    public int eliminarPosicion( int posicion )
+    {
+        verificarPosicion( posicion );
+        int eliminado = elementos[ posicion ];
+        System.arraycopy( elementos, posicion + 1, elementos, posicion, tamanio - posicion - 1 );
+        tamanio--;
+        reducirSiEsNecesario( );
+        return eliminado;
+    }
+
+    /**
+     * Elimina todas las apariciones de un valor en un solo recorrido, compactando el arreglo
+     * @param valor El valor que se va a eliminar
+     * @return La cantidad de elementos eliminados
+     */
+    public int eliminarTodos( int valor )
+    {
+        int escritura = 0;
+        for( int lectura = 0; lectura < tamanio; lectura++ )
+        {
+            int actual = elementos[ lectura ];
+            if( actual != valor )
+            {
+                elementos[ escritura ] = actual;
+                escritura++;
+            }
+        }
+        int eliminados = tamanio - escritura;
+        tamanio = escritura;
+        reducirSiEsNecesario( );
+        return eliminados;
+    }
+
+    /**
+     * Elimina en un solo recorrido todos los elementos que cumplen una condición, compactando el arreglo
+     * @param condicion La condición que deben cumplir los elementos que se van a eliminar
+     * @return La cantidad de elementos eliminados
+     */
+    public int eliminarSi( IntPredicate condicion )
+    {
+        int escritura = 0;
+        for( int lectura = 0; lectura < tamanio; lectura++ )
+        {
+            int actual = elementos[ lectura ];
+            if( !condicion.test( actual ) )
+            {
+                elementos[ escritura ] = actual;
+                escritura++;
+            }
+        }
+        int eliminados = tamanio - escritura;
+        tamanio = escritura;
+        reducirSiEsNecesario( );
+        return eliminados;
+    }
+
+    /**
+     * Elimina en un solo recorrido todas las apariciones de varios valores, compactando el arreglo.
+     *
+     * Hace lo mismo que SecuenciaEnteros.eliminarValores, pero sin pasar por eliminarSi: como eliminarSi recibe condiciones distintas desde muchos lugares, la JVM no
+     * puede integrar la condición en el ciclo, y llamarla por cada elemento cuesta más que recorrer el arreglo una vez por valor.
+     * @param valores Los valores que se eliminan. Pueden estar repetidos.
+     * @return La cantidad de elementos eliminados
+     */
+    public int eliminarValores( int[] valores )
+    {
+        if( valores.length == 0 )
+        {
+            return 0;
+        }
+        if( valores.length == 1 )
+        {
+            return eliminarTodos( valores[ 0 ] );
+        }
+        ValoresBuscados buscados = new ValoresBuscados( valores );
+        int escritura = 0;
+        for( int lectura = 0; lectura < tamanio; lectura++ )
+        {
+            int actual = elementos[ lectura ];
+            if( !buscados.contiene( actual ) )
+            {
+                elementos[ escritura ] = actual;
+                escritura++;
+            }
+        }
+        int eliminados = tamanio - escritura;
+        tamanio = escritura;
+        reducirSiEsNecesario( );
+        return eliminados;
+    }
+
+    /**
+     * Cuenta cuántas veces aparece un valor en el arreglo
+     * @param valor El valor buscado
+     * @return La cantidad de apariciones
+     */
+    public int contar( int valor )
+    {
+        int contador = 0;
+        for( int i = 0; i < tamanio; i++ )
+        {
+            if( elementos[ i ] == valor )
+            {
+                contador++;
+            }
+        }
+        return contador;
+    }
+
+    /**
+     * Busca con búsqueda binaria la primera posición cuyo elemento no es menor que un valor. El arreglo debe estar ordenado de menor a mayor.
+     * @param valor El valor buscado
+     * @return Una posición entre 0 y el tamaño del arreglo. Si el valor aparece, es la posición de su primera aparición.
+     */
+    public int limiteInferior( int valor )
+    {
+        return buscarLimite( elementos, 0, tamanio, valor, false );
+    }
+
+    /**
+     * Busca con búsqueda binaria la primera posición cuyo elemento es mayor que un valor. El arreglo debe estar ordenado de menor a mayor.
+     * @param valor El valor buscado
+     * @return Una posición entre 0 y el tamaño del arreglo. Si el valor aparece, es la posición siguiente a su última aparición.
+     */
+    public int limiteSuperior( int valor )
+    {
+        return buscarLimite( elementos, 0, tamanio, valor, true );
+    }
+
+    /**
+     * Recorre los elementos en orden
+     * @param accion La acción que se ejecuta con cada elemento
+     */
+    public void forEach( IntConsumer accion )
+    {
+        for( int i = 0; i < tamanio; i++ )
+        {
+            accion.accept( elementos[ i ] );
+        }
+    }
+
+    /**
+     * Reemplaza cada elemento por el resultado de aplicarle una función, en un solo recorrido
+     * @param funcion La función que calcula el nuevo valor de cada elemento
+     */
+    public void reemplazarTodos( IntUnaryOperator funcion )
+    {
+        for( int i = 0; i < tamanio; i++ )
+        {
+            elementos[ i ] = funcion.applyAsInt( elementos[ i ] );
+        }
+    }
+
+    /**
+     * Reemplaza cada elemento por el resultado de aplicarle una función. Las posiciones se reparten entre varios hilos del ForkJoinPool común.
+     * @param funcion La función que calcula el nuevo valor de cada elemento. Se llama desde varios hilos, así que no debe tener efectos secundarios.
+     */
+    public void reemplazarTodosEnParalelo( IntUnaryOperator funcion )
+    {
+        int[] arreglo = elementos;
+        IntStream.range( 0, tamanio ).parallel( ).forEach( i -> arreglo[ i ] = funcion.applyAsInt( arreglo[ i ] ) );
+    }
+
+    /**
+     * Retorna un IntStream secuencial sobre los elementos válidos del arreglo. Al volverlo paralelo se divide por rangos de posiciones, sin copiar.
+     * @return Un stream con los elementos
+     */
+    public IntStream stream( )
+    {
+        return Arrays.stream( elementos, 0, tamanio );
+    }
+
+    /**
+     * Agrega todos los valores de un arreglo al final, creciendo a lo sumo una vez
+     * @param valores Los valores que se van a agregar
+     */
+    public void agregarTodos( int[] valores )
+    {
+        asegurarCapacidad( tamanio + valores.length );
+        System.arraycopy( valores, 0, elementos, tamanio, valores.length );
+        tamanio += valores.length;
+    }
+
+    /**
+     * Elimina todos los elementos del arreglo, conservando la capacidad reservada
+     */
+    public void limpiar( )
+    {
+        tamanio = 0;
+    }
+
+    /**
+     * Reemplaza el contenido del arreglo con una copia de los valores dados
+     * @param valores Los nuevos valores del arreglo
+     */
+    public void reiniciar( int[] valores )
+    {
+        elementos = valores.length == 0 ? VACIO : Arrays.copyOf( valores, valores.length );
+        tamanio = valores.length;
+    }
+
+    /**
+     * Ordena los elementos del arreglo de menor a mayor
+     */
+    public void ordenar( )
+    {
+        Arrays.sort( elementos, 0, tamanio );
+    }
+
+    /**
+     * Ordena los elementos del arreglo de menor a mayor con Arrays.parallelSort
+     */
+    public void ordenarEnParalelo( )
+    {
+        Arrays.parallelSort( elementos, 0, tamanio );
+    }
+
+    /**
+     * Invierte el orden de los elementos del arreglo
+     */
+    public void invertir( )
+    {
+        for( int i = 0, j = tamanio - 1; i < j; i++, j-- )
+        {
+            int temporal = elementos[ i ];
+            elementos[ i ] = elementos[ j ];
+            elementos[ j ] = temporal;
+        }
+    }
+
+    /**
+     * Verifica si el arreglo contiene exactamente los mismos valores que otro arreglo, en el mismo orden
+     * @param otroArreglo El arreglo con el que se compara
+     * @return True si tienen los mismos valores en el mismo orden
+     */
+    public boolean mismosValores( int[] otroArreglo )
+    {
+        if( otroArreglo.length != tamanio )
+        {
+            return false;
+        }
+        for( int i = 0; i < tamanio; i++ )
+        {
+            if( elementos[ i ] != otroArreglo[ i ] )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Retorna un nuevo arreglo con exactamente los elementos válidos
+     * @return Una copia de los elementos
+     */
+    public int[] copia( )
+    {
+        return Arrays.copyOf( elementos, tamanio );
+    }
+
+    /**
+     * Garantiza que el arreglo interno tenga espacio al menos para la cantidad de elementos indicada, duplicando la capacidad cuando sea necesario
+     * @param capacidadRequerida La cantidad mínima de posiciones que se necesitan
+     */
+    public void asegurarCapacidad( int capacidadRequerida )
+    {
+        if( capacidadRequerida < 0 )
+        {
+            throw new OutOfMemoryError( "El arreglo no puede tener más de " + CAPACIDAD_MAXIMA + " elementos" );
+        }
+        if( capacidadRequerida > elementos.length )
+        {
+            elementos = Arrays.copyOf( elementos, calcularNuevaCapacidad( elementos.length, capacidadRequerida ) );
+        }
+    }
+
+    /**
+     * Calcula la capacidad a la que debe crecer un arreglo para que quepan los elementos requeridos
+     * @param capacidadActual La capacidad actual del arreglo
+     * @param capacidadRequerida La cantidad mínima de posiciones que se necesitan
+     * @return La nueva capacidad
+     */
+    static int calcularNuevaCapacidad( int capacidadActual, int capacidadRequerida )
+    {
+        if( capacidadRequerida > CAPACIDAD_MAXIMA )
+        {
+            return capacidadRequerida;
+        }
+        long duplicada = Math.max( ( long )capacidadActual * 2, CAPACIDAD_MINIMA );
+        return ( int )Math.min( Math.max( duplicada, capacidadRequerida ), CAPACIDAD_MAXIMA );
+    }
+
+    /**
+     * Busca con búsqueda binaria, en una parte ordenada de un arreglo, la primera posición cuyo elemento es mayor (o mayor o igual) que un valor
+     * @param arreglo El arreglo
+     * @param desde La primera posición de la parte ordenada
+     * @param hasta La posición siguiente a la última de la parte ordenada
+     * @param valor El valor buscado
+     * @param incluirIguales Si es true, se busca el primer elemento mayor que el valor; si es false, el primero mayor o igual
+     * @return Una posición entre desde y hasta
+     */
+    static int buscarLimite( int[] arreglo, int desde, int hasta, int valor, boolean incluirIguales )
+    {
+        int bajo = desde;
+        int alto = hasta;
+        while( bajo < alto )
+        {
+            int medio = ( bajo + alto ) >>> 1;
+            int actual = arreglo[ medio ];
+            if( actual < valor || ( incluirIguales && actual == valor ) )
+            {
+                bajo = medio + 1;
+            }
+            else
+            {
+                alto = medio;
+            }
+        }
+        return bajo;
+    }
+
+    /**
+     * Reduce el arreglo a la mitad de su capacidad si el tamaño quedó por debajo del umbral de reducción
+     */
+    private void reducirSiEsNecesario( )
+    {
+        if( umbralReduccion > 0 && elementos.length > CAPACIDAD_MINIMA && tamanio < elementos.length * umbralReduccion )
+        {
+            elementos = Arrays.copyOf( elementos, Math.max( elementos.length / 2, CAPACIDAD_MINIMA ) );
+        }
+    }
+
+    private void verificarPosicion( int posicion )
+    {
+        if( posicion < 0 || posicion >= tamanio )
+        {
+            throw new IndexOutOfBoundsException( "Posición: " + posicion + ", tamaño: " + tamanio );
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.Arrays;
+
+/**
+ * Una secuencia de cadenas que admite que varios hilos agreguen y lean al mismo tiempo. Ver SecuenciaConcurrente para los detalles de la sincronización.
+ */
+class CadenasConcurrentes extends SecuenciaConcurrente<String[]>
+{
+    /**
+     * Crea una secuencia vacía
+     */
+    CadenasConcurrentes( )
+    {
+        super( String[]::new );
+    }
+
+    /**
+     * Agrega una cadena al final de la secuencia
+     * @param cadena La cadena que se agrega
+     */
+    void agregar( String cadena )
+    {
+        int posicion = iniciarAgregado( );
+        try
+        {
+            bloqueParaAgregar( posicion )[ posicion & MASCARA_BLOQUE ] = cadena;
+        }
+        finally
+        {
+            terminarAgregado( posicion );
+        }
+    }
+
+    /**
+     * Retorna un arreglo nuevo con las cadenas de la secuencia
+     * @return Una copia de las cadenas
+     */
+    String[] copia( )
+    {
+        Vista<String[]> vista = vista( );
+        return copiaDesde( vista, 0, vista.tamanio );
+    }
+
+    /**
+     * Cuenta cuántas cadenas coinciden con una cadena dada, sin tener en cuenta mayúsculas ni minúsculas
+     * @param cadena La cadena buscada
+     * @return La cantidad de coincidencias
+     */
+    int contarSinMayusculas( String cadena )
+    {
+        Vista<String[]> vista = vista( );
+        int contador = 0;
+        for( int inicio = 0; inicio < vista.tamanio; inicio += TAMANIO_BLOQUE )
+        {
+            String[] bloque = vista.directorio.bloque( inicio >>> BITS_BLOQUE );
+            int fin = Math.min( TAMANIO_BLOQUE, vista.tamanio - inicio );
+            for( int i = 0; i < fin; i++ )
+            {
+                if( bloque[ i ].equalsIgnoreCase( cadena ) )
+                {
+                    contador++;
+                }
+            }
+        }
+        return contador;
+    }
+
+    /**
+     * Reemplaza todas las cadenas de la secuencia. El arreglo se copia, así que el llamador puede seguir usándolo.
+     * @param cadenas Las nuevas cadenas
+     */
+    void reiniciar( String[] cadenas )
+    {
+        iniciarModificacion( );
+        try
+        {
+            publicarCola( vistaEnModificacion( ), 0, cadenas, cadenas.length );
+        }
+        finally
+        {
+            terminarModificacion( );
+        }
+    }
+
+    /**
+     * Elimina todas las cadenas iguales a una cadena dada. Los bloques anteriores a la primera aparición no se copian.
+     * @param cadena La cadena que se elimina
+     */
+    void eliminarTodas( String cadena )
+    {
+        iniciarModificacion( );
+        try
+        {
+            Vista<String[]> vista = vistaEnModificacion( );
+            String[] cola = null;
+            int desde = 0;
+            int largo = 0;
+            for( int inicio = 0; inicio < vista.tamanio && cola == null; inicio += TAMANIO_BLOQUE )
+            {
+                String[] bloque = vista.directorio.bloque( inicio >>> BITS_BLOQUE );
+                int fin = Math.min( TAMANIO_BLOQUE, vista.tamanio - inicio );
+                for( int i = 0; i < fin && cola == null; i++ )
+                {
+                    if( bloque[ i ].equals( cadena ) )
+                    {
+                        desde = inicio;
+                        cola = copiaDesde( vista, desde, vista.tamanio - desde );
+                    }
+                }
+            }
+            if( cola != null )
+            {
+                for( int i = 0; i < cola.length; i++ )
+                {
+                    if( !cola[ i ].equals( cadena ) )
+                    {
+                        cola[ largo++ ] = cola[ i ];
+                    }
+                }
+                publicarCola( vista, desde, cola, largo );
+            }
+        }
+        finally
+        {
+            terminarModificacion( );
+        }
+    }
+
+    /**
+     * Ordena las cadenas lexicográficamente
+     */
+    void ordenar( )
+    {
+        iniciarModificacion( );
+        try
+        {
+            Vista<String[]> vista = vistaEnModificacion( );
+            String[] cadenas = copiaDesde( vista, 0, vista.tamanio );
+            Arrays.sort( cadenas );
+            publicarCola( vista, 0, cadenas, cadenas.length );
+        }
+        finally
+        {
+            terminarModificacion( );
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Coordina las modificaciones de un sandbox concurrente con las reconstrucciones que reemplazan toda su colección.
+ *
+ * Hace lo mismo que el lado de lectura y el de escritura de un candado, pero los que modifican no comparten ninguna variable: cada hilo se anota en una franja de un
+ * contador según su identificador, y las franjas están separadas por 128 bytes para que dos hilos que modifican al mismo tiempo no escriban en la misma línea de
+ * caché. La reconstrucción cierra el candado y espera a que todas las franjas queden en cero.
+ *
+ * Anotarse y revisar si el candado está cerrado son accesos volatile, al igual que cerrar y revisar las franjas, así que nunca pasa que un hilo vea el candado abierto
+ * mientras la reconstrucción ve su franja en cero.
+ */
+final class CandadoPorFranjas
+{
+    /**
+     * La cantidad de posiciones del contador entre dos franjas: 16 long son 128 bytes, dos líneas de caché
+     */
+    private static final int SEPARACION = 16;
+
+    /**
+     * La cantidad máxima de franjas
+     */
+    private static final int MAXIMO_FRANJAS = 64;
+
+    /**
+     * La cantidad de hilos que están modificando, en la posición (franja + 1) * SEPARACION de cada franja. La primera franja empieza después de SEPARACION posiciones
+     * para no compartir línea con el encabezado del arreglo.
+     */
+    private final AtomicLongArray modificando;
+
+    /**
+     * La máscara para obtener la franja de un hilo. La cantidad de franjas es una potencia de 2.
+     */
+    private final int mascara;
+
+    /**
+     * Indica si hay una reconstrucción en curso. Los que van a modificar mientras tanto esperan en 'reconstruccion'.
+     */
+    private volatile boolean cerrado;
+
+    /**
+     * Lo tiene la reconstrucción en curso, desde que cierra hasta que abre
+     */
+    private final ReentrantLock reconstruccion;
+
+    /**
+     * Crea un candado abierto, con una franja por cada procesador disponible (redondeado a una potencia de 2)
+     */
+    CandadoPorFranjas( )
+    {
+        int procesadores = Math.min( Runtime.getRuntime( ).availableProcessors( ), MAXIMO_FRANJAS );
+        int franjas = Integer.highestOneBit( Math.max( procesadores * 2 - 1, 1 ) );
+        modificando = new AtomicLongArray( ( franjas + 2 ) * SEPARACION );
+        mascara = franjas - 1;
+        reconstruccion = new ReentrantLock( );
+    }
+
+    /**
+     * Anota al hilo actual como modificador. Si hay una reconstrucción en curso, espera a que termine.
+     * @return La posición de la franja, que se debe pasar a terminarModificacion
+     */
+    int empezarModificacion( )
+    {
+        int posicion = ( ( ( int )Thread.currentThread( ).threadId( ) & mascara ) + 1 ) * SEPARACION;
+        while( true )
+        {
+            modificando.incrementAndGet( posicion );
+            if( !cerrado )
+            {
+                return posicion;
+            }
+            modificando.decrementAndGet( posicion );
+            reconstruccion.lock( );
+            reconstruccion.unlock( );
+        }
+    }
+
+    /**
+     * Quita la anotación de empezarModificacion
+     * @param posicion La posición que retornó empezarModificacion
+     */
+    void terminarModificacion( int posicion )
+    {
+        modificando.decrementAndGet( posicion );
+    }
+
+    /**
+     * Cierra el candado para una reconstrucción: desde ese momento los que van a modificar esperan, y el método espera a que terminen los que ya estaban modificando.
+     * Después de llamarlo hay que llamar abrir, normalmente en un finally.
+     */
+    void cerrar( )
+    {
+        reconstruccion.lock( );
+        cerrado = true;
+        for( int posicion = SEPARACION; posicion <= ( mascara + 1 ) * SEPARACION; posicion += SEPARACION )
+        {
+            while( modificando.get( posicion ) != 0 )
+            {
+                Thread.yield( );
+            }
+        }
+    }
+
+    /**
+     * Abre el candado después de cerrar y deja seguir a los que estaban esperando para modificar
+     */
+    void abrir( )
+    {
+        cerrado = false;
+        reconstruccion.unlock( );
+    }
+}
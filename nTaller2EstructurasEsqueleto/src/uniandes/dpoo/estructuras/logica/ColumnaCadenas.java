@@ -0,0 +1,1024 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Una columna compacta de cadenas: las cadenas se guardan en UTF-8, una tras otra, en un único arreglo de bytes, y un arreglo de enteros indica dónde empieza cada una.
+ *
+ * La codificación no pierde nada, así que la columna guarda lo mismo que un arreglo de String. Un carácter sustituto (surrogate) que no forma pareja, que
+ * String.getBytes reemplazaría por '?', se codifica con sus propios tres bytes como cualquier otro carácter de 16 bits. Una cadena null se guarda como el byte 0xFF, que
+ * no aparece en ninguna cadena codificada.
+ *
+ * Un arreglo de String necesita por cadena una referencia, un objeto String y el arreglo de bytes del String: más de 40 bytes además de los caracteres. En la columna
+ * cada cadena ocupa sus bytes y dos enteros, su inicio y su hash sin mayúsculas, que se calcula una sola vez al agregarla.
+ *
+ * Si la columna se crea sin repetidos, cada cadena distinta (una entrada) se guarda una sola vez en un diccionario y cada posición guarda sólo el código de su entrada. Con
+ * pocas cadenas distintas que se repiten mucho, la columna ocupa poco más de 4 bytes por posición.
+ *
+ * contarSinMayusculas, eliminarTodas y ordenar trabajan directamente sobre los bytes. Sólo crean objetos String para comparar cadenas que no son ASCII, en las que las
+ * reglas de mayúsculas de Java o el orden de String.compareTo no coinciden con comparar bytes. get y copia decodifican las cadenas cuando se piden.
+ */
+public class ColumnaCadenas implements SecuenciaCadenas
+{
+    private static final int[] VACIO = new int[0];
+
+    private static final byte[] SIN_BYTES = new byte[0];
+
+    /**
+     * Los bytes con los que se guarda una cadena null
+     */
+    private static final byte[] NULA = new byte[]{ ( byte )0xFF };
+
+    /**
+     * El hash sin mayúsculas de una cadena null
+     */
+    private static final int HASH_NULA = 0;
+
+    /**
+     * La capacidad inicial de la tabla de entradas de una columna sin repetidos. Siempre es una potencia de 2.
+     */
+    private static final int CAPACIDAD_TABLA_INICIAL = 16;
+
+    /**
+     * El tamaño de los tramos que ordenar organiza por inserción antes de empezar a mezclar
+     */
+    private static final int TRAMO_INSERCION = 32;
+
+    /**
+     * Indica si cada cadena distinta se guarda una sola vez
+     */
+    private final boolean sinRepetidos;
+
+    /**
+     * Los bytes UTF-8 de las entradas, uno tras otro. Sólo los primeros 'bytesUsados' son válidos.
+     */
+    private byte[] bytes;
+
+    /**
+     * La cantidad de bytes válidos en 'bytes'
+     */
+    private int bytesUsados;
+
+    /**
+     * El inicio de cada entrada en 'bytes'. La entrada e ocupa desde inicios[e] hasta inicios[e + 1], así que hay una posición válida más que entradas.
+     */
+    private int[] inicios;
+
+    /**
+     * El hash sin mayúsculas de cada entrada (ver hashSinMayusculas)
+     */
+    private int[] hashes;
+
+    /**
+     * La cantidad de entradas. Sin repetidos es la cantidad de cadenas distintas; si no, es igual a tamanio y la entrada de la posición i es la i.
+     */
+    private int entradas;
+
+    /**
+     * Sólo sin repetidos: el código (la entrada) de la cadena de cada posición. Es null si la columna admite repetidos.
+     */
+    private int[] codigos;
+
+    /**
+     * Sólo sin repetidos: una tabla hash de direccionamiento abierto con las entradas, indexada por su hash sin mayúsculas. Cada casilla tiene la entrada más 1, o 0 si
+     * está vacía. Es null si la columna admite repetidos.
+     */
+    private int[] tabla;
+
+    /**
+     * La cantidad de cadenas en la columna
+     */
+    private int tamanio;
+
+    /**
+     * Crea una columna vacía sin capacidad reservada
+     * @param sinRepetidos Si es true, cada cadena distinta se guarda una sola vez
+     */
+    public ColumnaCadenas( boolean sinRepetidos )
+    {
+        this( 0, sinRepetidos );
+    }
+
+    /**
+     * Crea una columna vacía con la capacidad indicada
+     * @param capacidadInicial La cantidad de cadenas que se pueden agregar antes de tener que crecer
+     * @param sinRepetidos Si es true, cada cadena distinta se guarda una sola vez
+     */
+    public ColumnaCadenas( int capacidadInicial, boolean sinRepetidos )
+    {
+        if( capacidadInicial < 0 )
+        {
+            throw new IllegalArgumentException( "La capacidad no puede ser negativa: " + capacidadInicial );
+        }
+        this.sinRepetidos = sinRepetidos;
+        bytes = SIN_BYTES;
+        bytesUsados = 0;
+        entradas = 0;
+        tamanio = 0;
+        if( sinRepetidos )
+        {
+            inicios = new int[1];
+            hashes = VACIO;
+            codigos = capacidadInicial == 0 ? VACIO : new int[capacidadInicial];
+            tabla = new int[CAPACIDAD_TABLA_INICIAL];
+        }
+        else
+        {
+            inicios = new int[capacidadInicial + 1];
+            hashes = capacidadInicial == 0 ? VACIO : new int[capacidadInicial];
+        }
+    }
+
+    /**
+     * Retorna la cantidad de cadenas en la columna
+     * @return El tamaño de la columna
+     */
+    public int tamanio( )
+    {
+        return tamanio;
+    }
+
+    /**
+     * Indica si la columna guarda cada cadena distinta una sola vez
+     * @return true si la columna se creó sin repetidos
+     */
+    public boolean sinRepetidos( )
+    {
+        return sinRepetidos;
+    }
+
+    /**
+     * Retorna la cantidad de cadenas que la columna tiene guardadas. Sin repetidos es la cantidad de cadenas distintas; si no, es el tamaño de la columna.
+     * @return La cantidad de entradas
+     */
+    public int cantidadEntradas( )
+    {
+        return entradas;
+    }
+
+    /**
+     * Retorna la cadena que se encuentra en una posición. La cadena se decodifica en cada llamado.
+     * @param posicion La posición de la cadena
+     * @return La cadena en la posición
+     */
+    public String get( int posicion )
+    {
+        if( posicion < 0 || posicion >= tamanio )
+        {
+            throw new IndexOutOfBoundsException( "Posición: " + posicion + ", tamaño: " + tamanio );
+        }
+        return decodificar( sinRepetidos ? codigos[ posicion ] : posicion );
+    }
+
+    /**
+     * Agrega una cadena al final de la columna. Sin repetidos, si la cadena ya estaba sólo se agrega su código.
+     * @param cadena La cadena que se va a agregar. Puede ser null.
+     */
+    public void agregar( String cadena )
+    {
+        int hash = cadena == null ? HASH_NULA : hashSinMayusculas( cadena );
+        int fin = escribir( cadena );
+        if( !sinRepetidos )
+        {
+            nuevaEntrada( fin, hash );
+            tamanio++;
+            return;
+        }
+        int entrada = buscar( hash, bytes, bytesUsados, fin );
+        if( entrada < 0 )
+        {
+            entrada = nuevaEntrada( fin, hash );
+            if( entradas * 2 > tabla.length )
+            {
+                rehacerTabla( tabla.length * 2 );
+            }
+            else
+            {
+                ubicar( entrada );
+            }
+        }
+        if( tamanio == codigos.length )
+        {
+            codigos = Arrays.copyOf( codigos, ArregloDinamicoEnteros.calcularNuevaCapacidad( codigos.length, tamanio + 1 ) );
+        }
+        codigos[ tamanio ] = entrada;
+        tamanio++;
+    }
+
+    /**
+     * Agrega varias cadenas al final de la columna. Los arreglos de posiciones crecen a lo sumo una vez; el de bytes sigue creciendo a medida que se escriben las cadenas,
+     * porque su tamaño depende de la codificación.
+     * @param cadenas Las cadenas que se van a agregar
+     */
+    public void agregarTodas( Collection<String> cadenas )
+    {
+        int requeridas = tamanio + cadenas.size( );
+        if( sinRepetidos )
+        {
+            if( requeridas > codigos.length )
+            {
+                codigos = Arrays.copyOf( codigos, ArregloDinamicoEnteros.calcularNuevaCapacidad( codigos.length, requeridas ) );
+            }
+        }
+        else
+        {
+            if( requeridas + 1 > inicios.length )
+            {
+                inicios = Arrays.copyOf( inicios, ArregloDinamicoEnteros.calcularNuevaCapacidad( inicios.length, requeridas + 1 ) );
+            }
+            if( requeridas > hashes.length )
+            {
+                hashes = Arrays.copyOf( hashes, ArregloDinamicoEnteros.calcularNuevaCapacidad( hashes.length, requeridas ) );
+            }
+        }
+        for( String cadena : cadenas )
+        {
+            agregar( cadena );
+        }
+    }
+
+    /**
+     * Elimina todas las apariciones de una cadena en un solo recorrido, comparando sus bytes con los de cada entrada. Como con Objects.equals, si la cadena es null se
+     * eliminan las cadenas null.
+     * @param cadena La cadena que se va a eliminar
+     * @return La cantidad de cadenas eliminadas
+     */
+    public int eliminarTodas( String cadena )
+    {
+        byte[] buscada = codificar( cadena );
+        if( !sinRepetidos )
+        {
+            return eliminarEntradas( buscada );
+        }
+        int eliminada = buscar( cadena == null ? HASH_NULA : hashSinMayusculas( cadena ), buscada, 0, buscada.length );
+        if( eliminada < 0 )
+        {
+            return 0;
+        }
+        int escritura = 0;
+        for( int lectura = 0; lectura < tamanio; lectura++ )
+        {
+            int codigo = codigos[ lectura ];
+            if( codigo != eliminada )
+            {
+                codigos[ escritura ] = codigo > eliminada ? codigo - 1 : codigo;
+                escritura++;
+            }
+        }
+        int eliminadas = tamanio - escritura;
+        tamanio = escritura;
+        quitarEntrada( eliminada );
+        if( debeReducirse( tamanio, codigos.length ) )
+        {
+            codigos = Arrays.copyOf( codigos, Math.max( codigos.length / 2, ArregloDinamicoEnteros.CAPACIDAD_MINIMA ) );
+        }
+        return eliminadas;
+    }
+
+    /**
+     * Cuenta cuántas cadenas son iguales a una cadena sin diferenciar mayúsculas y minúsculas.
+     *
+     * Sólo se comparan los bytes de las entradas cuyo hash sin mayúsculas coincide con el de la cadena. Sin repetidos, primero se arma el conjunto de códigos que
+     * coinciden y después se cuentan las posiciones con alguno de esos códigos, comparando sólo enteros.
+     * @param cadena La cadena buscada
+     * @return La cantidad de apariciones
+     * @throws NullPointerException Si la columna tiene alguna cadena null, igual que ArregloDinamicoCadenas
+     */
+    public int contarSinMayusculas( String cadena )
+    {
+        if( tieneNulas( ) )
+        {
+            throw new NullPointerException( "La columna tiene cadenas null" );
+        }
+        if( cadena == null )
+        {
+            return 0;
+        }
+        int hash = hashSinMayusculas( cadena );
+        boolean ascii = esAscii( cadena );
+        if( !sinRepetidos )
+        {
+            int contador = 0;
+            for( int entrada = 0; entrada < entradas; entrada++ )
+            {
+                if( hashes[ entrada ] == hash && coincideSinMayusculas( entrada, cadena, ascii ) )
+                {
+                    contador++;
+                }
+            }
+            return contador;
+        }
+
+        boolean[] coinciden = new boolean[entradas];
+        int cantidadCoinciden = 0;
+        int ultima = -1;
+        for( int entrada = 0; entrada < entradas; entrada++ )
+        {
+            if( hashes[ entrada ] == hash && coincideSinMayusculas( entrada, cadena, ascii ) )
+            {
+                coinciden[ entrada ] = true;
+                cantidadCoinciden++;
+                ultima = entrada;
+            }
+        }
+        int contador = 0;
+        if( cantidadCoinciden == 1 )
+        {
+            for( int i = 0; i < tamanio; i++ )
+            {
+                if( codigos[ i ] == ultima )
+                {
+                    contador++;
+                }
+            }
+        }
+        else if( cantidadCoinciden > 1 )
+        {
+            for( int i = 0; i < tamanio; i++ )
+            {
+                if( coinciden[ codigos[ i ] ] )
+                {
+                    contador++;
+                }
+            }
+        }
+        return contador;
+    }
+
+    /**
+     * Ordena las cadenas lexicográficamente, en el mismo orden que String.compareTo.
+     *
+     * Se ordenan las entradas comparando sus bytes. Sin repetidos, después se reescriben los códigos con un ordenamiento por conteo, así que el costo es O(n + k log k)
+     * para k cadenas distintas. Si no, se reescriben los bytes en el nuevo orden.
+     * @throws NullPointerException Si hay más de una cadena y alguna es null, igual que Arrays.sort
+     */
+    public void ordenar( )
+    {
+        if( tamanio > 1 && tieneNulas( ) )
+        {
+            throw new NullPointerException( "La columna tiene cadenas null" );
+        }
+        int[] orden = entradasOrdenadas( );
+        if( sinRepetidos )
+        {
+            int[] cantidades = new int[entradas];
+            for( int i = 0; i < tamanio; i++ )
+            {
+                cantidades[ codigos[ i ] ]++;
+            }
+            int posicion = 0;
+            for( int entrada : orden )
+            {
+                Arrays.fill( codigos, posicion, posicion + cantidades[ entrada ], entrada );
+                posicion += cantidades[ entrada ];
+            }
+            return;
+        }
+
+        byte[] nuevosBytes = new byte[bytes.length];
+        int[] nuevosInicios = new int[inicios.length];
+        int[] nuevosHashes = new int[hashes.length];
+        int destino = 0;
+        for( int i = 0; i < entradas; i++ )
+        {
+            int entrada = orden[ i ];
+            int longitud = inicios[ entrada + 1 ] - inicios[ entrada ];
+            System.arraycopy( bytes, inicios[ entrada ], nuevosBytes, destino, longitud );
+            nuevosInicios[ i ] = destino;
+            nuevosHashes[ i ] = hashes[ entrada ];
+            destino += longitud;
+        }
+        nuevosInicios[ entradas ] = destino;
+        bytes = nuevosBytes;
+        inicios = nuevosInicios;
+        hashes = nuevosHashes;
+    }
+
+    /**
+     * Retorna un nuevo arreglo con las cadenas decodificadas. Sin repetidos, cada cadena distinta se decodifica una sola vez y las posiciones que la repiten comparten el
+     * mismo objeto String.
+     * @return Una copia de las cadenas
+     */
+    public String[] copia( )
+    {
+        String[] copia = new String[tamanio];
+        if( !sinRepetidos )
+        {
+            for( int i = 0; i < tamanio; i++ )
+            {
+                copia[ i ] = decodificar( i );
+            }
+            return copia;
+        }
+        String[] decodificadas = new String[entradas];
+        for( int i = 0; i < tamanio; i++ )
+        {
+            int entrada = codigos[ i ];
+            if( decodificadas[ entrada ] == null )
+            {
+                decodificadas[ entrada ] = decodificar( entrada );
+            }
+            copia[ i ] = decodificadas[ entrada ];
+        }
+        return copia;
+    }
+
+    /**
+     * Calcula un hash que es igual para dos cadenas que son iguales según equalsIgnoreCase: cada carácter se convierte a mayúscula y luego a minúscula, como lo hace
+     * equalsIgnoreCase antes de compararlo.
+     * @param cadena La cadena
+     * @return El hash sin mayúsculas de la cadena
+     */
+    static int hashSinMayusculas( String cadena )
+    {
+        int hash = 0;
+        int i = 0;
+        while( i < cadena.length( ) )
+        {
+            char caracter = cadena.charAt( i );
+            if( caracter < 0x80 )
+            {
+                hash = 31 * hash + minusculaAscii( caracter );
+                i++;
+            }
+            else
+            {
+                int codigo = cadena.codePointAt( i );
+                hash = 31 * hash + Character.toLowerCase( Character.toUpperCase( codigo ) );
+                i += Character.charCount( codigo );
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Convierte una letra ASCII a minúscula. Los demás valores no cambian.
+     * @param caracter Un carácter o un byte
+     * @return El carácter en minúscula
+     */
+    private static int minusculaAscii( int caracter )
+    {
+        return caracter >= 'A' && caracter <= 'Z' ? caracter + ( 'a' - 'A' ) : caracter;
+    }
+
+    /**
+     * Indica si todos los caracteres de una cadena son ASCII
+     * @param cadena La cadena
+     * @return true si ningún carácter es mayor que 0x7F
+     */
+    private static boolean esAscii( String cadena )
+    {
+        for( int i = 0; i < cadena.length( ); i++ )
+        {
+            if( cadena.charAt( i ) >= 0x80 )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Indica si alguna entrada es una cadena null
+     * @return true si hay una entrada con los bytes de NULA
+     */
+    private boolean tieneNulas( )
+    {
+        for( int entrada = 0; entrada < entradas; entrada++ )
+        {
+            if( esNula( entrada ) )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Indica si una entrada es una cadena null
+     * @param entrada La entrada
+     * @return true si la entrada tiene los bytes de NULA
+     */
+    private boolean esNula( int entrada )
+    {
+        int inicio = inicios[ entrada ];
+        return inicios[ entrada + 1 ] - inicio == 1 && bytes[ inicio ] == NULA[ 0 ];
+    }
+
+    /**
+     * Decodifica una entrada. Si la entrada tiene sustitutos sin pareja, que el decodificador UTF-8 de Java no acepta, se decodifica carácter por carácter.
+     * @param entrada La entrada
+     * @return Un nuevo String con la entrada, o null si la entrada es una cadena null
+     */
+    private String decodificar( int entrada )
+    {
+        int inicio = inicios[ entrada ];
+        int fin = inicios[ entrada + 1 ];
+        if( esNula( entrada ) )
+        {
+            return null;
+        }
+        for( int i = inicio; i < fin - 1; i++ )
+        {
+            // Los sustitutos (U+D800 a U+DFFF) son los únicos caracteres de 3 bytes que empiezan por 0xED y siguen con un byte desde 0xA0
+            if( bytes[ i ] == ( byte )0xED && ( bytes[ i + 1 ] & 0xFF ) >= 0xA0 )
+            {
+                return decodificarConSustitutos( inicio, fin );
+            }
+        }
+        return new String( bytes, inicio, fin - inicio, StandardCharsets.UTF_8 );
+    }
+
+    /**
+     * Decodifica una parte del arreglo de bytes carácter por carácter, aceptando sustitutos sin pareja codificados con 3 bytes
+     * @param inicio La posición del primer byte
+     * @param fin La posición siguiente al último byte
+     * @return Un nuevo String con los caracteres
+     */
+    private String decodificarConSustitutos( int inicio, int fin )
+    {
+        StringBuilder cadena = new StringBuilder( fin - inicio );
+        int i = inicio;
+        while( i < fin )
+        {
+            int primero = bytes[ i ] & 0xFF;
+            if( primero < 0x80 )
+            {
+                cadena.append( ( char )primero );
+                i++;
+            }
+            else if( primero < 0xE0 )
+            {
+                cadena.append( ( char )( ( ( primero & 0x1F ) << 6 ) | ( bytes[ i + 1 ] & 0x3F ) ) );
+                i += 2;
+            }
+            else if( primero < 0xF0 )
+            {
+                cadena.append( ( char )( ( ( primero & 0x0F ) << 12 ) | ( ( bytes[ i + 1 ] & 0x3F ) << 6 ) | ( bytes[ i + 2 ] & 0x3F ) ) );
+                i += 3;
+            }
+            else
+            {
+                cadena.appendCodePoint( ( ( primero & 0x07 ) << 18 ) | ( ( bytes[ i + 1 ] & 0x3F ) << 12 ) | ( ( bytes[ i + 2 ] & 0x3F ) << 6 ) | ( bytes[ i + 3 ] & 0x3F ) );
+                i += 4;
+            }
+        }
+        return cadena.toString( );
+    }
+
+    /**
+     * Retorna los bytes con los que se guardaría una cadena
+     * @param cadena La cadena. Puede ser null.
+     * @return Un nuevo arreglo con los bytes de la cadena
+     */
+    private static byte[] codificar( String cadena )
+    {
+        if( cadena == null )
+        {
+            return NULA;
+        }
+        byte[] codificada = new byte[3 * cadena.length( )];
+        return Arrays.copyOf( codificada, codificar( cadena, 0, codificada, 0 ) );
+    }
+
+    /**
+     * Codifica en UTF-8 los caracteres de una cadena desde una posición. Cada pareja de sustitutos se codifica como su punto de código, con 4 bytes; un sustituto sin
+     * pareja se codifica con 3 bytes, como los demás caracteres desde U+0800. Cada carácter ocupa a lo sumo 3 bytes por cada char de la cadena.
+     * @param cadena La cadena
+     * @param desde La posición del primer carácter que se codifica
+     * @param destino El arreglo donde se escriben los bytes. Debe tener espacio para 3 bytes por carácter.
+     * @param posicion La posición del primer byte en el destino
+     * @return La posición siguiente al último byte escrito
+     */
+    private static int codificar( String cadena, int desde, byte[] destino, int posicion )
+    {
+        int longitud = cadena.length( );
+        int i = desde;
+        while( i < longitud )
+        {
+            char caracter = cadena.charAt( i );
+            if( caracter < 0x80 )
+            {
+                destino[ posicion ] = ( byte )caracter;
+                posicion++;
+                i++;
+            }
+            else if( caracter < 0x800 )
+            {
+                destino[ posicion ] = ( byte )( 0xC0 | ( caracter >> 6 ) );
+                destino[ posicion + 1 ] = ( byte )( 0x80 | ( caracter & 0x3F ) );
+                posicion += 2;
+                i++;
+            }
+            else if( Character.isHighSurrogate( caracter ) && i + 1 < longitud && Character.isLowSurrogate( cadena.charAt( i + 1 ) ) )
+            {
+                int codigo = Character.toCodePoint( caracter, cadena.charAt( i + 1 ) );
+                destino[ posicion ] = ( byte )( 0xF0 | ( codigo >> 18 ) );
+                destino[ posicion + 1 ] = ( byte )( 0x80 | ( ( codigo >> 12 ) & 0x3F ) );
+                destino[ posicion + 2 ] = ( byte )( 0x80 | ( ( codigo >> 6 ) & 0x3F ) );
+                destino[ posicion + 3 ] = ( byte )( 0x80 | ( codigo & 0x3F ) );
+                posicion += 4;
+                i += 2;
+            }
+            else
+            {
+                destino[ posicion ] = ( byte )( 0xE0 | ( caracter >> 12 ) );
+                destino[ posicion + 1 ] = ( byte )( 0x80 | ( ( caracter >> 6 ) & 0x3F ) );
+                destino[ posicion + 2 ] = ( byte )( 0x80 | ( caracter & 0x3F ) );
+                posicion += 3;
+                i++;
+            }
+        }
+        return posicion;
+    }
+
+    /**
+     * Escribe los bytes de una cadena después del último byte válido, sin marcarlos como válidos. Los caracteres ASCII se copian uno por uno; desde el primero que no
+     * es ASCII se reserva el máximo de 3 bytes por carácter y se codifica el resto de la cadena directamente en el arreglo de bytes.
+     * @param cadena La cadena. Puede ser null.
+     * @return La posición siguiente al último byte escrito
+     */
+    private int escribir( String cadena )
+    {
+        if( cadena == null )
+        {
+            asegurarBytes( ( long )bytesUsados + NULA.length );
+            System.arraycopy( NULA, 0, bytes, bytesUsados, NULA.length );
+            return bytesUsados + NULA.length;
+        }
+        int longitud = cadena.length( );
+        asegurarBytes( ( long )bytesUsados + longitud );
+        int posicion = bytesUsados;
+        for( int i = 0; i < longitud; i++ )
+        {
+            char caracter = cadena.charAt( i );
+            if( caracter >= 0x80 )
+            {
+                asegurarBytes( ( long )posicion + 3L * ( longitud - i ) );
+                return codificar( cadena, i, bytes, posicion );
+            }
+            bytes[ posicion ] = ( byte )caracter;
+            posicion++;
+        }
+        return posicion;
+    }
+
+    /**
+     * Garantiza que el arreglo de bytes tenga al menos la capacidad requerida
+     * @param requeridos La cantidad de bytes que se necesitan
+     */
+    private void asegurarBytes( long requeridos )
+    {
+        if( requeridos > bytes.length )
+        {
+            if( requeridos > Integer.MAX_VALUE )
+            {
+                throw new OutOfMemoryError( "La columna no puede guardar más de " + Integer.MAX_VALUE + " bytes" );
+            }
+            bytes = Arrays.copyOf( bytes, ArregloDinamicoEnteros.calcularNuevaCapacidad( bytes.length, ( int )requeridos ) );
+        }
+    }
+
+    /**
+     * Registra como nueva entrada los bytes escritos desde bytesUsados
+     * @param fin La posición siguiente al último byte de la entrada
+     * @param hash El hash sin mayúsculas de la entrada
+     * @return La nueva entrada
+     */
+    private int nuevaEntrada( int fin, int hash )
+    {
+        if( entradas + 2 > inicios.length )
+        {
+            inicios = Arrays.copyOf( inicios, ArregloDinamicoEnteros.calcularNuevaCapacidad( inicios.length, entradas + 2 ) );
+        }
+        if( entradas + 1 > hashes.length )
+        {
+            hashes = Arrays.copyOf( hashes, ArregloDinamicoEnteros.calcularNuevaCapacidad( hashes.length, entradas + 1 ) );
+        }
+        hashes[ entradas ] = hash;
+        inicios[ entradas + 1 ] = fin;
+        bytesUsados = fin;
+        entradas++;
+        return entradas - 1;
+    }
+
+    /**
+     * Indica si una entrada tiene exactamente los bytes de una parte de un arreglo
+     * @param entrada La entrada
+     * @param otros El arreglo
+     * @param desde La posición del primer byte en el arreglo
+     * @param hasta La posición siguiente al último byte en el arreglo
+     * @return true si los bytes son iguales
+     */
+    private boolean mismosBytes( int entrada, byte[] otros, int desde, int hasta )
+    {
+        int inicio = inicios[ entrada ];
+        int longitud = inicios[ entrada + 1 ] - inicio;
+        if( longitud != hasta - desde )
+        {
+            return false;
+        }
+        for( int i = 0; i < longitud; i++ )
+        {
+            if( bytes[ inicio + i ] != otros[ desde + i ] )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Indica si una entrada es igual a una cadena sin diferenciar mayúsculas y minúsculas. Si las dos son ASCII se comparan los bytes; si no, se decodifica la entrada y
+     * se usa equalsIgnoreCase.
+     * @param entrada La entrada
+     * @param cadena La cadena
+     * @param cadenaAscii Si todos los caracteres de la cadena son ASCII
+     * @return true si son iguales sin diferenciar mayúsculas y minúsculas
+     */
+    private boolean coincideSinMayusculas( int entrada, String cadena, boolean cadenaAscii )
+    {
+        int inicio = inicios[ entrada ];
+        int longitud = inicios[ entrada + 1 ] - inicio;
+        if( cadenaAscii && esAscii( inicio, longitud ) )
+        {
+            if( longitud != cadena.length( ) )
+            {
+                return false;
+            }
+            for( int i = 0; i < longitud; i++ )
+            {
+                if( minusculaAscii( bytes[ inicio + i ] ) != minusculaAscii( cadena.charAt( i ) ) )
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return decodificar( entrada ).equalsIgnoreCase( cadena );
+    }
+
+    /**
+     * Indica si todos los bytes de una parte del arreglo de bytes son ASCII
+     * @param inicio La posición del primer byte
+     * @param longitud La cantidad de bytes
+     * @return true si ningún byte tiene el bit más alto encendido
+     */
+    private boolean esAscii( int inicio, int longitud )
+    {
+        for( int i = inicio; i < inicio + longitud; i++ )
+        {
+            if( bytes[ i ] < 0 )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compara dos entradas en el orden de String.compareTo.
+     *
+     * El orden de los bytes UTF-8 es el de los puntos de código, que coincide con el de String.compareTo mientras el primer byte distinto sea ASCII en alguna de las
+     * dos entradas. Si en las dos es parte de un carácter que no es ASCII, las entradas se decodifican y se comparan como String.
+     * @param una Una entrada
+     * @param otra Otra entrada
+     * @return Un número negativo, cero o positivo si la primera entrada es menor, igual o mayor que la segunda
+     */
+    private int comparar( int una, int otra )
+    {
+        int i = inicios[ una ];
+        int finUna = inicios[ una + 1 ];
+        int j = inicios[ otra ];
+        int finOtra = inicios[ otra + 1 ];
+        while( i < finUna && j < finOtra )
+        {
+            int byteUna = bytes[ i ] & 0xFF;
+            int byteOtra = bytes[ j ] & 0xFF;
+            if( byteUna != byteOtra )
+            {
+                if( byteUna >= 0x80 && byteOtra >= 0x80 )
+                {
+                    return decodificar( una ).compareTo( decodificar( otra ) );
+                }
+                return byteUna - byteOtra;
+            }
+            i++;
+            j++;
+        }
+        return ( finUna - i ) - ( finOtra - j );
+    }
+
+    /**
+     * Ordena las entradas con un ordenamiento por mezcla sobre sus números: primero por inserción en tramos de TRAMO_INSERCION entradas y después mezclando tramos
+     * de abajo hacia arriba.
+     * @return Las entradas, de la menor a la mayor
+     */
+    private int[] entradasOrdenadas( )
+    {
+        int[] orden = new int[entradas];
+        for( int i = 0; i < entradas; i++ )
+        {
+            orden[ i ] = i;
+        }
+        for( int desde = 0; desde < entradas; desde += TRAMO_INSERCION )
+        {
+            int hasta = Math.min( desde + TRAMO_INSERCION, entradas );
+            for( int i = desde + 1; i < hasta; i++ )
+            {
+                int actual = orden[ i ];
+                int j = i - 1;
+                while( j >= desde && comparar( orden[ j ], actual ) > 0 )
+                {
+                    orden[ j + 1 ] = orden[ j ];
+                    j--;
+                }
+                orden[ j + 1 ] = actual;
+            }
+        }
+        int[] auxiliar = new int[entradas];
+        for( long ancho = TRAMO_INSERCION; ancho < entradas; ancho *= 2 )
+        {
+            for( long desde = 0; desde < entradas; desde += 2 * ancho )
+            {
+                int medio = ( int )Math.min( desde + ancho, entradas );
+                int hasta = ( int )Math.min( desde + 2 * ancho, entradas );
+                mezclarTramos( orden, auxiliar, ( int )desde, medio, hasta );
+            }
+            int[] temporal = orden;
+            orden = auxiliar;
+            auxiliar = temporal;
+        }
+        return orden;
+    }
+
+    /**
+     * Mezcla dos tramos consecutivos y ordenados de un arreglo de entradas en otro arreglo
+     * @param origen El arreglo con los tramos
+     * @param destino El arreglo donde queda la mezcla, en las mismas posiciones
+     * @param desde El inicio del primer tramo
+     * @param medio El inicio del segundo tramo
+     * @param hasta La posición siguiente al final del segundo tramo
+     */
+    private void mezclarTramos( int[] origen, int[] destino, int desde, int medio, int hasta )
+    {
+        int i = desde;
+        int j = medio;
+        for( int k = desde; k < hasta; k++ )
+        {
+            if( j >= hasta || ( i < medio && comparar( origen[ i ], origen[ j ] ) <= 0 ) )
+            {
+                destino[ k ] = origen[ i ];
+                i++;
+            }
+            else
+            {
+                destino[ k ] = origen[ j ];
+                j++;
+            }
+        }
+    }
+
+    /**
+     * Elimina las entradas con los bytes dados en una columna que admite repetidos, compactando los bytes y los inicios en un solo recorrido
+     * @param buscada Los bytes de la cadena que se va a eliminar
+     * @return La cantidad de entradas eliminadas
+     */
+    private int eliminarEntradas( byte[] buscada )
+    {
+        int escritura = 0;
+        int destino = 0;
+        for( int entrada = 0; entrada < entradas; entrada++ )
+        {
+            if( !mismosBytes( entrada, buscada, 0, buscada.length ) )
+            {
+                int inicio = inicios[ entrada ];
+                int longitud = inicios[ entrada + 1 ] - inicio;
+                System.arraycopy( bytes, inicio, bytes, destino, longitud );
+                inicios[ escritura ] = destino;
+                hashes[ escritura ] = hashes[ entrada ];
+                escritura++;
+                destino += longitud;
+            }
+        }
+        inicios[ escritura ] = destino;
+        int eliminadas = entradas - escritura;
+        entradas = escritura;
+        tamanio = escritura;
+        bytesUsados = destino;
+        if( debeReducirse( entradas, hashes.length ) )
+        {
+            int capacidad = Math.max( hashes.length / 2, ArregloDinamicoEnteros.CAPACIDAD_MINIMA );
+            hashes = Arrays.copyOf( hashes, capacidad );
+            inicios = Arrays.copyOf( inicios, capacidad + 1 );
+        }
+        reducirBytes( );
+        return eliminadas;
+    }
+
+    /**
+     * Quita una entrada del diccionario de una columna sin repetidos, corriendo los bytes y los números de las entradas siguientes. Ninguna posición debe tener su
+     * código.
+     * @param entrada La entrada que se quita
+     */
+    private void quitarEntrada( int entrada )
+    {
+        int inicio = inicios[ entrada ];
+        int longitud = inicios[ entrada + 1 ] - inicio;
+        System.arraycopy( bytes, inicio + longitud, bytes, inicio, bytesUsados - inicio - longitud );
+        bytesUsados -= longitud;
+        for( int e = entrada; e < entradas; e++ )
+        {
+            inicios[ e ] = inicios[ e + 1 ] - longitud;
+        }
+        System.arraycopy( hashes, entrada + 1, hashes, entrada, entradas - entrada - 1 );
+        entradas--;
+        reducirBytes( );
+        rehacerTabla( tabla.length );
+    }
+
+    /**
+     * Reduce el arreglo de bytes a la mitad si quedó ocupado por debajo del umbral de reducción
+     */
+    private void reducirBytes( )
+    {
+        if( debeReducirse( bytesUsados, bytes.length ) )
+        {
+            bytes = Arrays.copyOf( bytes, Math.max( bytes.length / 2, ArregloDinamicoEnteros.CAPACIDAD_MINIMA ) );
+        }
+    }
+
+    /**
+     * Indica si un arreglo quedó ocupado por debajo del umbral de reducción por defecto de ArregloDinamicoEnteros
+     * @param usados La cantidad de posiciones usadas
+     * @param capacidad La capacidad del arreglo
+     * @return true si el arreglo debe reducirse a la mitad
+     */
+    private static boolean debeReducirse( int usados, int capacidad )
+    {
+        return capacidad > ArregloDinamicoEnteros.CAPACIDAD_MINIMA && usados < capacidad * ArregloDinamicoEnteros.UMBRAL_REDUCCION_POR_DEFECTO;
+    }
+
+    /**
+     * Busca en la tabla la entrada con los bytes dados
+     * @param hash El hash sin mayúsculas de la cadena buscada
+     * @param otros El arreglo con los bytes de la cadena buscada
+     * @param desde La posición del primer byte en el arreglo
+     * @param hasta La posición siguiente al último byte en el arreglo
+     * @return La entrada, o -1 si no está
+     */
+    private int buscar( int hash, byte[] otros, int desde, int hasta )
+    {
+        int mascara = tabla.length - 1;
+        for( int i = dispersar( hash ) & mascara; tabla[ i ] != 0; i = ( i + 1 ) & mascara )
+        {
+            int entrada = tabla[ i ] - 1;
+            if( hashes[ entrada ] == hash && mismosBytes( entrada, otros, desde, hasta ) )
+            {
+                return entrada;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Pone una entrada en la primera casilla vacía de la tabla a partir de la que le corresponde
+     * @param entrada La entrada
+     */
+    private void ubicar( int entrada )
+    {
+        int mascara = tabla.length - 1;
+        int i = dispersar( hashes[ entrada ] ) & mascara;
+        while( tabla[ i ] != 0 )
+        {
+            i = ( i + 1 ) & mascara;
+        }
+        tabla[ i ] = entrada + 1;
+    }
+
+    /**
+     * Vuelve a construir la tabla con todas las entradas
+     * @param capacidad La capacidad de la nueva tabla. Debe ser una potencia de 2 mayor que el doble de la cantidad de entradas.
+     */
+    private void rehacerTabla( int capacidad )
+    {
+        tabla = new int[capacidad];
+        for( int entrada = 0; entrada < entradas; entrada++ )
+        {
+            ubicar( entrada );
+        }
+    }
+
+    /**
+     * Mezcla los bits de un hash para que las casillas de la tabla, que dependen de los bits bajos, queden bien repartidas
+     * @param hash El hash
+     * @return El hash mezclado
+     */
+    private static int dispersar( int hash )
+    {
+        int mezclado = hash * 0x9E3779B9;
+        return mezclado ^ ( mezclado >>> 16 );
+    }
+}
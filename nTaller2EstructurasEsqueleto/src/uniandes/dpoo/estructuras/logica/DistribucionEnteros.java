@@ -0,0 +1,30 @@
+package uniandes.dpoo.estructuras.logica;
+
+/**
+ * Las distribuciones con las que GeneradorEnteros puede generar enteros entre un mínimo y un máximo.
+ */
+public enum DistribucionEnteros
+{
+    /**
+     * Todos los valores del rango con la misma probabilidad
+     */
+    UNIFORME,
+
+    /**
+     * Distribución de Zipf con exponente 1.1 sobre el rango: el mínimo es el valor más frecuente, el siguiente aparece con la mitad de frecuencia elevada a 1.1, y así
+     * sucesivamente. Unos pocos valores concentran la mayoría de las apariciones.
+     */
+    ZIPF,
+
+    /**
+     * Distribución normal centrada en la mitad del rango, con desviación estándar de un sexto del rango, redondeada al entero más cercano. Los valores que caen fuera del
+     * rango (menos del 0,3%) se vuelven a generar.
+     */
+    GAUSSIANA_TRUNCADA,
+
+    /**
+     * Valores uniformes organizados en tramos consecutivos de GeneradorEnteros.LARGO_TRAMO elementos, cada uno ordenado de menor a mayor. Se parece a los datos que
+     * llegan casi ordenados, por ejemplo por lotes.
+     */
+    TRAMOS_ORDENADOS;
+}
@@ -0,0 +1,299 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.Arrays;
+
+/**
+ * Una secuencia de enteros primitivos que admite que varios hilos agreguen y lean al mismo tiempo. Ver SecuenciaConcurrente para los detalles de la sincronización.
+ *
+ * Las lecturas (copia, contar, histograma, mismosValores) trabajan sobre la vista publicada al comenzar, así que ven un estado consistente aunque otros hilos sigan
+ * modificando la secuencia.
+ */
+class EnterosConcurrentes extends SecuenciaConcurrente<int[]>
+{
+    /**
+     * Crea una secuencia vacía
+     */
+    EnterosConcurrentes( )
+    {
+        super( int[]::new );
+    }
+
+    /**
+     * Agrega un valor al final de la secuencia
+     * @param valor El valor que se agrega
+     */
+    void agregar( int valor )
+    {
+        int posicion = iniciarAgregado( );
+        try
+        {
+            bloqueParaAgregar( posicion )[ posicion & MASCARA_BLOQUE ] = valor;
+        }
+        finally
+        {
+            terminarAgregado( posicion );
+        }
+    }
+
+    /**
+     * Retorna un arreglo nuevo con los valores de la secuencia
+     * @return Una copia de los valores
+     */
+    int[] copia( )
+    {
+        Vista<int[]> vista = vista( );
+        return copiaDesde( vista, 0, vista.tamanio );
+    }
+
+    /**
+     * Cuenta cuántas veces aparece un valor
+     * @param valor El valor buscado
+     * @return La cantidad de apariciones
+     */
+    int contar( int valor )
+    {
+        Vista<int[]> vista = vista( );
+        int contador = 0;
+        for( int inicio = 0; inicio < vista.tamanio; inicio += TAMANIO_BLOQUE )
+        {
+            int[] bloque = vista.directorio.bloque( inicio >>> BITS_BLOQUE );
+            int fin = Math.min( TAMANIO_BLOQUE, vista.tamanio - inicio );
+            for( int i = 0; i < fin; i++ )
+            {
+                if( bloque[ i ] == valor )
+                {
+                    contador++;
+                }
+            }
+        }
+        return contador;
+    }
+
+    /**
+     * Calcula el histograma de los valores de la secuencia
+     * @return Un histograma nuevo
+     */
+    IntIntHistogram histograma( )
+    {
+        Vista<int[]> vista = vista( );
+        IntIntHistogram histograma = new IntIntHistogram( );
+        for( int inicio = 0; inicio < vista.tamanio; inicio += TAMANIO_BLOQUE )
+        {
+            int[] bloque = vista.directorio.bloque( inicio >>> BITS_BLOQUE );
+            int fin = Math.min( TAMANIO_BLOQUE, vista.tamanio - inicio );
+            for( int i = 0; i < fin; i++ )
+            {
+                histograma.incrementar( bloque[ i ] );
+            }
+        }
+        return histograma;
+    }
+
+    /**
+     * Indica si la secuencia tiene exactamente los valores de un arreglo, en el mismo orden
+     * @param otros Los valores con los que se compara
+     * @return True si los valores y el orden coinciden
+     */
+    boolean mismosValores( int[] otros )
+    {
+        Vista<int[]> vista = vista( );
+        if( vista.tamanio != otros.length )
+        {
+            return false;
+        }
+        for( int inicio = 0; inicio < vista.tamanio; inicio += TAMANIO_BLOQUE )
+        {
+            int fin = Math.min( TAMANIO_BLOQUE, vista.tamanio - inicio );
+            if( !Arrays.equals( vista.directorio.bloque( inicio >>> BITS_BLOQUE ), 0, fin, otros, inicio, inicio + fin ) )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reemplaza todos los valores de la secuencia. El arreglo se copia, así que el llamador puede seguir usándolo.
+     * @param valores Los nuevos valores
+     */
+    void reiniciar( int[] valores )
+    {
+        iniciarModificacion( );
+        try
+        {
+            publicarCola( vistaEnModificacion( ), 0, valores, valores.length );
+        }
+        finally
+        {
+            terminarModificacion( );
+        }
+    }
+
+    /**
+     * Inserta un valor en una posición. Si la posición está por fuera de la secuencia, se inserta al comienzo o al final.
+     *
+     * La posición se ajusta mientras se tiene el candado, así que no importa si otros hilos agregaron valores después de que el llamador consultó el tamaño.
+     * @param posicion La posición que tendrá el valor
+     * @param valor El valor que se inserta
+     */
+    void insertar( int posicion, int valor )
+    {
+        iniciarModificacion( );
+        try
+        {
+            Vista<int[]> vista = vistaEnModificacion( );
+            int destino = Math.max( 0, Math.min( posicion, vista.tamanio ) );
+            int desde = inicioBloque( destino );
+            int largo = vista.tamanio - desde;
+            int[] cola = copiaDesde( vista, desde, largo + 1 );
+            System.arraycopy( cola, destino - desde, cola, destino - desde + 1, vista.tamanio - destino );
+            cola[ destino - desde ] = valor;
+            publicarCola( vista, desde, cola, largo + 1 );
+        }
+        finally
+        {
+            terminarModificacion( );
+        }
+    }
+
+    /**
+     * Elimina el valor de una posición. Si la posición no existe, no hace nada.
+     * @param posicion La posición del valor que se elimina
+     */
+    void eliminarPosicion( int posicion )
+    {
+        iniciarModificacion( );
+        try
+        {
+            Vista<int[]> vista = vistaEnModificacion( );
+            if( posicion >= 0 && posicion < vista.tamanio )
+            {
+                int desde = inicioBloque( posicion );
+                int largo = vista.tamanio - desde;
+                int[] cola = copiaDesde( vista, desde, largo );
+                System.arraycopy( cola, posicion - desde + 1, cola, posicion - desde, vista.tamanio - posicion - 1 );
+                publicarCola( vista, desde, cola, largo - 1 );
+            }
+        }
+        finally
+        {
+            terminarModificacion( );
+        }
+    }
+
+    /**
+     * Elimina todas las apariciones de un valor. Los bloques anteriores a la primera aparición no se copian.
+     * @param valor El valor que se elimina
+     */
+    void eliminarTodos( int valor )
+    {
+        iniciarModificacion( );
+        try
+        {
+            Vista<int[]> vista = vistaEnModificacion( );
+            int primera = buscar( vista, valor );
+            if( primera >= 0 )
+            {
+                int desde = inicioBloque( primera );
+                int[] cola = copiaDesde( vista, desde, vista.tamanio - desde );
+                int largo = 0;
+                for( int i = 0; i < cola.length; i++ )
+                {
+                    if( cola[ i ] != valor )
+                    {
+                        cola[ largo++ ] = cola[ i ];
+                    }
+                }
+                publicarCola( vista, desde, cola, largo );
+            }
+        }
+        finally
+        {
+            terminarModificacion( );
+        }
+    }
+
+    /**
+     * Cambia cada valor negativo por su valor absoluto. Sólo se copian los bloques que tienen algún valor negativo; los demás se comparten con la vista anterior.
+     */
+    void volverPositivos( )
+    {
+        iniciarModificacion( );
+        try
+        {
+            Vista<int[]> vista = vistaEnModificacion( );
+            Directorio<int[]> directorio = nuevoDirectorio( );
+            for( int inicio = 0; inicio < vista.tamanio; inicio += TAMANIO_BLOQUE )
+            {
+                int[] bloque = vista.directorio.bloque( inicio >>> BITS_BLOQUE );
+                int fin = Math.min( TAMANIO_BLOQUE, vista.tamanio - inicio );
+                int[] nuevo = bloque;
+                for( int i = 0; i < fin; i++ )
+                {
+                    if( nuevo[ i ] < 0 )
+                    {
+                        if( nuevo == bloque )
+                        {
+                            nuevo = bloque.clone( );
+                        }
+                        nuevo[ i ] = -nuevo[ i ];
+                    }
+                }
+                directorio.setBloque( inicio >>> BITS_BLOQUE, nuevo );
+            }
+            publicar( directorio, vista.tamanio );
+        }
+        finally
+        {
+            terminarModificacion( );
+        }
+    }
+
+    /**
+     * Ordena los valores de mayor a menor
+     */
+    void ordenarDescendente( )
+    {
+        iniciarModificacion( );
+        try
+        {
+            Vista<int[]> vista = vistaEnModificacion( );
+            int[] valores = copiaDesde( vista, 0, vista.tamanio );
+            Arrays.sort( valores );
+            for( int i = 0, j = valores.length - 1; i < j; i++, j-- )
+            {
+                int temporal = valores[ i ];
+                valores[ i ] = valores[ j ];
+                valores[ j ] = temporal;
+            }
+            publicarCola( vista, 0, valores, valores.length );
+        }
+        finally
+        {
+            terminarModificacion( );
+        }
+    }
+
+    /**
+     * Busca la primera aparición de un valor en una vista
+     * @param vista La vista donde se busca
+     * @param valor El valor buscado
+     * @return La posición de la primera aparición, o -1 si el valor no aparece
+     */
+    private static int buscar( Vista<int[]> vista, int valor )
+    {
+        for( int inicio = 0; inicio < vista.tamanio; inicio += TAMANIO_BLOQUE )
+        {
+            int[] bloque = vista.directorio.bloque( inicio >>> BITS_BLOQUE );
+            int fin = Math.min( TAMANIO_BLOQUE, vista.tamanio - inicio );
+            for( int i = 0; i < fin; i++ )
+            {
+                if( bloque[ i ] == valor )
+                {
+                    return inicio + i;
+                }
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,56 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Las implementaciones de List que puede usar SandboxListas para su lista de cadenas.
+ *
+ * Todos los métodos de SandboxListas recorren la lista con iteradores, así que con cualquiera de ellas los recorridos son lineales. Lo que cambia es el costo de las
+ * operaciones por posición y el uso de memoria.
+ */
+public enum EstrategiaLista
+{
+    /**
+     * Un ArrayList: acceso por posición en O(1) y poca memoria por elemento, pero insertar o eliminar en el medio desplaza todos los elementos siguientes
+     */
+    ARREGLO,
+
+    /**
+     * Un LinkedList: insertar o eliminar con un iterador cuesta O(1), pero el acceso por posición cuesta O(n) y cada elemento ocupa un nodo
+     */
+    ENLAZADA,
+
+    /**
+     * Una ListaPorBloques: insertar, eliminar y acceder por posición cuestan O(n / ListaPorBloques.TAMANIO_BLOQUE + ListaPorBloques.TAMANIO_BLOQUE)
+     */
+    POR_BLOQUES,
+
+    /**
+     * Una ListaCodificada: cada elemento es un int con el código de su cadena en una tabla de cadenas distintas. Sólo sirve para listas de cadenas y conviene cuando
+     * hay pocas cadenas distintas.
+     */
+    CODIFICADA;
+
+    /**
+     * Crea una lista vacía con esta estrategia
+     * @param <E> El tipo de los elementos. Con CODIFICADA debe ser String.
+     * @return Una lista nueva
+     */
+    @SuppressWarnings( "unchecked" )
+    public <E> List<E> crear( )
+    {
+        switch( this )
+        {
+            case ARREGLO:
+                return new ArrayList<E>( );
+            case POR_BLOQUES:
+                return new ListaPorBloques<E>( );
+            case CODIFICADA:
+                return ( List<E> )new ListaCodificada( );
+            default:
+                return new LinkedList<E>( );
+        }
+    }
+}
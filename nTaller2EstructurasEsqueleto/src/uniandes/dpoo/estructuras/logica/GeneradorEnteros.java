@@ -0,0 +1,351 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Un generador de enteros aleatorios reproducible, que llena arreglos grandes en paralelo.
+ *
+ * Math.random() usa un único Random compartido por toda la JVM, que avanza su semilla con una operación atómica por cada valor: es lento para millones de valores y los
+ * hilos que lo usan al mismo tiempo compiten por él. Este generador usa SplittableRandom:
+ * <ul>
+ * <li>Cada llamado a generar o llenar toma su propio generador, separado (split) del generador raíz del objeto.</li>
+ * <li>El arreglo se divide en porciones de TAMANIO_PORCION elementos, y cada porción recibe un generador separado del del llamado, en orden. Las porciones se llenan
+ * en paralelo, cada una con su generador y sin compartir nada.</li>
+ * </ul>
+ * Como los generadores de las porciones se reparten antes de empezar y en el mismo orden, el resultado sólo depende de la semilla y de la secuencia de llamados: es el
+ * mismo en paralelo que en secuencia, con cualquier cantidad de hilos, y tanto en un arreglo como en una secuencia con cualquier almacenamiento.
+ *
+ * Se puede usar desde varios hilos a la vez; sólo la separación del generador de cada llamado se sincroniza.
+ */
+public class GeneradorEnteros
+{
+    /**
+     * La cantidad de elementos de cada porción que se llena con un mismo generador. Es múltiplo de LARGO_TRAMO, para que los tramos ordenados no crucen porciones.
+     */
+    public static final int TAMANIO_PORCION = 1 << 16;
+
+    /**
+     * La cantidad de elementos de cada tramo de la distribución TRAMOS_ORDENADOS
+     */
+    public static final int LARGO_TRAMO = 1 << 10;
+
+    /**
+     * El exponente de la distribución de Zipf
+     */
+    private static final double EXPONENTE_ZIPF = 1.1;
+
+    /**
+     * El generador del que se separan los generadores de cada llamado
+     */
+    private final SplittableRandom raiz;
+
+    /**
+     * Crea un generador con una semilla escogida al azar. Dos generadores creados así producen secuencias distintas.
+     */
+    public GeneradorEnteros( )
+    {
+        raiz = new SplittableRandom( );
+    }
+
+    /**
+     * Crea un generador reproducible: dos generadores con la misma semilla producen los mismos valores si se les hacen los mismos llamados
+     * @param semilla La semilla
+     */
+    public GeneradorEnteros( long semilla )
+    {
+        raiz = new SplittableRandom( semilla );
+    }
+
+    /**
+     * Genera un arreglo nuevo de enteros aleatorios
+     * @param cantidad La cantidad de enteros
+     * @param minimo El menor valor posible
+     * @param maximo El mayor valor posible
+     * @param distribucion La distribución de los valores dentro del rango
+     * @param enParalelo Indica si las porciones se deben llenar en paralelo. No cambia el resultado.
+     * @return Un arreglo nuevo con los valores
+     * @throws IllegalArgumentException Si la cantidad es negativa o el mínimo es mayor que el máximo
+     */
+    public int[] generar( int cantidad, int minimo, int maximo, DistribucionEnteros distribucion, boolean enParalelo )
+    {
+        if( cantidad < 0 )
+        {
+            throw new IllegalArgumentException( "La cantidad no puede ser negativa: " + cantidad );
+        }
+        int[] valores = new int[cantidad];
+        llenar( valores, minimo, maximo, distribucion, enParalelo );
+        return valores;
+    }
+
+    /**
+     * Genera una secuencia nueva de enteros aleatorios con un almacenamiento dado. Tiene los mismos valores que retornaría generar con el mismo estado del generador.
+     *
+     * Con ARREGLO se genera el arreglo y la secuencia lo adopta sin copiarlo. Con los demás almacenamientos los valores se generan por lotes de porciones en un arreglo
+     * auxiliar que se agrega a la secuencia, así que nunca hay en el heap más que un lote: la memoria máxima no se duplica y los enteros fuera del heap no pasan por
+     * un arreglo del tamaño de la secuencia.
+     * @param almacenamiento El almacenamiento de la secuencia
+     * @param cantidad La cantidad de enteros
+     * @param minimo El menor valor posible
+     * @param maximo El mayor valor posible
+     * @param distribucion La distribución de los valores dentro del rango
+     * @param enParalelo Indica si las porciones de cada lote se deben llenar en paralelo. No cambia el resultado.
+     * @return Una secuencia nueva con los valores
+     * @throws IllegalArgumentException Si la cantidad es negativa o el mínimo es mayor que el máximo
+     */
+    public SecuenciaEnteros generar( AlmacenamientoEnteros almacenamiento, int cantidad, int minimo, int maximo, DistribucionEnteros distribucion, boolean enParalelo )
+    {
+        if( almacenamiento == AlmacenamientoEnteros.ARREGLO )
+        {
+            return almacenamiento.adoptar( generar( cantidad, minimo, maximo, distribucion, enParalelo ) );
+        }
+        if( cantidad < 0 )
+        {
+            throw new IllegalArgumentException( "La cantidad no puede ser negativa: " + cantidad );
+        }
+        verificarRango( minimo, maximo );
+        SplittableRandom[] generadores = separarGeneradores( cantidad );
+        MuestreadorZipf zipf = distribucion == DistribucionEnteros.ZIPF ? new MuestreadorZipf( ( long )maximo - minimo + 1 ) : null;
+        int porcionesPorLote = enParalelo ? Runtime.getRuntime( ).availableProcessors( ) : 1;
+        int[] lote = new int[( int )Math.min( ( long )porcionesPorLote * TAMANIO_PORCION, cantidad )];
+
+        SecuenciaEnteros secuencia = almacenamiento.crear( cantidad );
+        for( int primera = 0; primera < generadores.length; primera += porcionesPorLote )
+        {
+            int ultima = Math.min( primera + porcionesPorLote, generadores.length );
+            int largo = ( int )( Math.min( ( long )ultima * TAMANIO_PORCION, cantidad ) - ( long )primera * TAMANIO_PORCION );
+            int[] valores = largo == lote.length ? lote : new int[largo];
+            llenarPorciones( valores, generadores, primera, ultima, minimo, maximo, distribucion, zipf, enParalelo );
+            secuencia.agregarTodos( valores );
+        }
+        return secuencia;
+    }
+
+    /**
+     * Reemplaza todos los elementos de un arreglo por enteros aleatorios
+     * @param destino El arreglo que se llena
+     * @param minimo El menor valor posible
+     * @param maximo El mayor valor posible
+     * @param distribucion La distribución de los valores dentro del rango
+     * @param enParalelo Indica si las porciones se deben llenar en paralelo. No cambia el resultado.
+     * @throws IllegalArgumentException Si el mínimo es mayor que el máximo
+     */
+    public void llenar( int[] destino, int minimo, int maximo, DistribucionEnteros distribucion, boolean enParalelo )
+    {
+        verificarRango( minimo, maximo );
+        SplittableRandom[] generadores = separarGeneradores( destino.length );
+        MuestreadorZipf zipf = distribucion == DistribucionEnteros.ZIPF ? new MuestreadorZipf( ( long )maximo - minimo + 1 ) : null;
+        llenarPorciones( destino, generadores, 0, generadores.length, minimo, maximo, distribucion, zipf, enParalelo );
+    }
+
+    /**
+     * Verifica que el rango no esté vacío
+     * @throws IllegalArgumentException Si el mínimo es mayor que el máximo
+     */
+    private static void verificarRango( int minimo, int maximo )
+    {
+        if( minimo > maximo )
+        {
+            throw new IllegalArgumentException( "El mínimo (" + minimo + ") es mayor que el máximo (" + maximo + ")" );
+        }
+    }
+
+    /**
+     * Separa el generador de un llamado del generador raíz, y de él los generadores de cada porción, en orden
+     * @param cantidad La cantidad de enteros que se van a generar en el llamado
+     * @return Un generador por cada porción
+     */
+    private SplittableRandom[] separarGeneradores( int cantidad )
+    {
+        SplittableRandom llamado;
+        synchronized( raiz )
+        {
+            llamado = raiz.split( );
+        }
+        int cantidadPorciones = ( int )( ( ( long )cantidad + TAMANIO_PORCION - 1 ) / TAMANIO_PORCION );
+        SplittableRandom[] generadores = new SplittableRandom[cantidadPorciones];
+        for( int porcion = 0; porcion < cantidadPorciones; porcion++ )
+        {
+            generadores[ porcion ] = llamado.split( );
+        }
+        return generadores;
+    }
+
+    /**
+     * Llena un arreglo con un rango de porciones consecutivas, cada una con su generador
+     * @param destino El arreglo. Su posición 0 corresponde al inicio de la porción 'primera'.
+     * @param generadores Los generadores de todas las porciones del llamado
+     * @param primera La primera porción que se llena
+     * @param ultima La porción siguiente a la última que se llena
+     */
+    private static void llenarPorciones( int[] destino, SplittableRandom[] generadores, int primera, int ultima, int minimo, int maximo, DistribucionEnteros distribucion,
+            MuestreadorZipf zipf, boolean enParalelo )
+    {
+        IntStream porciones = IntStream.range( primera, ultima );
+        if( enParalelo )
+        {
+            porciones = porciones.parallel( );
+        }
+        porciones.forEach( porcion -> {
+            int desde = ( porcion - primera ) * TAMANIO_PORCION;
+            int hasta = ( int )Math.min( ( long )desde + TAMANIO_PORCION, destino.length );
+            llenarPorcion( destino, desde, hasta, minimo, maximo, distribucion, zipf, generadores[ porcion ] );
+        } );
+    }
+
+    /**
+     * Llena una porción del arreglo con un solo generador
+     */
+    private static void llenarPorcion( int[] destino, int desde, int hasta, int minimo, int maximo, DistribucionEnteros distribucion, MuestreadorZipf zipf,
+            SplittableRandom aleatorio )
+    {
+        long rango = ( long )maximo - minimo + 1;
+        switch( distribucion )
+        {
+            case ZIPF:
+                for( int i = desde; i < hasta; i++ )
+                {
+                    destino[ i ] = ( int )( minimo + zipf.muestra( aleatorio ) - 1 );
+                }
+                break;
+            case GAUSSIANA_TRUNCADA:
+                double media = minimo + ( rango - 1 ) / 2.0;
+                double desviacion = rango / 6.0;
+                for( int i = desde; i < hasta; i++ )
+                {
+                    long valor;
+                    do
+                    {
+                        valor = Math.round( media + desviacion * aleatorio.nextGaussian( ) );
+                    }
+                    while( valor < minimo || valor > maximo );
+                    destino[ i ] = ( int )valor;
+                }
+                break;
+            default:
+                if( rango <= Integer.MAX_VALUE )
+                {
+                    for( int i = desde; i < hasta; i++ )
+                    {
+                        destino[ i ] = minimo + aleatorio.nextInt( ( int )rango );
+                    }
+                }
+                else
+                {
+                    for( int i = desde; i < hasta; i++ )
+                    {
+                        destino[ i ] = ( int )( minimo + aleatorio.nextLong( rango ) );
+                    }
+                }
+                if( distribucion == DistribucionEnteros.TRAMOS_ORDENADOS )
+                {
+                    for( int tramo = desde; tramo < hasta; tramo += LARGO_TRAMO )
+                    {
+                        Arrays.sort( destino, tramo, Math.min( tramo + LARGO_TRAMO, hasta ) );
+                    }
+                }
+        }
+    }
+
+    /**
+     * Genera valores de Zipf entre 1 y n sin construir la distribución acumulada, con el método de rechazo e inversión de Hörmann y Derflinger ("Rejection-inversion to
+     * generate variates from monotone discrete distributions", 1996). Cada muestra cuesta unos pocos logaritmos y exponenciales, y se rechaza muy pocas veces, así que
+     * sirve para rangos de cualquier tamaño.
+     *
+     * Los valores se calculan una vez por llamado y después sólo se leen, así que las porciones lo comparten.
+     */
+    private static final class MuestreadorZipf
+    {
+        private final long n;
+
+        private final double integralX1;
+
+        private final double integralN;
+
+        private final double s;
+
+        private MuestreadorZipf( long n )
+        {
+            this.n = n;
+            integralX1 = integralH( 1.5 ) - 1;
+            integralN = integralH( n + 0.5 );
+            s = 2 - inversaIntegralH( integralH( 2.5 ) - h( 2 ) );
+        }
+
+        /**
+         * Retorna un valor entre 1 y n
+         */
+        private long muestra( SplittableRandom aleatorio )
+        {
+            while( true )
+            {
+                double u = integralN + aleatorio.nextDouble( ) * ( integralX1 - integralN );
+                double x = inversaIntegralH( u );
+                long k = ( long )( x + 0.5 );
+                if( k < 1 )
+                {
+                    k = 1;
+                }
+                else if( k > n )
+                {
+                    k = n;
+                }
+                if( k - x <= s || u >= integralH( k + 0.5 ) - h( k ) )
+                {
+                    return k;
+                }
+            }
+        }
+
+        /**
+         * La función de probabilidad sin normalizar, 1 / x^exponente
+         */
+        private static double h( double x )
+        {
+            return Math.exp( -EXPONENTE_ZIPF * Math.log( x ) );
+        }
+
+        /**
+         * Una primitiva de h
+         */
+        private static double integralH( double x )
+        {
+            double logaritmo = Math.log( x );
+            return auxiliar2( ( 1 - EXPONENTE_ZIPF ) * logaritmo ) * logaritmo;
+        }
+
+        /**
+         * La inversa de integralH
+         */
+        private static double inversaIntegralH( double x )
+        {
+            double t = Math.max( -1, x * ( 1 - EXPONENTE_ZIPF ) );
+            return Math.exp( auxiliar1( t ) * x );
+        }
+
+        /**
+         * log(1 + x) / x, estable cerca de 0
+         */
+        private static double auxiliar1( double x )
+        {
+            if( Math.abs( x ) > 1e-8 )
+            {
+                return Math.log1p( x ) / x;
+            }
+            return 1 - x * ( 0.5 - x * ( 1.0 / 3 - 0.25 * x ) );
+        }
+
+        /**
+         * (exp(x) - 1) / x, estable cerca de 0
+         */
+        private static double auxiliar2( double x )
+        {
+            if( Math.abs( x ) > 1e-8 )
+            {
+                return Math.expm1( x ) / x;
+            }
+            return 1 + x * 0.5 * ( 1 + x * ( 1.0 / 3 ) * ( 1 + 0.25 * x ) );
+        }
+    }
+}
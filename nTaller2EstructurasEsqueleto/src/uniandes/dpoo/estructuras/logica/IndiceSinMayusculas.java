@@ -0,0 +1,128 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Un índice secundario que agrupa cadenas sin tener en cuenta mayúsculas ni minúsculas.
+ *
+ * Cada llave del índice es una de las escrituras de la cadena y su valor es el conjunto ordenado de todas las escrituras originales que coinciden con ella ("a" y "A"
+ * quedan en la misma entrada). Como las llaves se comparan con String.CASE_INSENSITIVE_ORDER, buscar, eliminar y consultar rangos sin diferenciar mayúsculas y minúsculas
+ * cuesta O(log n).
+ *
+ * El índice no se sincroniza solo: quien lo usa debe llamar agregar y eliminar cada vez que cambia el conjunto indexado.
+ */
+class IndiceSinMayusculas
+{
+    /**
+     * Las escrituras originales agrupadas por su forma sin mayúsculas ni minúsculas
+     */
+    private NavigableMap<String, NavigableSet<String>> escrituras;
+
+    /**
+     * Cada escritura convertida con toUpperCase, con la cantidad de escrituras que producen esa forma. Dos grupos distintos pueden producir la misma forma ("ß" y
+     * "ss" producen "SS"), por eso se cuentan las escrituras y no los grupos.
+     */
+    private NavigableMap<String, Integer> mayusculas;
+
+    /**
+     * Construye un índice con las cadenas dadas
+     * @param cadenas Las cadenas que se van a indexar
+     */
+    IndiceSinMayusculas( Collection<String> cadenas )
+    {
+        escrituras = new TreeMap<String, NavigableSet<String>>( String.CASE_INSENSITIVE_ORDER );
+        mayusculas = new TreeMap<String, Integer>( );
+        for( String cadena : cadenas )
+        {
+            agregar( cadena );
+        }
+    }
+
+    /**
+     * Agrega una escritura al índice
+     * @param cadena La cadena que se agregó al conjunto indexado
+     */
+    void agregar( String cadena )
+    {
+        if( escrituras.computeIfAbsent( cadena, llave -> new TreeSet<String>( ) ).add( cadena ) )
+        {
+            mayusculas.merge( cadena.toUpperCase( ), 1, Integer::sum );
+        }
+    }
+
+    /**
+     * Elimina una escritura del índice
+     * @param cadena La cadena que se eliminó del conjunto indexado
+     */
+    void eliminar( String cadena )
+    {
+        NavigableSet<String> grupo = escrituras.get( cadena );
+        if( grupo != null && grupo.remove( cadena ) )
+        {
+            if( grupo.isEmpty( ) )
+            {
+                escrituras.remove( cadena );
+            }
+            mayusculas.computeIfPresent( cadena.toUpperCase( ), ( forma, cantidad ) -> cantidad == 1 ? null : cantidad - 1 );
+        }
+    }
+
+    /**
+     * Busca la escritura lexicográficamente menor que coincide con una cadena sin tener en cuenta mayúsculas ni minúsculas
+     * @param cadena La cadena buscada
+     * @return La primera escritura que coincide, o null si ninguna coincide
+     */
+    String primeraCoincidencia( String cadena )
+    {
+        NavigableSet<String> grupo = escrituras.get( cadena );
+        return grupo == null ? null : grupo.first( );
+    }
+
+    /**
+     * Indica si alguna escritura coincide con una cadena sin tener en cuenta mayúsculas ni minúsculas
+     * @param cadena La cadena buscada
+     * @return True si alguna escritura coincide
+     */
+    boolean contiene( String cadena )
+    {
+        return escrituras.containsKey( cadena );
+    }
+
+    /**
+     * Retorna las escrituras que están en un rango, comparando sin tener en cuenta mayúsculas ni minúsculas
+     * @param desde El límite inferior del rango, incluido
+     * @param hasta El límite superior del rango, excluido
+     * @return Las escrituras del rango, agrupadas en el orden del índice
+     */
+    List<String> entre( String desde, String hasta )
+    {
+        List<String> resultado = new ArrayList<String>( );
+        if( String.CASE_INSENSITIVE_ORDER.compare( desde, hasta ) < 0 )
+        {
+            for( NavigableSet<String> grupo : escrituras.subMap( desde, true, hasta, false ).values( ) )
+            {
+                resultado.addAll( grupo );
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Retorna una vista de sólo lectura con las cadenas del índice convertidas a mayúsculas con toUpperCase.
+     *
+     * Tiene lo mismo que convertir cada escritura y guardarla en un TreeSet: cada forma aparece una vez y en orden natural, aunque venga de escrituras que no coinciden
+     * sin mayúsculas ("ß" y "ss"). La vista no copia nada, refleja los cambios posteriores del índice y su contains cuesta O(log n).
+     * @return Una vista de las cadenas en mayúsculas
+     */
+    NavigableSet<String> vistaMayusculas( )
+    {
+        return Collections.unmodifiableNavigableSet( mayusculas.navigableKeySet( ) );
+    }
+}
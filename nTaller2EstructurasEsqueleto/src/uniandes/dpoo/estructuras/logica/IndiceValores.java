@@ -0,0 +1,124 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Un índice inverso de un mapa de cadenas: para cada valor del mapa guarda el conjunto de llaves asociadas a él.
+ *
+ * Con el índice, buscar, contar y eliminar por valor no requiere recorrer el mapa. Si el índice es ordenado, los valores se guardan en un TreeMap y se pueden listar en
+ * orden lexicográfico sin ordenar, pero cada operación cuesta O(log n) en lugar de O(1) esperado.
+ *
+ * El índice no se sincroniza solo: quien lo usa debe llamar agregar y eliminar cada vez que cambia una pareja del mapa indexado.
+ */
+class IndiceValores
+{
+    /**
+     * Las llaves del mapa indexado, agrupadas por su valor
+     */
+    private Map<String, Set<LlaveInvertida>> llavesPorValor;
+
+    /**
+     * La cantidad total de parejas indexadas
+     */
+    private int tamanio;
+
+    /**
+     * Construye un índice con las parejas de un mapa
+     * @param mapa El mapa que se va a indexar
+     * @param ordenado Indica si los valores deben mantenerse en orden lexicográfico
+     */
+    IndiceValores( Map<LlaveInvertida, String> mapa, boolean ordenado )
+    {
+        llavesPorValor = ordenado ? new TreeMap<String, Set<LlaveInvertida>>( ) : new HashMap<String, Set<LlaveInvertida>>( );
+        tamanio = 0;
+        for( Map.Entry<LlaveInvertida, String> entrada : mapa.entrySet( ) )
+        {
+            agregar( entrada.getKey( ), entrada.getValue( ) );
+        }
+    }
+
+    /**
+     * Registra que una llave quedó asociada a un valor
+     * @param llave La llave
+     * @param valor El valor
+     */
+    void agregar( LlaveInvertida llave, String valor )
+    {
+        if( llavesPorValor.computeIfAbsent( valor, v -> new HashSet<LlaveInvertida>( 2 ) ).add( llave ) )
+        {
+            tamanio++;
+        }
+    }
+
+    /**
+     * Registra que una llave dejó de estar asociada a un valor
+     * @param llave La llave
+     * @param valor El valor
+     */
+    void eliminar( LlaveInvertida llave, String valor )
+    {
+        Set<LlaveInvertida> llaves = llavesPorValor.get( valor );
+        if( llaves != null && llaves.remove( llave ) )
+        {
+            tamanio--;
+            if( llaves.isEmpty( ) )
+            {
+                llavesPorValor.remove( valor );
+            }
+        }
+    }
+
+    /**
+     * Retorna las llaves asociadas a un valor
+     * @param valor El valor buscado
+     * @return Un conjunto de sólo lectura con las llaves. Si el valor no está en el mapa, el conjunto está vacío.
+     */
+    Set<LlaveInvertida> llaves( String valor )
+    {
+        Set<LlaveInvertida> llaves = llavesPorValor.get( valor );
+        return llaves == null ? Collections.<LlaveInvertida>emptySet( ) : Collections.unmodifiableSet( llaves );
+    }
+
+    /**
+     * Indica si algún par del mapa tiene un valor
+     * @param valor El valor buscado
+     * @return True si el valor está en el mapa
+     */
+    boolean contiene( String valor )
+    {
+        return llavesPorValor.containsKey( valor );
+    }
+
+    /**
+     * Retorna la cantidad de valores diferentes en el mapa
+     * @return La cantidad de valores diferentes
+     */
+    int cantidadValores( )
+    {
+        return llavesPorValor.size( );
+    }
+
+    /**
+     * Construye una lista con todos los valores, repetidos tantas veces como aparecen en el mapa. Si el índice es ordenado, la lista queda en orden lexicográfico.
+     * @return Una lista con los valores
+     */
+    List<String> valoresComoLista( )
+    {
+        List<String> lista = new ArrayList<String>( tamanio );
+        for( Map.Entry<String, Set<LlaveInvertida>> entrada : llavesPorValor.entrySet( ) )
+        {
+            for( int i = 0; i < entrada.getValue( ).size( ); i++ )
+            {
+                lista.add( entrada.getKey( ) );
+            }
+        }
+        return lista;
+    }
+}
@@ -0,0 +1,15 @@
+package uniandes.dpoo.estructuras.logica;
+
+/**
+ * Una operación que recibe dos enteros primitivos y no retorna nada. Se usa para recorrer las parejas (valor, cantidad) de un IntIntHistogram sin encapsularlas.
+ */
+@FunctionalInterface
+public interface IntIntConsumer
+{
+    /**
+     * Ejecuta la operación sobre una pareja de enteros
+     * @param clave El primer entero
+     * @param valor El segundo entero
+     */
+    void accept( int clave, int valor );
+}
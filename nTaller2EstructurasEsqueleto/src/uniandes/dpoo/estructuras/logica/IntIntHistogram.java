@@ -0,0 +1,240 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.HashMap;
+
+/**
+ * Un histograma de enteros: para cada valor distinto guarda cuántas veces se ha contado.
+ *
+ * Es una tabla de hash de direccionamiento abierto con sondeo lineal sobre dos arreglos primitivos (valores y cantidades), así que contar un valor no crea objetos. Una
+ * cantidad de 0 marca una casilla vacía, porque todo valor presente en la tabla se ha contado al menos una vez.
+ */
+public class IntIntHistogram
+{
+    /**
+     * La capacidad inicial de la tabla. Siempre es una potencia de 2.
+     */
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    /**
+     * Los valores contados. La casilla i sólo es válida si cantidades[i] es mayor que 0.
+     */
+    private int[] claves;
+
+    /**
+     * La cantidad de veces que se ha contado el valor de cada casilla
+     */
+    private int[] cantidades;
+
+    /**
+     * La cantidad de valores distintos en la tabla
+     */
+    private int tamanio;
+
+    /**
+     * La cantidad de valores distintos a partir de la cual la tabla crece
+     */
+    private int limite;
+
+    /**
+     * Crea un histograma vacío
+     */
+    public IntIntHistogram( )
+    {
+        this( CAPACIDAD_INICIAL / 2 );
+    }
+
+    /**
+     * Crea un histograma vacío con espacio para la cantidad de valores distintos indicada
+     * @param valoresEsperados La cantidad de valores distintos que se espera contar
+     */
+    public IntIntHistogram( int valoresEsperados )
+    {
+        int capacidad = CAPACIDAD_INICIAL;
+        while( capacidad / 2 < valoresEsperados && capacidad < ( 1 << 30 ) )
+        {
+            capacidad <<= 1;
+        }
+        reservar( capacidad );
+    }
+
+    /**
+     * Suma 1 a la cantidad de un valor
+     * @param clave El valor que se cuenta
+     * @return La nueva cantidad del valor
+     */
+    public int incrementar( int clave )
+    {
+        return sumar( clave, 1 );
+    }
+
+    /**
+     * Suma una cantidad a la cantidad de un valor
+     * @param clave El valor que se cuenta
+     * @param cantidad La cantidad que se suma. Debe ser mayor que 0.
+     * @return La nueva cantidad del valor
+     */
+    public int sumar( int clave, int cantidad )
+    {
+        if( cantidad <= 0 )
+        {
+            throw new IllegalArgumentException( "La cantidad debe ser positiva: " + cantidad );
+        }
+        int mascara = claves.length - 1;
+        int i = mezclar( clave ) & mascara;
+        while( cantidades[ i ] != 0 )
+        {
+            if( claves[ i ] == clave )
+            {
+                cantidades[ i ] += cantidad;
+                return cantidades[ i ];
+            }
+            i = ( i + 1 ) & mascara;
+        }
+        claves[ i ] = clave;
+        cantidades[ i ] = cantidad;
+        tamanio++;
+        if( tamanio > limite )
+        {
+            crecer( );
+        }
+        return cantidad;
+    }
+
+    /**
+     * Suma a este histograma todas las cantidades de otro. Sirve para combinar histogramas parciales calculados por separado, por ejemplo en hilos distintos.
+     * @param otro El histograma cuyas cantidades se suman. No se modifica.
+     */
+    public void sumarTodos( IntIntHistogram otro )
+    {
+        otro.forEach( this::sumar );
+    }
+
+    /**
+     * Retorna cuántas veces se ha contado un valor
+     * @param clave El valor buscado
+     * @return La cantidad del valor, o 0 si nunca se ha contado
+     */
+    public int get( int clave )
+    {
+        int mascara = claves.length - 1;
+        int i = mezclar( clave ) & mascara;
+        while( cantidades[ i ] != 0 )
+        {
+            if( claves[ i ] == clave )
+            {
+                return cantidades[ i ];
+            }
+            i = ( i + 1 ) & mascara;
+        }
+        return 0;
+    }
+
+    /**
+     * Indica si un valor se ha contado al menos una vez
+     * @param clave El valor buscado
+     * @return True si el valor está en el histograma
+     */
+    public boolean contiene( int clave )
+    {
+        return get( clave ) > 0;
+    }
+
+    /**
+     * Retorna la cantidad de valores distintos en el histograma
+     * @return La cantidad de valores distintos
+     */
+    public int size( )
+    {
+        return tamanio;
+    }
+
+    /**
+     * Cuenta cuántos valores distintos se han contado más de una vez
+     * @return La cantidad de valores repetidos
+     */
+    public int contarRepetidos( )
+    {
+        int repetidos = 0;
+        for( int i = 0; i < cantidades.length; i++ )
+        {
+            if( cantidades[ i ] > 1 )
+            {
+                repetidos++;
+            }
+        }
+        return repetidos;
+    }
+
+    /**
+     * Recorre las parejas (valor, cantidad) del histograma. El orden del recorrido no está definido.
+     * @param accion La operación que se ejecuta sobre cada pareja
+     */
+    public void forEach( IntIntConsumer accion )
+    {
+        for( int i = 0; i < cantidades.length; i++ )
+        {
+            if( cantidades[ i ] != 0 )
+            {
+                accion.accept( claves[ i ], cantidades[ i ] );
+            }
+        }
+    }
+
+    /**
+     * Construye un HashMap con el mismo contenido del histograma, para los métodos que deben retornar un mapa
+     * @return Un mapa donde las llaves son los valores contados y los valores son sus cantidades
+     */
+    public HashMap<Integer, Integer> comoHashMap( )
+    {
+        HashMap<Integer, Integer> mapa = new HashMap<Integer, Integer>( ( int )( tamanio / 0.75f ) + 1 );
+        forEach( ( clave, cantidad ) -> mapa.put( clave, cantidad ) );
+        return mapa;
+    }
+
+    /**
+     * Duplica la capacidad de la tabla y vuelve a ubicar todos los valores
+     */
+    private void crecer( )
+    {
+        int[] clavesAnteriores = claves;
+        int[] cantidadesAnteriores = cantidades;
+        reservar( claves.length * 2 );
+        int mascara = claves.length - 1;
+        for( int j = 0; j < clavesAnteriores.length; j++ )
+        {
+            if( cantidadesAnteriores[ j ] != 0 )
+            {
+                int i = mezclar( clavesAnteriores[ j ] ) & mascara;
+                while( cantidades[ i ] != 0 )
+                {
+                    i = ( i + 1 ) & mascara;
+                }
+                claves[ i ] = clavesAnteriores[ j ];
+                cantidades[ i ] = cantidadesAnteriores[ j ];
+            }
+        }
+    }
+
+    private void reservar( int capacidad )
+    {
+        claves = new int[capacidad];
+        cantidades = new int[capacidad];
+        limite = capacidad / 2;
+    }
+
+    /**
+     * Mezcla los bits de un valor para que valores consecutivos no queden en casillas consecutivas (función de finalización de MurmurHash3)
+     * @param clave El valor
+     * @return El valor mezclado
+     */
+    private static int mezclar( int clave )
+    {
+        int h = clave;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
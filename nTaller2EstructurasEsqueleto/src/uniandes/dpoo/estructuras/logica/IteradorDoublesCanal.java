@@ -0,0 +1,95 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Un iterador sobre los doubles de un canal, codificados en little-endian (8 bytes cada uno, sin encabezado).
+ *
+ * Los bytes se leen por partes en un buffer de tamaño fijo, así que la memoria que se usa no depende del largo del canal. El canal debe ser bloqueante. Los errores de
+ * lectura se lanzan como UncheckedIOException, porque los métodos de Iterator no pueden lanzar IOException.
+ */
+class IteradorDoublesCanal implements PrimitiveIterator.OfDouble
+{
+    /**
+     * El tamaño del buffer de lectura, en bytes
+     */
+    static final int TAMANIO_BUFFER = 64 * 1024;
+
+    private final ReadableByteChannel canal;
+
+    /**
+     * Los bytes leídos del canal que todavía no se han convertido. Entre llamados queda listo para leer (después de flip).
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Indica si el canal ya llegó al final
+     */
+    private boolean terminado;
+
+    /**
+     * Crea un iterador sobre los doubles de un canal
+     * @param canal El canal. No se cierra al terminar.
+     */
+    IteradorDoublesCanal( ReadableByteChannel canal )
+    {
+        this.canal = canal;
+        buffer = ByteBuffer.allocate( TAMANIO_BUFFER ).order( ByteOrder.LITTLE_ENDIAN );
+        buffer.flip( );
+    }
+
+    @Override
+    public boolean hasNext( )
+    {
+        if( buffer.remaining( ) < Double.BYTES && !terminado )
+        {
+            llenar( );
+        }
+        return buffer.remaining( ) >= Double.BYTES;
+    }
+
+    @Override
+    public double nextDouble( )
+    {
+        if( !hasNext( ) )
+        {
+            throw new NoSuchElementException( );
+        }
+        return buffer.getDouble( );
+    }
+
+    /**
+     * Lee del canal hasta tener al menos un double completo en el buffer o hasta llegar al final
+     * @throws UncheckedIOException Si hay un error de lectura o si el canal termina con un double incompleto
+     */
+    private void llenar( )
+    {
+        buffer.compact( );
+        try
+        {
+            while( buffer.position( ) < Double.BYTES && !terminado )
+            {
+                terminado = canal.read( buffer ) < 0;
+            }
+        }
+        catch( IOException e )
+        {
+            throw new UncheckedIOException( e );
+        }
+        finally
+        {
+            buffer.flip( );
+        }
+        if( terminado && buffer.remaining( ) % Double.BYTES != 0 )
+        {
+            throw new UncheckedIOException( new EOFException( "El canal terminó con un double incompleto de " + buffer.remaining( ) + " bytes" ) );
+        }
+    }
+}
@@ -0,0 +1,382 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+/**
+ * Una lista de cadenas codificada con un diccionario: cada cadena distinta se guarda una sola vez en una tabla y la lista es un int[] con el código de la cadena de
+ * cada posición.
+ *
+ * Conviene cuando hay pocas cadenas distintas que se repiten mucho, como los estados de un proceso: agregar es una búsqueda en un HashMap más agregar un entero, y
+ * cada posición ocupa 4 bytes sin importar la longitud de la cadena. Las operaciones que recorren toda la lista trabajan con los códigos:
+ * <ul>
+ * <li>removeIf evalúa la condición una sola vez por cadena distinta y después filtra los códigos.</li>
+ * <li>sort ordena las cadenas distintas y después reescribe los códigos con un ordenamiento por conteo, en O(n + k log k) para k cadenas distintas.</li>
+ * <li>contarSinMayusculas arma el conjunto de códigos cuyas cadenas coinciden sin diferenciar mayúsculas y minúsculas y después sólo compara enteros.</li>
+ * </ul>
+ * Las cadenas que dejan de usarse por set o remove siguen en la tabla hasta el siguiente removeIf, sort o clear; esos dos métodos compactan la tabla antes de
+ * llamar a la condición o al comparador, para no llamarlos nunca con una cadena que ya no está en la lista.
+ */
+public class ListaCodificada extends AbstractList<String> implements RandomAccess
+{
+    private static final int[] VACIO = new int[0];
+
+    /**
+     * El código de la cadena de cada posición. Sólo las primeras 'tamanio' posiciones son válidas.
+     */
+    private int[] codigos;
+
+    /**
+     * La cantidad de elementos de la lista
+     */
+    private int tamanio;
+
+    /**
+     * La cadena de cada código. Sólo las primeras 'distintas' posiciones son válidas.
+     */
+    private String[] cadenas;
+
+    /**
+     * El hash sin mayúsculas de la cadena de cada código (ver ColumnaCadenas.hashSinMayusculas), para descartar rápido las cadenas que no coinciden
+     */
+    private int[] hashes;
+
+    /**
+     * La cantidad de códigos en la tabla
+     */
+    private int distintas;
+
+    /**
+     * El código de cada cadena de la tabla
+     */
+    private Map<String, Integer> codigosPorCadena;
+
+    /**
+     * Crea una lista vacía
+     */
+    public ListaCodificada( )
+    {
+        codigos = VACIO;
+        tamanio = 0;
+        cadenas = new String[ArregloDinamicoEnteros.CAPACIDAD_MINIMA];
+        hashes = new int[ArregloDinamicoEnteros.CAPACIDAD_MINIMA];
+        distintas = 0;
+        codigosPorCadena = new HashMap<String, Integer>( );
+    }
+
+    /**
+     * Crea una lista con los elementos de una colección, en el orden de su iterador. El arreglo de códigos se reserva una sola vez y cada cadena se codifica
+     * directamente, sin pasar por add.
+     * @param elementos Los elementos iniciales
+     */
+    public ListaCodificada( Collection<? extends String> elementos )
+    {
+        this( );
+        codigos = elementos.isEmpty( ) ? VACIO : new int[elementos.size( )];
+        for( String elemento : elementos )
+        {
+            if( tamanio == codigos.length )
+            {
+                codigos = Arrays.copyOf( codigos, ArregloDinamicoEnteros.calcularNuevaCapacidad( codigos.length, tamanio + 1 ) );
+            }
+            codigos[ tamanio ] = codificar( elemento );
+            tamanio++;
+        }
+    }
+
+    /**
+     * Retorna la cantidad de cadenas distintas que tiene la tabla
+     * @return La cantidad de códigos
+     */
+    public int cantidadCodigos( )
+    {
+        return distintas;
+    }
+
+    @Override
+    public int size( )
+    {
+        return tamanio;
+    }
+
+    @Override
+    public String get( int posicion )
+    {
+        verificarPosicion( posicion, tamanio - 1 );
+        return cadenas[ codigos[ posicion ] ];
+    }
+
+    @Override
+    public String set( int posicion, String elemento )
+    {
+        verificarPosicion( posicion, tamanio - 1 );
+        String anterior = cadenas[ codigos[ posicion ] ];
+        codigos[ posicion ] = codificar( elemento );
+        return anterior;
+    }
+
+    @Override
+    public boolean add( String elemento )
+    {
+        add( tamanio, elemento );
+        return true;
+    }
+
+    @Override
+    public void add( int posicion, String elemento )
+    {
+        verificarPosicion( posicion, tamanio );
+        int codigo = codificar( elemento );
+        if( tamanio == codigos.length )
+        {
+            codigos = Arrays.copyOf( codigos, ArregloDinamicoEnteros.calcularNuevaCapacidad( codigos.length, tamanio + 1 ) );
+        }
+        System.arraycopy( codigos, posicion, codigos, posicion + 1, tamanio - posicion );
+        codigos[ posicion ] = codigo;
+        tamanio++;
+        modCount++;
+    }
+
+    @Override
+    public String remove( int posicion )
+    {
+        verificarPosicion( posicion, tamanio - 1 );
+        String eliminada = cadenas[ codigos[ posicion ] ];
+        System.arraycopy( codigos, posicion + 1, codigos, posicion, tamanio - posicion - 1 );
+        tamanio--;
+        modCount++;
+        return eliminada;
+    }
+
+    @Override
+    public void clear( )
+    {
+        codigos = VACIO;
+        tamanio = 0;
+        Arrays.fill( cadenas, 0, distintas, null );
+        distintas = 0;
+        codigosPorCadena.clear( );
+        modCount++;
+    }
+
+    /**
+     * Elimina en un solo recorrido todos los elementos que cumplen una condición. La condición se evalúa una sola vez por cadena distinta, no una vez por elemento, y
+     * las cadenas eliminadas salen de la tabla.
+     */
+    @Override
+    public boolean removeIf( Predicate<? super String> condicion )
+    {
+        compactarTabla( );
+        boolean[] eliminados = new boolean[distintas];
+        boolean alguno = false;
+        for( int codigo = 0; codigo < distintas; codigo++ )
+        {
+            eliminados[ codigo ] = condicion.test( cadenas[ codigo ] );
+            alguno |= eliminados[ codigo ];
+        }
+        if( !alguno )
+        {
+            return false;
+        }
+        int escritura = 0;
+        for( int lectura = 0; lectura < tamanio; lectura++ )
+        {
+            int codigo = codigos[ lectura ];
+            if( !eliminados[ codigo ] )
+            {
+                codigos[ escritura ] = codigo;
+                escritura++;
+            }
+        }
+        boolean cambio = escritura != tamanio;
+        tamanio = escritura;
+        compactarTabla( );
+        if( cambio )
+        {
+            modCount++;
+        }
+        return cambio;
+    }
+
+    /**
+     * Ordena la lista ordenando sólo las cadenas distintas y reescribiendo los códigos con un ordenamiento por conteo. Como List.sort, es estable: los elementos que
+     * el comparador considera iguales conservan su orden relativo aunque sean cadenas distintas.
+     * @param comparador El comparador, o null para usar el orden natural de las cadenas
+     */
+    @Override
+    public void sort( Comparator<? super String> comparador )
+    {
+        compactarTabla( );
+        Comparator<? super String> orden = comparador == null ? Comparator.<String>naturalOrder( ) : comparador;
+        Integer[] codigosOrdenados = new Integer[distintas];
+        for( int codigo = 0; codigo < distintas; codigo++ )
+        {
+            codigosOrdenados[ codigo ] = codigo;
+        }
+        Arrays.sort( codigosOrdenados, ( uno, otro ) -> orden.compare( cadenas[ uno ], cadenas[ otro ] ) );
+
+        // Los códigos cuyas cadenas el comparador considera iguales quedan con el mismo rango, para que el conteo conserve su orden relativo
+        int[] rangos = new int[distintas];
+        int rango = 0;
+        for( int i = 0; i < distintas; i++ )
+        {
+            if( i > 0 && orden.compare( cadenas[ codigosOrdenados[ i - 1 ] ], cadenas[ codigosOrdenados[ i ] ] ) != 0 )
+            {
+                rango++;
+            }
+            rangos[ codigosOrdenados[ i ] ] = rango;
+        }
+
+        int[] inicios = new int[distintas + 1];
+        for( int i = 0; i < tamanio; i++ )
+        {
+            inicios[ rangos[ codigos[ i ] ] + 1 ]++;
+        }
+        for( int r = 0; r < distintas; r++ )
+        {
+            inicios[ r + 1 ] += inicios[ r ];
+        }
+        int[] ordenados = new int[codigos.length];
+        for( int i = 0; i < tamanio; i++ )
+        {
+            int codigo = codigos[ i ];
+            ordenados[ inicios[ rangos[ codigo ] ]++ ] = codigo;
+        }
+        codigos = ordenados;
+        modCount++;
+    }
+
+    /**
+     * Cuenta cuántos elementos son iguales a una cadena sin diferenciar mayúsculas y minúsculas.
+     *
+     * Primero arma el conjunto de códigos cuyas cadenas coinciden con equalsIgnoreCase, comparando sólo las cadenas con el mismo hash sin mayúsculas, y después
+     * cuenta las posiciones con alguno de esos códigos.
+     * @param cadena La cadena buscada
+     * @return La cantidad de apariciones
+     */
+    public int contarSinMayusculas( String cadena )
+    {
+        if( cadena == null )
+        {
+            return 0;
+        }
+        int hash = ColumnaCadenas.hashSinMayusculas( cadena );
+        boolean[] coinciden = new boolean[distintas];
+        int cantidadCoinciden = 0;
+        int ultimo = -1;
+        for( int codigo = 0; codigo < distintas; codigo++ )
+        {
+            if( hashes[ codigo ] == hash && cadena.equalsIgnoreCase( cadenas[ codigo ] ) )
+            {
+                coinciden[ codigo ] = true;
+                cantidadCoinciden++;
+                ultimo = codigo;
+            }
+        }
+        int contador = 0;
+        if( cantidadCoinciden == 1 )
+        {
+            for( int i = 0; i < tamanio; i++ )
+            {
+                if( codigos[ i ] == ultimo )
+                {
+                    contador++;
+                }
+            }
+        }
+        else if( cantidadCoinciden > 1 )
+        {
+            for( int i = 0; i < tamanio; i++ )
+            {
+                if( coinciden[ codigos[ i ] ] )
+                {
+                    contador++;
+                }
+            }
+        }
+        return contador;
+    }
+
+    /**
+     * Retorna el código de una cadena, agregándola a la tabla si no estaba
+     * @param cadena La cadena. Puede ser null.
+     * @return El código de la cadena
+     */
+    private int codificar( String cadena )
+    {
+        Integer codigo = codigosPorCadena.get( cadena );
+        if( codigo != null )
+        {
+            return codigo;
+        }
+        if( distintas == cadenas.length )
+        {
+            int capacidad = ArregloDinamicoEnteros.calcularNuevaCapacidad( cadenas.length, distintas + 1 );
+            cadenas = Arrays.copyOf( cadenas, capacidad );
+            hashes = Arrays.copyOf( hashes, capacidad );
+        }
+        cadenas[ distintas ] = cadena;
+        hashes[ distintas ] = cadena == null ? 0 : ColumnaCadenas.hashSinMayusculas( cadena );
+        codigosPorCadena.put( cadena, distintas );
+        distintas++;
+        return distintas - 1;
+    }
+
+    /**
+     * Quita de la tabla las cadenas que ya no usa ningún elemento y renumera los códigos que quedan, conservando su orden
+     */
+    private void compactarTabla( )
+    {
+        boolean[] usados = new boolean[distintas];
+        for( int i = 0; i < tamanio; i++ )
+        {
+            usados[ codigos[ i ] ] = true;
+        }
+        int[] nuevosCodigos = new int[distintas];
+        int usadas = 0;
+        for( int codigo = 0; codigo < distintas; codigo++ )
+        {
+            if( usados[ codigo ] )
+            {
+                cadenas[ usadas ] = cadenas[ codigo ];
+                hashes[ usadas ] = hashes[ codigo ];
+                nuevosCodigos[ codigo ] = usadas;
+                usadas++;
+            }
+        }
+        if( usadas == distintas )
+        {
+            return;
+        }
+        Arrays.fill( cadenas, usadas, distintas, null );
+        distintas = usadas;
+        for( int i = 0; i < tamanio; i++ )
+        {
+            codigos[ i ] = nuevosCodigos[ codigos[ i ] ];
+        }
+        codigosPorCadena.clear( );
+        for( int codigo = 0; codigo < distintas; codigo++ )
+        {
+            codigosPorCadena.put( cadenas[ codigo ], codigo );
+        }
+    }
+
+    /**
+     * Verifica que una posición esté entre 0 y un máximo
+     * @param posicion La posición
+     * @param maximo La máxima posición válida
+     */
+    private void verificarPosicion( int posicion, int maximo )
+    {
+        if( posicion < 0 || posicion > maximo )
+        {
+            throw new IndexOutOfBoundsException( "Posición: " + posicion + ", tamaño: " + tamanio );
+        }
+    }
+}
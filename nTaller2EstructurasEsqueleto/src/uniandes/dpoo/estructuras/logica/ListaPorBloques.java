@@ -0,0 +1,411 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.AbstractSequentialList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * Una lista guardada como una secuencia de bloques pequeños, cada uno un ArrayList de a lo sumo TAMANIO_BLOQUE elementos.
+ *
+ * Es un punto intermedio entre ArrayList y LinkedList:
+ * <ul>
+ * <li>Agregar al final cuesta O(1) amortizado y recorrer con un iterador cuesta O(1) por elemento, como en las dos.</li>
+ * <li>Insertar o eliminar en una posición cuesta O(n / TAMANIO_BLOQUE + TAMANIO_BLOQUE): sólo se desplazan los elementos de un bloque, no los de toda la lista.</li>
+ * <li>Consultar una posición con get cuesta O(n / TAMANIO_BLOQUE), mucho menos que el O(n) de LinkedList.</li>
+ * </ul>
+ * Como el acceso por posición no es O(1), la lista no implementa RandomAccess y se debe recorrer con iteradores.
+ * @param <E> El tipo de los elementos
+ */
+public class ListaPorBloques<E> extends AbstractSequentialList<E>
+{
+    /**
+     * La cantidad máxima de elementos de un bloque. Un bloque que se llena se parte en dos mitades.
+     */
+    public static final int TAMANIO_BLOQUE = 512;
+
+    /**
+     * Los bloques, en orden. Ningún bloque está vacío.
+     */
+    private final ArrayList<ArrayList<E>> bloques;
+
+    /**
+     * La cantidad total de elementos
+     */
+    private int tamanio;
+
+    /**
+     * Crea una lista vacía
+     */
+    public ListaPorBloques( )
+    {
+        bloques = new ArrayList<ArrayList<E>>( );
+        tamanio = 0;
+    }
+
+    /**
+     * Crea una lista con los elementos de una colección, en el orden de su iterador. Los bloques se llenan con agregarAlFinal y no con addAll, que una subclase podría
+     * sobrescribir y que se ejecutaría antes de que la subclase termine de inicializarse.
+     * @param elementos Los elementos iniciales
+     */
+    public ListaPorBloques( Collection<? extends E> elementos )
+    {
+        this( );
+        for( E elemento : elementos )
+        {
+            agregarAlFinal( elemento );
+        }
+    }
+
+    @Override
+    public int size( )
+    {
+        return tamanio;
+    }
+
+    @Override
+    public boolean add( E elemento )
+    {
+        agregarAlFinal( elemento );
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Agrega un elemento al final del último bloque, o de un bloque nuevo si el último está lleno
+     * @param elemento El elemento
+     */
+    private void agregarAlFinal( E elemento )
+    {
+        ArrayList<E> ultimo = bloques.isEmpty( ) ? null : bloques.get( bloques.size( ) - 1 );
+        if( ultimo == null || ultimo.size( ) >= TAMANIO_BLOQUE )
+        {
+            ultimo = new ArrayList<E>( TAMANIO_BLOQUE );
+            bloques.add( ultimo );
+        }
+        ultimo.add( elemento );
+        tamanio++;
+    }
+
+    @Override
+    public E get( int posicion )
+    {
+        verificarPosicion( posicion, tamanio - 1 );
+        int numeroBloque = 0;
+        while( posicion >= bloques.get( numeroBloque ).size( ) )
+        {
+            posicion -= bloques.get( numeroBloque ).size( );
+            numeroBloque++;
+        }
+        return bloques.get( numeroBloque ).get( posicion );
+    }
+
+    @Override
+    public void clear( )
+    {
+        bloques.clear( );
+        tamanio = 0;
+        modCount++;
+    }
+
+    /**
+     * Elimina en un solo recorrido todos los elementos que cumplen una condición. Los bloques se reconstruyen llenos.
+     */
+    @Override
+    public boolean removeIf( Predicate<? super E> condicion )
+    {
+        ListaPorBloques<E> conservados = new ListaPorBloques<E>( );
+        for( List<E> bloque : bloques )
+        {
+            for( E elemento : bloque )
+            {
+                if( !condicion.test( elemento ) )
+                {
+                    conservados.add( elemento );
+                }
+            }
+        }
+        if( conservados.tamanio == tamanio )
+        {
+            return false;
+        }
+        bloques.clear( );
+        bloques.addAll( conservados.bloques );
+        tamanio = conservados.tamanio;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Ordena la lista copiando los elementos a un arreglo, ordenándolo y volviendo a construir los bloques llenos
+     */
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public void sort( Comparator<? super E> comparador )
+    {
+        Object[] elementos = toArray( );
+        Arrays.sort( elementos, ( Comparator<Object> )comparador );
+        clear( );
+        for( Object elemento : elementos )
+        {
+            add( ( E )elemento );
+        }
+    }
+
+    @Override
+    public Object[] toArray( )
+    {
+        Object[] arreglo = new Object[tamanio];
+        int posicion = 0;
+        for( List<E> bloque : bloques )
+        {
+            for( E elemento : bloque )
+            {
+                arreglo[ posicion++ ] = elemento;
+            }
+        }
+        return arreglo;
+    }
+
+    @Override
+    public ListIterator<E> listIterator( int posicion )
+    {
+        verificarPosicion( posicion, tamanio );
+        return new Cursor( posicion );
+    }
+
+    /**
+     * Verifica que una posición esté entre 0 y un máximo
+     * @param posicion La posición
+     * @param maximo La máxima posición válida
+     * @throws IndexOutOfBoundsException Si la posición no es válida
+     */
+    private void verificarPosicion( int posicion, int maximo )
+    {
+        if( posicion < 0 || posicion > maximo )
+        {
+            throw new IndexOutOfBoundsException( "Posición " + posicion + " fuera de la lista de tamaño " + tamanio );
+        }
+    }
+
+    /**
+     * Un iterador que recuerda el bloque y la posición dentro del bloque, así que avanzar y retroceder cuestan O(1). Insertar y eliminar con el iterador sólo desplazan los
+     * elementos del bloque actual.
+     */
+    private class Cursor implements ListIterator<E>
+    {
+        /**
+         * El bloque del siguiente elemento. Si el cursor está al final, es bloques.size( ).
+         */
+        private int numeroBloque;
+
+        /**
+         * La posición del siguiente elemento dentro de su bloque
+         */
+        private int enBloque;
+
+        /**
+         * La posición del siguiente elemento en la lista
+         */
+        private int siguiente;
+
+        /**
+         * La posición en la lista del último elemento retornado por next o previous, o -1 si no se puede modificar
+         */
+        private int ultimo;
+
+        /**
+         * El bloque del último elemento retornado
+         */
+        private int ultimoBloque;
+
+        /**
+         * La posición del último elemento retornado dentro de su bloque
+         */
+        private int ultimoEnBloque;
+
+        /**
+         * El modCount que espera el cursor. Si la lista cambia por fuera del cursor, el cursor falla.
+         */
+        private int modificacionesEsperadas;
+
+        Cursor( int posicion )
+        {
+            ubicar( posicion );
+            ultimo = -1;
+            modificacionesEsperadas = modCount;
+        }
+
+        @Override
+        public boolean hasNext( )
+        {
+            return siguiente < tamanio;
+        }
+
+        @Override
+        public E next( )
+        {
+            verificarModificaciones( );
+            if( !hasNext( ) )
+            {
+                throw new NoSuchElementException( );
+            }
+            E elemento = bloques.get( numeroBloque ).get( enBloque );
+            ultimo = siguiente;
+            ultimoBloque = numeroBloque;
+            ultimoEnBloque = enBloque;
+            siguiente++;
+            enBloque++;
+            if( enBloque == bloques.get( numeroBloque ).size( ) )
+            {
+                numeroBloque++;
+                enBloque = 0;
+            }
+            return elemento;
+        }
+
+        @Override
+        public boolean hasPrevious( )
+        {
+            return siguiente > 0;
+        }
+
+        @Override
+        public E previous( )
+        {
+            verificarModificaciones( );
+            if( !hasPrevious( ) )
+            {
+                throw new NoSuchElementException( );
+            }
+            if( enBloque == 0 )
+            {
+                numeroBloque--;
+                enBloque = bloques.get( numeroBloque ).size( );
+            }
+            enBloque--;
+            siguiente--;
+            ultimo = siguiente;
+            ultimoBloque = numeroBloque;
+            ultimoEnBloque = enBloque;
+            return bloques.get( numeroBloque ).get( enBloque );
+        }
+
+        @Override
+        public int nextIndex( )
+        {
+            return siguiente;
+        }
+
+        @Override
+        public int previousIndex( )
+        {
+            return siguiente - 1;
+        }
+
+        @Override
+        public void remove( )
+        {
+            verificarModificaciones( );
+            if( ultimo < 0 )
+            {
+                throw new IllegalStateException( );
+            }
+            ArrayList<E> bloque = bloques.get( ultimoBloque );
+            bloque.remove( ultimoEnBloque );
+            numeroBloque = ultimoBloque;
+            enBloque = ultimoEnBloque;
+            if( bloque.isEmpty( ) )
+            {
+                bloques.remove( ultimoBloque );
+                enBloque = 0;
+            }
+            else if( enBloque == bloque.size( ) )
+            {
+                numeroBloque++;
+                enBloque = 0;
+            }
+            siguiente = ultimo;
+            tamanio--;
+            modCount++;
+            modificacionesEsperadas = modCount;
+            ultimo = -1;
+        }
+
+        @Override
+        public void set( E elemento )
+        {
+            verificarModificaciones( );
+            if( ultimo < 0 )
+            {
+                throw new IllegalStateException( );
+            }
+            bloques.get( ultimoBloque ).set( ultimoEnBloque, elemento );
+        }
+
+        @Override
+        public void add( E elemento )
+        {
+            verificarModificaciones( );
+            if( siguiente == tamanio )
+            {
+                ListaPorBloques.this.add( elemento );
+                numeroBloque = bloques.size( );
+                enBloque = 0;
+            }
+            else
+            {
+                ArrayList<E> bloque = bloques.get( numeroBloque );
+                bloque.add( enBloque, elemento );
+                enBloque++;
+                if( bloque.size( ) > TAMANIO_BLOQUE )
+                {
+                    int mitad = TAMANIO_BLOQUE / 2;
+                    List<E> segundaMitad = bloque.subList( mitad, bloque.size( ) );
+                    bloques.add( numeroBloque + 1, new ArrayList<E>( segundaMitad ) );
+                    segundaMitad.clear( );
+                    if( enBloque >= mitad )
+                    {
+                        numeroBloque++;
+                        enBloque -= mitad;
+                    }
+                }
+                tamanio++;
+                modCount++;
+            }
+            siguiente++;
+            modificacionesEsperadas = modCount;
+            ultimo = -1;
+        }
+
+        /**
+         * Ubica el cursor antes del elemento de una posición
+         * @param posicion La posición del siguiente elemento
+         */
+        private void ubicar( int posicion )
+        {
+            siguiente = posicion;
+            numeroBloque = 0;
+            enBloque = posicion;
+            while( numeroBloque < bloques.size( ) && enBloque >= bloques.get( numeroBloque ).size( ) )
+            {
+                enBloque -= bloques.get( numeroBloque ).size( );
+                numeroBloque++;
+            }
+        }
+
+        private void verificarModificaciones( )
+        {
+            if( modCount != modificacionesEsperadas )
+            {
+                throw new ConcurrentModificationException( );
+            }
+        }
+    }
+}
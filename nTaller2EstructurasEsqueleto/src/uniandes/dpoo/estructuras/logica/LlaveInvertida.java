@@ -0,0 +1,184 @@
+package uniandes.dpoo.estructuras.logica;
+
+/**
+ * Una llave de SandboxMapas que representa una cadena invertida sin construirla.
+ *
+ * La llave guarda la cadena original y lee sus caracteres de atrás hacia adelante, con las mismas reglas de StringBuilder.reverse: los pares sustitutos válidos
+ * conservan su orden. hashCode, equals y compareTo dan lo mismo que si se usara la cadena invertida como un String, así que un mapa con estas llaves se comporta igual
+ * que uno con las cadenas invertidas, pero agregar o buscar por la cadena original sólo crea este objeto, en lugar de un StringBuilder, su arreglo y un String nuevo.
+ *
+ * Las llaves que no son la inversa de una cadena (por ejemplo, las que quedan después de volverMayusculas) se guardan tal cual, sin invertir.
+ */
+final class LlaveInvertida implements CharSequence, Comparable<LlaveInvertida>
+{
+    /**
+     * La cadena original si la llave es invertida, o la llave misma si no lo es
+     */
+    private final String texto;
+
+    /**
+     * Indica si la llave es el texto invertido
+     */
+    private final boolean invertida;
+
+    /**
+     * El hash de la llave, que se calcula la primera vez que se pide. Igual que en String, 0 indica que no se ha calculado.
+     */
+    private int hash;
+
+    private LlaveInvertida( String texto, boolean invertida )
+    {
+        this.texto = texto;
+        this.invertida = invertida;
+    }
+
+    /**
+     * Crea la llave que corresponde a una cadena, es decir la cadena invertida
+     * @param cadena La cadena original
+     * @return La llave
+     */
+    static LlaveInvertida de( String cadena )
+    {
+        return new LlaveInvertida( cadena, true );
+    }
+
+    /**
+     * Crea una llave igual a una cadena, sin invertirla
+     * @param llave La llave
+     * @return La llave
+     */
+    static LlaveInvertida literal( String llave )
+    {
+        return new LlaveInvertida( llave, false );
+    }
+
+    @Override
+    public int length( )
+    {
+        return texto.length( );
+    }
+
+    /**
+     * Retorna el carácter de una posición de la llave.
+     *
+     * Si la llave es invertida, el carácter sale de la posición simétrica de la cadena original, salvo que sea la mitad de un par sustituto válido: en ese caso sale de
+     * la otra mitad del par, para que el par quede en su orden.
+     */
+    @Override
+    public char charAt( int posicion )
+    {
+        if( !invertida )
+        {
+            return texto.charAt( posicion );
+        }
+        int simetrica = texto.length( ) - 1 - posicion;
+        char caracter = texto.charAt( simetrica );
+        if( Character.isLowSurrogate( caracter ) && simetrica > 0 && Character.isHighSurrogate( texto.charAt( simetrica - 1 ) ) )
+        {
+            return texto.charAt( simetrica - 1 );
+        }
+        if( Character.isHighSurrogate( caracter ) && simetrica + 1 < texto.length( ) && Character.isLowSurrogate( texto.charAt( simetrica + 1 ) ) )
+        {
+            return texto.charAt( simetrica + 1 );
+        }
+        return caracter;
+    }
+
+    @Override
+    public CharSequence subSequence( int inicio, int fin )
+    {
+        return toString( ).subSequence( inicio, fin );
+    }
+
+    /**
+     * Construye la llave como un String. Sólo se usa cuando hay que entregar la llave; las búsquedas no la construyen.
+     */
+    @Override
+    public String toString( )
+    {
+        return invertida ? new StringBuilder( texto ).reverse( ).toString( ) : texto;
+    }
+
+    /**
+     * Retorna el mismo hash que tendría la llave como un String. Si la llave es invertida, recorre la cadena original de atrás hacia adelante.
+     */
+    @Override
+    public int hashCode( )
+    {
+        int h = hash;
+        if( h == 0 )
+        {
+            if( !invertida )
+            {
+                h = texto.hashCode( );
+            }
+            else
+            {
+                int i = texto.length( ) - 1;
+                while( i >= 0 )
+                {
+                    char caracter = texto.charAt( i );
+                    if( Character.isLowSurrogate( caracter ) && i > 0 && Character.isHighSurrogate( texto.charAt( i - 1 ) ) )
+                    {
+                        h = 31 * ( 31 * h + texto.charAt( i - 1 ) ) + caracter;
+                        i -= 2;
+                    }
+                    else
+                    {
+                        h = 31 * h + caracter;
+                        i--;
+                    }
+                }
+            }
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public boolean equals( Object objeto )
+    {
+        if( this == objeto )
+        {
+            return true;
+        }
+        if( !( objeto instanceof LlaveInvertida ) )
+        {
+            return false;
+        }
+        LlaveInvertida otra = ( LlaveInvertida )objeto;
+        if( invertida == otra.invertida && texto.equals( otra.texto ) )
+        {
+            return true;
+        }
+        // Cadenas originales distintas todavía pueden dar la misma llave: una invertida y otra literal, o dos con sustitutos sueltos
+        if( texto.length( ) != otra.texto.length( ) || hashCode( ) != otra.hashCode( ) )
+        {
+            return false;
+        }
+        return compareTo( otra ) == 0;
+    }
+
+    /**
+     * Compara las llaves en el orden de String.compareTo, como si fueran las cadenas invertidas
+     */
+    @Override
+    public int compareTo( LlaveInvertida otra )
+    {
+        if( !invertida && !otra.invertida )
+        {
+            return texto.compareTo( otra.texto );
+        }
+        int minimo = Math.min( length( ), otra.length( ) );
+        for( int i = 0; i < minimo; i++ )
+        {
+            char propio = charAt( i );
+            char ajeno = otra.charAt( i );
+            if( propio != ajeno )
+            {
+                return propio - ajeno;
+            }
+        }
+        return length( ) - otra.length( );
+    }
+}
@@ -1,53 +1,142 @@
 package uniandes.dpoo.estructuras.logica;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.Collection;
 import java.util.HashMap;
-import java.util.Arrays;
+import java.util.IntSummaryStatistics;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
 
 /**
  * Esta clase tiene un conjunto de métodos para practicar operaciones sobre arreglos de enteros y de cadenas.
  *
  * Todos los métodos deben operar sobre los atributos arregloEnteros y arregloCadenas.
  * 
- * No pueden agregarse nuevos atributos.
+ * No pueden agregarse nuevos atributos, salvo las formas en las que se guardan los dos arreglos, si el arreglo de enteros está ordenado y el umbral de paralelismo.
  * 
  * Implemente los métodos usando operaciones sobre arreglos (ie., no haga cosas como construir listas para evitar la manipulación de arreglos).
  */
-public class SandboxArreglos
+public class SandboxArreglos implements AutoCloseable
 {
+    /**
+     * El umbral de paralelismo que se usa por defecto. Ver SandboxArreglosParaleloBenchmark para medir el punto de cruce en cada máquina.
+     */
+    public static final int UMBRAL_PARALELO_POR_DEFECTO = 1 << 16;
+
     /**
      * Un arreglo de enteros para realizar varias de las siguientes operaciones.
      * 
-     * Ninguna posición del arreglo puede estar vacía en ningún momento.
+     * El arreglo reserva más capacidad de la que usa para que agregar al final no tenga que copiar todo el arreglo. Ninguna posición entre 0 y el tamaño del arreglo
+     * puede estar vacía en ningún momento.
+     * 
+     * Según el almacenamiento, es un arreglo contiguo, una lista de bloques o un arreglo fuera del heap. Después de mapear, es un archivo mapeado en memoria hasta que se modifique. Los métodos lo recorren con forEach y copia en lugar de get(i), que en la lista de bloques no
+     * siempre cuesta O(1).
      */
-    private int[] arregloEnteros;
+    private SecuenciaEnteros arregloEnteros;
 
     /**
      * Un arreglo de cadenas para realizar varias de las siguientes operaciones
      * 
-     * Ninguna posición del arreglo puede estar vacía en ningún momento.
+     * El arreglo reserva más capacidad de la que usa para que agregar al final no tenga que copiar todo el arreglo. Ninguna posición entre 0 y el tamaño del arreglo
+     * puede estar vacía en ningún momento.
+     * 
+     * Según el almacenamiento de cadenas, es un arreglo de String o una ColumnaCadenas que guarda los bytes de las cadenas y sólo crea objetos String al consultarlas.
      */
-    private String[] arregloCadenas;
+    private SecuenciaCadenas arregloCadenas;
 
     /**
-     * Crea una nueva instancia de la clase con los dos arreglos inicializados pero vacíos (tamaño 0)
+     * La forma en la que se guarda el arreglo de enteros, incluso cuando se reinicia
+     */
+    private AlmacenamientoEnteros almacenamiento;
+
+    /**
+     * La forma en la que se guarda el arreglo de cadenas, incluso cuando se reinicia
+     */
+    private AlmacenamientoCadenas almacenamientoCadenas;
+
+    /**
+     * Indica si se sabe que el arreglo de enteros está ordenado de menor a mayor. Empieza activo, porque el arreglo vacío está ordenado, y organizarEnteros lo vuelve a
+     * activar. Los métodos que pueden desordenar el arreglo lo desactivan; agregar o insertar un valor que queda en orden lo conserva.
+     * 
+     * Mientras está activo, contarApariciones, buscarEntero y calcularRangoEnteros usan búsqueda binaria o los extremos del arreglo en lugar de recorrerlo.
+     */
+    private boolean enterosOrdenados;
+
+    /**
+     * La cantidad de enteros a partir de la cual organizarEnteros, volverPositivos, contarApariciones, calcularRangoEnteros e histograma reparten el trabajo entre los
+     * hilos del ForkJoinPool común. Por debajo de este tamaño, el costo de dividir el trabajo y combinar los resultados es mayor que la ganancia.
+     */
+    private int umbralParalelo;
+
+    /**
+     * El generador que usa generarEnteros. Empieza con una semilla al azar; setSemilla lo reemplaza por uno reproducible.
+     */
+    private GeneradorEnteros generador;
+
+    /**
+     * Crea una nueva instancia de la clase con los dos arreglos inicializados pero vacíos (tamaño 0). El arreglo de enteros es un ArregloDinamicoEnteros.
      */
     public SandboxArreglos( )
     {
-        arregloEnteros = new int[]{};
-        arregloCadenas = new String[]{};
+        this( AlmacenamientoEnteros.ARREGLO );
+    }
+
+    /**
+     * Crea una nueva instancia de la clase con los dos arreglos inicializados pero vacíos (tamaño 0)
+     * @param almacenamiento La forma en la que se guardará el arreglo de enteros
+     */
+    public SandboxArreglos( AlmacenamientoEnteros almacenamiento )
+    {
+        this( almacenamiento, AlmacenamientoCadenas.ARREGLO );
+    }
+
+    /**
+     * Crea una nueva instancia de la clase con los dos arreglos inicializados pero vacíos (tamaño 0)
+     * @param almacenamiento La forma en la que se guardará el arreglo de enteros
+     * @param almacenamientoCadenas La forma en la que se guardará el arreglo de cadenas
+     */
+    public SandboxArreglos( AlmacenamientoEnteros almacenamiento, AlmacenamientoCadenas almacenamientoCadenas )
+    {
+        this.almacenamiento = almacenamiento;
+        this.almacenamientoCadenas = almacenamientoCadenas;
+        arregloEnteros = almacenamiento.crear( 0 );
+        enterosOrdenados = true;
+        umbralParalelo = UMBRAL_PARALELO_POR_DEFECTO;
+        generador = new GeneradorEnteros( );
+        arregloCadenas = almacenamientoCadenas.crear( 0 );
+    }
+
+    /**
+     * Cambia el umbral de paralelismo
+     * @param umbral La cantidad de enteros a partir de la cual se usan varios hilos. Con 0 siempre se usan varios hilos y con Integer.MAX_VALUE nunca.
+     */
+    public void setUmbralParalelo( int umbral )
+    {
+        if( umbral < 0 )
+        {
+            throw new IllegalArgumentException( "El umbral de paralelismo no puede ser negativo: " + umbral );
+        }
+        umbralParalelo = umbral;
     }
 
     /**
      * Retorna una copia del arreglo de enteros, es decir un nuevo arreglo del mismo tamaño que contiene copias de los valores del arreglo original
+     * 
+     * La copia se hace con copias en bloque (System.arraycopy), una sola en el arreglo contiguo y una por bloque en la lista de bloques. Para consultar el arreglo sin
+     * copiarlo, use getVistaEnteros o getInstantaneaEnteros.
      * @return Una copia del arreglo de enteros
      */
     public int[] getCopiaEnteros( )
     {
-    	int[] copiaArreglo = new int[this.arregloEnteros.length];
-    	for (int i = 0; i < this.arregloEnteros.length; i++) {
-    		copiaArreglo[i] = this.arregloEnteros[i];
-    	}
-        return copiaArreglo;
+        return this.arregloEnteros.copia();
     }
 
     /**
@@ -56,11 +145,59 @@ public class SandboxArreglos
      */
     public String[] getCopiaCadenas( )
     {
-    	String[] copiaCadenas = new String[this.arregloCadenas.length];
-    	for (int i = 0; i < this.arregloCadenas.length; i++) {
-    		copiaCadenas[i] = this.arregloCadenas[i];
-    	}
-        return copiaCadenas;
+        return this.arregloCadenas.copia();
+    }
+
+    /**
+     * Retorna una vista de sólo lectura del arreglo de enteros, sin copiarlo. Crearla y consultarla no reserva memoria proporcional al tamaño del arreglo.
+     * 
+     * La vista consulta el arreglo del sandbox en cada operación, así que refleja los cambios posteriores del sandbox. Sus operaciones que modifican lanzan
+     * UnsupportedOperationException. Como el sandbox puede cambiar mientras se recorre, para recorrer valores fijos use getInstantaneaEnteros.
+     * @return Una vista del arreglo de enteros
+     */
+    public SecuenciaEnteros getVistaEnteros( )
+    {
+    	return new SecuenciaEnterosInmodificable(() -> this.arregloEnteros);
+    }
+
+    /**
+     * Retorna una instantánea del arreglo de enteros: una secuencia de sólo lectura con los valores que tiene el arreglo ahora, que no cambia aunque el sandbox cambie.
+     * 
+     * La instantánea no copia el arreglo: el sandbox se lo cede y copia sus enteros la primera vez que se modifica después (ver SecuenciaEnterosCompartida). Mientras el
+     * sandbox no se modifique, pedir otra instantánea retorna los mismos valores sin costo, y sólo la primera modificación después de pedirla cuesta una copia.
+     * 
+     * La instantánea se puede leer desde otro hilo mientras el sandbox se usa: nadie la modifica, y sus consultas no comparten estado con las del sandbox (ver
+     * SecuenciaEnteros.lectorIndependiente). Con el almacenamiento POR_BLOQUES, get mueve un cursor de la instantánea; para usar get desde varios hilos a la vez, cada
+     * hilo puede pedir su propio lectorIndependiente de la instantánea.
+     * @return Una secuencia de sólo lectura con los valores actuales
+     */
+    public SecuenciaEnteros getInstantaneaEnteros( )
+    {
+    	SecuenciaEnterosCompartida compartida = SecuenciaEnterosCompartida.compartir(this.arregloEnteros, this.almacenamiento);
+    	this.arregloEnteros = compartida;
+    	return compartida.instantanea();
+    }
+
+    /**
+     * Retorna una vista de sólo lectura del arreglo de cadenas, sin copiarlo. Refleja los cambios posteriores del sandbox, y sus operaciones que modifican lanzan
+     * UnsupportedOperationException.
+     * 
+     * Si las cadenas se guardan en una ColumnaCadenas (COLUMNA o COLUMNA_SIN_REPETIDOS), cada consulta decodifica la cadena de la posición consultada.
+     * @return Una vista del arreglo de cadenas
+     */
+    public List<String> getVistaCadenas( )
+    {
+    	return new AbstractList<String>() {
+    		@Override
+    		public String get(int posicion) {
+    			return arregloCadenas.get(posicion);
+    		}
+
+    		@Override
+    		public int size() {
+    			return arregloCadenas.tamanio();
+    		}
+    	};
     }
 
     /**
@@ -69,7 +206,7 @@ public class SandboxArreglos
      */
     public int getCantidadEnteros( )
     {
-        return this.arregloEnteros.length;
+        return this.arregloEnteros.tamanio();
     }
 
     /**
@@ -78,37 +215,60 @@ public class SandboxArreglos
      */
     public int getCantidadCadenas( )
     {
-        return this.arregloCadenas.length;
+        return this.arregloCadenas.tamanio();
     }
 
     /**
-     * Agrega un nuevo valor al final del arreglo. Es decir que este método siempre debería aumentar en 1 la capacidad del arreglo.
+     * Agrega un nuevo valor al final del arreglo. Es decir que este método siempre debería aumentar en 1 el tamaño del arreglo.
+     * 
+     * El arreglo sólo se copia cuando se agota su capacidad, así que agregar cuesta O(1) amortizado.
      * 
      * @param entero El valor que se va a agregar.
      */
     public void agregarEntero( int entero )
     {
-    	int[] nuevoArreglo = new int[this.arregloEnteros.length + 1];
-    	for (int i = 0; i < this.arregloEnteros.length; i++) {
-    		nuevoArreglo[i] = this.arregloEnteros[i];
+    	int tamanio = this.arregloEnteros.tamanio();
+    	if (this.enterosOrdenados && tamanio > 0 && entero < this.arregloEnteros.get(tamanio - 1)) {
+    		this.enterosOrdenados = false;
     	}
-    	nuevoArreglo[this.arregloEnteros.length] = entero;
-    	this.arregloEnteros = nuevoArreglo;
+    	this.arregloEnteros.agregar(entero);
     }
 
     /**
-     * Agrega un nuevo valor al final del arreglo. Es decir que este método siempre debería aumentar en 1 la capacidad del arreglo.
+     * Agrega un nuevo valor al final del arreglo. Es decir que este método siempre debería aumentar en 1 el tamaño del arreglo.
+     * 
+     * El arreglo sólo se copia cuando se agota su capacidad, así que agregar cuesta O(1) amortizado.
      * 
      * @param cadena La cadena que se va a agregar.
      */
     public void agregarCadena( String cadena )
     {
-    	String[] nuevoArreglo = new String[this.arregloCadenas.length + 1];
-    	for (int i = 0; i < this.arregloCadenas.length; i++) {
-    		nuevoArreglo[i] = this.arregloCadenas[i];
+    	this.arregloCadenas.agregar(cadena);
+    }
+
+    /**
+     * Agrega varios valores al final del arreglo, en orden. El arreglo crece a lo sumo una vez y los valores se copian en bloque.
+     * 
+     * @param enteros Los valores que se van a agregar.
+     */
+    public void agregarEnteros( int[] enteros )
+    {
+    	int tamanio = this.arregloEnteros.tamanio();
+    	if (this.enterosOrdenados && enteros.length > 0) {
+    		boolean despuesDelUltimo = tamanio == 0 || this.arregloEnteros.get(tamanio - 1) <= enteros[0];
+    		this.enterosOrdenados = despuesDelUltimo && estanOrdenados(enteros);
     	}
-    	nuevoArreglo[this.arregloCadenas.length] = cadena;
-    	this.arregloCadenas = nuevoArreglo;
+    	this.arregloEnteros.agregarTodos(enteros);
+    }
+
+    /**
+     * Agrega varias cadenas al final del arreglo, en el orden de la colección, reservando el espacio una sola vez.
+     * 
+     * @param cadenas Las cadenas que se van a agregar.
+     */
+    public void agregarCadenas( Collection<String> cadenas )
+    {
+    	this.arregloCadenas.agregarTodas(cadenas);
     }
 
     /**
@@ -117,21 +277,18 @@ public class SandboxArreglos
      */
     public void eliminarEntero( int valor )
     {
-    	int contador = 0;
-        int indice = 0;
-        for (int i = 0; i < this.arregloEnteros.length; i++) {
-            if (this.arregloEnteros[i] != valor) {
-                contador += 1;
-            }
-        }
-        int[] nuevoArreglo = new int[contador];
-        for (int i = 0; i < this.arregloEnteros.length; i++) {
-            if (this.arregloEnteros[i] != valor) {
-                nuevoArreglo[indice] = this.arregloEnteros[i];
-                indice += 1;
-            }
-        }
-        this.arregloEnteros = nuevoArreglo;
+    	this.arregloEnteros.eliminarTodos(valor);
+    }
+
+    /**
+     * Elimina todas las apariciones de varios valores dentro del arreglo de enteros.
+     * 
+     * El arreglo se compacta en un solo recorrido, en lugar de recorrerlo una vez por cada valor (ver SecuenciaEnteros.eliminarValores).
+     * @param valores Los valores que se van a eliminar. Pueden estar repetidos.
+     */
+    public void eliminarEnteros( int... valores )
+    {
+    	this.arregloEnteros.eliminarValores(valores);
     }
 
     /**
@@ -140,21 +297,7 @@ public class SandboxArreglos
      */
     public void eliminarCadena( String cadena )
     {
-    	int contador = 0;
-    	int indice = 0;
-        for (int i = 0; i < this.arregloCadenas.length; i++) {
-            if (this.arregloCadenas[i] != cadena) {
-                contador += 1;
-            }
-        }
-        String[] nuevoArreglo = new String[contador];
-        for (int i = 0; i < this.arregloCadenas.length; i++) {
-            if (this.arregloCadenas[i] != cadena) {
-                nuevoArreglo[indice] = this.arregloCadenas[i];
-                indice += 1;
-            }
-        }
-        this.arregloCadenas = nuevoArreglo;
+    	this.arregloCadenas.eliminarTodas(cadena);
     }
 
     /**
@@ -165,22 +308,54 @@ public class SandboxArreglos
      *        posición es mayor que el tamaño del arreglo, se inserta el valor en la última posición.
      */
     public void insertarEntero(int entero, int posicion) {
-        int[] nuevoArreglo = new int[this.arregloEnteros.length + 1];
         if (posicion < 0) {
             posicion = 0;
-        } else if (posicion > this.arregloEnteros.length) {
-            posicion = this.arregloEnteros.length;
+        } else if (posicion > this.arregloEnteros.tamanio()) {
+            posicion = this.arregloEnteros.tamanio();
+        }
+        if (this.enterosOrdenados) {
+        	boolean despuesDelAnterior = posicion == 0 || this.arregloEnteros.get(posicion - 1) <= entero;
+        	boolean antesDelSiguiente = posicion == this.arregloEnteros.tamanio() || entero <= this.arregloEnteros.get(posicion);
+        	this.enterosOrdenados = despuesDelAnterior && antesDelSiguiente;
         }
-        for (int i = 0; i < posicion; i++) {
-            nuevoArreglo[i] = this.arregloEnteros[i];
+        this.arregloEnteros.insertar(posicion, entero);
+    }
+
+
+    /**
+     * Inserta varios enteros en el arreglo de enteros, desplazando los elementos siguientes una sola vez.
+     * 
+     * @param enteros Los nuevos valores, en el orden en que deben quedar
+     * @param posicion La posición donde debe quedar el primero de los nuevos valores. Si la posición es menor a 0, se insertan los valores al comienzo. Si la posición es
+     *        mayor que el tamaño del arreglo, se insertan al final.
+     */
+    public void insertarEnteros( int[] enteros, int posicion )
+    {
+        if (posicion < 0) {
+            posicion = 0;
+        } else if (posicion > this.arregloEnteros.tamanio()) {
+            posicion = this.arregloEnteros.tamanio();
         }
-        nuevoArreglo[posicion] = entero;
-        for (int i = posicion; i < this.arregloEnteros.length; i++) {
-            nuevoArreglo[i + 1] = this.arregloEnteros[i];
+        if (this.enterosOrdenados && enteros.length > 0) {
+        	boolean despuesDelAnterior = posicion == 0 || this.arregloEnteros.get(posicion - 1) <= enteros[0];
+        	boolean antesDelSiguiente = posicion == this.arregloEnteros.tamanio() || enteros[enteros.length - 1] <= this.arregloEnteros.get(posicion);
+        	this.enterosOrdenados = despuesDelAnterior && antesDelSiguiente && estanOrdenados(enteros);
         }
-        this.arregloEnteros = nuevoArreglo;
+        this.arregloEnteros.insertarTodos(posicion, enteros);
     }
 
+    /**
+     * Indica si los valores de un arreglo están ordenados de menor a mayor
+     */
+    private static boolean estanOrdenados( int[] valores )
+    {
+    	for (int i = 1; i < valores.length; i++) {
+    		if (valores[i - 1] > valores[i]) {
+    			return false;
+    		}
+    	}
+    	return true;
+    }
 
     /**
      * Elimina un valor del arreglo de enteros dada su posición.
@@ -189,19 +364,10 @@ public class SandboxArreglos
      */
     public void eliminarEnteroPorPosicion(int posicion) {
     	
-        if (posicion < 0 || posicion >= this.arregloEnteros.length) {
+        if (posicion < 0 || posicion >= this.arregloEnteros.tamanio()) {
             return;
         }
-        int[] nuevoArreglo = new int[this.arregloEnteros.length - 1];
-        int indice = 0;
-
-        for (int i = 0; i < this.arregloEnteros.length; i++) {
-            if (i != posicion) {
-                nuevoArreglo[indice] = this.arregloEnteros[i];
-                indice += 1;
-            }
-        }
-        this.arregloEnteros = nuevoArreglo;
+        this.arregloEnteros.eliminarPosicion(posicion);
     }
 
 
@@ -213,10 +379,132 @@ public class SandboxArreglos
      */
     public void reiniciarArregloEnteros( double[] valores )
     {
-    	this.arregloEnteros = new int[valores.length];
+    	AcumuladorEnteros acumulador = new AcumuladorEnteros(this.almacenamiento.crear(valores.length));
         for (int i = 0; i < valores.length; i++) {
-            this.arregloEnteros[i] = (int)valores[i];
+            acumulador.accept(valores[i]);
     	}
+        reemplazarEnteros(acumulador);
+    }
+
+    /**
+     * Reinicia el arreglo de enteros con los valores truncados de un stream, consumiéndolo a medida que se agregan, así que los valores decimales nunca se guardan todos al
+     * mismo tiempo. Si el stream conoce su tamaño, el arreglo se reserva de una vez.
+     * 
+     * Los valores se truncan igual que en reiniciarArregloEnteros(double[]). Si el stream falla, el arreglo de enteros no cambia.
+     * @param valores Un stream de valores decimales. Queda consumido.
+     */
+    public void reiniciarArregloEnteros( DoubleStream valores )
+    {
+    	Spliterator.OfDouble partes = valores.spliterator();
+    	long tamanio = partes.getExactSizeIfKnown();
+    	AcumuladorEnteros acumulador = new AcumuladorEnteros(this.almacenamiento.crear(tamanio >= 0 && tamanio <= Integer.MAX_VALUE ? (int)tamanio : 0));
+    	partes.forEachRemaining(acumulador);
+    	reemplazarEnteros(acumulador);
+    }
+
+    /**
+     * Reinicia el arreglo de enteros con los valores truncados que entrega un iterador, consumiéndolo a medida que se agregan.
+     * 
+     * Los valores se truncan igual que en reiniciarArregloEnteros(double[]). Si el iterador falla, el arreglo de enteros no cambia.
+     * @param valores Un iterador de valores decimales. Queda consumido.
+     */
+    public void reiniciarArregloEnteros( PrimitiveIterator.OfDouble valores )
+    {
+    	AcumuladorEnteros acumulador = new AcumuladorEnteros(this.almacenamiento.crear(0));
+    	valores.forEachRemaining(acumulador);
+    	reemplazarEnteros(acumulador);
+    }
+
+    /**
+     * Reinicia el arreglo de enteros con los valores truncados que se leen de un canal: doubles de 8 bytes en little-endian, uno tras otro y sin encabezado. El canal se lee
+     * por partes con un buffer de tamaño fijo y no se cierra.
+     * 
+     * Los valores se truncan igual que en reiniciarArregloEnteros(double[]). Si la lectura falla, el arreglo de enteros no cambia.
+     * @param canal Un canal bloqueante
+     * @throws IOException Si hay un error de lectura o si la cantidad de bytes del canal no es múltiplo de 8
+     */
+    public void reiniciarArregloEnteros( ReadableByteChannel canal ) throws IOException
+    {
+    	try {
+    		reiniciarArregloEnteros(new IteradorDoublesCanal(canal));
+    	} catch (UncheckedIOException e) {
+    		throw e.getCause();
+    	}
+    }
+
+    /**
+     * Reemplaza el arreglo de enteros por el que llenó un acumulador. Sólo se llama cuando la fuente de los valores terminó sin errores, así que si la fuente falla el
+     * arreglo anterior se conserva.
+     * @param acumulador El acumulador con el arreglo nuevo
+     */
+    private void reemplazarEnteros( AcumuladorEnteros acumulador )
+    {
+        reemplazarArregloEnteros(acumulador.secuencia(), acumulador.ordenado());
+    }
+
+    /**
+     * Reemplaza el arreglo de enteros y cierra el anterior, para que si estaba fuera del heap su memoria se libere
+     * @param nuevo El nuevo arreglo de enteros
+     * @param ordenado Indica si se sabe que el nuevo arreglo está ordenado
+     */
+    private void reemplazarArregloEnteros( SecuenciaEnteros nuevo, boolean ordenado )
+    {
+        SecuenciaEnteros anterior = this.arregloEnteros;
+        this.arregloEnteros = nuevo;
+        this.enterosOrdenados = ordenado;
+        anterior.close();
+    }
+
+    /**
+     * Libera la memoria que el arreglo de enteros tenga reservada fuera del heap (ver AlmacenamientoEnteros.FUERA_DEL_HEAP) o el archivo que tenga mapeado. Después de
+     * cerrarlo, el sandbox no debe usarse.
+     */
+    @Override
+    public void close( )
+    {
+        this.arregloEnteros.close();
+    }
+
+    /**
+     * Guarda el arreglo de enteros en un archivo binario compacto: un encabezado con la cantidad de enteros, si están ordenados y una suma de verificación CRC32C, seguido
+     * de los enteros en little-endian, 4 bytes cada uno (ver ArchivoEnteros). El archivo se reemplaza de una sola vez, así que un error a mitad de camino no deja un
+     * archivo incompleto.
+     * @param archivo El archivo de destino
+     * @throws IOException Si hay un error de escritura
+     */
+    public void guardar( Path archivo ) throws IOException
+    {
+    	ArchivoEnteros.guardar(this.arregloEnteros, this.enterosOrdenados, archivo);
+    }
+
+    /**
+     * Reemplaza el arreglo de enteros por el de un archivo creado con guardar. Los enteros se leen todos a memoria, con el almacenamiento de este sandbox, y se verifica
+     * la suma. Si la lectura falla o el archivo está dañado, el arreglo de enteros no cambia.
+     * @param archivo El archivo
+     * @throws IOException Si hay un error de lectura, el archivo no tiene el formato esperado o la suma no coincide
+     */
+    public void cargar( Path archivo ) throws IOException
+    {
+    	ArchivoEnteros leido = ArchivoEnteros.abrir(archivo);
+    	reemplazarArregloEnteros(leido.cargar(this.almacenamiento), leido.ordenado());
+    }
+
+    /**
+     * Reemplaza el arreglo de enteros por uno respaldado directamente por un archivo creado con guardar, mapeado en memoria. El archivo no se lee al mapearlo: el sistema
+     * operativo trae las páginas a medida que se consultan, así que el costo no depende del tamaño del archivo.
+     * 
+     * Todos los métodos que sólo consultan el arreglo de enteros (contarApariciones, buscarEntero, calcularRangoEnteros, calcularHistograma, etc.) leen directamente del
+     * mapeo. El primer método que lo modifica lo copia a memoria con el almacenamiento de este sandbox; el archivo nunca se modifica.
+     * 
+     * Sólo se valida el encabezado y el largo del archivo. Verificar la suma obligaría a leerlo completo: para eso está cargar. El archivo no debe modificarse por fuera
+     * mientras esté mapeado.
+     * @param archivo El archivo
+     * @throws IOException Si el archivo no se puede mapear o no tiene el formato esperado
+     */
+    public void mapear( Path archivo ) throws IOException
+    {
+    	ArchivoEnteros leido = ArchivoEnteros.abrir(archivo);
+    	reemplazarArregloEnteros(leido.mapear(this.almacenamiento), leido.ordenado());
     }
 
     /**
@@ -227,11 +515,27 @@ public class SandboxArreglos
      */
     public void reiniciarArregloCadenas( Object[] objetos )
     {
-        this.arregloCadenas = new String[objetos.length];
-        
+        SecuenciaCadenas nuevasCadenas = this.almacenamientoCadenas.crear(objetos.length);
         for (int i = 0; i < objetos.length; i++) {
-            this.arregloCadenas[i] = objetos[i].toString();
+            nuevasCadenas.agregar(objetos[i].toString());
         }
+        this.arregloCadenas = nuevasCadenas;
+    }
+
+    /**
+     * Reinicia el arreglo de cadenas con las representaciones como Strings de los objetos que entrega un iterador, consumiéndolo a medida que se agregan: cada objeto se
+     * convierte con toString apenas se obtiene y no se guarda.
+     * 
+     * Si el iterador falla, el arreglo de cadenas no cambia.
+     * @param objetos Un iterador de objetos. Queda consumido.
+     */
+    public void reiniciarArregloCadenas( Iterator<?> objetos )
+    {
+    	SecuenciaCadenas nuevasCadenas = this.almacenamientoCadenas.crear(0);
+    	while (objetos.hasNext()) {
+    		nuevasCadenas.agregar(objetos.next().toString());
+    	}
+        this.arregloCadenas = nuevasCadenas;
     }
 
     /**
@@ -241,11 +545,12 @@ public class SandboxArreglos
      */
     public void volverPositivos( )
     {
-    	for (int i = 0; i < this.arregloEnteros.length; i++) {
-    		if (this.arregloEnteros[i] < 0) {
-    			this.arregloEnteros[i] = this.arregloEnteros[i] * -1;
-    		}
+    	if (usarParalelismo()) {
+    		this.arregloEnteros.reemplazarTodosEnParalelo(n -> n < 0 ? n * -1 : n);
+    	} else {
+    		this.arregloEnteros.reemplazarTodos(n -> n < 0 ? n * -1 : n);
     	}
+    	this.enterosOrdenados = false;
     }
 
     /**
@@ -253,7 +558,12 @@ public class SandboxArreglos
      */
     public void organizarEnteros( )
     {
-    	Arrays.sort(this.arregloEnteros);
+    	if (usarParalelismo()) {
+    		this.arregloEnteros.ordenarEnParalelo();
+    	} else {
+    		this.arregloEnteros.ordenar();
+    	}
+    	this.enterosOrdenados = true;
     }
 
     /**
@@ -261,93 +571,124 @@ public class SandboxArreglos
      */
     public void organizarCadenas( )
     {
-    	Arrays.sort(this.arregloCadenas);
+    	this.arregloCadenas.ordenar();
     }
 
     /**
      * Cuenta cuántas veces aparece el valor recibido por parámetro en el arreglo de enteros
+     * 
+     * Si el arreglo está ordenado, las apariciones son contiguas y se cuentan con dos búsquedas binarias.
      * @param valor El valor buscado
      * @return La cantidad de veces que aparece el valor
      */
     public int contarApariciones( int valor )
     {
-    	int contador = 0;
-    	for (int i = 0; i < this.arregloEnteros.length;i++) {
-    		if (this.arregloEnteros[i] == valor){
-    			contador += 1;
-    		}
+    	if (this.enterosOrdenados) {
+    		return this.arregloEnteros.limiteSuperior(valor) - this.arregloEnteros.limiteInferior(valor);
     	}
-        return contador;
+    	if (usarParalelismo()) {
+    		return (int)this.arregloEnteros.stream().parallel().filter(n -> n == valor).count();
+    	}
+        return this.arregloEnteros.contar(valor);
     }
 
     /**
      * Cuenta cuántas veces aparece la cadena recibida por parámetro en el arreglo de cadenas.
      * 
      * La búsqueda no debe diferenciar entre mayúsculas y minúsculas.
+     * 
+     * En una ColumnaCadenas la comparación se hace sobre los bytes de las cadenas, filtrando primero por el hash sin mayúsculas que se calculó al agregarlas.
      * @param cadena La cadena buscada
      * @return La cantidad de veces que aparece la cadena
      */
     public int contarApariciones( String cadena )
     {
-    	int contador = 0;
-    	for (int i = 0; i < this.arregloCadenas.length;i++) {
-    		if (this.arregloCadenas[i].equalsIgnoreCase(cadena)){
-    			contador += 1;
-    		}
-    	}
-        return contador;
+        return this.arregloCadenas.contarSinMayusculas(cadena);
     }
 
     /**
      * Busca en qué posiciones del arreglo de enteros se encuentra el valor que se recibe en el parámetro
+     * 
+     * Si el arreglo está ordenado, las posiciones se calculan con buscarEnteroOrdenado. Si no, se recorre el arreglo una sola vez, sin copiarlo, para no traer al heap un arreglo que está fuera de él.
      * @param valor El valor que se debe buscar
      * @return Un arreglo con los números de las posiciones del arreglo de enteros en las que se encuentra el valor buscado. Si el valor no se encuentra, el arreglo retornado
      *         es de tamaño 0.
      */
     public int[] buscarEntero( int valor )
     {
-    	int totalPosiciones = contarApariciones(valor);
-    	int[] nuevoArreglo = new int[totalPosiciones];
-    	int indice = 0;
-    	for (int i = 0; i < this.arregloEnteros.length; i++) {
-    		if (this.arregloEnteros[i] == valor) {
-    			nuevoArreglo[indice] = i;
-    			indice += 1;
+    	if (this.enterosOrdenados) {
+    		return posicionesEnRango(buscarEnteroOrdenado(valor));
+    	}
+    	ArregloDinamicoEnteros posiciones = new ArregloDinamicoEnteros();
+    	int[] posicion = {0};
+    	this.arregloEnteros.forEach(entero -> {
+    		if (entero == valor) {
+    			posiciones.agregar(posicion[0]);
     		}
+    		posicion[0]++;
+    	});
+        return posiciones.copia();
+    }
+
+    /**
+     * Busca, con dos búsquedas binarias, el rango de posiciones del arreglo de enteros en el que se encuentra un valor. El arreglo de enteros debe estar ordenado.
+     * @param valor El valor que se debe buscar
+     * @return Un arreglo con dos posiciones: la posición de la primera aparición del valor y la posición siguiente a la última. Si el valor no se encuentra, las dos son
+     *         iguales y corresponden a la posición donde habría que insertarlo para que el arreglo siga ordenado.
+     * @throws IllegalStateException Si no se sabe que el arreglo de enteros esté ordenado, es decir si se modificó de forma que pudo desordenarse después del último llamado a
+     *         organizarEnteros
+     */
+    public int[] buscarEnteroOrdenado( int valor )
+    {
+    	if (!this.enterosOrdenados) {
+    		throw new IllegalStateException("El arreglo de enteros no está ordenado; llame primero a organizarEnteros");
     	}
-        return nuevoArreglo;
+    	int[] rango = new int[2];
+    	rango[0] = this.arregloEnteros.limiteInferior(valor);
+    	rango[1] = this.arregloEnteros.limiteSuperior(valor);
+        return rango;
+    }
+
+    /**
+     * Construye el arreglo con todas las posiciones de un rango
+     * @param rango Un arreglo con la primera posición del rango y la posición siguiente a la última
+     * @return Las posiciones del rango, en orden
+     */
+    private static int[] posicionesEnRango( int[] rango )
+    {
+    	int[] posiciones = new int[rango[1] - rango[0]];
+    	for (int i = 0; i < posiciones.length; i++) {
+    		posiciones[i] = rango[0] + i;
+    	}
+    	return posiciones;
     }
 
     /**
      * Calcula cuál es el rango de los enteros (el valor mínimo y el máximo).
+     * 
+     * Si el arreglo está ordenado, el mínimo y el máximo son sus extremos y no hace falta recorrerlo.
      * @return Un arreglo con dos posiciones: en la primera posición, debe estar el valor mínimo en el arreglo de enteros; en la segunda posición, debe estar el valor máximo
      *         en el arreglo de enteros. Si el arreglo está vacío, debe retornar un arreglo vacío.
      */
     public int[] calcularRangoEnteros( )
     {
-    	int min = Integer.MAX_VALUE;
-    	int max = Integer.MIN_VALUE;
     	int[] arregloRangos = new int[2];
-        if (this.arregloEnteros.length == 0) {
-        	return this.arregloEnteros;
+        if (this.arregloEnteros.tamanio() == 0) {
+        	return new int[0];
+        }
+        else if (this.enterosOrdenados) {
+        	arregloRangos[0] = this.arregloEnteros.get(0);
+        	arregloRangos[1] = this.arregloEnteros.get(this.arregloEnteros.tamanio() - 1);
+        	return arregloRangos;
         }
         else {
-        	for (int i = 0; i < this.arregloEnteros.length; i++) {
-        		if (i == 0) {
-        			min = this.arregloEnteros[i];
-        			max = this.arregloEnteros[i];
-        		}
-        		else {
-        			if (this.arregloEnteros[i] < min) {
-        				min = this.arregloEnteros[i];
-        			}
-        			else if (this.arregloEnteros[i] > max) {
-        				max = this.arregloEnteros[i];
-        			}
-        		}
+        	IntStream enteros = this.arregloEnteros.stream();
+        	if (usarParalelismo()) {
+        		enteros = enteros.parallel();
         	}
-        	arregloRangos[0] = min;
-        	arregloRangos[1] = max;
+        	IntSummaryStatistics estadisticas = enteros.summaryStatistics();
+        	arregloRangos[0] = estadisticas.getMin();
+        	arregloRangos[1] = estadisticas.getMax();
         	return arregloRangos;
         }
     }
@@ -355,15 +696,31 @@ public class SandboxArreglos
     /**
      * Calcula un histograma de los valores del arreglo de enteros y lo devuelve como un mapa donde las llaves son los valores del arreglo y los valores son la cantidad de
      * veces que aparece cada uno en el arreglo de enteros.
+     * 
+     * El mapa se construye a partir de histograma(), que cuenta sin crear objetos.
      * @return Un mapa con el histograma de valores.
      */
     public HashMap<Integer, Integer> calcularHistograma( )
     {
-    	HashMap<Integer, Integer> mapa = new HashMap<>();
-    	for (int i = 0; i < this.arregloEnteros.length; i++) {
-    		mapa.put(this.arregloEnteros[i], mapa.getOrDefault(this.arregloEnteros[i], 0) + 1);
+        return histograma().comoHashMap();
+    }
+
+    /**
+     * Calcula un histograma de los valores del arreglo de enteros: para cada valor distinto, la cantidad de veces que aparece en el arreglo.
+     * 
+     * A diferencia de calcularHistograma, el resultado es una tabla de enteros primitivos, así que no se crea un objeto por cada valor o cantidad.
+     * 
+     * Por encima del umbral de paralelismo, cada hilo cuenta una parte del arreglo en su propio histograma y los histogramas parciales se suman al final.
+     * @return El histograma de valores
+     */
+    public IntIntHistogram histograma( )
+    {
+    	if (usarParalelismo()) {
+    		return this.arregloEnteros.stream().parallel().collect(IntIntHistogram::new, IntIntHistogram::incrementar, IntIntHistogram::sumarTodos);
     	}
-        return mapa;
+    	IntIntHistogram histograma = new IntIntHistogram();
+    	this.arregloEnteros.forEach(histograma::incrementar);
+        return histograma;
     }
 
     /**
@@ -372,16 +729,7 @@ public class SandboxArreglos
      */
     public int contarEnterosRepetidos( )
     {
-    	int repetidos = 0;
-    	HashMap<Integer, Integer> mapaRepetidos = new HashMap<Integer, Integer>();
-    	for (int i = 0; i < this.arregloEnteros.length; i++) {
-    		mapaRepetidos.put(this.arregloEnteros[i], mapaRepetidos.getOrDefault(this.arregloEnteros[i], 0) + 1);
-    		if (mapaRepetidos.get(this.arregloEnteros[i]) == 2) {
-    			repetidos += 1;
-    		}
-    		
-    	}
-        return repetidos;
+        return histograma().contarRepetidos();
     }
 
     /**
@@ -391,18 +739,7 @@ public class SandboxArreglos
      */
     public boolean compararArregloEnteros( int[] otroArreglo )
     {
-    	if (this.arregloEnteros.length != otroArreglo.length) {
-            return false;
-    	}
-    	boolean sonIdenticos = true;
-    	int indice = 0;
-    	while (sonIdenticos && indice < this.arregloEnteros.length) {
-    		if (this.arregloEnteros[indice] != otroArreglo[indice]) {
-    			sonIdenticos = false;
-    		}
-    		indice += 1;
-    	}
-        return sonIdenticos;
+        return this.arregloEnteros.mismosValores(otroArreglo);
     }
 
     /**
@@ -413,10 +750,10 @@ public class SandboxArreglos
     public boolean mismosEnteros( int[] otroArreglo )
     {
     	boolean sonIdenticos = true;
-    	HashMap<Integer, Integer> mapaElementos = calcularHistograma();
+    	IntIntHistogram histograma = histograma();
     	int indice = 0;
     	while (indice < otroArreglo.length && sonIdenticos == true) {
-    		if (!mapaElementos.containsKey(otroArreglo[indice])) {
+    		if (!histograma.contiene(otroArreglo[indice])) {
     			sonIdenticos = false;
     		}
     		indice += 1;
@@ -427,7 +764,7 @@ public class SandboxArreglos
     /**
      * Cambia los elementos del arreglo de enteros por una nueva serie de valores generada de forma aleatoria.
      * 
-     * Para generar los valores se debe partir de una distribución uniforme usando Math.random().
+     * Los valores siguen una distribución uniforme. Se generan con el generador del sandbox (ver setSemilla), no con Math.random().
      * 
      * Los números en el arreglo deben quedar entre el valor mínimo y el máximo.
      * @param cantidad La cantidad de elementos que debe haber en el arreglo
@@ -436,11 +773,42 @@ public class SandboxArreglos
      */
     public void generarEnteros( int cantidad, int minimo, int maximo )
     {
-    	int[] nuevoArreglo = new int[cantidad];
-    	for (int i = 0; i < cantidad; i++) {
-    		nuevoArreglo[i] = (int)(Math.random() * (maximo - minimo + 1)) + minimo;
-    	}
-    	this.arregloEnteros = nuevoArreglo;
+    	generarEnteros(cantidad, minimo, maximo, DistribucionEnteros.UNIFORME);
+    }
+
+    /**
+     * Cambia los elementos del arreglo de enteros por una nueva serie de valores aleatorios con una distribución dada, entre el valor mínimo y el máximo.
+     * 
+     * Si la cantidad alcanza el umbral de paralelismo, el arreglo se llena por porciones en varios hilos. El resultado es el mismo en cualquier caso (ver GeneradorEnteros).
+     * 
+     * Si el almacenamiento no es ARREGLO, los valores se generan por lotes directamente en el nuevo arreglo, sin pasar por un int[] del tamaño completo.
+     * @param cantidad La cantidad de elementos que debe haber en el arreglo
+     * @param minimo El valor mínimo para los números generados
+     * @param maximo El valor máximo para los números generados
+     * @param distribucion La distribución de los valores
+     */
+    public void generarEnteros( int cantidad, int minimo, int maximo, DistribucionEnteros distribucion )
+    {
+    	SecuenciaEnteros valores = this.generador.generar(this.almacenamiento, cantidad, minimo, maximo, distribucion, cantidad >= this.umbralParalelo);
+    	reemplazarArregloEnteros(valores, false);
+    }
+
+    /**
+     * Reemplaza el generador de enteros aleatorios por uno con una semilla fija, para que generarEnteros produzca siempre los mismos valores a partir de este momento
+     * @param semilla La semilla
+     */
+    public void setSemilla( long semilla )
+    {
+    	this.generador = new GeneradorEnteros(semilla);
+    }
+
+    /**
+     * Indica si las operaciones sobre el arreglo de enteros deben repartirse entre varios hilos, es decir si el arreglo alcanza el umbral de paralelismo
+     * @return True si se debe usar paralelismo
+     */
+    private boolean usarParalelismo( )
+    {
+        return this.arregloEnteros.tamanio() >= this.umbralParalelo;
     }
 
 }
@@ -2,6 +2,7 @@ package uniandes.dpoo.estructuras.logica;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
@@ -17,7 +18,7 @@ import java.util.TreeSet;
  * 
  * A diferencia de un Set, en un NavigableSet existe una noción de orden que en este caso corresponde al órden lexicográfico.
  * 
- * No pueden agregarse nuevos atributos.
+ * No pueden agregarse nuevos atributos, salvo índices auxiliares que se mantienen sincronizados con arbolCadenas.
  */
 public class SandboxConjuntos
 {
@@ -28,12 +29,29 @@ public class SandboxConjuntos
      */
     private NavigableSet<String> arbolCadenas;
 
+    /**
+     * Un índice opcional de las cadenas de arbolCadenas que no tiene en cuenta mayúsculas ni minúsculas. Si es null, las operaciones que no diferencian mayúsculas y
+     * minúsculas recorren todo el conjunto.
+     */
+    private IndiceSinMayusculas indiceSinMayusculas;
+
     /**
      * Crea una nueva instancia de la clase con las dos listas inicializadas pero vacías
      */
     public SandboxConjuntos( )
+    {
+        this( false );
+    }
+
+    /**
+     * Crea una nueva instancia de la clase con el conjunto inicializado pero vacío
+     * @param conIndiceSinMayusculas Indica si se debe mantener un índice para que las operaciones que no diferencian mayúsculas y minúsculas cuesten O(log n). El índice
+     *        ocupa memoria adicional y hace un poco más costosas las modificaciones.
+     */
+    public SandboxConjuntos( boolean conIndiceSinMayusculas )
     {
         arbolCadenas = new TreeSet<String>( );
+        indiceSinMayusculas = conIndiceSinMayusculas ? new IndiceSinMayusculas( arbolCadenas ) : null;
     }
 
     /**
@@ -46,6 +64,16 @@ public class SandboxConjuntos
         return lista;
     }
 
+    /**
+     * Retorna una vista de sólo lectura de las cadenas del conjunto, ordenadas lexicográficamente, sin copiarlas. La vista consulta el conjunto del sandbox en cada
+     * operación, así que refleja sus cambios posteriores; contains cuesta O(log n).
+     * @return Una vista de las cadenas del conjunto
+     */
+    public Collection<String> getVistaCadenas( )
+    {
+    	return VistaColeccion.de(() -> this.arbolCadenas);
+    }
+
     /**
      * Retorna una lista con las cadenas del conjunto, ordenadas lexicográficamente de mayor a menor.
      * @return Una lista con las cadenas ordenadas de mayor a menor
@@ -88,20 +116,43 @@ public class SandboxConjuntos
 
     /**
      * Retorna una colección con las cadenas que hacen parte del conjunto de cadenas y son mayores o iguales a la cadena que se recibe por parámetro
+     * 
+     * La colección es una vista de sólo lectura sobre el conjunto: se ubica en O(log n) y no copia los elementos, así que refleja los cambios posteriores del conjunto
+     * hasta que éste se reconstruya (reiniciarConjuntoCadenas o volverMayusculas). Si se necesita una copia independiente, se puede construir con new TreeSet<>( vista ).
      * @param cadena
      * @return Una colección de cadenas mayores a la cadena dada. Si la cadena hace parte del conjunto, debe hacer parte de la colección retornada.
      */
     public Collection<String> getSiguientes( String cadena )
     {
-    	NavigableSet<String> set = new TreeSet<String>();
-    	Iterator<String> iterador = this.arbolCadenas.iterator();
-    	while (iterador.hasNext()) {
-    		String cadenaActual = iterador.next();
-    		if (cadenaActual.compareTo(cadena) >= 0) {
-    			set.add(cadenaActual);
-    		}
+        return Collections.unmodifiableNavigableSet(this.arbolCadenas.tailSet(cadena, true));
+    }
+
+    /**
+     * Retorna las cadenas del conjunto que son lexicográficamente menores a la cadena que se recibe por parámetro.
+     * 
+     * Al igual que getSiguientes, el resultado es una vista de sólo lectura que no copia los elementos.
+     * @param cadena
+     * @return Un conjunto ordenado con las cadenas menores a la cadena dada. La cadena dada no hace parte del resultado.
+     */
+    public NavigableSet<String> getAnteriores( String cadena )
+    {
+        return Collections.unmodifiableNavigableSet(this.arbolCadenas.headSet(cadena, false));
+    }
+
+    /**
+     * Retorna las cadenas del conjunto que están entre dos cadenas.
+     * 
+     * Al igual que getSiguientes, el resultado es una vista de sólo lectura que no copia los elementos.
+     * @param desde El límite inferior del rango. Si hace parte del conjunto, hace parte del resultado.
+     * @param hasta El límite superior del rango. No hace parte del resultado.
+     * @return Un conjunto ordenado con las cadenas mayores o iguales a 'desde' y menores a 'hasta'. Si 'desde' es mayor que 'hasta', el conjunto está vacío.
+     */
+    public NavigableSet<String> getEntre( String desde, String hasta )
+    {
+    	if (desde.compareTo(hasta) > 0) {
+    		return Collections.emptyNavigableSet();
     	}
-        return set;
+        return Collections.unmodifiableNavigableSet(this.arbolCadenas.subSet(desde, true, hasta, false));
     }
 
     /**
@@ -123,7 +174,29 @@ public class SandboxConjuntos
      */
     public void agregarCadena( String cadena )
     {
-    	this.arbolCadenas.add(cadena);
+    	if (this.arbolCadenas.add(cadena) && this.indiceSinMayusculas != null) {
+    		this.indiceSinMayusculas.agregar(cadena);
+    	}
+    }
+
+    /**
+     * Agrega varias cadenas al conjunto de cadenas en un solo recorrido de la colección.
+     * 
+     * Si no hay índice sin mayúsculas se usa addAll, que construye el árbol directamente, sin comparaciones, cuando el conjunto está vacío y la colección es un conjunto
+     * ordenado con el mismo orden.
+     * @param cadenas Las cadenas que se van a agregar.
+     */
+    public void agregarCadenas( Collection<String> cadenas )
+    {
+    	if (this.indiceSinMayusculas == null) {
+    		this.arbolCadenas.addAll(cadenas);
+    		return;
+    	}
+    	for (String cadena: cadenas) {
+    		if (this.arbolCadenas.add(cadena)) {
+    			this.indiceSinMayusculas.agregar(cadena);
+    		}
+    	}
     }
 
     /**
@@ -132,7 +205,9 @@ public class SandboxConjuntos
      */
     public void eliminarCadena( String cadena )
     {
-    	this.arbolCadenas.remove(cadena);
+    	if (this.arbolCadenas.remove(cadena) && this.indiceSinMayusculas != null) {
+    		this.indiceSinMayusculas.eliminar(cadena);
+    	}
     }
 
     /**
@@ -141,6 +216,14 @@ public class SandboxConjuntos
      */
     public void eliminarCadenaSinMayusculasOMinusculas( String cadena )
     {
+    	if (this.indiceSinMayusculas != null) {
+    		String original = this.indiceSinMayusculas.primeraCoincidencia(cadena);
+    		if (original != null) {
+    			this.arbolCadenas.remove(original);
+    			this.indiceSinMayusculas.eliminar(original);
+    		}
+    		return;
+    	}
     	Iterator<String> iterador = this.arbolCadenas.iterator();
     	boolean eliminado = false;
     	while (iterador.hasNext() && eliminado == false) {
@@ -157,7 +240,61 @@ public class SandboxConjuntos
      */
     public void eliminarPrimera( )
     {
-    	this.arbolCadenas.removeFirst();
+    	String primera = this.arbolCadenas.removeFirst();
+    	if (this.indiceSinMayusculas != null) {
+    		this.indiceSinMayusculas.eliminar(primera);
+    	}
+    }
+
+    /**
+     * Indica si el conjunto contiene una cadena, independientemente de las mayúsculas o minúsculas
+     * @param cadena La cadena buscada, sin tener en cuenta las mayúsculas o minúsculas
+     * @return True si alguna cadena del conjunto coincide con la cadena buscada
+     */
+    public boolean contieneSinMayusculasOMinusculas( String cadena )
+    {
+    	if (this.indiceSinMayusculas != null) {
+    		return this.indiceSinMayusculas.contiene(cadena);
+    	}
+    	for (String actual : this.arbolCadenas) {
+    		if (actual.equalsIgnoreCase(cadena)) {
+    			return true;
+    		}
+    	}
+        return false;
+    }
+
+    /**
+     * Retorna las cadenas del conjunto que están entre dos cadenas, comparando sin tener en cuenta mayúsculas ni minúsculas
+     * @param desde El límite inferior del rango. Las cadenas que coinciden con él hacen parte del resultado.
+     * @param hasta El límite superior del rango. Las cadenas que coinciden con él no hacen parte del resultado.
+     * @return Una lista con las cadenas del rango, ordenadas sin tener en cuenta mayúsculas ni minúsculas
+     */
+    public List<String> getEntreSinMayusculasOMinusculas( String desde, String hasta )
+    {
+    	if (this.indiceSinMayusculas != null) {
+    		return this.indiceSinMayusculas.entre(desde, hasta);
+    	}
+    	return new IndiceSinMayusculas(this.arbolCadenas).entre(desde, hasta);
+    }
+
+    /**
+     * Retorna las cadenas del conjunto convertidas a mayúsculas, sin modificar el conjunto.
+     * 
+     * En los dos casos el resultado tiene cada cadena convertida con toUpperCase una sola vez y en orden natural. Si el conjunto tiene índice sin mayúsculas, es una
+     * vista que no copia nada y refleja los cambios posteriores del conjunto, incluso después de reconstruirlo; si no, es una copia.
+     * @return Una colección con las cadenas en mayúsculas
+     */
+    public Collection<String> getVistaMayusculas( )
+    {
+    	if (this.indiceSinMayusculas != null) {
+    		return VistaColeccion.de(() -> this.indiceSinMayusculas.vistaMayusculas());
+    	}
+    	NavigableSet<String> set = new TreeSet<>();
+    	for (String cadena : this.arbolCadenas) {
+    		set.add(cadena.toUpperCase());
+    	}
+    	return set;
     }
 
     /**
@@ -174,7 +311,7 @@ public class SandboxConjuntos
     		set.add(iterador.next().toString());
     	}
     	this.arbolCadenas = set;
-    	
+    	reconstruirIndice();
     }
 
     /**
@@ -189,6 +326,7 @@ public class SandboxConjuntos
             set.add(cadena.toUpperCase());
         }
         this.arbolCadenas = set;
+        reconstruirIndice();
     }
 
     /**
@@ -219,5 +357,15 @@ public class SandboxConjuntos
     	}
         return contieneTodos;
     }
-    
+
+    /**
+     * Vuelve a construir el índice sin mayúsculas, si existe, a partir del conjunto actual
+     */
+    private void reconstruirIndice( )
+    {
+    	if (this.indiceSinMayusculas != null) {
+    		this.indiceSinMayusculas = new IndiceSinMayusculas(this.arbolCadenas);
+    	}
+    }
+
 }
@@ -0,0 +1,348 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Esta clase tiene los mismos métodos de SandboxConjuntos, pero varios hilos pueden usar la misma instancia al mismo tiempo.
+ *
+ * El conjunto es un ConcurrentSkipListSet, que se mantiene ordenado sin candados:
+ * <ul>
+ * <li>Los métodos que sólo consultan no toman ningún candado. Los recorridos (getCadenasComoLista, getCadenasComoListaInvertida, contieneSinMayusculasOMinusculas...)
+ * son débilmente consistentes: nunca lanzan ConcurrentModificationException y ven cada cadena que no cambió durante el recorrido, pero pueden ver o no las que otros
+ * hilos agregan o eliminan mientras tanto.</li>
+ * <li>agregarCadena, eliminarCadena, eliminarCadenaSinMayusculasOMinusculas y eliminarPrimera pueden ejecutarse desde varios hilos a la vez, sin compartir ningún
+ * candado (ver CandadoPorFranjas). eliminarPrimera es un pollFirst: si dos hilos la llaman al mismo tiempo, cada uno elimina una cadena distinta.</li>
+ * <li>volverMayusculas y reiniciarConjuntoCadenas construyen un conjunto nuevo y lo publican de una vez. Los lectores siguen recorriendo el conjunto anterior, completo,
+ * hasta que se publica el nuevo; nunca ven uno a medio construir. Mientras volverMayusculas copia el conjunto, los que agregan o eliminan esperan, para que ninguna
+ * modificación se pierda en la copia.</li>
+ * </ul>
+ * Cada método es atómico por separado, pero una secuencia de llamados no lo es. A diferencia de SandboxConjuntos, esta clase no tiene índice sin mayúsculas: las
+ * operaciones que no diferencian mayúsculas y minúsculas recorren el conjunto.
+ */
+public class SandboxConjuntosConcurrente
+{
+    /**
+     * Un conjunto (set) de cadenas para realizar varias de las siguientes operaciones, ordenado lexicográficamente.
+     *
+     * El atributo se reemplaza completo al reconstruir el conjunto, así que los métodos que lo usan más de una vez lo leen una sola vez en una variable local.
+     */
+    private volatile NavigableSet<String> arbolCadenas;
+
+    /**
+     * Coordina las modificaciones con las reconstrucciones del conjunto. Los que agregan o eliminan se anotan cada uno en su franja; volverMayusculas y
+     * reiniciarConjuntoCadenas lo cierran. Las consultas no lo usan.
+     */
+    private final CandadoPorFranjas candado;
+
+    /**
+     * Crea una nueva instancia de la clase con el conjunto inicializado pero vacío
+     */
+    public SandboxConjuntosConcurrente( )
+    {
+        arbolCadenas = new ConcurrentSkipListSet<String>( );
+        candado = new CandadoPorFranjas( );
+    }
+
+    /**
+     * Retorna una lista con las cadenas del conjunto ordenadas lexicográficamente
+     * @return Una lista con las cadenas ordenadas
+     */
+    public List<String> getCadenasComoLista( )
+    {
+    	List<String> lista = new ArrayList<>();
+    	for (String cadena: this.arbolCadenas) {
+    		lista.add(cadena);
+    	}
+        return lista;
+    }
+
+    /**
+     * Retorna una vista de sólo lectura de las cadenas del conjunto, ordenadas lexicográficamente, sin copiarlas. La vista consulta el conjunto del sandbox en cada
+     * operación, así que refleja sus cambios posteriores; contains cuesta O(log n).
+     * 
+     * Como el conjunto, la vista se recorre sin candados y de forma débilmente consistente. Un recorrido empezado antes de volverMayusculas o reiniciarConjuntoCadenas
+     * termina sobre el conjunto anterior.
+     * @return Una vista de las cadenas del conjunto
+     */
+    public Collection<String> getVistaCadenas( )
+    {
+    	return VistaColeccion.de(() -> this.arbolCadenas);
+    }
+
+    /**
+     * Retorna una lista con las cadenas del conjunto, ordenadas lexicográficamente de mayor a menor.
+     * @return Una lista con las cadenas ordenadas de mayor a menor
+     */
+    public List<String> getCadenasComoListaInvertida( )
+    {
+    	List<String> lista = new ArrayList<>();
+    	Iterator<String> iterador = this.arbolCadenas.descendingIterator();
+    	while (iterador.hasNext()) {
+    		lista.add(iterador.next());
+    	}
+        return lista;
+    }
+
+    /**
+     * Retorna la cadena que sea lexicográficamente menor en el conjunto de cadenas.
+     *
+     * Si el conjunto está vacío, debe retornar null.
+     * @return La primera cadena del conjunto, o null si está vacío.
+     */
+    public String getPrimera( )
+    {
+    	Iterator<String> iterador = this.arbolCadenas.iterator();
+        return iterador.hasNext() ? iterador.next() : null;
+    }
+
+    /**
+     * Retorna la cadena que sea lexicográficamente mayor en el conjunto de cadenas
+     *
+     * Si el conjunto está vacío, debe retornar null.
+     * @return La última cadena del conjunto, o null si está vacío.
+     */
+    public String getUltima( )
+    {
+    	Iterator<String> iterador = this.arbolCadenas.descendingIterator();
+        return iterador.hasNext() ? iterador.next() : null;
+    }
+
+    /**
+     * Retorna una colección con las cadenas que hacen parte del conjunto de cadenas y son mayores o iguales a la cadena que se recibe por parámetro
+     *
+     * La colección es una vista de sólo lectura, débilmente consistente, sobre el conjunto actual. Deja de reflejar los cambios cuando el conjunto se reconstruye.
+     * @param cadena
+     * @return Una colección de cadenas mayores a la cadena dada. Si la cadena hace parte del conjunto, debe hacer parte de la colección retornada.
+     */
+    public Collection<String> getSiguientes( String cadena )
+    {
+        return Collections.unmodifiableNavigableSet(this.arbolCadenas.tailSet(cadena, true));
+    }
+
+    /**
+     * Retorna las cadenas del conjunto que son lexicográficamente menores a la cadena que se recibe por parámetro.
+     *
+     * Al igual que getSiguientes, el resultado es una vista de sólo lectura que no copia los elementos.
+     * @param cadena
+     * @return Un conjunto ordenado con las cadenas menores a la cadena dada. La cadena dada no hace parte del resultado.
+     */
+    public NavigableSet<String> getAnteriores( String cadena )
+    {
+        return Collections.unmodifiableNavigableSet(this.arbolCadenas.headSet(cadena, false));
+    }
+
+    /**
+     * Retorna las cadenas del conjunto que están entre dos cadenas.
+     *
+     * Al igual que getSiguientes, el resultado es una vista de sólo lectura que no copia los elementos.
+     * @param desde El límite inferior del rango. Si hace parte del conjunto, hace parte del resultado.
+     * @param hasta El límite superior del rango. No hace parte del resultado.
+     * @return Un conjunto ordenado con las cadenas mayores o iguales a 'desde' y menores a 'hasta'. Si 'desde' es mayor que 'hasta', el conjunto está vacío.
+     */
+    public NavigableSet<String> getEntre( String desde, String hasta )
+    {
+    	if (desde.compareTo(hasta) > 0) {
+    		return Collections.emptyNavigableSet();
+    	}
+        return Collections.unmodifiableNavigableSet(this.arbolCadenas.subSet(desde, true, hasta, false));
+    }
+
+    /**
+     * Retorna la cantidad de valores en el conjunto de cadenas.
+     *
+     * En un ConcurrentSkipListSet contar los elementos cuesta O(n), y si otros hilos lo modifican mientras tanto el resultado puede no corresponder a ningún momento.
+     * @return
+     */
+    public int getCantidadCadenas( )
+    {
+        return this.arbolCadenas.size();
+    }
+
+    /**
+     * Agrega un nuevo valor al conjunto de cadenas.
+     *
+     * Este método podría o no aumentar el tamaño del conjunto, dependiendo de si el número está repetido o no.
+     *
+     * @param cadena La cadena que se va a agregar.
+     */
+    public void agregarCadena( String cadena )
+    {
+    	int franja = this.candado.empezarModificacion();
+    	try {
+    		this.arbolCadenas.add(cadena);
+    	} finally {
+    		this.candado.terminarModificacion(franja);
+    	}
+    }
+
+    /**
+     * Elimina una cadena del conjunto de cadenas
+     * @param cadena La cadena que se va eliminar
+     */
+    public void eliminarCadena( String cadena )
+    {
+    	int franja = this.candado.empezarModificacion();
+    	try {
+    		this.arbolCadenas.remove(cadena);
+    	} finally {
+    		this.candado.terminarModificacion(franja);
+    	}
+    }
+
+    /**
+     * Elimina una cadena del conjunto de cadenas, independientemente de las mayúsculas o minúsculas.
+     *
+     * Si otro hilo elimina la cadena encontrada antes que este, se sigue buscando otra que coincida.
+     * @param cadena La cadena que se va eliminar, sin tener en cuenta las mayúsculas o minúsculas
+     */
+    public void eliminarCadenaSinMayusculasOMinusculas( String cadena )
+    {
+    	int franja = this.candado.empezarModificacion();
+    	try {
+    		NavigableSet<String> conjunto = this.arbolCadenas;
+    		Iterator<String> iterador = conjunto.iterator();
+    		boolean eliminado = false;
+    		while (iterador.hasNext() && eliminado == false) {
+    			String cadenaActual = iterador.next();
+    			if (cadenaActual.equalsIgnoreCase(cadena)) {
+    				eliminado = conjunto.remove(cadenaActual);
+    			}
+    		}
+    	} finally {
+    		this.candado.terminarModificacion(franja);
+    	}
+    }
+
+    /**
+     * Elimina la primera cadena del conjunto de forma atómica.
+     *
+     * A diferencia de SandboxConjuntos, si el conjunto está vacío no hace nada: con varios hilos, revisar antes si está vacío no sirve porque otro hilo puede vaciarlo
+     * entre la revisión y la eliminación.
+     * @return La cadena eliminada, o null si el conjunto estaba vacío
+     */
+    public String eliminarPrimera( )
+    {
+    	int franja = this.candado.empezarModificacion();
+    	try {
+    		return this.arbolCadenas.pollFirst();
+    	} finally {
+    		this.candado.terminarModificacion(franja);
+    	}
+    }
+
+    /**
+     * Indica si el conjunto contiene una cadena, independientemente de las mayúsculas o minúsculas
+     * @param cadena La cadena buscada, sin tener en cuenta las mayúsculas o minúsculas
+     * @return True si alguna cadena del conjunto coincide con la cadena buscada
+     */
+    public boolean contieneSinMayusculasOMinusculas( String cadena )
+    {
+    	for (String actual : this.arbolCadenas) {
+    		if (actual.equalsIgnoreCase(cadena)) {
+    			return true;
+    		}
+    	}
+        return false;
+    }
+
+    /**
+     * Retorna las cadenas del conjunto que están entre dos cadenas, comparando sin tener en cuenta mayúsculas ni minúsculas
+     * @param desde El límite inferior del rango. Las cadenas que coinciden con él hacen parte del resultado.
+     * @param hasta El límite superior del rango. Las cadenas que coinciden con él no hacen parte del resultado.
+     * @return Una lista con las cadenas del rango, ordenadas sin tener en cuenta mayúsculas ni minúsculas
+     */
+    public List<String> getEntreSinMayusculasOMinusculas( String desde, String hasta )
+    {
+    	return new IndiceSinMayusculas(this.arbolCadenas).entre(desde, hasta);
+    }
+
+    /**
+     * Retorna una vista de sólo lectura de las cadenas del conjunto convertidas a mayúsculas, sin modificar el conjunto ni copiarlo. Cada cadena se convierte cuando se
+     * recorre, y la vista refleja los cambios posteriores del conjunto.
+     * 
+     * A diferencia de SandboxConjuntos, la vista no quita repetidos ni reordena: tiene una cadena por cada cadena del conjunto, en el orden del conjunto, así que "a" y
+     * "A" aparecen las dos como "A". Si se necesitan sin repetir y ordenadas, se puede construir new TreeSet<>( vista ). Como el conjunto, la vista se recorre sin
+     * candados y de forma débilmente consistente.
+     * @return Una vista de las cadenas del conjunto en mayúsculas
+     */
+    public Collection<String> getVistaMayusculas( )
+    {
+    	return VistaColeccion.convertida(() -> this.arbolCadenas, String::toUpperCase);
+    }
+
+    /**
+     * Reinicia el conjunto de cadenas con las representaciones como Strings de los objetos contenidos en la lista del parámetro 'objetos'.
+     *
+     * El conjunto nuevo se construye sin bloquear a nadie y se publica de una vez; sólo la publicación espera a que terminen los que están agregando o eliminando.
+     * @param valores Una lista de objetos
+     */
+    public void reiniciarConjuntoCadenas( List<Object> objetos )
+    {
+    	NavigableSet<String> set = new ConcurrentSkipListSet<String>();
+    	Iterator<Object> iterador = objetos.iterator();
+    	while (iterador.hasNext()){
+    		set.add(iterador.next().toString());
+    	}
+    	this.candado.cerrar();
+    	this.arbolCadenas = set;
+    	this.candado.abrir();
+    }
+
+    /**
+     * Modifica el conjunto de cadenas para que todas las cadenas estén en mayúsculas.
+     *
+     * Note que esta operación podría modificar el órden de los elementos dentro del conjunto. Los lectores siguen viendo el conjunto anterior hasta que el nuevo está
+     * completo.
+     */
+    public void volverMayusculas()
+    {
+    	this.candado.cerrar();
+    	try {
+    		NavigableSet<String> set = new ConcurrentSkipListSet<>();
+    		for (String cadena : this.arbolCadenas) {
+    			set.add(cadena.toUpperCase());
+    		}
+    		this.arbolCadenas = set;
+    	} finally {
+    		this.candado.abrir();
+    	}
+    }
+
+    /**
+     * Construye un árbol de cadenas donde todas las cadenas están organizadas de MAYOR a MENOR.
+     */
+    public TreeSet<String> invertirCadenas()
+    {
+    	TreeSet<String> invertido = new TreeSet<>(Comparator.reverseOrder());
+        invertido.addAll(this.arbolCadenas);
+        return invertido;
+    }
+
+    /**
+     * Verifica si todos los elementos en el arreglo de cadenas del parámetro hacen parte del conjunto de cadenas
+     * @param otroArreglo El arreglo de enteros con el que se debe comparar
+     * @return True si todos los elementos del arreglo están dentro del conjunto
+     */
+    public boolean compararElementos( String[] otroArreglo )
+    {
+    	NavigableSet<String> conjunto = this.arbolCadenas;
+    	boolean contieneTodos = true;
+    	int i = 0;
+    	while (i < otroArreglo.length && contieneTodos == true) {
+    		if (!conjunto.contains(otroArreglo[i])) {
+    			contieneTodos = false;
+    		}
+    		i +=1;
+    	}
+        return contieneTodos;
+    }
+
+}
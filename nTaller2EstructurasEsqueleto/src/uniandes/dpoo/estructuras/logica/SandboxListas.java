@@ -1,28 +1,34 @@
 package uniandes.dpoo.estructuras.logica;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
 
 /**
  * Esta clase tiene un conjunto de métodos para practicar operaciones sobre listas de enteros y de cadenas.
  *
  * Todos los métodos deben operar sobre los atributos listaEnteros y listaCadenas.
  * 
- * No pueden agregarse nuevos atributos.
+ * No pueden agregarse nuevos atributos, salvo la estrategia con la que se crea la lista de cadenas y la forma en la que se guarda la lista de enteros.
  * 
  * Implemente los métodos usando operaciones sobre listas (ie., no haga cosas como construir arreglos para evitar la manipulación de listas).
  * 
- * Intente usar varias formas de recorrer las listas (while, for, for each, iteradores ... )
+ * Intente usar varias formas de recorrer las listas (while, for, for each, iteradores ... ). Como la lista de cadenas puede ser un LinkedList, no la recorra con get(i):
+ * cada acceso por posición costaría O(n).
  */
-public class SandboxListas
+public class SandboxListas implements AutoCloseable
 {
     /**
      * Una lista de enteros para realizar varias de las siguientes operaciones.
+     * 
+     * Los enteros se guardan como valores primitivos para no tener que encapsular cada uno en un Integer. Según el almacenamiento, quedan en un arreglo contiguo, en una
+     * lista de bloques o fuera del heap.
      */
-    private List<Integer> listaEnteros;
+    private SecuenciaEnteros listaEnteros;
 
     /**
      * Una lista de cadenas para realizar varias de las siguientes operaciones
@@ -30,40 +36,93 @@ public class SandboxListas
     private List<String> listaCadenas;
 
     /**
-     * Crea una nueva instancia de la clase con las dos listas inicializadas pero vacías
+     * La implementación de List que se usa para la lista de cadenas, incluso cuando se reinicia
+     */
+    private EstrategiaLista estrategiaCadenas;
+
+    /**
+     * La forma en la que se guarda la lista de enteros, incluso cuando se reinicia
+     */
+    private AlmacenamientoEnteros almacenamientoEnteros;
+
+    /**
+     * El generador que usa generarEnteros. Empieza con una semilla al azar; setSemilla lo reemplaza por uno reproducible.
+     */
+    private GeneradorEnteros generador;
+
+    /**
+     * Crea una nueva instancia de la clase con las dos listas inicializadas pero vacías. La lista de cadenas es un LinkedList.
      */
     public SandboxListas( )
     {
-        listaEnteros = new ArrayList<Integer>( );
-        listaCadenas = new LinkedList<String>( );
+        this( EstrategiaLista.ENLAZADA );
+    }
+
+    /**
+     * Crea una nueva instancia de la clase con las dos listas inicializadas pero vacías. La lista de enteros es un ArregloDinamicoEnteros.
+     * @param estrategiaCadenas La implementación de List que se usará para la lista de cadenas
+     */
+    public SandboxListas( EstrategiaLista estrategiaCadenas )
+    {
+        this( estrategiaCadenas, AlmacenamientoEnteros.ARREGLO );
+    }
+
+    /**
+     * Crea una nueva instancia de la clase con las dos listas inicializadas pero vacías
+     * @param estrategiaCadenas La implementación de List que se usará para la lista de cadenas
+     * @param almacenamientoEnteros La forma en la que se guardará la lista de enteros
+     */
+    public SandboxListas( EstrategiaLista estrategiaCadenas, AlmacenamientoEnteros almacenamientoEnteros )
+    {
+        this.estrategiaCadenas = estrategiaCadenas;
+        this.almacenamientoEnteros = almacenamientoEnteros;
+        listaEnteros = almacenamientoEnteros.crear( 0 );
+        listaCadenas = estrategiaCadenas.crear( );
+        generador = new GeneradorEnteros( );
+    }
+
+    /**
+     * Libera la memoria que la lista de enteros tenga reservada fuera del heap (ver AlmacenamientoEnteros.FUERA_DEL_HEAP). Después de cerrarlo, el sandbox no debe usarse.
+     */
+    @Override
+    public void close( )
+    {
+        this.listaEnteros.close();
+    }
+
+    /**
+     * Reemplaza la lista de enteros y cierra la anterior, para que si estaba fuera del heap su memoria se libere
+     * @param nuevaLista La nueva lista de enteros
+     */
+    private void reemplazarListaEnteros( SecuenciaEnteros nuevaLista )
+    {
+        SecuenciaEnteros anterior = this.listaEnteros;
+        this.listaEnteros = nuevaLista;
+        anterior.close();
     }
 
     /**
      * Retorna una copia de la lista de enteros, es decir una nueva lista del mismo tamaño que contiene copias de los valores de la lista original
+     * 
+     * La copia encapsula cada entero en un Integer. Para consultar la lista sin copiarla, use getVistaEnteros o getInstantaneaEnteros.
      * @return Una copia de la lista de enteros
      */
     public List<Integer> getCopiaEnteros( )
     {
-    	ArrayList<Integer> nuevaLista = new ArrayList<Integer>();
-    	Iterator<Integer> iterador = this.listaEnteros.iterator();
-    	while (iterador.hasNext()) {
-    		nuevaLista.add(iterador.next());
-    	}
+    	ArrayList<Integer> nuevaLista = new ArrayList<Integer>(this.listaEnteros.tamanio());
+    	this.listaEnteros.forEach(nuevaLista::add);
         return nuevaLista;
     }
 
     /**
      * Retorna una copia de la lista de cadenas, es decir una nueva lista del mismo tamaño que contiene copias de los valores de la lista original
+     * 
+     * La copia se hace de una vez con toArray. Para consultar la lista sin copiarla, use getVistaCadenas.
      * @return Una copia de la lista de cadenas
      */
     public List<String> getCopiaCadenas( )
     {
-    	ArrayList<String> nuevaLista = new ArrayList<String>();
-    	Iterator<String> iterador = this.listaCadenas.iterator();
-    	while (iterador.hasNext()) {
-    		nuevaLista.add(iterador.next());
-    	}
-        return nuevaLista;
+    	return new ArrayList<String>(this.listaCadenas);
     }
 
     /**
@@ -72,11 +131,66 @@ public class SandboxListas
      */
     public int[] getEnterosComoArreglo( )
     {
-    	int[] arreglo = new int[this.listaEnteros.size()];
-    	for (int i = 0; i < arreglo.length; i++) {
-    		arreglo[i] = this.listaEnteros.get(i);
-    	}
-        return arreglo;
+        return this.listaEnteros.copia();
+    }
+
+    /**
+     * Retorna una vista de sólo lectura de la lista de enteros, sin copiarla ni encapsular los enteros en objetos Integer.
+     * 
+     * La vista consulta la lista del sandbox en cada operación, así que refleja los cambios posteriores del sandbox. Sus operaciones que modifican lanzan
+     * UnsupportedOperationException. Para recorrer valores fijos use getInstantaneaEnteros.
+     * @return Una vista de la lista de enteros
+     */
+    public SecuenciaEnteros getVistaEnteros( )
+    {
+    	return new SecuenciaEnterosInmodificable(() -> this.listaEnteros);
+    }
+
+    /**
+     * Retorna una instantánea de la lista de enteros: una secuencia de sólo lectura con los valores que tiene la lista ahora, que no cambia aunque el sandbox cambie.
+     * 
+     * La instantánea no copia la lista: el sandbox se la cede y copia sus enteros la primera vez que se modifica después (ver SecuenciaEnterosCompartida). Se puede
+     * leer desde otro hilo mientras el sandbox se usa, porque sus consultas no comparten estado con las del sandbox. Para usar get desde varios hilos a la vez sobre
+     * la misma instantánea, cada hilo puede pedir su propio lectorIndependiente.
+     * @return Una secuencia de sólo lectura con los valores actuales
+     */
+    public SecuenciaEnteros getInstantaneaEnteros( )
+    {
+    	SecuenciaEnterosCompartida compartida = SecuenciaEnterosCompartida.compartir(this.listaEnteros, this.almacenamientoEnteros);
+    	this.listaEnteros = compartida;
+    	return compartida.instantanea();
+    }
+
+    /**
+     * Retorna una vista de sólo lectura de la lista de cadenas, sin copiarla. Refleja los cambios posteriores del sandbox, y sus operaciones que modifican lanzan
+     * UnsupportedOperationException.
+     * 
+     * La vista se recorre con los iteradores de la lista, así que recorrerla cuesta O(n) aunque la lista sea un LinkedList. get(i) cuesta lo mismo que en la lista.
+     * @return Una vista de la lista de cadenas
+     */
+    public List<String> getVistaCadenas( )
+    {
+    	return new AbstractList<String>() {
+    		@Override
+    		public String get(int posicion) {
+    			return listaCadenas.get(posicion);
+    		}
+
+    		@Override
+    		public int size() {
+    			return listaCadenas.size();
+    		}
+
+    		@Override
+    		public Iterator<String> iterator() {
+    			return Collections.unmodifiableList(listaCadenas).iterator();
+    		}
+
+    		@Override
+    		public ListIterator<String> listIterator(int posicion) {
+    			return Collections.unmodifiableList(listaCadenas).listIterator(posicion);
+    		}
+    	};
     }
 
     /**
@@ -85,7 +199,7 @@ public class SandboxListas
      */
     public int getCantidadEnteros( )
     {
-        return this.listaEnteros.size();
+        return this.listaEnteros.tamanio();
     }
 
     /**
@@ -104,7 +218,7 @@ public class SandboxListas
      */
     public void agregarEntero( int entero )
     {
-    	this.listaEnteros.add(entero);
+    	this.listaEnteros.agregar(entero);
     }
 
     /**
@@ -117,13 +231,45 @@ public class SandboxListas
     	this.listaCadenas.add(cadena);
     }
 
+    /**
+     * Agrega varios valores al final de la lista de enteros, en orden. La lista crece a lo sumo una vez y los valores se copian en bloque.
+     * 
+     * @param enteros Los valores que se van a agregar.
+     */
+    public void agregarEnteros( int[] enteros )
+    {
+    	this.listaEnteros.agregarTodos(enteros);
+    }
+
+    /**
+     * Agrega varias cadenas al final de la lista de cadenas, en el orden de la colección.
+     * 
+     * Se usa addAll, así que la lista puede reservar el espacio una sola vez (ArrayList lo hace).
+     * @param cadenas Las cadenas que se van a agregar.
+     */
+    public void agregarCadenas( Collection<String> cadenas )
+    {
+    	this.listaCadenas.addAll(cadenas);
+    }
+
     /**
      * Elimina todas las apariciones de un determinado valor dentro de la lista de enteros
      * @param valor El valor que se va eliminar
      */
     public void eliminarEntero( int valor )
     {
-    	this.listaEnteros.removeIf(n -> n == valor);
+    	this.listaEnteros.eliminarTodos(valor);
+    }
+
+    /**
+     * Elimina todas las apariciones de varios valores dentro de la lista de enteros.
+     * 
+     * La lista se compacta en un solo recorrido, en lugar de recorrerla una vez por cada valor (ver SecuenciaEnteros.eliminarValores).
+     * @param valores Los valores que se van a eliminar. Pueden estar repetidos.
+     */
+    public void eliminarEnteros( int... valores )
+    {
+    	this.listaEnteros.eliminarValores(valores);
     }
 
     /**
@@ -147,10 +293,28 @@ public class SandboxListas
     	if (posicion < 0) {
     		posicion = 0;
     	}
-    	else if (posicion >= this.listaEnteros.size()){
-    		posicion = this.listaEnteros.size();
+    	else if (posicion >= this.listaEnteros.tamanio()){
+    		posicion = this.listaEnteros.tamanio();
+    	}
+    	this.listaEnteros.insertar(posicion, entero);
+    }
+
+    /**
+     * Inserta varios enteros en la lista de enteros, desplazando los elementos siguientes una sola vez
+     * 
+     * @param enteros Los nuevos valores, en el orden en que deben quedar
+     * @param posicion La posición donde debe quedar el primero de los nuevos valores. Si la posición es menor a 0, se insertan los valores al comienzo. Si la posición es
+     *        mayor que el tamaño de la lista, se insertan al final.
+     */
+    public void insertarEnteros( int[] enteros, int posicion )
+    {
+    	if (posicion < 0) {
+    		posicion = 0;
+    	}
+    	else if (posicion >= this.listaEnteros.tamanio()){
+    		posicion = this.listaEnteros.tamanio();
     	}
-    	this.listaEnteros.add(posicion, entero);
+    	this.listaEnteros.insertarTodos(posicion, enteros);
     }
 
     /**
@@ -160,8 +324,8 @@ public class SandboxListas
      */
     public void eliminarEnteroPorPosicion( int posicion )
     {
-    	if (posicion >= 0 && posicion < this.listaEnteros.size()) {
-    		this.listaEnteros.remove(posicion);
+    	if (posicion >= 0 && posicion < this.listaEnteros.tamanio()) {
+    		this.listaEnteros.eliminarPosicion(posicion);
     	}     		
     }
 
@@ -173,11 +337,11 @@ public class SandboxListas
      */
     public void reiniciarArregloEnteros( double[] valores )
     {
-    	ArrayList<Integer> nuevaLista = new ArrayList<Integer>();
+    	SecuenciaEnteros nuevaLista = this.almacenamientoEnteros.crear(valores.length);
     	for (int i = 0; i < valores.length; i++) {
-    		nuevaLista.add((int)valores[i]);
+    		nuevaLista.agregar((int)valores[i]);
     	}
-    	this.listaEnteros = nuevaLista;
+    	reemplazarListaEnteros(nuevaLista);
     }
 
     /**
@@ -188,9 +352,9 @@ public class SandboxListas
      */
     public void reiniciarArregloCadenas( List<Object> objetos )
     {
-    	ArrayList<String> nuevaLista = new ArrayList<String>();
-    	for (int i = 0; i < objetos.size(); i++) {
-    		nuevaLista.add(objetos.get(i).toString());
+    	List<String> nuevaLista = this.estrategiaCadenas.crear();
+    	for (Object objeto: objetos) {
+    		nuevaLista.add(objeto.toString());
     	}
     	this.listaCadenas = nuevaLista;
     }
@@ -202,11 +366,7 @@ public class SandboxListas
      */
     public void volverPositivos( )
     {
-    	for (int i = 0; i < this.listaEnteros.size(); i++) {
-    		if (this.listaEnteros.get(i) < 0) {
-    			this.listaEnteros.set(i, this.listaEnteros.get(i) * -1);
-    		}
-    	}
+    	this.listaEnteros.reemplazarTodos(n -> n < 0 ? n * -1 : n);
     }
 
     /**
@@ -214,7 +374,8 @@ public class SandboxListas
      */
     public void organizarEnteros( )
     {
-    	Collections.sort(this.listaEnteros, Collections.reverseOrder());
+    	this.listaEnteros.ordenar();
+    	this.listaEnteros.invertir();
     }
 
     /**
@@ -232,56 +393,52 @@ public class SandboxListas
      */
     public int contarApariciones( int valor )
     {
-    	int contador = 0;
-    	for (int i = 0; i < this.listaEnteros.size(); i++) {
-    		if (this.listaEnteros.get(i) == valor) {
-    			contador += 1;
-    		}
-    	}
-        return contador;
+        return this.listaEnteros.contar(valor);
     }
 
     /**
      * Cuenta cuántas veces aparece la cadena recibida por parámetro en la lista de cadenas.
      * 
      * La búsqueda no debe diferenciar entre mayúsculas y minúsculas.
+     * 
+     * Si la lista es una ListaCodificada, sólo se comparan las cadenas distintas de su tabla y después se cuentan los códigos que coinciden.
      * @param cadena La cadena buscada
      * @return La cantidad de veces que aparece la cadena
      */
     public int contarApariciones( String cadena )
     {
+    	if (this.listaCadenas instanceof ListaCodificada) {
+    		return ((ListaCodificada)this.listaCadenas).contarSinMayusculas(cadena);
+    	}
     	int contador = 0;
-    	for (int i = 0; i < this.listaCadenas.size(); i++) {
-    		if (this.listaCadenas.get(i).equalsIgnoreCase(cadena)) {
+    	for (String actual: this.listaCadenas) {
+    		if (actual.equalsIgnoreCase(cadena)) {
     			contador += 1;
     		}
     	}
         return contador;
     }
 
+    /**
+     * Calcula un histograma de los valores de la lista de enteros: para cada valor distinto, la cantidad de veces que aparece en la lista.
+     * 
+     * El histograma se construye en un solo recorrido sobre una tabla de enteros primitivos.
+     * @return El histograma de valores
+     */
+    public IntIntHistogram histograma( )
+    {
+    	IntIntHistogram histograma = new IntIntHistogram();
+    	this.listaEnteros.forEach(histograma::incrementar);
+        return histograma;
+    }
+
     /**
      * Cuenta cuántos valores dentro de la lista de enteros están repetidos.
      * @return La cantidad de enteros diferentes que aparecen más de una vez
      */
     public int contarEnterosRepetidos( )
     {
-    	int repetidos = 0;
-    	ArrayList<Integer> contados = new ArrayList<Integer>();
-    	for (int i = 0; i < this.listaEnteros.size(); i += 1) {
-    		if (!contados.contains(this.listaEnteros.get(i))) {
-    			int contador = 0;
-    			for (int j = i; j < this.listaEnteros.size(); j++) {
-    				if (this.listaEnteros.get(j) == this.listaEnteros.get(i)) {
-    					contador += 1;
-    				}
-    			}
-    			if (contador > 1) {
-    				repetidos += 1;
-    			}
-    			contados.add(this.listaEnteros.get(i));
-    		}
-    	}
-        return repetidos;
+        return histograma().contarRepetidos();
     }
 
     /**
@@ -291,27 +448,13 @@ public class SandboxListas
      */
     public boolean compararArregloEnteros( int[] otroArreglo )
     {
-    	boolean iguales = false;
-    	if (this.listaEnteros.size() == otroArreglo.length){
-    		int contador = 0;
-    		int i = 0;
-    		while (i < this.listaEnteros.size() && contador == 0) {
-    			if (this.listaEnteros.get(i) != otroArreglo[i]) {
-    				contador = 1;
-    			}
-    			i += 1;
-    		}
-    		if (contador == 0) {
-    			iguales = true;
-    		}
-    	}
-        return iguales;
+        return this.listaEnteros.mismosValores(otroArreglo);
     }
 
     /**
      * Cambia los elementos de la lista de enteros por una nueva serie de valores generada de forma aleatoria.
      * 
-     * Para generar los valores se debe partir de una distribución uniforme usando Math.random().
+     * Los valores siguen una distribución uniforme. Se generan con el generador del sandbox (ver setSemilla), no con Math.random().
      * 
      * Los números en la lista deben quedar entre el valor mínimo y el máximo.
      * @param cantidad La cantidad de elementos que debe haber en la lista
@@ -320,11 +463,32 @@ public class SandboxListas
      */
     public void generarEnteros( int cantidad, int minimo, int maximo )
     {
-    	ArrayList<Integer> nuevaArrayList = new ArrayList<Integer>();
-    	for (int i = 0; i < cantidad; i++) {
-    		nuevaArrayList.add((int)(Math.random() * (maximo - minimo + 1)) + minimo);
-    	}
-    	this.listaEnteros = nuevaArrayList;
+    	generarEnteros(cantidad, minimo, maximo, DistribucionEnteros.UNIFORME);
+    }
+
+    /**
+     * Cambia los elementos de la lista de enteros por una nueva serie de valores aleatorios con una distribución dada, entre el valor mínimo y el máximo.
+     * 
+     * Las listas grandes (desde SandboxArreglos.UMBRAL_PARALELO_POR_DEFECTO enteros) se llenan por porciones en varios hilos. El resultado es el mismo en cualquier caso
+     * (ver GeneradorEnteros). Si el almacenamiento no es ARREGLO, los valores se generan por lotes directamente en la nueva lista.
+     * @param cantidad La cantidad de elementos que debe haber en la lista
+     * @param minimo El valor mínimo para los números generados
+     * @param maximo El valor máximo para los números generados
+     * @param distribucion La distribución de los valores
+     */
+    public void generarEnteros( int cantidad, int minimo, int maximo, DistribucionEnteros distribucion )
+    {
+    	SecuenciaEnteros valores = this.generador.generar(this.almacenamientoEnteros, cantidad, minimo, maximo, distribucion, cantidad >= SandboxArreglos.UMBRAL_PARALELO_POR_DEFECTO);
+    	reemplazarListaEnteros(valores);
+    }
+
+    /**
+     * Reemplaza el generador de enteros aleatorios por uno con una semilla fija, para que generarEnteros produzca siempre los mismos valores a partir de este momento
+     * @param semilla La semilla
+     */
+    public void setSemilla( long semilla )
+    {
+    	this.generador = new GeneradorEnteros(semilla);
     }
 
 }
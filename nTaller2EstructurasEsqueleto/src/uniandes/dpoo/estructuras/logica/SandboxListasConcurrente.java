@@ -0,0 +1,305 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Esta clase tiene los mismos métodos de SandboxListas, pero varios hilos pueden usar la misma instancia al mismo tiempo.
+ *
+ * Las listas se guardan en bloques (ver SecuenciaConcurrente) y no hay un candado global:
+ * <ul>
+ * <li>Los métodos que sólo consultan (getCopia..., getCantidad..., contarApariciones, histograma, compararArregloEnteros) no toman ningún candado y trabajan sobre la
+ * última versión publicada de la lista, así que nunca lanzan ConcurrentModificationException.</li>
+ * <li>agregarEntero y agregarCadena pueden ejecutarse desde varios hilos a la vez. Los valores que agrega un mismo hilo quedan en el orden en que los agregó.</li>
+ * <li>Los demás métodos modifican la estructura de la lista: esperan a que terminen los que están agregando y sólo copian los bloques que cambian.</li>
+ * </ul>
+ * Cada método es atómico por separado, pero una secuencia de llamados no lo es: por ejemplo, entre getCantidadEnteros y insertarEntero otro hilo puede agregar valores.
+ */
+public class SandboxListasConcurrente
+{
+    /**
+     * Una lista de enteros para realizar varias de las siguientes operaciones.
+     */
+    private final EnterosConcurrentes listaEnteros;
+
+    /**
+     * Una lista de cadenas para realizar varias de las siguientes operaciones
+     */
+    private final CadenasConcurrentes listaCadenas;
+
+    /**
+     * El generador que usa generarEnteros. Es volatile porque setSemilla lo puede reemplazar mientras otro hilo genera; GeneradorEnteros se puede usar desde varios
+     * hilos a la vez.
+     */
+    private volatile GeneradorEnteros generador;
+
+    /**
+     * Crea una nueva instancia de la clase con las dos listas inicializadas pero vacías
+     */
+    public SandboxListasConcurrente( )
+    {
+        listaEnteros = new EnterosConcurrentes( );
+        listaCadenas = new CadenasConcurrentes( );
+        generador = new GeneradorEnteros( );
+    }
+
+    /**
+     * Retorna una copia de la lista de enteros, es decir una nueva lista del mismo tamaño que contiene copias de los valores de la lista original
+     * @return Una copia de la lista de enteros
+     */
+    public List<Integer> getCopiaEnteros( )
+    {
+    	int[] valores = this.listaEnteros.copia();
+    	List<Integer> copia = new ArrayList<Integer>(valores.length);
+    	for (int valor: valores) {
+    		copia.add(valor);
+    	}
+        return copia;
+    }
+
+    /**
+     * Retorna una copia de la lista de cadenas, es decir una nueva lista del mismo tamaño que contiene copias de los valores de la lista original
+     * @return Una copia de la lista de cadenas
+     */
+    public List<String> getCopiaCadenas( )
+    {
+        return new ArrayList<String>(Arrays.asList(this.listaCadenas.copia()));
+    }
+
+    /**
+     * Retorna un arreglo con los valores de la lista de enteros, es decir un arreglo del mismo tamaño que contiene copias de los valores de la lista
+     * @return Una arreglo de enteros
+     */
+    public int[] getEnterosComoArreglo( )
+    {
+        return this.listaEnteros.copia();
+    }
+
+    /**
+     * Retorna la cantidad de valores en la lista de enteros
+     * @return
+     */
+    public int getCantidadEnteros( )
+    {
+        return this.listaEnteros.tamanio();
+    }
+
+    /**
+     * Retorna la cantidad de valores en la lista de cadenas
+     * @return
+     */
+    public int getCantidadCadenas( )
+    {
+        return this.listaCadenas.tamanio();
+    }
+
+    /**
+     * Agrega un nuevo valor al final de la lista de enteros. Es decir que este método siempre debería aumentar en 1 el tamaño de la lista.
+     *
+     * @param entero El valor que se va a agregar.
+     */
+    public void agregarEntero( int entero )
+    {
+    	this.listaEnteros.agregar(entero);
+    }
+
+    /**
+     * Agrega un nuevo valor al final de la lista de cadenas. Es decir que este método siempre debería aumentar en 1 la capacidad de la lista.
+     *
+     * @param cadena La cadena que se va a agregar.
+     */
+    public void agregarCadena( String cadena )
+    {
+    	this.listaCadenas.agregar(cadena);
+    }
+
+    /**
+     * Elimina todas las apariciones de un determinado valor dentro de la lista de enteros
+     * @param valor El valor que se va eliminar
+     */
+    public void eliminarEntero( int valor )
+    {
+    	this.listaEnteros.eliminarTodos(valor);
+    }
+
+    /**
+     * Elimina todas las apariciones de un determinado valor dentro de la lista de cadenas
+     * @param cadena La cadena que se va eliminar
+     */
+    public void eliminarCadena( String cadena )
+    {
+    	this.listaCadenas.eliminarTodas(cadena);
+    }
+
+    /**
+     * Inserta un nuevo entero en la lista de enteros
+     *
+     * @param entero El nuevo valor que debe agregarse
+     * @param posicion La posición donde debe quedar el nuevo valor en la lista aumentada. Si la posición es menor a 0, se inserta el valor en la primera posición. Si la
+     *        posición es mayor que el tamaño de la lista, se inserta el valor en la última posición.
+     */
+    public void insertarEntero( int entero, int posicion )
+    {
+    	this.listaEnteros.insertar(posicion, entero);
+    }
+
+    /**
+     * Elimina un valor de la lista de enteros dada su posición.
+     * @param posicion La posición donde está el elemento que debe ser eliminado. Si el parámetro posicion no corresponde a ninguna posición de la lista de enteros, el método
+     *        no debe hacer nada.
+     */
+    public void eliminarEnteroPorPosicion( int posicion )
+    {
+    	this.listaEnteros.eliminarPosicion(posicion);
+    }
+
+    /**
+     * Reinicia la lista de enteros con los valores contenidos en el parámetro 'valores', pero truncados.
+     *
+     * Es decir que si el valor fuera 3.67, en la nueva lista debería quedar el entero 3.
+     * @param valores Un arreglo de valores decimales.
+     */
+    public void reiniciarArregloEnteros( double[] valores )
+    {
+    	int[] enteros = new int[valores.length];
+    	for (int i = 0; i < valores.length; i++) {
+    		enteros[i] = (int)valores[i];
+    	}
+    	this.listaEnteros.reiniciar(enteros);
+    }
+
+    /**
+     * Reinicia la lista de cadenas con las representaciones como Strings de los objetos contenidos en la lista del parámetro 'objetos'.
+     *
+     * Use el método toString para convertir los objetos a cadenas.
+     * @param valores Una lista de objetos
+     */
+    public void reiniciarArregloCadenas( List<Object> objetos )
+    {
+    	String[] cadenas = new String[objetos.size()];
+    	Iterator<Object> iterador = objetos.iterator();
+    	for (int i = 0; i < cadenas.length; i++) {
+    		cadenas[i] = iterador.next().toString();
+    	}
+    	this.listaCadenas.reiniciar(cadenas);
+    }
+
+    /**
+     * Modifica la lista de enteros para que todos los valores sean positivos.
+     *
+     * Es decir que si en una posición había un valor negativo, después de ejecutar el método debe quedar el mismo valor muliplicado por -1.
+     */
+    public void volverPositivos( )
+    {
+    	this.listaEnteros.volverPositivos();
+    }
+
+    /**
+     * Modifica la lista de enteros para que todos los valores queden organizados de MAYOR a MENOR.
+     */
+    public void organizarEnteros( )
+    {
+    	this.listaEnteros.ordenarDescendente();
+    }
+
+    /**
+     * Modifica la lista de cadenas para que todos los valores queden organizados lexicográficamente.
+     */
+    public void organizarCadenas( )
+    {
+    	this.listaCadenas.ordenar();
+    }
+
+    /**
+     * Cuenta cuántas veces aparece el valor recibido por parámetro en la lista de enteros
+     * @param valor El valor buscado
+     * @return La cantidad de veces que aparece el valor
+     */
+    public int contarApariciones( int valor )
+    {
+        return this.listaEnteros.contar(valor);
+    }
+
+    /**
+     * Cuenta cuántas veces aparece la cadena recibida por parámetro en la lista de cadenas.
+     *
+     * La búsqueda no debe diferenciar entre mayúsculas y minúsculas.
+     * @param cadena La cadena buscada
+     * @return La cantidad de veces que aparece la cadena
+     */
+    public int contarApariciones( String cadena )
+    {
+        return this.listaCadenas.contarSinMayusculas(cadena);
+    }
+
+    /**
+     * Calcula un histograma de los valores de la lista de enteros: para cada valor distinto, la cantidad de veces que aparece en la lista.
+     * @return El histograma de valores
+     */
+    public IntIntHistogram histograma( )
+    {
+        return this.listaEnteros.histograma();
+    }
+
+    /**
+     * Cuenta cuántos valores dentro de la lista de enteros están repetidos.
+     * @return La cantidad de enteros diferentes que aparecen más de una vez
+     */
+    public int contarEnterosRepetidos( )
+    {
+        return histograma().contarRepetidos();
+    }
+
+    /**
+     * Compara la lista de enteros con un arreglo de enteros y verifica si contienen los mismos elementos exactamente en el mismo orden.
+     * @param otroArreglo El arreglo de enteros con el que se debe comparar
+     * @return True si los elementos son los mismos y en el mismo orden y false de lo contrario
+     */
+    public boolean compararArregloEnteros( int[] otroArreglo )
+    {
+        return this.listaEnteros.mismosValores(otroArreglo);
+    }
+
+    /**
+     * Cambia los elementos de la lista de enteros por una nueva serie de valores generada de forma aleatoria.
+     *
+     * Los valores siguen una distribución uniforme. Se generan con el generador del sandbox (ver setSemilla), no con Math.random().
+     *
+     * Los números en la lista deben quedar entre el valor mínimo y el máximo.
+     * @param cantidad La cantidad de elementos que debe haber en la lista
+     * @param minimo El valor mínimo para los números generados
+     * @param maximo El valor máximo para los números generados
+     */
+    public void generarEnteros( int cantidad, int minimo, int maximo )
+    {
+    	generarEnteros(cantidad, minimo, maximo, DistribucionEnteros.UNIFORME);
+    }
+
+    /**
+     * Cambia los elementos de la lista de enteros por una nueva serie de valores aleatorios con una distribución dada, entre el valor mínimo y el máximo.
+     *
+     * Los valores se generan antes de tomar el candado de la lista, y las listas grandes (desde SandboxArreglos.UMBRAL_PARALELO_POR_DEFECTO enteros) se llenan por
+     * porciones en varios hilos. El resultado es el mismo en cualquier caso (ver GeneradorEnteros).
+     * @param cantidad La cantidad de elementos que debe haber en la lista
+     * @param minimo El valor mínimo para los números generados
+     * @param maximo El valor máximo para los números generados
+     * @param distribucion La distribución de los valores
+     */
+    public void generarEnteros( int cantidad, int minimo, int maximo, DistribucionEnteros distribucion )
+    {
+    	int[] valores = this.generador.generar(cantidad, minimo, maximo, distribucion, cantidad >= SandboxArreglos.UMBRAL_PARALELO_POR_DEFECTO);
+    	this.listaEnteros.reiniciar(valores);
+    }
+
+    /**
+     * Reemplaza el generador de enteros aleatorios por uno con una semilla fija, para que generarEnteros produzca siempre los mismos valores a partir de este momento
+     * @param semilla La semilla
+     */
+    public void setSemilla( long semilla )
+    {
+    	this.generador = new GeneradorEnteros(semilla);
+    }
+
+}
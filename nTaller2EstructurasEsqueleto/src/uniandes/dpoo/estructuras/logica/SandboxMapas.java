@@ -4,11 +4,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 
 /**
  * Esta clase tiene un conjunto de métodos para practicar operaciones sobre mapas.
@@ -19,7 +19,10 @@ import java.util.Set;
  * 
  * El objetivo de usar el tipo Map es que sólo puedan usarse métodos de esa interfaz y no métodos adicionales provistos por la implementación concreta (HashMap).
  * 
- * No pueden agregarse nuevos atributos.
+ * No pueden agregarse nuevos atributos, salvo índices auxiliares que se mantienen sincronizados con mapaCadenas.
+ * 
+ * Las llaves se guardan como LlaveInvertida, que lee la cadena original al revés en lugar de construir la cadena invertida. Sólo los métodos que retornan llaves las
+ * construyen como String.
  */
 public class SandboxMapas
 {
@@ -30,14 +33,36 @@ public class SandboxMapas
      * 
      * Las llaves corresponden a invertir la cadena que aparece asociada a cada llave.
      */
-    private Map<String, String> mapaCadenas;
+    private Map<LlaveInvertida, String> mapaCadenas;
+
+    /**
+     * Un índice inverso de mapaCadenas: para cada valor, las llaves asociadas a él. Lo actualizan todos los métodos que modifican el mapa.
+     */
+    private IndiceValores indiceValores;
+
+    /**
+     * Indica si el sandbox está en modo ordenado. En el modo ordenado, mapaCadenas es un TreeMap y el índice de valores está ordenado lexicográficamente.
+     */
+    private boolean ordenado;
 
     /**
      * Crea una nueva instancia de la clase con las dos listas inicializadas pero vacías
      */
     public SandboxMapas( )
     {
-        mapaCadenas = new HashMap<String, String>( );
+        this( false );
+    }
+
+    /**
+     * Crea una nueva instancia de la clase con el mapa inicializado pero vacío
+     * @param ordenado Indica si se deben mantener ordenadas las llaves y los valores del mapa a medida que se modifica. En el modo ordenado getPrimera y getUltima cuestan
+     *        O(log n) y los métodos que retornan listas ordenadas no tienen que ordenar, pero agregar y eliminar cuestan O(log n) en lugar de O(1).
+     */
+    public SandboxMapas( boolean ordenado )
+    {
+        this.ordenado = ordenado;
+        mapaCadenas = nuevoMapa( );
+        indiceValores = new IndiceValores( mapaCadenas, ordenado );
     }
 
     /**
@@ -46,6 +71,9 @@ public class SandboxMapas
      */
     public List<String> getValoresComoLista( )
     {
+    	if (this.ordenado) {
+    		return this.indiceValores.valoresComoLista();
+    	}
     	List<String> lista = new ArrayList<String>(this.mapaCadenas.values());
     	Collections.sort(lista);
         return lista;
@@ -57,7 +85,16 @@ public class SandboxMapas
      */
     public List<String> getLlavesComoListaInvertida( )
     {
-    	List<String> lista = new ArrayList<String>(this.mapaCadenas.keySet());
+    	List<String> lista = new ArrayList<String>(this.mapaCadenas.size());
+    	if (this.ordenado) {
+    		for (LlaveInvertida llave: llavesOrdenadas().descendingKeySet()) {
+    			lista.add(llave.toString());
+    		}
+    		return lista;
+    	}
+    	for (LlaveInvertida llave: this.mapaCadenas.keySet()) {
+    		lista.add(llave.toString());
+    	}
     	Collections.sort(lista, Collections.reverseOrder());
         return lista;
     }
@@ -73,7 +110,10 @@ public class SandboxMapas
     	if (this.mapaCadenas.isEmpty()) {
             return null;
         }
-        return Collections.min(this.mapaCadenas.keySet());
+    	if (this.ordenado) {
+    		return llavesOrdenadas().firstKey().toString();
+    	}
+        return Collections.min(this.mapaCadenas.keySet()).toString();
     }
 
     /**
@@ -87,7 +127,10 @@ public class SandboxMapas
     	if (this.mapaCadenas.isEmpty()) {
             return null;
         }
-        return Collections.max(this.mapaCadenas.keySet());
+    	if (this.ordenado) {
+    		return llavesOrdenadas().lastKey().toString();
+    	}
+        return Collections.max(this.mapaCadenas.keySet()).toString();
     }
 
     /**
@@ -99,20 +142,41 @@ public class SandboxMapas
     public Collection<String> getLlaves( )
     {
     	List<String> lista = new ArrayList<String>();
-    	for (String llave: this.mapaCadenas.keySet()) {
-    		lista.add(llave.toUpperCase());
+    	for (LlaveInvertida llave: this.mapaCadenas.keySet()) {
+    		lista.add(llave.toString().toUpperCase());
     	}
         return lista;
     }
 
+    /**
+     * Retorna una vista de sólo lectura de las cadenas del mapa (los valores), sin copiarlas ni ordenarlas. La vista consulta el mapa del sandbox en cada operación, así
+     * que refleja sus cambios posteriores.
+     * @return Una vista de los valores del mapa, en el orden del mapa
+     */
+    public Collection<String> getVistaValores( )
+    {
+    	return VistaColeccion.de(() -> this.mapaCadenas.values());
+    }
+
+    /**
+     * Retorna una vista de sólo lectura de las llaves del mapa convertidas a mayúsculas, con los mismos elementos de getLlaves pero sin construir la colección. Cada
+     * llave se convierte cuando se recorre, y la vista refleja los cambios posteriores del mapa.
+     * @return Una vista de las llaves del mapa en mayúsculas
+     */
+    public Collection<String> getVistaLlaves( )
+    {
+    	return VistaColeccion.convertida(() -> this.mapaCadenas.keySet(), llave -> llave.toString().toUpperCase());
+    }
+
     /**
      * Retorna la cantidad de *valores* diferentes en el mapa
+     * 
+     * La cantidad se toma del índice de valores, así que no hay que recorrer el mapa.
      * @return
      */
     public int getCantidadCadenasDiferentes( )
     {
-    	Set<String> conjunto = new HashSet<>(this.mapaCadenas.values());
-        return conjunto.size();
+        return this.indiceValores.cantidadValores();
     }
 
     /**
@@ -124,8 +188,25 @@ public class SandboxMapas
      */
     public void agregarCadena( String cadena )
     {
-    	this.mapaCadenas.put(new StringBuilder(cadena).reverse().toString(), cadena);
-    	
+    	LlaveInvertida llave = LlaveInvertida.de(cadena);
+    	String anterior = this.mapaCadenas.put(llave, cadena);
+    	if (anterior != null) {
+    		this.indiceValores.eliminar(llave, anterior);
+    	}
+    	this.indiceValores.agregar(llave, cadena);
+    }
+
+    /**
+     * Agrega varias cadenas al mapa en un solo recorrido de la colección, igual que si se llamara agregarCadena con cada una.
+     * 
+     * Cada cadena sólo crea su llave invertida (ver LlaveInvertida), sin construir la cadena invertida.
+     * @param cadenas Las cadenas que se van a agregar al mapa
+     */
+    public void agregarCadenas( Collection<String> cadenas )
+    {
+    	for (String cadena: cadenas) {
+    		agregarCadena(cadena);
+    	}
     }
 
     /**
@@ -134,24 +215,59 @@ public class SandboxMapas
      */
     public void eliminarCadenaConLLave( String llave )
     {
-    	this.mapaCadenas.remove(llave);
+    	eliminar(LlaveInvertida.literal(llave));
+    }
+
+    /**
+     * Indica si el mapa tiene la llave que le corresponde a una cadena, es decir la cadena invertida.
+     * 
+     * La búsqueda no construye la cadena invertida.
+     * @param cadena La cadena original
+     * @return True si la cadena invertida es una llave del mapa
+     */
+    public boolean contieneCadena( String cadena )
+    {
+        return this.mapaCadenas.containsKey(LlaveInvertida.de(cadena));
+    }
+
+    /**
+     * Retorna el valor asociado a la llave que le corresponde a una cadena, es decir la cadena invertida.
+     * 
+     * Después de agregarCadena el valor es la misma cadena; después de volverMayusculas las llaves ya no corresponden a las cadenas y el resultado puede ser null. La
+     * búsqueda no construye la cadena invertida.
+     * @param cadena La cadena original
+     * @return El valor asociado, o null si la cadena invertida no es una llave del mapa
+     */
+    public String getValorDeCadena( String cadena )
+    {
+        return this.mapaCadenas.get(LlaveInvertida.de(cadena));
+    }
+
+    /**
+     * Elimina del mapa la llave que le corresponde a una cadena, es decir la cadena invertida, sin construirla.
+     * 
+     * Es equivalente a eliminarCadenaConLLave con la cadena invertida.
+     * @param cadena La cadena original
+     */
+    public void eliminarLlaveDeCadena( String cadena )
+    {
+    	eliminar(LlaveInvertida.de(cadena));
     }
 
     /**
      * Elimina una cadena del mapa, dado el valor
+     * 
+     * La llave se busca en el índice de valores, así que no hay que recorrer el mapa. Si varias llaves tienen el valor, sólo se elimina una de ellas.
      * @param cadena El valor que se debe eliminar
      */
     public void eliminarCadenaConValor( String valor )
     {
-    	Iterator<Map.Entry<String, String>> iterador = this.mapaCadenas.entrySet().iterator();
-    	boolean eliminado = false;
-        while (iterador.hasNext() && eliminado == false) {
-            Map.Entry<String, String> entrada = iterador.next();
-            if (entrada.getValue().equals(valor)) {
-                iterador.remove();
-                eliminado = true;
-            }
-        }
+    	Iterator<LlaveInvertida> llaves = this.indiceValores.llaves(valor).iterator();
+    	if (llaves.hasNext()) {
+    		LlaveInvertida llave = llaves.next();
+    		this.mapaCadenas.remove(llave);
+    		this.indiceValores.eliminar(llave, valor);
+    	}
     }
 
     /**
@@ -162,13 +278,14 @@ public class SandboxMapas
      */
     public void reiniciarMapaCadenas( List<Object> objetos )
     {
-    	Map<String, String> nuevoMapa = new HashMap<String,String>();
+    	Map<LlaveInvertida, String> nuevoMapa = nuevoMapa();
     	Iterator<Object> iterador = objetos.iterator();
     	while (iterador.hasNext()) {
     		String valor = iterador.next().toString();
-    		nuevoMapa.put(new StringBuilder(valor).reverse().toString(), valor);
+    		nuevoMapa.put(LlaveInvertida.de(valor), valor);
     	}
     	this.mapaCadenas = nuevoMapa;
+    	reconstruirIndices();
     }
 
     /**
@@ -176,14 +293,15 @@ public class SandboxMapas
      */
     public void volverMayusculas( )
     {
-    	Map<String,String> nuevoMapa = new HashMap<String,String>();
-    	Iterator<Map.Entry<String,String>> iterador = this.mapaCadenas.entrySet().iterator();
+    	Map<LlaveInvertida,String> nuevoMapa = nuevoMapa();
+    	Iterator<Map.Entry<LlaveInvertida,String>> iterador = this.mapaCadenas.entrySet().iterator();
     	while (iterador.hasNext()) {
-    		Map.Entry<String, String> entrada = iterador.next();
-    		String llave = entrada.getKey().toUpperCase();
+    		Map.Entry<LlaveInvertida, String> entrada = iterador.next();
+    		LlaveInvertida llave = LlaveInvertida.literal(entrada.getKey().toString().toUpperCase());
     		nuevoMapa.put(llave, entrada.getValue());
     	}
     	this.mapaCadenas = nuevoMapa;
+    	reconstruirIndices();
     }
 
     /**
@@ -196,7 +314,7 @@ public class SandboxMapas
     	boolean iguales = true;
     	int i = 0;
     	while (iguales == true && i < otroArreglo.length) {
-    		if (!this.mapaCadenas.containsValue(otroArreglo[i])) {
+    		if (!this.indiceValores.contiene(otroArreglo[i])) {
     			iguales = false;
     		}
     		i += 1;
@@ -204,4 +322,45 @@ public class SandboxMapas
         return iguales;
     }
 
+    /**
+     * Crea un mapa vacío del tipo que corresponde al modo del sandbox: un TreeMap en el modo ordenado y un HashMap en el modo normal
+     * @return Un mapa vacío
+     */
+    private Map<LlaveInvertida, String> nuevoMapa( )
+    {
+    	if (this.ordenado) {
+    		return new TreeMap<LlaveInvertida, String>();
+    	}
+    	return new HashMap<LlaveInvertida, String>();
+    }
+
+    /**
+     * Retorna el mapa de cadenas con sus operaciones de orden. Sólo puede usarse en el modo ordenado.
+     * @return El mapa de cadenas como un NavigableMap
+     */
+    private NavigableMap<LlaveInvertida, String> llavesOrdenadas( )
+    {
+    	return (NavigableMap<LlaveInvertida, String>) this.mapaCadenas;
+    }
+
+    /**
+     * Elimina una llave del mapa y del índice de valores
+     * @param llave La llave que se debe eliminar
+     */
+    private void eliminar( LlaveInvertida llave )
+    {
+    	String eliminado = this.mapaCadenas.remove(llave);
+    	if (eliminado != null) {
+    		this.indiceValores.eliminar(llave, eliminado);
+    	}
+    }
+
+    /**
+     * Vuelve a construir los índices auxiliares a partir del mapa actual
+     */
+    private void reconstruirIndices( )
+    {
+    	this.indiceValores = new IndiceValores(this.mapaCadenas, this.ordenado);
+    }
+
 }
@@ -0,0 +1,364 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Esta clase tiene los mismos métodos de SandboxMapas, pero varios hilos pueden usar la misma instancia al mismo tiempo.
+ *
+ * El mapa y su índice de valores son ConcurrentHashMap, y cada cambio de una llave actualiza el índice dentro del compute de esa llave:
+ * <ul>
+ * <li>Los métodos que sólo consultan no toman ningún candado. Los recorridos son débilmente consistentes: nunca lanzan ConcurrentModificationException, pero pueden
+ * ver o no los cambios que otros hilos hacen mientras tanto.</li>
+ * <li>agregarCadena, eliminarCadenaConLLave y eliminarCadenaConValor pueden ejecutarse desde varios hilos a la vez. Sólo esperan entre ellos si tocan la misma llave
+ * o el mismo valor, y no comparten ningún candado (ver CandadoPorFranjas).</li>
+ * <li>eliminarCadenaConValor es atómico frente a los que agregan el mismo valor: la llave sólo se elimina si en ese momento sigue asociada al valor, y el índice cambia
+ * junto con el mapa, así que nunca queda una llave en el mapa que el índice no tenga ni al revés.</li>
+ * <li>volverMayusculas y reiniciarMapaCadenas construyen un mapa y un índice nuevos y los publican juntos, de una vez. Los lectores siguen usando los anteriores,
+ * completos, hasta que se publican los nuevos. Mientras volverMayusculas copia el mapa, los que agregan o eliminan esperan, para que ningún cambio se pierda.</li>
+ * </ul>
+ * Cada método es atómico por separado, pero una secuencia de llamados no lo es. A diferencia de SandboxMapas, esta clase no tiene modo ordenado.
+ */
+public class SandboxMapasConcurrente
+{
+    /**
+     * Un mapa de cadenas y su índice de valores, que siempre se publican juntos
+     */
+    private static final class Version
+    {
+        /**
+         * El mapa de cadenas. Las llaves corresponden a invertir la cadena que aparece asociada a cada llave.
+         */
+        private final ConcurrentMap<String, String> mapa;
+
+        /**
+         * Las llaves del mapa, agrupadas por su valor. Los conjuntos de llaves son concurrentes y nunca quedan vacíos en el índice.
+         */
+        private final ConcurrentMap<String, Set<String>> llavesPorValor;
+
+        private Version( )
+        {
+            mapa = new ConcurrentHashMap<String, String>( );
+            llavesPorValor = new ConcurrentHashMap<String, Set<String>>( );
+        }
+
+        /**
+         * Asocia un valor a una llave, reemplazando el valor anterior, y actualiza el índice mientras la llave está bloqueada
+         * @param llave La llave
+         * @param valor El nuevo valor de la llave
+         */
+        private void asociar( String llave, String valor )
+        {
+            mapa.compute( llave, ( k, anterior ) -> {
+                if( !valor.equals( anterior ) )
+                {
+                    if( anterior != null )
+                    {
+                        quitarDelIndice( k, anterior );
+                    }
+                    // La llave se agrega dentro del compute del valor: si se agregara después, otro hilo podría sacar del índice el conjunto en ese momento
+                    llavesPorValor.compute( valor, ( v, llaves ) -> {
+                        Set<String> nuevas = llaves == null ? ConcurrentHashMap.<String>newKeySet( ) : llaves;
+                        nuevas.add( k );
+                        return nuevas;
+                    } );
+                }
+                return valor;
+            } );
+        }
+
+        /**
+         * Elimina una llave del mapa y del índice
+         * @param llave La llave
+         */
+        private void eliminar( String llave )
+        {
+            mapa.computeIfPresent( llave, ( k, anterior ) -> {
+                quitarDelIndice( k, anterior );
+                return null;
+            } );
+        }
+
+        /**
+         * Elimina una de las llaves asociadas a un valor. Si otro hilo cambia la llave escogida antes de bloquearla, se escoge otra.
+         * @param valor El valor
+         * @return True si se eliminó alguna llave
+         */
+        private boolean eliminarValor( String valor )
+        {
+            boolean[] eliminado = new boolean[1];
+            Set<String> llaves = llavesPorValor.get( valor );
+            while( llaves != null && !eliminado[ 0 ] )
+            {
+                Iterator<String> iterador = llaves.iterator( );
+                if( iterador.hasNext( ) )
+                {
+                    mapa.computeIfPresent( iterador.next( ), ( k, actual ) -> {
+                        if( !actual.equals( valor ) )
+                        {
+                            return actual;
+                        }
+                        quitarDelIndice( k, actual );
+                        eliminado[ 0 ] = true;
+                        return null;
+                    } );
+                }
+                llaves = llavesPorValor.get( valor );
+            }
+            return eliminado[ 0 ];
+        }
+
+        /**
+         * Quita una pareja del índice. Debe llamarse mientras la llave está bloqueada en el mapa.
+         */
+        private void quitarDelIndice( String llave, String valor )
+        {
+            llavesPorValor.computeIfPresent( valor, ( v, llaves ) -> {
+                llaves.remove( llave );
+                return llaves.isEmpty( ) ? null : llaves;
+            } );
+        }
+    }
+
+    /**
+     * El mapa de cadenas y su índice. Se reemplaza completo al reconstruir el mapa, así que los métodos que lo usan más de una vez lo leen una sola vez en una variable
+     * local.
+     */
+    private volatile Version version;
+
+    /**
+     * Coordina las modificaciones con las reconstrucciones del mapa. Los que agregan o eliminan se anotan cada uno en su franja; volverMayusculas y reiniciarMapaCadenas
+     * lo cierran. Las consultas no lo usan.
+     */
+    private final CandadoPorFranjas candado;
+
+    /**
+     * Crea una nueva instancia de la clase con el mapa inicializado pero vacío
+     */
+    public SandboxMapasConcurrente( )
+    {
+        version = new Version( );
+        candado = new CandadoPorFranjas( );
+    }
+
+    /**
+     * Retorna una lista con las cadenas del mapa (los valores) ordenadas lexicográficamente
+     * @return Una lista ordenada con las cadenas que conforman los valores del mapa
+     */
+    public List<String> getValoresComoLista( )
+    {
+    	List<String> lista = new ArrayList<String>(this.version.mapa.values());
+    	Collections.sort(lista);
+        return lista;
+    }
+
+    /**
+     * Retorna una lista con las llaves del mapa ordenadas lexicográficamente de mayor a menor
+     * @return Una lista ordenada con las cadenas que conforman las llaves del mapa
+     */
+    public List<String> getLlavesComoListaInvertida( )
+    {
+    	List<String> lista = new ArrayList<String>(this.version.mapa.keySet());
+    	Collections.sort(lista, Collections.reverseOrder());
+        return lista;
+    }
+
+    /**
+     * Retorna la cadena que sea lexicográficamente menor dentro de las llaves del mapa .
+     *
+     * Si el mapa está vacío, debe retornar null.
+     * @return
+     */
+    public String getPrimera( )
+    {
+    	String menor = null;
+    	for (String llave: this.version.mapa.keySet()) {
+    		if (menor == null || llave.compareTo(menor) < 0) {
+    			menor = llave;
+    		}
+    	}
+        return menor;
+    }
+
+    /**
+     * Retorna la cadena que sea lexicográficamente mayor dentro de las llaves del mapa
+     *
+     * Si el mapa está vacío, debe retornar null.
+     * @return
+     */
+    public String getUltima( )
+    {
+    	String mayor = null;
+    	for (String llave: this.version.mapa.keySet()) {
+    		if (mayor == null || llave.compareTo(mayor) > 0) {
+    			mayor = llave;
+    		}
+    	}
+        return mayor;
+    }
+
+    /**
+     * Retorna una colección con las llaves del mapa, convertidas a mayúsculas.
+     *
+     * El orden de las llaves retornadas no importa.
+     * @return Una lista de cadenas donde todas las cadenas están en mayúsculas
+     */
+    public Collection<String> getLlaves( )
+    {
+    	List<String> lista = new ArrayList<String>();
+    	for (String llave: this.version.mapa.keySet()) {
+    		lista.add(llave.toUpperCase());
+    	}
+        return lista;
+    }
+
+    /**
+     * Retorna una vista de sólo lectura de las cadenas del mapa (los valores), sin copiarlas ni ordenarlas. La vista consulta el mapa del sandbox en cada operación, así
+     * que refleja sus cambios posteriores.
+     * 
+     * Las vistas se recorren sin candados y de forma débilmente consistente, como el mapa. Un recorrido empezado antes de volverMayusculas o reiniciarMapaCadenas termina
+     * sobre el mapa anterior.
+     * @return Una vista de los valores del mapa, en el orden del mapa
+     */
+    public Collection<String> getVistaValores( )
+    {
+    	return VistaColeccion.de(() -> this.version.mapa.values());
+    }
+
+    /**
+     * Retorna una vista de sólo lectura de las llaves del mapa convertidas a mayúsculas, con los mismos elementos de getLlaves pero sin construir la colección. Cada
+     * llave se convierte cuando se recorre, y la vista refleja los cambios posteriores del mapa.
+     * 
+     * Las vistas se recorren sin candados y de forma débilmente consistente, como el mapa. Un recorrido empezado antes de volverMayusculas o reiniciarMapaCadenas termina
+     * sobre el mapa anterior.
+     * @return Una vista de las llaves del mapa en mayúsculas
+     */
+    public Collection<String> getVistaLlaves( )
+    {
+    	return VistaColeccion.convertida(() -> this.version.mapa.keySet(), String::toUpperCase);
+    }
+
+    /**
+     * Retorna la cantidad de *valores* diferentes en el mapa
+     *
+     * La cantidad se toma del índice de valores, así que no hay que recorrer el mapa.
+     * @return
+     */
+    public int getCantidadCadenasDiferentes( )
+    {
+        return this.version.llavesPorValor.size();
+    }
+
+    /**
+     * Agrega un nuevo valor al mapa de cadenas: el valor será el recibido por parámetro, y la llave será la cadena invertida
+     *
+     * Este método podría o no aumentar el tamaño del mapa, dependiendo de si ya existía la cadena en el mapa
+     *
+     * @param cadena La cadena que se va a agregar al mapa
+     */
+    public void agregarCadena( String cadena )
+    {
+    	String llave = new StringBuilder(cadena).reverse().toString();
+    	int franja = this.candado.empezarModificacion();
+    	try {
+    		this.version.asociar(llave, cadena);
+    	} finally {
+    		this.candado.terminarModificacion(franja);
+    	}
+    }
+
+    /**
+     * Elimina una cadena del mapa, dada la llave
+     * @param cadena La llave para identificar el valor que se debe eliminar
+     */
+    public void eliminarCadenaConLLave( String llave )
+    {
+    	int franja = this.candado.empezarModificacion();
+    	try {
+    		this.version.eliminar(llave);
+    	} finally {
+    		this.candado.terminarModificacion(franja);
+    	}
+    }
+
+    /**
+     * Elimina una cadena del mapa, dado el valor
+     *
+     * La llave se busca en el índice de valores, así que no hay que recorrer el mapa. Si varias llaves tienen el valor, sólo se elimina una de ellas.
+     * @param cadena El valor que se debe eliminar
+     */
+    public void eliminarCadenaConValor( String valor )
+    {
+    	int franja = this.candado.empezarModificacion();
+    	try {
+    		this.version.eliminarValor(valor);
+    	} finally {
+    		this.candado.terminarModificacion(franja);
+    	}
+    }
+
+    /**
+     * Reinicia el mapa de cadenas con las representaciones como Strings de los objetos contenidos en la lista del parámetro 'objetos'.
+     *
+     * El mapa nuevo se construye sin bloquear a nadie y se publica de una vez; sólo la publicación espera a que terminen los que están agregando o eliminando.
+     * @param valores Una lista de objetos
+     */
+    public void reiniciarMapaCadenas( List<Object> objetos )
+    {
+    	Version nueva = new Version();
+    	Iterator<Object> iterador = objetos.iterator();
+    	while (iterador.hasNext()) {
+    		String valor = iterador.next().toString();
+    		nueva.asociar(new StringBuilder(valor).reverse().toString(), valor);
+    	}
+    	this.candado.cerrar();
+    	this.version = nueva;
+    	this.candado.abrir();
+    }
+
+    /**
+     * Modifica el mapa de cadenas reemplazando las llaves para que ahora todas estén en mayúsculas pero sigan conservando las mismas cadenas asociadas.
+     *
+     * Los lectores siguen viendo el mapa anterior hasta que el nuevo está completo.
+     */
+    public void volverMayusculas( )
+    {
+    	this.candado.cerrar();
+    	try {
+    		Version nueva = new Version();
+    		for (Map.Entry<String, String> entrada: this.version.mapa.entrySet()) {
+    			nueva.asociar(entrada.getKey().toUpperCase(), entrada.getValue());
+    		}
+    		this.version = nueva;
+    	} finally {
+    		this.candado.abrir();
+    	}
+    }
+
+    /**
+     * Verifica si todos los elementos en el arreglo de cadenas del parámetro hacen parte del mapa de cadenas (de los valores)
+     * @param otroArreglo El arreglo de enteros con el que se debe comparar
+     * @return True si todos los elementos del arreglo están dentro de los valores del mapa
+     */
+    public boolean compararValores( String[] otroArreglo )
+    {
+    	Map<String, Set<String>> llavesPorValor = this.version.llavesPorValor;
+    	boolean iguales = true;
+    	int i = 0;
+    	while (iguales == true && i < otroArreglo.length) {
+    		if (!llavesPorValor.containsKey(otroArreglo[i])) {
+    			iguales = false;
+    		}
+    		i += 1;
+    	}
+        return iguales;
+    }
+
+}
@@ -0,0 +1,63 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.Collection;
+
+/**
+ * Una secuencia de cadenas con acceso por posición.
+ *
+ * Es la interfaz común de las formas de guardar el arreglo de cadenas de SandboxArreglos (ver AlmacenamientoCadenas). Las implementaciones difieren en el costo de cada
+ * operación y en la memoria que ocupan, no en su resultado.
+ */
+public interface SecuenciaCadenas
+{
+    /**
+     * Retorna la cantidad de cadenas
+     * @return La cantidad de cadenas
+     */
+    int tamanio( );
+
+    /**
+     * Retorna la cadena de una posición
+     * @param posicion La posición de la cadena
+     * @return La cadena
+     * @throws IndexOutOfBoundsException Si la posición no está entre 0 y tamanio() - 1
+     */
+    String get( int posicion );
+
+    /**
+     * Agrega una cadena al final
+     * @param cadena La cadena que se agrega
+     */
+    void agregar( String cadena );
+
+    /**
+     * Agrega varias cadenas al final, en el orden de la colección, reservando el espacio una sola vez
+     * @param cadenas Las cadenas que se agregan
+     */
+    void agregarTodas( Collection<String> cadenas );
+
+    /**
+     * Elimina todas las apariciones de una cadena en un solo recorrido
+     * @param cadena La cadena que se va a eliminar. Se compara con equals.
+     * @return La cantidad de cadenas eliminadas
+     */
+    int eliminarTodas( String cadena );
+
+    /**
+     * Cuenta cuántas cadenas son iguales a una cadena sin diferenciar mayúsculas y minúsculas
+     * @param cadena La cadena buscada. Se compara con equalsIgnoreCase.
+     * @return La cantidad de apariciones
+     */
+    int contarSinMayusculas( String cadena );
+
+    /**
+     * Ordena las cadenas lexicográficamente, en el mismo orden que String.compareTo
+     */
+    void ordenar( );
+
+    /**
+     * Retorna un nuevo arreglo con las cadenas en orden
+     * @return Una copia de las cadenas
+     */
+    String[] copia( );
+}
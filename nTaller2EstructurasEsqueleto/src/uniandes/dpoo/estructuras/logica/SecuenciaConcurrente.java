@@ -0,0 +1,383 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.IntFunction;
+
+/**
+ * La base de las secuencias concurrentes por bloques que usa SandboxListasConcurrente.
+ *
+ * Los elementos se guardan en bloques de tamaño fijo (arreglos de tipo B) que se ubican en un directorio de dos niveles. El contenido visible de la secuencia es una
+ * Vista inmutable (directorio y tamaño):
+ * <ul>
+ * <li>Los lectores no toman ningún candado: leen la vista actual con una lectura optimista y recorren sus primeras 'tamanio' posiciones. Sólo esperan si en ese momento
+ * hay una modificación estructural en curso. Ningún elemento de una vista publicada se vuelve a escribir, así que un recorrido nunca ve un estado a medias ni lanza
+ * ConcurrentModificationException.</li>
+ * <li>Los que agregan al final reservan una posición con un contador atómico, escriben en ella sin candado y la marcan como escrita en un anillo de marcas. El hilo que
+ * completa un tramo de posiciones escritas consecutivas publica la nueva vista, así que nadie espera su turno para publicar. Varios hilos pueden agregar al mismo tiempo;
+ * sólo comparten el lado de lectura de un StampedLock.</li>
+ * <li>Las modificaciones estructurales (insertar, eliminar, ordenar...) toman el lado de escritura del candado, construyen bloques nuevos para la parte que cambia
+ * (copia en escritura por bloque) y publican un directorio nuevo. Los lectores que tenían la vista anterior la siguen viendo completa.</li>
+ * </ul>
+ * @param <B> El tipo de los bloques: int[] para enteros o String[] para cadenas
+ */
+abstract class SecuenciaConcurrente<B>
+{
+    /**
+     * La cantidad de bits de la posición dentro de un bloque. Cada bloque tiene 4096 elementos.
+     */
+    protected static final int BITS_BLOQUE = 12;
+
+    /**
+     * La cantidad de elementos de un bloque
+     */
+    protected static final int TAMANIO_BLOQUE = 1 << BITS_BLOQUE;
+
+    /**
+     * La máscara para obtener la posición dentro de un bloque
+     */
+    protected static final int MASCARA_BLOQUE = TAMANIO_BLOQUE - 1;
+
+    /**
+     * La cantidad de bits del número de bloque dentro de un grupo del directorio
+     */
+    private static final int BITS_GRUPO = 9;
+
+    /**
+     * La cantidad de grupos del directorio. Alcanza para 2^31 elementos.
+     */
+    private static final int CANTIDAD_GRUPOS = 1 << ( 31 - BITS_BLOQUE - BITS_GRUPO );
+
+    /**
+     * La cantidad de posiciones del anillo de marcas. Es el máximo de elementos que pueden estar escritos sin publicar al mismo tiempo.
+     */
+    private static final int TAMANIO_ANILLO = 1024;
+
+    /**
+     * Un directorio de bloques de dos niveles. Los grupos y los bloques se crean la primera vez que se necesitan y nunca se reemplazan, así que varios hilos pueden
+     * pedir bloques al mismo tiempo sin candados.
+     * @param <B> El tipo de los bloques
+     */
+    protected static final class Directorio<B>
+    {
+        private final AtomicReferenceArray<AtomicReferenceArray<B>> grupos;
+
+        private final IntFunction<B> creador;
+
+        Directorio( IntFunction<B> creador )
+        {
+            this.grupos = new AtomicReferenceArray<AtomicReferenceArray<B>>( CANTIDAD_GRUPOS );
+            this.creador = creador;
+        }
+
+        /**
+         * Retorna un bloque, creándolo si todavía no existe
+         * @param numero El número del bloque
+         * @return El bloque
+         */
+        B bloque( int numero )
+        {
+            AtomicReferenceArray<B> grupo = grupo( numero >>> BITS_GRUPO );
+            int posicion = numero & ( ( 1 << BITS_GRUPO ) - 1 );
+            B bloque = grupo.get( posicion );
+            if( bloque == null )
+            {
+                grupo.compareAndSet( posicion, null, creador.apply( TAMANIO_BLOQUE ) );
+                bloque = grupo.get( posicion );
+            }
+            return bloque;
+        }
+
+        /**
+         * Reemplaza un bloque. Sólo puede usarse sobre un directorio que todavía no se ha publicado.
+         * @param numero El número del bloque
+         * @param bloque El nuevo bloque
+         */
+        void setBloque( int numero, B bloque )
+        {
+            grupo( numero >>> BITS_GRUPO ).set( numero & ( ( 1 << BITS_GRUPO ) - 1 ), bloque );
+        }
+
+        /**
+         * Retorna un grupo del directorio, creándolo si todavía no existe
+         * @param numeroGrupo El número del grupo
+         * @return El grupo
+         */
+        private AtomicReferenceArray<B> grupo( int numeroGrupo )
+        {
+            AtomicReferenceArray<B> grupo = grupos.get( numeroGrupo );
+            if( grupo == null )
+            {
+                grupos.compareAndSet( numeroGrupo, null, new AtomicReferenceArray<B>( 1 << BITS_GRUPO ) );
+                grupo = grupos.get( numeroGrupo );
+            }
+            return grupo;
+        }
+    }
+
+    /**
+     * El contenido visible de la secuencia en un momento dado
+     * @param <B> El tipo de los bloques
+     */
+    protected static final class Vista<B>
+    {
+        final Directorio<B> directorio;
+
+        final int tamanio;
+
+        Vista( Directorio<B> directorio, int tamanio )
+        {
+            this.directorio = directorio;
+            this.tamanio = tamanio;
+        }
+    }
+
+    /**
+     * Crea los bloques de esta secuencia
+     */
+    private final IntFunction<B> creador;
+
+    /**
+     * El directorio actual. Sólo cambia en una modificación estructural.
+     */
+    private volatile Directorio<B> directorio;
+
+    /**
+     * La cantidad de elementos publicados: las posiciones 0 a publicados - 1 están escritas y son visibles para los lectores
+     */
+    private final AtomicInteger publicados;
+
+    /**
+     * La siguiente posición que se reservará para agregar al final
+     */
+    private final AtomicInteger reservados;
+
+    /**
+     * Las marcas de las posiciones escritas que todavía no se han publicado: la posición p está escrita si marcas[p % TAMANIO_ANILLO] es p + 1
+     */
+    private final AtomicIntegerArray marcas;
+
+    /**
+     * Agregar toma el lado de lectura; las modificaciones estructurales toman el lado de escritura. Los lectores sólo hacen lecturas optimistas.
+     */
+    private final StampedLock estructura;
+
+    /**
+     * Crea una secuencia vacía
+     * @param creador Crea un bloque del tamaño indicado
+     */
+    protected SecuenciaConcurrente( IntFunction<B> creador )
+    {
+        this.creador = creador;
+        this.directorio = new Directorio<B>( creador );
+        this.publicados = new AtomicInteger( 0 );
+        this.reservados = new AtomicInteger( 0 );
+        this.marcas = new AtomicIntegerArray( TAMANIO_ANILLO );
+        this.estructura = new StampedLock( );
+    }
+
+    /**
+     * Retorna la vista publicada más reciente. Los lectores deben leerla una sola vez por operación.
+     *
+     * El directorio y el tamaño se leen con una lectura optimista; si en ese momento había una modificación estructural en curso, se espera a que termine.
+     * @return La vista actual
+     */
+    protected final Vista<B> vista( )
+    {
+        long sello = estructura.tryOptimisticRead( );
+        Directorio<B> actual = directorio;
+        int tamanio = publicados.get( );
+        if( !estructura.validate( sello ) )
+        {
+            sello = estructura.readLock( );
+            try
+            {
+                actual = directorio;
+                tamanio = publicados.get( );
+            }
+            finally
+            {
+                estructura.unlockRead( sello );
+            }
+        }
+        return new Vista<B>( actual, tamanio );
+    }
+
+    /**
+     * Retorna la vista actual sin validar la lectura. Sólo puede llamarse entre iniciarModificacion y terminarModificacion.
+     * @return La vista actual
+     */
+    protected final Vista<B> vistaEnModificacion( )
+    {
+        return new Vista<B>( directorio, publicados.get( ) );
+    }
+
+    /**
+     * Retorna la cantidad de elementos visibles
+     * @return El tamaño de la vista actual
+     */
+    public final int tamanio( )
+    {
+        return publicados.get( );
+    }
+
+    /**
+     * Empieza a agregar un elemento al final: toma el lado de lectura del candado y reserva una posición. Siempre debe ir seguido de terminarAgregado, en un finally.
+     * @return La posición reservada
+     */
+    protected final int iniciarAgregado( )
+    {
+        estructura.readLock( );
+        return reservados.getAndIncrement( );
+    }
+
+    /**
+     * Retorna el bloque donde debe escribirse una posición reservada
+     * @param posicion La posición reservada
+     * @return El bloque
+     */
+    protected final B bloqueParaAgregar( int posicion )
+    {
+        return directorio.bloque( posicion >>> BITS_BLOQUE );
+    }
+
+    /**
+     * Termina de agregar un elemento: marca la posición como escrita, publica las posiciones escritas consecutivas y libera el candado
+     * @param posicion La posición reservada
+     */
+    protected final void terminarAgregado( int posicion )
+    {
+        try
+        {
+            while( posicion - publicados.get( ) >= TAMANIO_ANILLO )
+            {
+                Thread.yield( );
+            }
+            marcas.set( posicion % TAMANIO_ANILLO, posicion + 1 );
+            avanzar( );
+        }
+        finally
+        {
+            estructura.tryUnlockRead( );
+        }
+    }
+
+    /**
+     * Publica todas las posiciones marcadas como escritas que siguen a las ya publicadas. Si la siguiente posición todavía no está escrita no hace nada: la publicará
+     * el hilo que la escriba.
+     */
+    private void avanzar( )
+    {
+        while( true )
+        {
+            int inicio = publicados.get( );
+            int fin = inicio;
+            while( fin - inicio < TAMANIO_ANILLO && marcas.get( fin % TAMANIO_ANILLO ) == fin + 1 )
+            {
+                fin++;
+            }
+            if( fin == inicio )
+            {
+                return;
+            }
+            publicados.compareAndSet( inicio, fin );
+        }
+    }
+
+    /**
+     * Toma el lado de escritura del candado para hacer una modificación estructural. Siempre debe ir seguido de terminarModificacion, en un finally.
+     */
+    protected final void iniciarModificacion( )
+    {
+        estructura.writeLock( );
+    }
+
+    /**
+     * Libera el lado de escritura del candado
+     */
+    protected final void terminarModificacion( )
+    {
+        estructura.tryUnlockWrite( );
+    }
+
+    /**
+     * Crea un directorio vacío para construir el resultado de una modificación estructural
+     * @return Un directorio nuevo
+     */
+    protected final Directorio<B> nuevoDirectorio( )
+    {
+        return new Directorio<B>( creador );
+    }
+
+    /**
+     * Publica el resultado de una modificación estructural. Sólo puede llamarse entre iniciarModificacion y terminarModificacion.
+     * @param directorio El directorio con los nuevos bloques
+     * @param tamanio La nueva cantidad de elementos
+     */
+    protected final void publicar( Directorio<B> directorio, int tamanio )
+    {
+        for( int i = 0; i < TAMANIO_ANILLO; i++ )
+        {
+            marcas.set( i, 0 );
+        }
+        reservados.set( tamanio );
+        this.directorio = directorio;
+        publicados.set( tamanio );
+    }
+
+    /**
+     * Publica una vista que conserva los bloques de otra vista hasta una posición y reemplaza el resto por una cola nueva. Sólo se copian los bloques que cambian.
+     * Sólo puede llamarse entre iniciarModificacion y terminarModificacion.
+     * @param anterior La vista de la que se conservan los bloques
+     * @param desde El comienzo de la cola. Debe ser el comienzo de un bloque.
+     * @param cola Los elementos que quedan a partir de 'desde'
+     * @param largoCola La cantidad de elementos válidos en cola
+     */
+    protected final void publicarCola( Vista<B> anterior, int desde, B cola, int largoCola )
+    {
+        Directorio<B> directorio = nuevoDirectorio( );
+        int primerBloqueNuevo = desde >>> BITS_BLOQUE;
+        for( int numero = 0; numero < primerBloqueNuevo; numero++ )
+        {
+            directorio.setBloque( numero, anterior.directorio.bloque( numero ) );
+        }
+        for( int copiados = 0; copiados < largoCola; copiados += TAMANIO_BLOQUE )
+        {
+            System.arraycopy( cola, copiados, directorio.bloque( primerBloqueNuevo + ( copiados >>> BITS_BLOQUE ) ), 0, Math.min( TAMANIO_BLOQUE, largoCola - copiados ) );
+        }
+        publicar( directorio, desde + largoCola );
+    }
+
+    /**
+     * Copia en un arreglo nuevo los elementos de una vista a partir de una posición
+     * @param vista La vista que se copia
+     * @param desde La primera posición que se copia
+     * @param largo El largo del arreglo retornado. Debe ser al menos vista.tamanio - desde; las posiciones sobrantes quedan con su valor por defecto.
+     * @return Un arreglo con los elementos de las posiciones desde 'desde' hasta el final de la vista
+     */
+    protected final B copiaDesde( Vista<B> vista, int desde, int largo )
+    {
+        B copia = creador.apply( largo );
+        int posicion = desde;
+        while( posicion < vista.tamanio )
+        {
+            int enBloque = posicion & MASCARA_BLOQUE;
+            int cantidad = Math.min( TAMANIO_BLOQUE - enBloque, vista.tamanio - posicion );
+            System.arraycopy( vista.directorio.bloque( posicion >>> BITS_BLOQUE ), enBloque, copia, posicion - desde, cantidad );
+            posicion += cantidad;
+        }
+        return copia;
+    }
+
+    /**
+     * Retorna el comienzo del bloque que contiene una posición
+     * @param posicion La posición
+     * @return La primera posición del bloque
+     */
+    protected static int inicioBloque( int posicion )
+    {
+        return posicion & ~MASCARA_BLOQUE;
+    }
+}
@@ -0,0 +1,206 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Una secuencia de enteros primitivos con acceso por posición.
+ *
+ * Es la interfaz común de las formas de guardar el arreglo de enteros de SandboxArreglos (ver AlmacenamientoEnteros). Las implementaciones difieren en el costo de cada
+ * operación, no en su resultado.
+ */
+public interface SecuenciaEnteros
+{
+    /**
+     * Retorna la cantidad de elementos
+     * @return La cantidad de elementos
+     */
+    int tamanio( );
+
+    /**
+     * Retorna el elemento de una posición
+     * @param posicion La posición del elemento
+     * @return El elemento
+     * @throws IndexOutOfBoundsException Si la posición no está entre 0 y tamanio() - 1
+     */
+    int get( int posicion );
+
+    /**
+     * Cambia el elemento de una posición
+     * @param posicion La posición del elemento
+     * @param valor El nuevo valor
+     * @throws IndexOutOfBoundsException Si la posición no está entre 0 y tamanio() - 1
+     */
+    void set( int posicion, int valor );
+
+    /**
+     * Agrega un valor al final
+     * @param valor El valor que se agrega
+     */
+    void agregar( int valor );
+
+    /**
+     * Agrega todos los valores de un arreglo al final, en orden, reservando el espacio una sola vez
+     * @param valores Los valores que se agregan
+     */
+    void agregarTodos( int[] valores );
+
+    /**
+     * Inserta un valor en una posición, desplazando los elementos siguientes
+     * @param posicion La posición que tendrá el valor, entre 0 y tamanio()
+     * @param valor El valor que se inserta
+     * @throws IndexOutOfBoundsException Si la posición no está entre 0 y tamanio()
+     */
+    void insertar( int posicion, int valor );
+
+    /**
+     * Inserta todos los valores de un arreglo a partir de una posición, en orden, desplazando los elementos siguientes una sola vez
+     * @param posicion La posición que tendrá el primer valor, entre 0 y tamanio()
+     * @param valores Los valores que se insertan
+     * @throws IndexOutOfBoundsException Si la posición no está entre 0 y tamanio()
+     */
+    void insertarTodos( int posicion, int[] valores );
+
+    /**
+     * Elimina el elemento de una posición, desplazando los elementos siguientes
+     * @param posicion La posición del elemento
+     * @return El elemento eliminado
+     * @throws IndexOutOfBoundsException Si la posición no está entre 0 y tamanio() - 1
+     */
+    int eliminarPosicion( int posicion );
+
+    /**
+     * Elimina todas las apariciones de un valor en un solo recorrido
+     * @param valor El valor que se elimina
+     * @return La cantidad de elementos eliminados
+     */
+    int eliminarTodos( int valor );
+
+    /**
+     * Elimina en un solo recorrido todos los elementos que cumplen una condición
+     * @param condicion La condición que deben cumplir los elementos que se eliminan
+     * @return La cantidad de elementos eliminados
+     */
+    int eliminarSi( IntPredicate condicion );
+
+    /**
+     * Elimina en un solo recorrido todas las apariciones de varios valores. Cada elemento se busca entre los valores con ValoresBuscados, que descarta rápido los que no
+     * están.
+     * @param valores Los valores que se eliminan. Pueden estar repetidos.
+     * @return La cantidad de elementos eliminados
+     */
+    default int eliminarValores( int[] valores )
+    {
+        if( valores.length == 0 )
+        {
+            return 0;
+        }
+        if( valores.length == 1 )
+        {
+            return eliminarTodos( valores[ 0 ] );
+        }
+        ValoresBuscados buscados = new ValoresBuscados( valores );
+        return eliminarSi( buscados::contiene );
+    }
+
+    /**
+     * Cuenta cuántas veces aparece un valor
+     * @param valor El valor buscado
+     * @return La cantidad de apariciones
+     */
+    int contar( int valor );
+
+    /**
+     * Busca la primera posición cuyo elemento no es menor que un valor. La secuencia debe estar ordenada de menor a mayor.
+     * @param valor El valor buscado
+     * @return Una posición entre 0 y tamanio(). Si el valor aparece, es la posición de su primera aparición.
+     */
+    int limiteInferior( int valor );
+
+    /**
+     * Busca la primera posición cuyo elemento es mayor que un valor. La secuencia debe estar ordenada de menor a mayor.
+     * @param valor El valor buscado
+     * @return Una posición entre 0 y tamanio(). Si el valor aparece, es la posición siguiente a su última aparición.
+     */
+    int limiteSuperior( int valor );
+
+    /**
+     * Reemplaza el contenido con una copia de los valores dados
+     * @param valores Los nuevos valores
+     */
+    void reiniciar( int[] valores );
+
+    /**
+     * Ordena los elementos de menor a mayor
+     */
+    void ordenar( );
+
+    /**
+     * Ordena los elementos de menor a mayor repartiendo el trabajo entre varios hilos del ForkJoinPool común
+     */
+    void ordenarEnParalelo( );
+
+    /**
+     * Invierte el orden de los elementos
+     */
+    void invertir( );
+
+    /**
+     * Verifica si la secuencia contiene exactamente los mismos valores que un arreglo, en el mismo orden
+     * @param otroArreglo El arreglo con el que se compara
+     * @return True si tienen los mismos valores en el mismo orden
+     */
+    boolean mismosValores( int[] otroArreglo );
+
+    /**
+     * Retorna un arreglo nuevo con los elementos, en orden
+     * @return Una copia de los elementos
+     */
+    int[] copia( );
+
+    /**
+     * Recorre los elementos en orden
+     * @param accion La acción que se ejecuta con cada elemento
+     */
+    void forEach( IntConsumer accion );
+
+    /**
+     * Reemplaza cada elemento por el resultado de aplicarle una función, en un solo recorrido
+     * @param funcion La función que calcula el nuevo valor de cada elemento
+     */
+    void reemplazarTodos( IntUnaryOperator funcion );
+
+    /**
+     * Reemplaza cada elemento por el resultado de aplicarle una función, repartiendo los elementos entre varios hilos del ForkJoinPool común
+     * @param funcion La función que calcula el nuevo valor de cada elemento. Se llama desde varios hilos, así que no debe tener efectos secundarios.
+     */
+    void reemplazarTodosEnParalelo( IntUnaryOperator funcion );
+
+    /**
+     * Retorna un IntStream secuencial sobre los elementos, en orden. Se puede volver paralelo con parallel(): el stream se divide sin copiar los elementos.
+     * 
+     * La secuencia no debe modificarse mientras se usa el stream.
+     * @return Un stream con los elementos
+     */
+    IntStream stream( );
+
+    /**
+     * Retorna una secuencia para leer los mismos elementos sin compartir con ésta el estado que cambian las consultas, como el cursor de SecuenciaEnterosPorBloques. No
+     * copia los elementos, así que sólo sirve mientras ninguna de las dos se modifique. Las secuencias cuyas consultas no cambian nada se retornan a sí mismas.
+     * @return Una secuencia con los mismos elementos
+     */
+    default SecuenciaEnteros lectorIndependiente( )
+    {
+        return this;
+    }
+
+    /**
+     * Libera la memoria que la secuencia tenga reservada fuera del heap. Después de cerrarla no debe usarse. Las secuencias que guardan sus elementos en el heap no
+     * reservan nada, así que por defecto no hace nada.
+     */
+    default void close( )
+    {
+    }
+}
@@ -0,0 +1,283 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Una secuencia de enteros que comparte sus elementos con una instantánea de sólo lectura hasta que se modifica (copia al escribir).
+ *
+ * Tomar una instantánea no copia nada: la secuencia que se tenía queda congelada como origen de la instantánea, y esta secuencia la consulta mientras no se modifique.
+ * La primera operación que modifica copia los enteros a una secuencia propia, con el almacenamiento indicado, y desde ahí todas las operaciones se hacen sobre esa
+ * copia. Es el mismo esquema de SecuenciaEnterosMapeada, con la instantánea en lugar del archivo. Así, las instantáneas que se toman entre dos modificaciones son la
+ * misma y no cuestan nada; sólo la primera modificación después de tomarla cuesta una copia.
+ *
+ * El origen no se vuelve a modificar, así que la instantánea no cambia aunque la secuencia sí. Al hacer la copia propia, esta secuencia suelta el origen y la
+ * instantánea, así que desde ese momento sólo la instantánea los mantiene en memoria. El origen nunca se cierra: si está fuera del heap o mapeada, su memoria se libera
+ * cuando la instantánea deja de usarse.
+ *
+ * La instantánea lee el origen por medio de su lectorIndependiente, así que sus consultas no comparten estado con las de esta secuencia (por ejemplo, el cursor de
+ * SecuenciaEnterosPorBloques) y se pueden hacer desde otro hilo.
+ */
+final class SecuenciaEnterosCompartida implements SecuenciaEnteros
+{
+    /**
+     * La secuencia compartida con la instantánea. No se modifica. Es null desde que se crea la copia propia.
+     */
+    private SecuenciaEnteros compartida;
+
+    /**
+     * La instantánea, una vista de sólo lectura de un lector independiente de la secuencia compartida. Es null desde que se crea la copia propia.
+     */
+    private SecuenciaEnteros instantanea;
+
+    /**
+     * El almacenamiento que se usa para la copia propia
+     */
+    private final AlmacenamientoEnteros almacenamiento;
+
+    /**
+     * La copia propia de los enteros. Es null mientras la secuencia no se haya modificado.
+     */
+    private SecuenciaEnteros propia;
+
+    private SecuenciaEnterosCompartida( SecuenciaEnteros compartida, AlmacenamientoEnteros almacenamiento )
+    {
+        this.compartida = compartida;
+        this.instantanea = SecuenciaEnterosInmodificable.de( compartida.lectorIndependiente( ) );
+        this.almacenamiento = almacenamiento;
+    }
+
+    /**
+     * Prepara una secuencia para compartirla con una instantánea. Si la secuencia ya está compartida y no se ha modificado desde entonces, se retorna la misma.
+     * @param secuencia La secuencia. Después de este llamado sólo debe usarse por medio de la secuencia retornada.
+     * @param almacenamiento El almacenamiento de la copia que se crea al modificar la secuencia
+     * @return La secuencia que reemplaza a la original. Su instantánea tiene los valores actuales.
+     */
+    static SecuenciaEnterosCompartida compartir( SecuenciaEnteros secuencia, AlmacenamientoEnteros almacenamiento )
+    {
+        if( secuencia instanceof SecuenciaEnterosCompartida )
+        {
+            SecuenciaEnterosCompartida yaCompartida = ( SecuenciaEnterosCompartida )secuencia;
+            if( yaCompartida.propia == null )
+            {
+                return yaCompartida;
+            }
+            secuencia = yaCompartida.propia;
+        }
+        return new SecuenciaEnterosCompartida( secuencia, almacenamiento );
+    }
+
+    /**
+     * Retorna la instantánea: los valores que tenía la secuencia cuando se compartió, que no cambian. Sólo se puede pedir antes de modificar la secuencia, como lo hace
+     * compartir.
+     * @return Una secuencia de sólo lectura
+     */
+    SecuenciaEnteros instantanea( )
+    {
+        return instantanea;
+    }
+
+    /**
+     * Retorna la secuencia sobre la que se hacen las consultas
+     * @return La copia propia si existe, o la secuencia compartida
+     */
+    private SecuenciaEnteros actual( )
+    {
+        return propia != null ? propia : compartida;
+    }
+
+    /**
+     * Retorna la secuencia sobre la que se pueden hacer modificaciones, copiando los enteros compartidos la primera vez
+     * @return La copia propia
+     */
+    private SecuenciaEnteros modificable( )
+    {
+        if( propia == null )
+        {
+            propia = almacenamiento.adoptar( compartida.copia( ) );
+            soltarCompartida( );
+        }
+        return propia;
+    }
+
+    /**
+     * Suelta la secuencia compartida y la instantánea, que desde ahora sólo mantiene en memoria quien tenga la instantánea
+     */
+    private void soltarCompartida( )
+    {
+        compartida = null;
+        instantanea = null;
+    }
+
+    /**
+     * Cierra la copia propia si existe. La secuencia compartida no se cierra, porque la instantánea puede seguir usándose.
+     */
+    @Override
+    public void close( )
+    {
+        if( propia != null )
+        {
+            propia.close( );
+        }
+    }
+
+    @Override
+    public int tamanio( )
+    {
+        return actual( ).tamanio( );
+    }
+
+    @Override
+    public int get( int posicion )
+    {
+        return actual( ).get( posicion );
+    }
+
+    @Override
+    public void set( int posicion, int valor )
+    {
+        modificable( ).set( posicion, valor );
+    }
+
+    @Override
+    public void agregar( int valor )
+    {
+        modificable( ).agregar( valor );
+    }
+
+    @Override
+    public void agregarTodos( int[] valores )
+    {
+        modificable( ).agregarTodos( valores );
+    }
+
+    @Override
+    public void insertar( int posicion, int valor )
+    {
+        modificable( ).insertar( posicion, valor );
+    }
+
+    @Override
+    public void insertarTodos( int posicion, int[] valores )
+    {
+        modificable( ).insertarTodos( posicion, valores );
+    }
+
+    @Override
+    public int eliminarPosicion( int posicion )
+    {
+        return modificable( ).eliminarPosicion( posicion );
+    }
+
+    @Override
+    public int eliminarTodos( int valor )
+    {
+        return modificable( ).eliminarTodos( valor );
+    }
+
+    @Override
+    public int eliminarSi( IntPredicate condicion )
+    {
+        return modificable( ).eliminarSi( condicion );
+    }
+
+    @Override
+    public int eliminarValores( int[] valores )
+    {
+        return modificable( ).eliminarValores( valores );
+    }
+
+    @Override
+    public int contar( int valor )
+    {
+        return actual( ).contar( valor );
+    }
+
+    @Override
+    public int limiteInferior( int valor )
+    {
+        return actual( ).limiteInferior( valor );
+    }
+
+    @Override
+    public int limiteSuperior( int valor )
+    {
+        return actual( ).limiteSuperior( valor );
+    }
+
+    /**
+     * Reemplaza el contenido sin copiar antes los enteros compartidos, que se van a descartar
+     */
+    @Override
+    public void reiniciar( int[] valores )
+    {
+        if( propia == null )
+        {
+            propia = almacenamiento.crear( valores.length );
+            soltarCompartida( );
+        }
+        propia.reiniciar( valores );
+    }
+
+    @Override
+    public void ordenar( )
+    {
+        modificable( ).ordenar( );
+    }
+
+    @Override
+    public void ordenarEnParalelo( )
+    {
+        modificable( ).ordenarEnParalelo( );
+    }
+
+    @Override
+    public void invertir( )
+    {
+        modificable( ).invertir( );
+    }
+
+    @Override
+    public boolean mismosValores( int[] otroArreglo )
+    {
+        return actual( ).mismosValores( otroArreglo );
+    }
+
+    @Override
+    public int[] copia( )
+    {
+        return actual( ).copia( );
+    }
+
+    @Override
+    public void forEach( IntConsumer accion )
+    {
+        actual( ).forEach( accion );
+    }
+
+    @Override
+    public void reemplazarTodos( IntUnaryOperator funcion )
+    {
+        modificable( ).reemplazarTodos( funcion );
+    }
+
+    @Override
+    public void reemplazarTodosEnParalelo( IntUnaryOperator funcion )
+    {
+        modificable( ).reemplazarTodosEnParalelo( funcion );
+    }
+
+    @Override
+    public IntStream stream( )
+    {
+        return actual( ).stream( );
+    }
+
+    @Override
+    public SecuenciaEnteros lectorIndependiente( )
+    {
+        return actual( ).lectorIndependiente( );
+    }
+}
@@ -0,0 +1,616 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Una secuencia de enteros guardada fuera del heap, en ByteBuffers directos.
+ *
+ * El recolector de basura sólo ve un objeto pequeño por segmento, así que una secuencia de varios gigabytes no aumenta el trabajo de marcar ni de copiar objetos y no
+ * ocupa espacio del heap. Los enteros se guardan en segmentos de 2^BITS_SEGMENTO enteros:
+ * <ul>
+ * <li>Mientras la secuencia cabe en un segmento, ese segmento crece de forma geométrica, así que una secuencia pequeña no reserva un segmento completo.</li>
+ * <li>Después se agregan segmentos completos. Crecer nunca copia los enteros que ya están guardados.</li>
+ * <li>Una posición se ubica con un desplazamiento y una máscara. Se pueden guardar hasta Integer.MAX_VALUE enteros (8 GB).</li>
+ * <li>Para ordenar, cada segmento se ordena con un arreglo auxiliar del tamaño de un segmento y luego los segmentos se mezclan fuera del heap, así que nunca hay una
+ * copia completa en el heap.</li>
+ * </ul>
+ * La secuencia debe cerrarse con close. Después de cerrarla, cualquier operación lanza IllegalStateException. Un ByteBuffer directo no se puede liberar explícitamente
+ * sin la API de memoria externa (que en Java 21 todavía es preliminar): close suelta los segmentos y el sistema los devuelve en la siguiente recolección.
+ */
+public class SecuenciaEnterosFueraDelHeap implements SecuenciaEnteros, AutoCloseable
+{
+    /**
+     * El logaritmo en base 2 de la cantidad de enteros de un segmento completo: 2^20 enteros son 4 MB
+     */
+    public static final int BITS_SEGMENTO = 20;
+
+    /**
+     * La cantidad de enteros de un segmento completo
+     */
+    public static final int TAMANIO_SEGMENTO = 1 << BITS_SEGMENTO;
+
+    private static final int MASCARA_SEGMENTO = TAMANIO_SEGMENTO - 1;
+
+    /**
+     * La capacidad que se reserva la primera vez que se agrega un elemento a una secuencia vacía
+     */
+    private static final int CAPACIDAD_MINIMA = 16;
+
+    private static final IntBuffer[] SIN_SEGMENTOS = new IntBuffer[0];
+
+    /**
+     * Los segmentos. Todos tienen TAMANIO_SEGMENTO enteros de capacidad, salvo el primero cuando es el único. Es null después de cerrar la secuencia.
+     */
+    private IntBuffer[] segmentos;
+
+    /**
+     * La cantidad de enteros que caben en los segmentos reservados
+     */
+    private long capacidad;
+
+    /**
+     * La cantidad de elementos válidos
+     */
+    private int tamanio;
+
+    /**
+     * Crea una secuencia vacía sin memoria reservada
+     */
+    public SecuenciaEnterosFueraDelHeap( )
+    {
+        this( 0 );
+    }
+
+    /**
+     * Crea una secuencia vacía con la capacidad indicada
+     * @param capacidadInicial La cantidad de elementos que se pueden agregar antes de tener que reservar más memoria
+     */
+    public SecuenciaEnterosFueraDelHeap( int capacidadInicial )
+    {
+        if( capacidadInicial < 0 )
+        {
+            throw new IllegalArgumentException( "La capacidad no puede ser negativa: " + capacidadInicial );
+        }
+        segmentos = SIN_SEGMENTOS;
+        asegurarCapacidad( capacidadInicial );
+    }
+
+    /**
+     * Retorna la cantidad de elementos que se pueden almacenar sin reservar más memoria
+     * @return La capacidad actual
+     */
+    public long capacidad( )
+    {
+        verificarAbierta( );
+        return capacidad;
+    }
+
+    /**
+     * Indica si la secuencia ya se cerró
+     * @return True si se cerró
+     */
+    public boolean cerrada( )
+    {
+        return segmentos == null;
+    }
+
+    /**
+     * Suelta los segmentos. Es seguro llamarlo varias veces.
+     */
+    @Override
+    public void close( )
+    {
+        segmentos = null;
+        capacidad = 0;
+        tamanio = 0;
+    }
+
+    @Override
+    public int tamanio( )
+    {
+        verificarAbierta( );
+        return tamanio;
+    }
+
+    @Override
+    public int get( int posicion )
+    {
+        verificarPosicion( posicion );
+        return leer( segmentos, posicion );
+    }
+
+    @Override
+    public void set( int posicion, int valor )
+    {
+        verificarPosicion( posicion );
+        escribir( segmentos, posicion, valor );
+    }
+
+    @Override
+    public void agregar( int valor )
+    {
+        verificarAbierta( );
+        asegurarCapacidad( tamanio + 1 );
+        escribir( segmentos, tamanio, valor );
+        tamanio++;
+    }
+
+    @Override
+    public void agregarTodos( int[] valores )
+    {
+        verificarAbierta( );
+        asegurarCapacidad( tamanio + valores.length );
+        copiarDesde( valores, tamanio );
+        tamanio += valores.length;
+    }
+
+    @Override
+    public void insertar( int posicion, int valor )
+    {
+        verificarAbierta( );
+        if( posicion < 0 || posicion > tamanio )
+        {
+            throw new IndexOutOfBoundsException( "Posición: " + posicion + ", tamaño: " + tamanio );
+        }
+        asegurarCapacidad( tamanio + 1 );
+        for( int i = tamanio; i > posicion; i-- )
+        {
+            escribir( segmentos, i, leer( segmentos, i - 1 ) );
+        }
+        escribir( segmentos, posicion, valor );
+        tamanio++;
+    }
+
+    /**
+     * Desplaza los elementos siguientes una sola vez, de atrás hacia adelante, y luego copia los valores en bloque
+     */
+    @Override
+    public void insertarTodos( int posicion, int[] valores )
+    {
+        verificarAbierta( );
+        if( posicion < 0 || posicion > tamanio )
+        {
+            throw new IndexOutOfBoundsException( "Posición: " + posicion + ", tamaño: " + tamanio );
+        }
+        asegurarCapacidad( tamanio + valores.length );
+        for( int i = tamanio - 1; i >= posicion; i-- )
+        {
+            escribir( segmentos, i + valores.length, leer( segmentos, i ) );
+        }
+        copiarDesde( valores, posicion );
+        tamanio += valores.length;
+    }
+
+    @Override
+    public int eliminarPosicion( int posicion )
+    {
+        verificarPosicion( posicion );
+        int eliminado = leer( segmentos, posicion );
+        for( int i = posicion + 1; i < tamanio; i++ )
+        {
+            escribir( segmentos, i - 1, leer( segmentos, i ) );
+        }
+        tamanio--;
+        return eliminado;
+    }
+
+    /**
+     * Elimina todas las apariciones de un valor en un solo recorrido y suelta los segmentos que quedan sin elementos
+     */
+    @Override
+    public int eliminarTodos( int valor )
+    {
+        verificarAbierta( );
+        int escritura = 0;
+        for( int lectura = 0; lectura < tamanio; lectura++ )
+        {
+            int actual = leer( segmentos, lectura );
+            if( actual != valor )
+            {
+                escribir( segmentos, escritura, actual );
+                escritura++;
+            }
+        }
+        int eliminados = tamanio - escritura;
+        tamanio = escritura;
+        soltarSegmentosSobrantes( );
+        return eliminados;
+    }
+
+    /**
+     * Elimina en un solo recorrido los elementos que cumplen la condición y suelta los segmentos que quedan sin elementos
+     */
+    @Override
+    public int eliminarSi( IntPredicate condicion )
+    {
+        verificarAbierta( );
+        int escritura = 0;
+        for( int lectura = 0; lectura < tamanio; lectura++ )
+        {
+            int actual = leer( segmentos, lectura );
+            if( !condicion.test( actual ) )
+            {
+                escribir( segmentos, escritura, actual );
+                escritura++;
+            }
+        }
+        int eliminados = tamanio - escritura;
+        tamanio = escritura;
+        soltarSegmentosSobrantes( );
+        return eliminados;
+    }
+
+    @Override
+    public int contar( int valor )
+    {
+        verificarAbierta( );
+        int contador = 0;
+        for( int numero = 0, restantes = tamanio; restantes > 0; numero++ )
+        {
+            IntBuffer segmento = segmentos[ numero ];
+            int largo = Math.min( restantes, segmento.capacity( ) );
+            for( int i = 0; i < largo; i++ )
+            {
+                if( segmento.get( i ) == valor )
+                {
+                    contador++;
+                }
+            }
+            restantes -= largo;
+        }
+        return contador;
+    }
+
+    @Override
+    public int limiteInferior( int valor )
+    {
+        verificarAbierta( );
+        return buscarLimite( valor, false );
+    }
+
+    @Override
+    public int limiteSuperior( int valor )
+    {
+        verificarAbierta( );
+        return buscarLimite( valor, true );
+    }
+
+    @Override
+    public void reiniciar( int[] valores )
+    {
+        verificarAbierta( );
+        tamanio = 0;
+        asegurarCapacidad( valores.length );
+        for( int numero = 0, copiados = 0; copiados < valores.length; numero++ )
+        {
+            IntBuffer segmento = segmentos[ numero ].duplicate( );
+            int largo = Math.min( valores.length - copiados, segmento.capacity( ) );
+            segmento.put( valores, copiados, largo );
+            copiados += largo;
+        }
+        tamanio = valores.length;
+    }
+
+    @Override
+    public void ordenar( )
+    {
+        ordenar( false );
+    }
+
+    /**
+     * Ordena los segmentos en paralelo y luego hace en paralelo las mezclas de cada pasada
+     */
+    @Override
+    public void ordenarEnParalelo( )
+    {
+        ordenar( true );
+    }
+
+    @Override
+    public int[] copia( )
+    {
+        verificarAbierta( );
+        int[] copia = new int[tamanio];
+        for( int numero = 0, copiados = 0; copiados < tamanio; numero++ )
+        {
+            IntBuffer segmento = segmentos[ numero ].duplicate( );
+            int largo = Math.min( tamanio - copiados, segmento.capacity( ) );
+            segmento.get( copia, copiados, largo );
+            copiados += largo;
+        }
+        return copia;
+    }
+
+    @Override
+    public void forEach( IntConsumer accion )
+    {
+        verificarAbierta( );
+        for( int numero = 0, restantes = tamanio; restantes > 0; numero++ )
+        {
+            IntBuffer segmento = segmentos[ numero ];
+            int largo = Math.min( restantes, segmento.capacity( ) );
+            for( int i = 0; i < largo; i++ )
+            {
+                accion.accept( segmento.get( i ) );
+            }
+            restantes -= largo;
+        }
+    }
+
+    @Override
+    public void reemplazarTodos( IntUnaryOperator funcion )
+    {
+        verificarAbierta( );
+        for( int i = 0; i < tamanio; i++ )
+        {
+            escribir( segmentos, i, funcion.applyAsInt( leer( segmentos, i ) ) );
+        }
+    }
+
+    /**
+     * Reparte las posiciones entre varios hilos. Cada hilo escribe posiciones distintas con escrituras absolutas, que no cambian el estado de los buffers.
+     */
+    @Override
+    public void reemplazarTodosEnParalelo( IntUnaryOperator funcion )
+    {
+        verificarAbierta( );
+        IntBuffer[] enUso = segmentos;
+        IntStream.range( 0, tamanio ).parallel( ).forEach( i -> escribir( enUso, i, funcion.applyAsInt( leer( enUso, i ) ) ) );
+    }
+
+    /**
+     * Retorna un stream que lee los segmentos con lecturas absolutas, así que se puede recorrer en paralelo
+     */
+    @Override
+    public IntStream stream( )
+    {
+        verificarAbierta( );
+        IntBuffer[] enUso = segmentos;
+        return IntStream.range( 0, tamanio ).map( i -> leer( enUso, i ) );
+    }
+
+    @Override
+    public void invertir( )
+    {
+        verificarAbierta( );
+        for( int i = 0, j = tamanio - 1; i < j; i++, j-- )
+        {
+            int temporal = leer( segmentos, i );
+            escribir( segmentos, i, leer( segmentos, j ) );
+            escribir( segmentos, j, temporal );
+        }
+    }
+
+    @Override
+    public boolean mismosValores( int[] otroArreglo )
+    {
+        verificarAbierta( );
+        if( otroArreglo.length != tamanio )
+        {
+            return false;
+        }
+        for( int i = 0; i < tamanio; i++ )
+        {
+            if( leer( segmentos, i ) != otroArreglo[ i ] )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int leer( IntBuffer[] segmentos, int posicion )
+    {
+        return segmentos[ posicion >>> BITS_SEGMENTO ].get( posicion & MASCARA_SEGMENTO );
+    }
+
+    private static void escribir( IntBuffer[] segmentos, int posicion, int valor )
+    {
+        segmentos[ posicion >>> BITS_SEGMENTO ].put( posicion & MASCARA_SEGMENTO, valor );
+    }
+
+    /**
+     * Copia un arreglo completo a partir de una posición, con una copia en bloque por segmento. La capacidad ya debe alcanzar.
+     * @param valores Los valores que se copian
+     * @param posicion La posición del primer valor
+     */
+    private void copiarDesde( int[] valores, int posicion )
+    {
+        for( int copiados = 0; copiados < valores.length; )
+        {
+            int destino = posicion + copiados;
+            IntBuffer segmento = segmentos[ destino >>> BITS_SEGMENTO ].duplicate( );
+            segmento.position( destino & MASCARA_SEGMENTO );
+            int largo = Math.min( valores.length - copiados, segmento.remaining( ) );
+            segmento.put( valores, copiados, largo );
+            copiados += largo;
+        }
+    }
+
+    /**
+     * Suelta los segmentos completos que quedaron sin elementos después de eliminar. El primer segmento siempre se conserva.
+     */
+    private void soltarSegmentosSobrantes( )
+    {
+        int necesarios = Math.max( 1, ( tamanio + MASCARA_SEGMENTO ) >>> BITS_SEGMENTO );
+        if( segmentos.length > necesarios )
+        {
+            segmentos = Arrays.copyOf( segmentos, necesarios );
+            capacidad = ( long )necesarios << BITS_SEGMENTO;
+        }
+    }
+
+    /**
+     * Reserva un segmento nuevo. Se usa el orden nativo de bytes para que leer y escribir no tengan que invertirlos.
+     * @param enteros La cantidad de enteros del segmento
+     * @return El segmento
+     */
+    private static IntBuffer reservar( int enteros )
+    {
+        return ByteBuffer.allocateDirect( enteros * Integer.BYTES ).order( ByteOrder.nativeOrder( ) ).asIntBuffer( );
+    }
+
+    /**
+     * Garantiza que quepan al menos los elementos indicados. Mientras haya un solo segmento, se reemplaza por uno del doble de tamaño (hasta TAMANIO_SEGMENTO); después se
+     * agregan sólo los segmentos completos que hagan falta, sin copiar los que ya existen.
+     * @param capacidadRequerida La cantidad mínima de elementos
+     */
+    private void asegurarCapacidad( int capacidadRequerida )
+    {
+        if( capacidadRequerida < 0 )
+        {
+            throw new OutOfMemoryError( "La secuencia no puede tener más de " + Integer.MAX_VALUE + " elementos" );
+        }
+        if( capacidadRequerida <= capacidad )
+        {
+            return;
+        }
+        if( capacidad < TAMANIO_SEGMENTO )
+        {
+            int nuevaCapacidad = ( int )Math.min( TAMANIO_SEGMENTO, Math.max( Math.max( capacidad * 2, CAPACIDAD_MINIMA ), capacidadRequerida ) );
+            IntBuffer nuevo = reservar( nuevaCapacidad );
+            if( segmentos.length > 0 )
+            {
+                IntBuffer anterior = segmentos[ 0 ].duplicate( );
+                anterior.limit( tamanio );
+                nuevo.duplicate( ).put( anterior );
+            }
+            segmentos = new IntBuffer[]{ nuevo };
+            capacidad = nuevaCapacidad;
+        }
+        if( capacidadRequerida > capacidad )
+        {
+            int necesarios = ( int ) ( ( ( long )capacidadRequerida + MASCARA_SEGMENTO ) >>> BITS_SEGMENTO );
+            int actuales = segmentos.length;
+            segmentos = Arrays.copyOf( segmentos, necesarios );
+            for( int numero = actuales; numero < necesarios; numero++ )
+            {
+                segmentos[ numero ] = reservar( TAMANIO_SEGMENTO );
+            }
+            capacidad = ( long )segmentos.length << BITS_SEGMENTO;
+        }
+    }
+
+    /**
+     * Ordena cada segmento con un arreglo auxiliar del tamaño de un segmento y luego mezcla los segmentos de a pares, duplicando el largo de los tramos ordenados en cada
+     * pasada. Las mezclas escriben en segmentos auxiliares que reemplazan a los actuales, así que durante el ordenamiento se usa el doble de memoria fuera del heap.
+     * @param paralelo Si es true, los segmentos y las mezclas de cada pasada se reparten entre varios hilos
+     */
+    private void ordenar( boolean paralelo )
+    {
+        verificarAbierta( );
+        IntBuffer[] origen = segmentos;
+        int cantidad = ( tamanio + MASCARA_SEGMENTO ) >>> BITS_SEGMENTO;
+        IntStream numeros = IntStream.range( 0, cantidad );
+        IntBuffer[] desordenados = origen;
+        ( paralelo ? numeros.parallel( ) : numeros ).forEach( numero -> {
+            IntBuffer segmento = desordenados[ numero ].duplicate( );
+            int[] auxiliar = new int[Math.min( tamanio - ( numero << BITS_SEGMENTO ), segmento.capacity( ) )];
+            segmento.get( auxiliar );
+            Arrays.sort( auxiliar );
+            segmento.clear( );
+            segmento.put( auxiliar );
+        } );
+        if( cantidad <= 1 )
+        {
+            return;
+        }
+
+        IntBuffer[] destino = new IntBuffer[origen.length];
+        for( int numero = 0; numero < destino.length; numero++ )
+        {
+            destino[ numero ] = reservar( TAMANIO_SEGMENTO );
+        }
+        for( long ancho = TAMANIO_SEGMENTO; ancho < tamanio; ancho *= 2 )
+        {
+            IntBuffer[] desde = origen;
+            IntBuffer[] hacia = destino;
+            long tramo = ancho;
+            IntStream pares = IntStream.range( 0, ( int ) ( ( tamanio + 2 * ancho - 1 ) / ( 2 * ancho ) ) );
+            ( paralelo ? pares.parallel( ) : pares ).forEach( par -> {
+                long inicio = par * 2 * tramo;
+                mezclar( desde, hacia, ( int )inicio, ( int )Math.min( inicio + tramo, tamanio ), ( int )Math.min( inicio + 2 * tramo, tamanio ) );
+            } );
+            destino = origen;
+            origen = hacia;
+        }
+        segmentos = origen;
+    }
+
+    /**
+     * Mezcla dos tramos ordenados y consecutivos de un grupo de segmentos en las mismas posiciones de otro
+     * @param desde Los segmentos de origen
+     * @param hacia Los segmentos de destino
+     * @param inicio La primera posición del primer tramo
+     * @param mitad La primera posición del segundo tramo
+     * @param fin La posición siguiente a la última del segundo tramo
+     */
+    private static void mezclar( IntBuffer[] desde, IntBuffer[] hacia, int inicio, int mitad, int fin )
+    {
+        int i = inicio;
+        int j = mitad;
+        for( int k = inicio; k < fin; k++ )
+        {
+            if( j >= fin || ( i < mitad && leer( desde, i ) <= leer( desde, j ) ) )
+            {
+                escribir( hacia, k, leer( desde, i ) );
+                i++;
+            }
+            else
+            {
+                escribir( hacia, k, leer( desde, j ) );
+                j++;
+            }
+        }
+    }
+
+    /**
+     * Busca con búsqueda binaria la primera posición cuyo elemento es mayor (o mayor o igual) que un valor
+     * @param valor El valor buscado
+     * @param incluirIguales Si es true, se busca el primer elemento mayor que el valor; si es false, el primero mayor o igual
+     * @return Una posición entre 0 y tamanio
+     */
+    private int buscarLimite( int valor, boolean incluirIguales )
+    {
+        int bajo = 0;
+        int alto = tamanio;
+        while( bajo < alto )
+        {
+            int medio = ( bajo + alto ) >>> 1;
+            int actual = leer( segmentos, medio );
+            if( actual < valor || ( incluirIguales && actual == valor ) )
+            {
+                bajo = medio + 1;
+            }
+            else
+            {
+                alto = medio;
+            }
+        }
+        return bajo;
+    }
+
+    private void verificarAbierta( )
+    {
+        if( segmentos == null )
+        {
+            throw new IllegalStateException( "La secuencia ya se cerró" );
+        }
+    }
+
+    private void verificarPosicion( int posicion )
+    {
+        verificarAbierta( );
+        if( posicion < 0 || posicion >= tamanio )
+        {
+            throw new IndexOutOfBoundsException( "Posición: " + posicion + ", tamaño: " + tamanio );
+        }
+    }
+}
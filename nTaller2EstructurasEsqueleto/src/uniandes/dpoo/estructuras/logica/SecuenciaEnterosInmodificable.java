@@ -0,0 +1,212 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Una vista de sólo lectura de una secuencia de enteros, como las que retorna Collections.unmodifiableList para las listas.
+ *
+ * La vista no copia los enteros: cada consulta se hace sobre la secuencia de origen, así que crearla y consultarla no reserva memoria proporcional al tamaño. Las
+ * operaciones que modifican lanzan UnsupportedOperationException.
+ *
+ * El origen se pide cada vez, así que la vista de un sandbox sigue al arreglo del sandbox aunque éste lo reemplace (por ejemplo al reiniciarlo o al cargarlo).
+ */
+final class SecuenciaEnterosInmodificable implements SecuenciaEnteros
+{
+    /**
+     * Retorna la secuencia sobre la que se hacen las consultas
+     */
+    private final Supplier<SecuenciaEnteros> origen;
+
+    /**
+     * Crea una vista
+     * @param origen Retorna la secuencia que se consulta en cada operación
+     */
+    SecuenciaEnterosInmodificable( Supplier<SecuenciaEnteros> origen )
+    {
+        this.origen = origen;
+    }
+
+    /**
+     * Crea una vista de una secuencia fija
+     * @param secuencia La secuencia
+     * @return La vista
+     */
+    static SecuenciaEnterosInmodificable de( SecuenciaEnteros secuencia )
+    {
+        return new SecuenciaEnterosInmodificable( ( ) -> secuencia );
+    }
+
+    /**
+     * Lanza la excepción de todas las operaciones que modifican
+     */
+    private static UnsupportedOperationException soloLectura( )
+    {
+        return new UnsupportedOperationException( "La secuencia es de sólo lectura" );
+    }
+
+    @Override
+    public int tamanio( )
+    {
+        return origen.get( ).tamanio( );
+    }
+
+    @Override
+    public int get( int posicion )
+    {
+        return origen.get( ).get( posicion );
+    }
+
+    @Override
+    public void set( int posicion, int valor )
+    {
+        throw soloLectura( );
+    }
+
+    @Override
+    public void agregar( int valor )
+    {
+        throw soloLectura( );
+    }
+
+    @Override
+    public void agregarTodos( int[] valores )
+    {
+        throw soloLectura( );
+    }
+
+    @Override
+    public void insertar( int posicion, int valor )
+    {
+        throw soloLectura( );
+    }
+
+    @Override
+    public void insertarTodos( int posicion, int[] valores )
+    {
+        throw soloLectura( );
+    }
+
+    @Override
+    public int eliminarPosicion( int posicion )
+    {
+        throw soloLectura( );
+    }
+
+    @Override
+    public int eliminarTodos( int valor )
+    {
+        throw soloLectura( );
+    }
+
+    @Override
+    public int eliminarSi( IntPredicate condicion )
+    {
+        throw soloLectura( );
+    }
+
+    @Override
+    public int eliminarValores( int[] valores )
+    {
+        throw soloLectura( );
+    }
+
+    @Override
+    public int contar( int valor )
+    {
+        return origen.get( ).contar( valor );
+    }
+
+    @Override
+    public int limiteInferior( int valor )
+    {
+        return origen.get( ).limiteInferior( valor );
+    }
+
+    @Override
+    public int limiteSuperior( int valor )
+    {
+        return origen.get( ).limiteSuperior( valor );
+    }
+
+    @Override
+    public void reiniciar( int[] valores )
+    {
+        throw soloLectura( );
+    }
+
+    @Override
+    public void ordenar( )
+    {
+        throw soloLectura( );
+    }
+
+    @Override
+    public void ordenarEnParalelo( )
+    {
+        throw soloLectura( );
+    }
+
+    @Override
+    public void invertir( )
+    {
+        throw soloLectura( );
+    }
+
+    @Override
+    public boolean mismosValores( int[] otroArreglo )
+    {
+        return origen.get( ).mismosValores( otroArreglo );
+    }
+
+    @Override
+    public int[] copia( )
+    {
+        return origen.get( ).copia( );
+    }
+
+    @Override
+    public void forEach( IntConsumer accion )
+    {
+        origen.get( ).forEach( accion );
+    }
+
+    @Override
+    public void reemplazarTodos( IntUnaryOperator funcion )
+    {
+        throw soloLectura( );
+    }
+
+    @Override
+    public void reemplazarTodosEnParalelo( IntUnaryOperator funcion )
+    {
+        throw soloLectura( );
+    }
+
+    @Override
+    public IntStream stream( )
+    {
+        return origen.get( ).stream( );
+    }
+
+    /**
+     * Retorna una vista de sólo lectura de un lector independiente de la secuencia de origen actual. A diferencia de esta vista, no sigue los reemplazos posteriores
+     * del origen.
+     */
+    @Override
+    public SecuenciaEnteros lectorIndependiente( )
+    {
+        return de( origen.get( ).lectorIndependiente( ) );
+    }
+
+    /**
+     * No hace nada: la vista no es dueña de la secuencia de origen, así que no la cierra
+     */
+    @Override
+    public void close( )
+    {
+    }
+}
@@ -0,0 +1,390 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Una secuencia de enteros respaldada por un archivo mapeado en memoria con FileChannel.map.
+ *
+ * Abrirla no lee el archivo: el sistema operativo trae las páginas a memoria a medida que se consultan, así que las consultas funcionan sobre archivos más grandes que el
+ * heap. El mapeo es de sólo lectura. La primera operación que modifica la secuencia copia todos los enteros a una secuencia en memoria, con el almacenamiento indicado, y
+ * desde ahí todas las operaciones se hacen sobre esa copia. El archivo nunca se modifica.
+ *
+ * Un MappedByteBuffer no puede pasar de 2 GB, así que el archivo se mapea por segmentos de 2^bitsSegmento enteros.
+ */
+class SecuenciaEnterosMapeada implements SecuenciaEnteros
+{
+    /**
+     * El logaritmo en base 2 de la cantidad de enteros de cada segmento: 2^28 enteros son 1 GB
+     */
+    static final int BITS_SEGMENTO = 28;
+
+    private final int tamanio;
+
+    private final int bitsSegmento;
+
+    private final int mascaraSegmento;
+
+    /**
+     * Los segmentos del archivo mapeados. Es null después de copiar los enteros a memoria.
+     */
+    private IntBuffer[] segmentos;
+
+    /**
+     * El almacenamiento que se usa para la copia en memoria
+     */
+    private final AlmacenamientoEnteros almacenamiento;
+
+    /**
+     * La copia en memoria de los enteros. Es null mientras la secuencia no se haya modificado.
+     */
+    private SecuenciaEnteros enMemoria;
+
+    /**
+     * Mapea los enteros de un archivo en segmentos de 2^BITS_SEGMENTO enteros
+     * @param canal El canal del archivo, abierto para lectura. Se puede cerrar después de crear la secuencia.
+     * @param desplazamiento La posición del primer entero en el archivo, en bytes
+     * @param tamanio La cantidad de enteros
+     * @param almacenamiento El almacenamiento de la copia en memoria que se crea al modificar la secuencia
+     * @throws IOException Si el archivo no se puede mapear
+     */
+    SecuenciaEnterosMapeada( FileChannel canal, long desplazamiento, int tamanio, AlmacenamientoEnteros almacenamiento ) throws IOException
+    {
+        this( canal, desplazamiento, tamanio, almacenamiento, BITS_SEGMENTO );
+    }
+
+    /**
+     * Mapea los enteros de un archivo en segmentos del tamaño indicado
+     * @param canal El canal del archivo, abierto para lectura. Se puede cerrar después de crear la secuencia.
+     * @param desplazamiento La posición del primer entero en el archivo, en bytes
+     * @param tamanio La cantidad de enteros
+     * @param almacenamiento El almacenamiento de la copia en memoria que se crea al modificar la secuencia
+     * @param bitsSegmento El logaritmo en base 2 de la cantidad de enteros de cada segmento, entre 1 y BITS_SEGMENTO
+     * @throws IOException Si el archivo no se puede mapear
+     */
+    SecuenciaEnterosMapeada( FileChannel canal, long desplazamiento, int tamanio, AlmacenamientoEnteros almacenamiento, int bitsSegmento ) throws IOException
+    {
+        if( bitsSegmento < 1 || bitsSegmento > BITS_SEGMENTO )
+        {
+            throw new IllegalArgumentException( "Tamaño de segmento no válido: " + bitsSegmento );
+        }
+        this.tamanio = tamanio;
+        this.bitsSegmento = bitsSegmento;
+        this.mascaraSegmento = ( 1 << bitsSegmento ) - 1;
+        this.almacenamiento = almacenamiento;
+
+        int cantidadSegmentos = ( int ) ( ( ( long )tamanio + mascaraSegmento ) >>> bitsSegmento );
+        segmentos = new IntBuffer[cantidadSegmentos];
+        for( int i = 0; i < cantidadSegmentos; i++ )
+        {
+            long primero = ( long )i << bitsSegmento;
+            long cantidad = Math.min( 1L << bitsSegmento, tamanio - primero );
+            segmentos[ i ] = canal.map( FileChannel.MapMode.READ_ONLY, desplazamiento + primero * Integer.BYTES, cantidad * Integer.BYTES ).order( ByteOrder.LITTLE_ENDIAN ).asIntBuffer( );
+        }
+    }
+
+    /**
+     * Indica si la secuencia todavía se lee del archivo mapeado
+     * @return True si todavía no se ha copiado a memoria
+     */
+    boolean mapeada( )
+    {
+        return enMemoria == null;
+    }
+
+    /**
+     * Suelta el mapeo, que el sistema libera en la siguiente recolección, y cierra la copia en memoria si existe
+     */
+    @Override
+    public void close( )
+    {
+        segmentos = null;
+        if( enMemoria != null )
+        {
+            enMemoria.close( );
+        }
+    }
+
+    /**
+     * Las lecturas del archivo mapeado no cambian nada, así que mientras no se haya copiado a memoria se retorna la misma secuencia
+     */
+    @Override
+    public SecuenciaEnteros lectorIndependiente( )
+    {
+        return enMemoria != null ? enMemoria.lectorIndependiente( ) : this;
+    }
+
+    /**
+     * Lee un entero del archivo mapeado, sin revisar la posición
+     * @param posicion La posición, entre 0 y tamanio - 1
+     * @return El entero
+     */
+    private int leer( int posicion )
+    {
+        return segmentos[ posicion >>> bitsSegmento ].get( posicion & mascaraSegmento );
+    }
+
+    /**
+     * Retorna la secuencia sobre la que se pueden hacer modificaciones, copiando los enteros del archivo a memoria la primera vez
+     * @return La copia en memoria
+     */
+    private SecuenciaEnteros modificable( )
+    {
+        if( enMemoria == null )
+        {
+            SecuenciaEnteros copia = almacenamiento.crear( tamanio );
+            forEach( copia::agregar );
+            enMemoria = copia;
+            segmentos = null;
+        }
+        return enMemoria;
+    }
+
+    @Override
+    public int tamanio( )
+    {
+        return enMemoria != null ? enMemoria.tamanio( ) : tamanio;
+    }
+
+    @Override
+    public int get( int posicion )
+    {
+        if( enMemoria != null )
+        {
+            return enMemoria.get( posicion );
+        }
+        if( posicion < 0 || posicion >= tamanio )
+        {
+            throw new IndexOutOfBoundsException( "Posición " + posicion + " fuera de la secuencia de tamaño " + tamanio );
+        }
+        return leer( posicion );
+    }
+
+    @Override
+    public void set( int posicion, int valor )
+    {
+        modificable( ).set( posicion, valor );
+    }
+
+    @Override
+    public void agregar( int valor )
+    {
+        modificable( ).agregar( valor );
+    }
+
+    @Override
+    public void agregarTodos( int[] valores )
+    {
+        modificable( ).agregarTodos( valores );
+    }
+
+    @Override
+    public void insertar( int posicion, int valor )
+    {
+        modificable( ).insertar( posicion, valor );
+    }
+
+    @Override
+    public void insertarTodos( int posicion, int[] valores )
+    {
+        modificable( ).insertarTodos( posicion, valores );
+    }
+
+    @Override
+    public int eliminarPosicion( int posicion )
+    {
+        return modificable( ).eliminarPosicion( posicion );
+    }
+
+    @Override
+    public int eliminarTodos( int valor )
+    {
+        return modificable( ).eliminarTodos( valor );
+    }
+
+    @Override
+    public int eliminarSi( IntPredicate condicion )
+    {
+        return modificable( ).eliminarSi( condicion );
+    }
+
+    @Override
+    public int eliminarValores( int[] valores )
+    {
+        return modificable( ).eliminarValores( valores );
+    }
+
+    @Override
+    public int contar( int valor )
+    {
+        if( enMemoria != null )
+        {
+            return enMemoria.contar( valor );
+        }
+        int cantidad = 0;
+        for( int i = 0; i < tamanio; i++ )
+        {
+            if( leer( i ) == valor )
+            {
+                cantidad++;
+            }
+        }
+        return cantidad;
+    }
+
+    @Override
+    public int limiteInferior( int valor )
+    {
+        return enMemoria != null ? enMemoria.limiteInferior( valor ) : buscarLimite( valor, false );
+    }
+
+    @Override
+    public int limiteSuperior( int valor )
+    {
+        return enMemoria != null ? enMemoria.limiteSuperior( valor ) : buscarLimite( valor, true );
+    }
+
+    /**
+     * Busca con búsqueda binaria sobre el archivo mapeado. Sólo se traen a memoria las páginas que visita la búsqueda.
+     * @param valor El valor buscado
+     * @param incluirIguales Si es true busca el límite superior; si no, el inferior
+     * @return La posición encontrada
+     */
+    private int buscarLimite( int valor, boolean incluirIguales )
+    {
+        int bajo = 0;
+        int alto = tamanio;
+        while( bajo < alto )
+        {
+            int medio = ( bajo + alto ) >>> 1;
+            int actual = leer( medio );
+            if( actual < valor || ( incluirIguales && actual == valor ) )
+            {
+                bajo = medio + 1;
+            }
+            else
+            {
+                alto = medio;
+            }
+        }
+        return bajo;
+    }
+
+    @Override
+    public void reiniciar( int[] valores )
+    {
+        SecuenciaEnteros nueva = almacenamiento.crear( valores.length );
+        nueva.reiniciar( valores );
+        enMemoria = nueva;
+        segmentos = null;
+    }
+
+    @Override
+    public void ordenar( )
+    {
+        modificable( ).ordenar( );
+    }
+
+    @Override
+    public void ordenarEnParalelo( )
+    {
+        modificable( ).ordenarEnParalelo( );
+    }
+
+    @Override
+    public void invertir( )
+    {
+        modificable( ).invertir( );
+    }
+
+    @Override
+    public boolean mismosValores( int[] otroArreglo )
+    {
+        if( enMemoria != null )
+        {
+            return enMemoria.mismosValores( otroArreglo );
+        }
+        if( otroArreglo.length != tamanio )
+        {
+            return false;
+        }
+        for( int i = 0; i < tamanio; i++ )
+        {
+            if( leer( i ) != otroArreglo[ i ] )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int[] copia( )
+    {
+        if( enMemoria != null )
+        {
+            return enMemoria.copia( );
+        }
+        int[] copia = new int[tamanio];
+        for( int i = 0; i < segmentos.length; i++ )
+        {
+            IntBuffer segmento = segmentos[ i ].duplicate( );
+            segmento.get( copia, i << bitsSegmento, segmento.limit( ) );
+        }
+        return copia;
+    }
+
+    @Override
+    public void forEach( IntConsumer accion )
+    {
+        if( enMemoria != null )
+        {
+            enMemoria.forEach( accion );
+            return;
+        }
+        for( IntBuffer segmento : segmentos )
+        {
+            int limite = segmento.limit( );
+            for( int i = 0; i < limite; i++ )
+            {
+                accion.accept( segmento.get( i ) );
+            }
+        }
+    }
+
+    @Override
+    public void reemplazarTodos( IntUnaryOperator funcion )
+    {
+        modificable( ).reemplazarTodos( funcion );
+    }
+
+    @Override
+    public void reemplazarTodosEnParalelo( IntUnaryOperator funcion )
+    {
+        modificable( ).reemplazarTodosEnParalelo( funcion );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Mientras la secuencia esté mapeada, el stream lee del archivo con lecturas absolutas, que no cambian el estado de los buffers, así que se puede recorrer en paralelo.
+     */
+    @Override
+    public IntStream stream( )
+    {
+        if( enMemoria != null )
+        {
+            return enMemoria.stream( );
+        }
+        IntBuffer[] mapeados = segmentos;
+        int bits = bitsSegmento;
+        int mascara = mascaraSegmento;
+        return IntStream.range( 0, tamanio ).map( i -> mapeados[ i >>> bits ].get( i & mascara ) );
+    }
+}
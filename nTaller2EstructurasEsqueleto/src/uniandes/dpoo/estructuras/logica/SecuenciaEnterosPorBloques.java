@@ -0,0 +1,771 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Una secuencia de enteros guardada como una lista de bloques, cada uno un int[] con espacio para capacidadBloque() elementos.
+ *
+ * La capacidad de los bloques se mantiene cerca de √n, así que hay O(√n) bloques de O(√n) elementos:
+ * <ul>
+ * <li>Insertar o eliminar en una posición sólo desplaza los elementos de un bloque, con System.arraycopy. Un bloque lleno se parte en dos mitades y un bloque que queda
+ * vacío se quita.</li>
+ * <li>Agregar al final cuesta O(1) amortizado.</li>
+ * <li>Para encontrar el bloque de una posición se recuerda el último bloque visitado (un cursor), así que los accesos cercanos a la última posición usada cuestan O(1) y los
+ * demás cuestan a lo sumo O(√n).</li>
+ * <li>copia, ordenar y reiniciar trabajan bloque por bloque con copias en bloque.</li>
+ * <li>Las operaciones en paralelo reparten bloques completos entre los hilos.</li>
+ * </ul>
+ * Cuando la cantidad de bloques se aleja de √n (porque la secuencia creció o porque quedaron muchos bloques casi vacíos), los bloques se reconstruyen llenos con una nueva
+ * capacidad. Esto cuesta O(n) y ocurre después de Ω(n) operaciones.
+ */
+public class SecuenciaEnterosPorBloques implements SecuenciaEnteros
+{
+    /**
+     * La capacidad mínima de un bloque. Con menos elementos, el costo de recorrer los bloques sería mayor que el de desplazar los elementos.
+     */
+    public static final int CAPACIDAD_MINIMA_BLOQUE = 64;
+
+    /**
+     * Los bloques, en orden. Sólo las primeras 'cantidadBloques' posiciones se usan y ninguno de esos bloques está vacío.
+     */
+    private int[][] bloques;
+
+    /**
+     * La cantidad de elementos válidos de cada bloque
+     */
+    private int[] tamanios;
+
+    /**
+     * La cantidad de bloques en uso
+     */
+    private int cantidadBloques;
+
+    /**
+     * La cantidad total de elementos
+     */
+    private int tamanio;
+
+    /**
+     * La capacidad de todos los bloques
+     */
+    private int capacidadBloque;
+
+    /**
+     * El último bloque que se ubicó. Siempre es 0 o un bloque en uso.
+     */
+    private int bloqueCursor;
+
+    /**
+     * La posición en la secuencia del primer elemento de bloqueCursor
+     */
+    private int inicioCursor;
+
+    /**
+     * Crea una secuencia vacía
+     */
+    public SecuenciaEnterosPorBloques( )
+    {
+        this( 0 );
+    }
+
+    /**
+     * Crea una secuencia vacía con bloques del tamaño adecuado para la cantidad de elementos esperada
+     * @param capacidadInicial La cantidad de elementos esperada
+     */
+    public SecuenciaEnterosPorBloques( int capacidadInicial )
+    {
+        if( capacidadInicial < 0 )
+        {
+            throw new IllegalArgumentException( "La capacidad no puede ser negativa: " + capacidadInicial );
+        }
+        capacidadBloque = capacidadPara( capacidadInicial );
+        bloques = new int[4][];
+        tamanios = new int[4];
+    }
+
+    /**
+     * Crea una secuencia que comparte los bloques de otra, con su propio cursor
+     * @param origen La secuencia cuyos bloques se comparten
+     */
+    private SecuenciaEnterosPorBloques( SecuenciaEnterosPorBloques origen )
+    {
+        bloques = origen.bloques;
+        tamanios = origen.tamanios;
+        cantidadBloques = origen.cantidadBloques;
+        tamanio = origen.tamanio;
+        capacidadBloque = origen.capacidadBloque;
+    }
+
+    @Override
+    public int tamanio( )
+    {
+        return tamanio;
+    }
+
+    /**
+     * Retorna la capacidad de los bloques
+     * @return La cantidad máxima de elementos de un bloque
+     */
+    public int capacidadBloque( )
+    {
+        return capacidadBloque;
+    }
+
+    /**
+     * Retorna la cantidad de bloques en uso
+     * @return La cantidad de bloques
+     */
+    public int cantidadBloques( )
+    {
+        return cantidadBloques;
+    }
+
+    @Override
+    public int get( int posicion )
+    {
+        verificarPosicion( posicion );
+        int bloque = ubicar( posicion );
+        return bloques[ bloque ][ posicion - inicioCursor ];
+    }
+
+    @Override
+    public void set( int posicion, int valor )
+    {
+        verificarPosicion( posicion );
+        int bloque = ubicar( posicion );
+        bloques[ bloque ][ posicion - inicioCursor ] = valor;
+    }
+
+    @Override
+    public void agregar( int valor )
+    {
+        int ultimo = cantidadBloques - 1;
+        if( ultimo < 0 || tamanios[ ultimo ] == capacidadBloque )
+        {
+            ultimo++;
+            insertarBloque( ultimo, new int[capacidadBloque], 0 );
+        }
+        bloques[ ultimo ][ tamanios[ ultimo ] ] = valor;
+        tamanios[ ultimo ]++;
+        tamanio++;
+        reconstruirSiEsNecesario( );
+    }
+
+    /**
+     * Es insertarTodos al final: los valores se copian en el último bloque si caben, o en bloques nuevos llenos si no.
+     */
+    @Override
+    public void agregarTodos( int[] valores )
+    {
+        insertarTodos( tamanio, valores );
+    }
+
+    @Override
+    public void insertar( int posicion, int valor )
+    {
+        if( posicion < 0 || posicion > tamanio )
+        {
+            throw new IndexOutOfBoundsException( "Posición: " + posicion + ", tamaño: " + tamanio );
+        }
+        if( posicion == tamanio )
+        {
+            agregar( valor );
+            return;
+        }
+        int bloque = ubicar( posicion );
+        int enBloque = posicion - inicioCursor;
+        if( tamanios[ bloque ] == capacidadBloque )
+        {
+            int mitad = capacidadBloque / 2;
+            int[] segundaMitad = new int[capacidadBloque];
+            System.arraycopy( bloques[ bloque ], mitad, segundaMitad, 0, capacidadBloque - mitad );
+            tamanios[ bloque ] = mitad;
+            insertarBloque( bloque + 1, segundaMitad, capacidadBloque - mitad );
+            if( enBloque > mitad )
+            {
+                bloque++;
+                enBloque -= mitad;
+                bloqueCursor = bloque;
+                inicioCursor += mitad;
+            }
+        }
+        int[] elementos = bloques[ bloque ];
+        System.arraycopy( elementos, enBloque, elementos, enBloque + 1, tamanios[ bloque ] - enBloque );
+        elementos[ enBloque ] = valor;
+        tamanios[ bloque ]++;
+        tamanio++;
+        reconstruirSiEsNecesario( );
+    }
+
+    /**
+     * Si los valores caben en el bloque de la posición, sólo se desplaza ese bloque. Si no, los valores y los elementos del bloque que estaban después de la posición se
+     * reparten en bloques nuevos, que se insertan en la lista de bloques desplazándola una sola vez. Si con los bloques nuevos habría que reconstruir, se reconstruye
+     * directamente con todos los valores.
+     */
+    @Override
+    public void insertarTodos( int posicion, int[] valores )
+    {
+        if( posicion < 0 || posicion > tamanio )
+        {
+            throw new IndexOutOfBoundsException( "Posición: " + posicion + ", tamaño: " + tamanio );
+        }
+        if( valores.length == 0 )
+        {
+            return;
+        }
+        int bloque;
+        int enBloque;
+        if( posicion == tamanio && cantidadBloques > 0 )
+        {
+            bloque = cantidadBloques - 1;
+            enBloque = tamanios[ bloque ];
+        }
+        else if( posicion == tamanio )
+        {
+            bloque = 0;
+            enBloque = 0;
+        }
+        else
+        {
+            bloque = ubicar( posicion );
+            enBloque = posicion - inicioCursor;
+        }
+        int[] elementos = bloques[ bloque ];
+        int enUso = cantidadBloques == 0 ? 0 : tamanios[ bloque ];
+        if( cantidadBloques > 0 && enUso + valores.length <= capacidadBloque )
+        {
+            System.arraycopy( elementos, enBloque, elementos, enBloque + valores.length, enUso - enBloque );
+            System.arraycopy( valores, 0, elementos, enBloque, valores.length );
+            tamanios[ bloque ] += valores.length;
+            tamanio += valores.length;
+            return;
+        }
+
+        // Los valores, seguidos de los elementos del bloque que estaban después de la posición, llenan bloques nuevos. Si la posición está al comienzo de un bloque, el
+        // primero de los bloques nuevos ocupa su lugar.
+        int total = valores.length + enUso - enBloque;
+        int cantidad = ( total + capacidadBloque - 1 ) / capacidadBloque;
+        int reemplazados = cantidadBloques > 0 && enBloque == 0 ? 1 : 0;
+        if( cantidadBloques + cantidad - reemplazados > 2 * capacidadBloque )
+        {
+            int[] todos = new int[tamanio + valores.length];
+            copiarRango( 0, posicion, todos, 0 );
+            System.arraycopy( valores, 0, todos, posicion, valores.length );
+            copiarRango( posicion, tamanio - posicion, todos, posicion + valores.length );
+            llenar( todos );
+            return;
+        }
+        int primero = enBloque == 0 ? bloque : bloque + 1;
+        abrirEspacio( primero + reemplazados, cantidad - reemplazados );
+        int origen = 0;
+        for( int numero = primero; numero < primero + cantidad; numero++ )
+        {
+            int[] nuevo = new int[capacidadBloque];
+            int largo = Math.min( capacidadBloque, total - origen );
+            int llenos = 0;
+            if( origen < valores.length )
+            {
+                llenos = Math.min( largo, valores.length - origen );
+                System.arraycopy( valores, origen, nuevo, 0, llenos );
+            }
+            if( llenos < largo )
+            {
+                System.arraycopy( elementos, enBloque + origen + llenos - valores.length, nuevo, llenos, largo - llenos );
+            }
+            bloques[ numero ] = nuevo;
+            tamanios[ numero ] = largo;
+            origen += largo;
+        }
+        if( enBloque > 0 )
+        {
+            tamanios[ bloque ] = enBloque;
+        }
+        tamanio += valores.length;
+        reiniciarCursor( );
+        reconstruirSiEsNecesario( );
+    }
+
+    @Override
+    public int eliminarPosicion( int posicion )
+    {
+        verificarPosicion( posicion );
+        int bloque = ubicar( posicion );
+        int enBloque = posicion - inicioCursor;
+        int[] elementos = bloques[ bloque ];
+        int eliminado = elementos[ enBloque ];
+        System.arraycopy( elementos, enBloque + 1, elementos, enBloque, tamanios[ bloque ] - enBloque - 1 );
+        tamanios[ bloque ]--;
+        tamanio--;
+        if( tamanios[ bloque ] == 0 )
+        {
+            // El bloque siguiente ocupa su lugar y empieza en la misma posición, así que el cursor sigue siendo válido si hay un bloque siguiente
+            eliminarBloque( bloque );
+            if( bloqueCursor >= cantidadBloques )
+            {
+                reiniciarCursor( );
+            }
+        }
+        reconstruirSiEsNecesario( );
+        return eliminado;
+    }
+
+    @Override
+    public int eliminarTodos( int valor )
+    {
+        int bloquesConservados = 0;
+        int eliminados = 0;
+        for( int numero = 0; numero < cantidadBloques; numero++ )
+        {
+            int[] elementos = bloques[ numero ];
+            int escritura = 0;
+            for( int lectura = 0; lectura < tamanios[ numero ]; lectura++ )
+            {
+                int actual = elementos[ lectura ];
+                if( actual != valor )
+                {
+                    elementos[ escritura ] = actual;
+                    escritura++;
+                }
+            }
+            eliminados += tamanios[ numero ] - escritura;
+            if( escritura > 0 )
+            {
+                bloques[ bloquesConservados ] = elementos;
+                tamanios[ bloquesConservados ] = escritura;
+                bloquesConservados++;
+            }
+        }
+        Arrays.fill( bloques, bloquesConservados, cantidadBloques, null );
+        cantidadBloques = bloquesConservados;
+        tamanio -= eliminados;
+        reiniciarCursor( );
+        reconstruirSiEsNecesario( );
+        return eliminados;
+    }
+
+    @Override
+    public int eliminarSi( IntPredicate condicion )
+    {
+        int bloquesConservados = 0;
+        int eliminados = 0;
+        for( int numero = 0; numero < cantidadBloques; numero++ )
+        {
+            int[] elementos = bloques[ numero ];
+            int escritura = 0;
+            for( int lectura = 0; lectura < tamanios[ numero ]; lectura++ )
+            {
+                int actual = elementos[ lectura ];
+                if( !condicion.test( actual ) )
+                {
+                    elementos[ escritura ] = actual;
+                    escritura++;
+                }
+            }
+            eliminados += tamanios[ numero ] - escritura;
+            if( escritura > 0 )
+            {
+                bloques[ bloquesConservados ] = elementos;
+                tamanios[ bloquesConservados ] = escritura;
+                bloquesConservados++;
+            }
+        }
+        Arrays.fill( bloques, bloquesConservados, cantidadBloques, null );
+        cantidadBloques = bloquesConservados;
+        tamanio -= eliminados;
+        reiniciarCursor( );
+        reconstruirSiEsNecesario( );
+        return eliminados;
+    }
+
+    @Override
+    public int contar( int valor )
+    {
+        int contador = 0;
+        for( int numero = 0; numero < cantidadBloques; numero++ )
+        {
+            int[] elementos = bloques[ numero ];
+            for( int i = 0; i < tamanios[ numero ]; i++ )
+            {
+                if( elementos[ i ] == valor )
+                {
+                    contador++;
+                }
+            }
+        }
+        return contador;
+    }
+
+    /**
+     * Recorre los bloques comparando su último elemento hasta encontrar el que contiene el límite, en O(√n), y luego hace una búsqueda binaria dentro del bloque
+     */
+    @Override
+    public int limiteInferior( int valor )
+    {
+        return buscarLimite( valor, false );
+    }
+
+    /**
+     * Recorre los bloques comparando su último elemento hasta encontrar el que contiene el límite, en O(√n), y luego hace una búsqueda binaria dentro del bloque
+     */
+    @Override
+    public int limiteSuperior( int valor )
+    {
+        return buscarLimite( valor, true );
+    }
+
+    @Override
+    public void reiniciar( int[] valores )
+    {
+        llenar( valores );
+    }
+
+    /**
+     * Ordena los elementos copiándolos a un arreglo, ordenándolo y volviendo a escribirlos en los mismos bloques
+     */
+    @Override
+    public void ordenar( )
+    {
+        int[] ordenados = copia( );
+        Arrays.sort( ordenados );
+        escribir( ordenados );
+    }
+
+    /**
+     * Ordena una copia de los elementos con Arrays.parallelSort y la vuelve a escribir en los mismos bloques
+     */
+    @Override
+    public void ordenarEnParalelo( )
+    {
+        int[] ordenados = copia( );
+        Arrays.parallelSort( ordenados );
+        escribir( ordenados );
+    }
+
+    /**
+     * Invierte el orden de los bloques y luego el de los elementos de cada bloque
+     */
+    @Override
+    public void invertir( )
+    {
+        for( int i = 0, j = cantidadBloques - 1; i < j; i++, j-- )
+        {
+            int[] bloque = bloques[ i ];
+            bloques[ i ] = bloques[ j ];
+            bloques[ j ] = bloque;
+            int tamanioBloque = tamanios[ i ];
+            tamanios[ i ] = tamanios[ j ];
+            tamanios[ j ] = tamanioBloque;
+        }
+        for( int numero = 0; numero < cantidadBloques; numero++ )
+        {
+            int[] elementos = bloques[ numero ];
+            for( int i = 0, j = tamanios[ numero ] - 1; i < j; i++, j-- )
+            {
+                int temporal = elementos[ i ];
+                elementos[ i ] = elementos[ j ];
+                elementos[ j ] = temporal;
+            }
+        }
+        reiniciarCursor( );
+    }
+
+    @Override
+    public boolean mismosValores( int[] otroArreglo )
+    {
+        if( otroArreglo.length != tamanio )
+        {
+            return false;
+        }
+        int posicion = 0;
+        for( int numero = 0; numero < cantidadBloques; numero++ )
+        {
+            int[] elementos = bloques[ numero ];
+            for( int i = 0; i < tamanios[ numero ]; i++ )
+            {
+                if( elementos[ i ] != otroArreglo[ posicion ] )
+                {
+                    return false;
+                }
+                posicion++;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Retorna una secuencia que comparte los bloques pero tiene su propio cursor, así que get se puede usar en las dos desde hilos distintos
+     */
+    @Override
+    public SecuenciaEnteros lectorIndependiente( )
+    {
+        return new SecuenciaEnterosPorBloques( this );
+    }
+
+    @Override
+    public int[] copia( )
+    {
+        int[] copia = new int[tamanio];
+        int posicion = 0;
+        for( int numero = 0; numero < cantidadBloques; numero++ )
+        {
+            System.arraycopy( bloques[ numero ], 0, copia, posicion, tamanios[ numero ] );
+            posicion += tamanios[ numero ];
+        }
+        return copia;
+    }
+
+    @Override
+    public void forEach( IntConsumer accion )
+    {
+        for( int numero = 0; numero < cantidadBloques; numero++ )
+        {
+            int[] elementos = bloques[ numero ];
+            for( int i = 0; i < tamanios[ numero ]; i++ )
+            {
+                accion.accept( elementos[ i ] );
+            }
+        }
+    }
+
+    @Override
+    public void reemplazarTodos( IntUnaryOperator funcion )
+    {
+        for( int numero = 0; numero < cantidadBloques; numero++ )
+        {
+            int[] elementos = bloques[ numero ];
+            for( int i = 0; i < tamanios[ numero ]; i++ )
+            {
+                elementos[ i ] = funcion.applyAsInt( elementos[ i ] );
+            }
+        }
+    }
+
+    /**
+     * Reparte los bloques entre varios hilos del ForkJoinPool común. Cada bloque lo procesa un solo hilo.
+     */
+    @Override
+    public void reemplazarTodosEnParalelo( IntUnaryOperator funcion )
+    {
+        int[][] enUso = bloques;
+        int[] tamaniosEnUso = tamanios;
+        IntStream.range( 0, cantidadBloques ).parallel( ).forEach( numero -> {
+            int[] elementos = enUso[ numero ];
+            for( int i = 0; i < tamaniosEnUso[ numero ]; i++ )
+            {
+                elementos[ i ] = funcion.applyAsInt( elementos[ i ] );
+            }
+        } );
+    }
+
+    /**
+     * Retorna un stream que recorre los bloques en orden. Al volverlo paralelo se divide por bloques.
+     */
+    @Override
+    public IntStream stream( )
+    {
+        int[][] enUso = bloques;
+        int[] tamaniosEnUso = tamanios;
+        return IntStream.range( 0, cantidadBloques ).flatMap( numero -> Arrays.stream( enUso[ numero ], 0, tamaniosEnUso[ numero ] ) );
+    }
+
+    /**
+     * Calcula la capacidad de bloque adecuada para una cantidad de elementos
+     * @param cantidad La cantidad de elementos
+     * @return La capacidad de los bloques
+     */
+    static int capacidadPara( int cantidad )
+    {
+        return Math.max( CAPACIDAD_MINIMA_BLOQUE, ( int )Math.ceil( Math.sqrt( cantidad ) ) );
+    }
+
+    /**
+     * Encuentra el bloque que contiene una posición válida y deja el cursor en ese bloque. La búsqueda empieza desde el cursor, desde el primer bloque o desde el último, el
+     * que esté más cerca.
+     * @param posicion La posición buscada
+     * @return El número del bloque. La posición dentro del bloque es posicion - inicioCursor.
+     */
+    private int ubicar( int posicion )
+    {
+        int bloque = bloqueCursor;
+        int inicio = inicioCursor;
+        if( posicion < inicio - posicion )
+        {
+            bloque = 0;
+            inicio = 0;
+        }
+        else if( posicion >= inicio && tamanio - posicion < posicion - inicio )
+        {
+            bloque = cantidadBloques - 1;
+            inicio = tamanio - tamanios[ bloque ];
+        }
+        while( posicion < inicio )
+        {
+            bloque--;
+            inicio -= tamanios[ bloque ];
+        }
+        while( posicion >= inicio + tamanios[ bloque ] )
+        {
+            inicio += tamanios[ bloque ];
+            bloque++;
+        }
+        bloqueCursor = bloque;
+        inicioCursor = inicio;
+        return bloque;
+    }
+
+    /**
+     * Busca la primera posición cuyo elemento es mayor (o mayor o igual) que un valor, suponiendo que la secuencia está ordenada
+     * @param valor El valor buscado
+     * @param incluirIguales Si es true, se busca el primer elemento mayor que el valor; si es false, el primero mayor o igual
+     * @return Una posición entre 0 y tamanio
+     */
+    private int buscarLimite( int valor, boolean incluirIguales )
+    {
+        int inicio = 0;
+        for( int numero = 0; numero < cantidadBloques; numero++ )
+        {
+            int ultimo = bloques[ numero ][ tamanios[ numero ] - 1 ];
+            if( ultimo > valor || ( !incluirIguales && ultimo == valor ) )
+            {
+                return inicio + ArregloDinamicoEnteros.buscarLimite( bloques[ numero ], 0, tamanios[ numero ], valor, incluirIguales );
+            }
+            inicio += tamanios[ numero ];
+        }
+        return tamanio;
+    }
+
+    private void reiniciarCursor( )
+    {
+        bloqueCursor = 0;
+        inicioCursor = 0;
+    }
+
+    /**
+     * Inserta un bloque en la lista de bloques, desplazando los siguientes
+     * @param posicion La posición que tendrá el bloque
+     * @param bloque El bloque
+     * @param tamanioBloque La cantidad de elementos válidos del bloque
+     */
+    private void insertarBloque( int posicion, int[] bloque, int tamanioBloque )
+    {
+        abrirEspacio( posicion, 1 );
+        bloques[ posicion ] = bloque;
+        tamanios[ posicion ] = tamanioBloque;
+    }
+
+    /**
+     * Desplaza los bloques a partir de una posición para dejar espacio para varios bloques nuevos, que quien lo llama debe llenar
+     * @param posicion La posición que tendrá el primer bloque nuevo
+     * @param cantidad La cantidad de bloques nuevos
+     */
+    private void abrirEspacio( int posicion, int cantidad )
+    {
+        if( cantidadBloques + cantidad > bloques.length )
+        {
+            int nuevaCapacidad = Math.max( cantidadBloques * 2, cantidadBloques + cantidad );
+            bloques = Arrays.copyOf( bloques, nuevaCapacidad );
+            tamanios = Arrays.copyOf( tamanios, nuevaCapacidad );
+        }
+        System.arraycopy( bloques, posicion, bloques, posicion + cantidad, cantidadBloques - posicion );
+        System.arraycopy( tamanios, posicion, tamanios, posicion + cantidad, cantidadBloques - posicion );
+        cantidadBloques += cantidad;
+    }
+
+    /**
+     * Quita un bloque de la lista de bloques, desplazando los siguientes
+     * @param posicion La posición del bloque
+     */
+    private void eliminarBloque( int posicion )
+    {
+        System.arraycopy( bloques, posicion + 1, bloques, posicion, cantidadBloques - posicion - 1 );
+        System.arraycopy( tamanios, posicion + 1, tamanios, posicion, cantidadBloques - posicion - 1 );
+        cantidadBloques--;
+        bloques[ cantidadBloques ] = null;
+    }
+
+    /**
+     * Reconstruye los bloques si hay demasiados: más del doble de la capacidad de un bloque (la secuencia creció) o más del doble de los que harían falta si estuvieran
+     * llenos (quedaron bloques casi vacíos)
+     */
+    private void reconstruirSiEsNecesario( )
+    {
+        if( cantidadBloques > 2 * capacidadBloque || cantidadBloques > 2 + 2 * ( tamanio / capacidadBloque ) )
+        {
+            llenar( copia( ) );
+        }
+    }
+
+    /**
+     * Reemplaza los bloques por bloques llenos con una copia de los valores dados, recalculando la capacidad de los bloques
+     * @param valores Los nuevos valores
+     */
+    private void llenar( int[] valores )
+    {
+        capacidadBloque = capacidadPara( valores.length );
+        int cantidad = ( valores.length + capacidadBloque - 1 ) / capacidadBloque;
+        bloques = new int[Math.max( 4, cantidad )][];
+        tamanios = new int[bloques.length];
+        for( int numero = 0; numero < cantidad; numero++ )
+        {
+            int inicio = numero * capacidadBloque;
+            int largo = Math.min( capacidadBloque, valores.length - inicio );
+            bloques[ numero ] = new int[capacidadBloque];
+            System.arraycopy( valores, inicio, bloques[ numero ], 0, largo );
+            tamanios[ numero ] = largo;
+        }
+        cantidadBloques = cantidad;
+        tamanio = valores.length;
+        reiniciarCursor( );
+    }
+
+    /**
+     * Copia un rango de la secuencia a un arreglo, con una copia en bloque por cada bloque del rango
+     * @param desde La posición del primer elemento del rango
+     * @param largo La cantidad de elementos del rango
+     * @param destino El arreglo
+     * @param posicionDestino La posición del arreglo donde queda el primer elemento
+     */
+    private void copiarRango( int desde, int largo, int[] destino, int posicionDestino )
+    {
+        int inicio = 0;
+        for( int numero = 0; numero < cantidadBloques && largo > 0; numero++ )
+        {
+            int fin = inicio + tamanios[ numero ];
+            if( fin > desde )
+            {
+                int enBloque = Math.max( 0, desde - inicio );
+                int copiados = Math.min( largo, tamanios[ numero ] - enBloque );
+                System.arraycopy( bloques[ numero ], enBloque, destino, posicionDestino, copiados );
+                posicionDestino += copiados;
+                largo -= copiados;
+            }
+            inicio = fin;
+        }
+    }
+
+    /**
+     * Escribe unos valores en los bloques actuales, en orden, sin cambiar cuántos elementos tiene cada bloque
+     * @param valores Los valores. Debe haber exactamente tamanio.
+     */
+    private void escribir( int[] valores )
+    {
+        int posicion = 0;
+        for( int numero = 0; numero < cantidadBloques; numero++ )
+        {
+            System.arraycopy( valores, posicion, bloques[ numero ], 0, tamanios[ numero ] );
+            posicion += tamanios[ numero ];
+        }
+    }
+
+    private void verificarPosicion( int posicion )
+    {
+        if( posicion < 0 || posicion >= tamanio )
+        {
+            throw new IndexOutOfBoundsException( "Posición: " + posicion + ", tamaño: " + tamanio );
+        }
+    }
+}
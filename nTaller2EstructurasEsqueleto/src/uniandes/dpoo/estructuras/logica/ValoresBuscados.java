@@ -0,0 +1,108 @@
+package uniandes.dpoo.estructuras.logica;
+
+/**
+ * Un conjunto fijo de enteros, para eliminar varios valores de una secuencia en un solo recorrido.
+ *
+ * contiene se llama una vez por cada elemento de la secuencia y casi siempre responde que no, así que está hecho para descartar rápido. Cada valor buscado marca un bit
+ * de un filtro según un hash multiplicativo, y el filtro tiene al menos 64 bits por valor: un elemento cuyo bit no está marcado (casi todos) se descarta con una
+ * multiplicación, un desplazamiento y una lectura. Sólo los demás se comparan con los valores, uno por uno si son pocos o en un IntIntHistogram si son más.
+ *
+ * La clase es final y pequeña para que la JVM pueda integrar contiene en el ciclo que la usa.
+ */
+final class ValoresBuscados
+{
+    /**
+     * La cantidad de valores hasta la cual se comparan uno por uno en lugar de buscarlos en la tabla
+     */
+    static final int MAXIMO_VALORES_SIN_TABLA = 8;
+
+    /**
+     * El multiplicador del hash del filtro (la razón áurea en 32 bits)
+     */
+    private static final int MEZCLA = 0x9E3779B9;
+
+    /**
+     * El filtro de bits. Su tamaño en bits es una potencia de 2.
+     */
+    private final long[] filtro;
+
+    /**
+     * El desplazamiento que deja los bits más altos del hash como posición en el filtro
+     */
+    private final int desplazamiento;
+
+    /**
+     * Los valores buscados, si son pocos; null si se usa la tabla
+     */
+    private final int[] valores;
+
+    /**
+     * Los valores buscados, si son muchos; null si se comparan uno por uno
+     */
+    private final IntIntHistogram tabla;
+
+    /**
+     * Crea el conjunto con los valores buscados
+     * @param valores Los valores. Pueden estar repetidos. El arreglo se copia.
+     */
+    ValoresBuscados( int[] valores )
+    {
+        int palabras = Integer.highestOneBit( Math.max( 1, valores.length - 1 ) ) << 1;
+        filtro = new long[palabras];
+        desplazamiento = 32 - 6 - Integer.numberOfTrailingZeros( palabras );
+        for( int valor : valores )
+        {
+            int bit = posicionEnFiltro( valor );
+            filtro[ bit >>> 6 ] |= 1L << bit;
+        }
+        if( valores.length <= MAXIMO_VALORES_SIN_TABLA )
+        {
+            this.valores = valores.clone( );
+            tabla = null;
+        }
+        else
+        {
+            IntIntHistogram histograma = new IntIntHistogram( valores.length );
+            for( int valor : valores )
+            {
+                histograma.incrementar( valor );
+            }
+            this.valores = null;
+            tabla = histograma;
+        }
+    }
+
+    /**
+     * Indica si un valor es uno de los buscados
+     * @param valor El valor
+     * @return True si el valor es uno de los buscados
+     */
+    boolean contiene( int valor )
+    {
+        int bit = posicionEnFiltro( valor );
+        if( ( filtro[ bit >>> 6 ] >>> bit & 1 ) == 0 )
+        {
+            return false;
+        }
+        if( tabla != null )
+        {
+            return tabla.contiene( valor );
+        }
+        for( int buscado : valores )
+        {
+            if( buscado == valor )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retorna el bit del filtro que le corresponde a un valor: los bits más altos de su hash multiplicativo
+     */
+    private int posicionEnFiltro( int valor )
+    {
+        return valor * MEZCLA >>> desplazamiento;
+    }
+}
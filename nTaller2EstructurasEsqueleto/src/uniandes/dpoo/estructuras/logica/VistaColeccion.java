@@ -0,0 +1,104 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Una vista de sólo lectura de la colección que tenga un sandbox en cada momento, opcionalmente convirtiendo cada elemento al recorrerla.
+ *
+ * Collections.unmodifiableCollection se queda con la colección que recibe, pero los sandboxes reemplazan sus colecciones al reiniciarlas. Esta vista pide la colección
+ * de origen en cada operación, así que refleja los cambios posteriores del sandbox, incluidos los reemplazos, sin copiar nada. Sus iteradores no permiten eliminar.
+ *
+ * @param <O> El tipo de los elementos de la colección de origen
+ * @param <T> El tipo de los elementos de la vista
+ */
+final class VistaColeccion<O, T> extends AbstractCollection<T>
+{
+    /**
+     * Retorna la colección de origen
+     */
+    private final Supplier<? extends Collection<O>> origen;
+
+    /**
+     * Convierte cada elemento del origen en el de la vista. Es null si los elementos no se convierten.
+     */
+    private final Function<? super O, ? extends T> conversion;
+
+    private VistaColeccion( Supplier<? extends Collection<O>> origen, Function<? super O, ? extends T> conversion )
+    {
+        this.origen = origen;
+        this.conversion = conversion;
+    }
+
+    /**
+     * Crea una vista con los mismos elementos del origen
+     * @param origen Retorna la colección que se consulta en cada operación
+     * @return La vista
+     */
+    static <T> Collection<T> de( Supplier<? extends Collection<T>> origen )
+    {
+        return new VistaColeccion<T, T>( origen, null );
+    }
+
+    /**
+     * Crea una vista que convierte cada elemento del origen al recorrerlo. Cada recorrido vuelve a convertir los elementos.
+     * @param origen Retorna la colección que se consulta en cada operación
+     * @param conversion Convierte cada elemento del origen en el de la vista
+     * @return La vista
+     */
+    static <O, T> Collection<T> convertida( Supplier<? extends Collection<O>> origen, Function<? super O, ? extends T> conversion )
+    {
+        return new VistaColeccion<O, T>( origen, conversion );
+    }
+
+    @Override
+    public Iterator<T> iterator( )
+    {
+        Iterator<O> elementos = origen.get( ).iterator( );
+        return new Iterator<T>( )
+        {
+            @Override
+            public boolean hasNext( )
+            {
+                return elementos.hasNext( );
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public T next( )
+            {
+                O elemento = elementos.next( );
+                return conversion == null ? ( T )elemento : conversion.apply( elemento );
+            }
+        };
+    }
+
+    @Override
+    public int size( )
+    {
+        return origen.get( ).size( );
+    }
+
+    @Override
+    public boolean isEmpty( )
+    {
+        return origen.get( ).isEmpty( );
+    }
+
+    /**
+     * Si los elementos no se convierten, la búsqueda se hace en el origen, con su costo (O(log n) en un árbol, O(1) en una tabla de hash). Si se convierten, hay que
+     * recorrer la vista.
+     */
+    @Override
+    public boolean contains( Object objeto )
+    {
+        if( conversion == null )
+        {
+            return origen.get( ).contains( objeto );
+        }
+        return super.contains( objeto );
+    }
+}
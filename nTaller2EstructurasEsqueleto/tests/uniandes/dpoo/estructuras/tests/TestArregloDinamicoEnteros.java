@@ -0,0 +1,116 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.ArregloDinamicoEnteros;
+
+class TestArregloDinamicoEnteros
+{
+    private ArregloDinamicoEnteros arreglo;
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        arreglo = new ArregloDinamicoEnteros( );
+    }
+
+    @Test
+    void testCrecimientoGeometrico( )
+    {
+        int cambiosDeCapacidad = 0;
+        int capacidadAnterior = arreglo.capacidad( );
+        for( int i = 0; i < 100000; i++ )
+        {
+            arreglo.agregar( i );
+            if( arreglo.capacidad( ) != capacidadAnterior )
+            {
+                cambiosDeCapacidad++;
+                capacidadAnterior = arreglo.capacidad( );
+            }
+        }
+        assertEquals( 100000, arreglo.tamanio( ), "El tamaño del arreglo no es correcto" );
+        assertTrue( cambiosDeCapacidad <= 20, "El arreglo creció demasiadas veces: " + cambiosDeCapacidad );
+        assertEquals( 99999, arreglo.get( 99999 ), "El último elemento no es correcto" );
+    }
+
+    @Test
+    void testInsertarYEliminarPosicion( )
+    {
+        arreglo.agregar( 1 );
+        arreglo.agregar( 3 );
+        arreglo.insertar( 1, 2 );
+        arreglo.insertar( 0, 0 );
+        arreglo.insertar( 4, 4 );
+        assertArrayEquals( new int[]{ 0, 1, 2, 3, 4 }, arreglo.copia( ), "Las inserciones no quedaron en las posiciones esperadas" );
+
+        assertEquals( 2, arreglo.eliminarPosicion( 2 ), "No se retornó el elemento eliminado" );
+        assertArrayEquals( new int[]{ 0, 1, 3, 4 }, arreglo.copia( ), "La eliminación no desplazó los elementos" );
+    }
+
+    @Test
+    void testPosicionesInvalidas( )
+    {
+        arreglo.agregar( 1 );
+        assertThrows( IndexOutOfBoundsException.class, ( ) -> arreglo.get( 1 ) );
+        assertThrows( IndexOutOfBoundsException.class, ( ) -> arreglo.insertar( 2, 5 ) );
+        assertThrows( IndexOutOfBoundsException.class, ( ) -> arreglo.eliminarPosicion( -1 ) );
+    }
+
+    @Test
+    void testEliminarTodosReduce( )
+    {
+        for( int i = 0; i < 1000; i++ )
+        {
+            arreglo.agregar( i % 10 == 0 ? 1 : 7 );
+        }
+        int capacidadAntes = arreglo.capacidad( );
+        assertEquals( 900, arreglo.eliminarTodos( 7 ), "No se eliminaron todas las apariciones" );
+        assertEquals( 100, arreglo.tamanio( ), "El tamaño después de eliminar no es correcto" );
+        assertTrue( arreglo.capacidad( ) < capacidadAntes, "El arreglo no se redujo después de eliminar" );
+    }
+
+    @Test
+    void testSinReduccion( )
+    {
+        arreglo.setUmbralReduccion( 0 );
+        for( int i = 0; i < 1000; i++ )
+        {
+            arreglo.agregar( 7 );
+        }
+        int capacidadAntes = arreglo.capacidad( );
+        arreglo.eliminarTodos( 7 );
+        assertEquals( 0, arreglo.tamanio( ), "El arreglo debería quedar vacío" );
+        assertEquals( capacidadAntes, arreglo.capacidad( ), "El arreglo no debería reducirse con umbral 0" );
+    }
+
+    @Test
+    void testRecorrerYReemplazar( )
+    {
+        arreglo.agregarTodos( new int[]{ 3, -1, 4, -1, 5 } );
+        int[] suma = new int[1];
+        arreglo.forEach( valor -> suma[ 0 ] += valor );
+        assertEquals( 10, suma[ 0 ], "El recorrido no pasó por todos los elementos" );
+
+        arreglo.reemplazarTodos( Math::abs );
+        assertArrayEquals( new int[]{ 3, 1, 4, 1, 5 }, arreglo.copia( ), "No se reemplazaron bien los elementos" );
+    }
+
+    @Test
+    void testLimitesOrdenados( )
+    {
+        assertEquals( 0, arreglo.limiteInferior( 5 ), "En un arreglo vacío el límite debe ser 0" );
+        arreglo.agregarTodos( new int[]{ 1, 3, 3, 3, 7, 9 } );
+        assertEquals( 1, arreglo.limiteInferior( 3 ), "El límite inferior no es la primera aparición" );
+        assertEquals( 4, arreglo.limiteSuperior( 3 ), "El límite superior no es la posición siguiente a la última aparición" );
+        assertEquals( 4, arreglo.limiteInferior( 5 ), "Un valor ausente debe tener como límite su posición de inserción" );
+        assertEquals( 4, arreglo.limiteSuperior( 5 ), "Un valor ausente debe tener como límite su posición de inserción" );
+        assertEquals( 0, arreglo.limiteInferior( Integer.MIN_VALUE ), "El límite de un valor menor que todos debe ser 0" );
+        assertEquals( 6, arreglo.limiteSuperior( Integer.MAX_VALUE ), "El límite de un valor mayor que todos debe ser el tamaño" );
+    }
+}
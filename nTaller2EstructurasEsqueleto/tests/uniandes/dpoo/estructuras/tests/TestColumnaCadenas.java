@@ -0,0 +1,148 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import uniandes.dpoo.estructuras.logica.ArregloDinamicoCadenas;
+import uniandes.dpoo.estructuras.logica.ColumnaCadenas;
+
+class TestColumnaCadenas
+{
+    /**
+     * Cadenas que no son ASCII y en las que comparar bytes no basta: el signo Kelvin y la s larga son iguales a "k" y a "s" con equalsIgnoreCase, y los caracteres
+     * suplementarios van antes que U+FFxx en String.compareTo aunque su punto de código sea mayor. Las últimas tienen
+     * sustitutos (surrogates) sin pareja, que String.getBytes cambiaría por '?'.
+     */
+    private static final String[] ESPECIALES = new String[]{ "K", "k", "K", "ſ", "S", "straße", "STRASSE", "árbol", "ÁRBOL", "😀", "Ａ",
+            "ａ", "", "a😀b", "a￿b", "x\uD800", "\uDC00", "a\uD83Db", "\uDE00\uD83D" };
+
+    @ParameterizedTest
+    @ValueSource( booleans = { false, true } )
+    void testOperacionesAleatorias( boolean sinRepetidos )
+    {
+        ColumnaCadenas columna = new ColumnaCadenas( sinRepetidos );
+        ArregloDinamicoCadenas esperado = new ArregloDinamicoCadenas( );
+        Random aleatorio = new Random( 11 );
+        for( int i = 0; i < 20000; i++ )
+        {
+            String cadena = aleatorio.nextInt( 10 ) == 0 ? ESPECIALES[ aleatorio.nextInt( ESPECIALES.length ) ]
+                    : ( aleatorio.nextBoolean( ) ? "c" : "C" ) + Integer.toString( aleatorio.nextInt( 300 ), 36 );
+            int operacion = aleatorio.nextInt( 100 );
+            if( operacion < 90 )
+            {
+                columna.agregar( cadena );
+                esperado.agregar( cadena );
+            }
+            else if( operacion < 95 )
+            {
+                assertEquals( esperado.eliminarTodas( cadena ), columna.eliminarTodas( cadena ), "La cantidad de cadenas eliminadas de " + cadena + " no es correcta" );
+            }
+            else
+            {
+                assertEquals( esperado.contarSinMayusculas( cadena ), columna.contarSinMayusculas( cadena ), "La cantidad de apariciones de " + cadena + " no es correcta" );
+            }
+        }
+        assertArrayEquals( esperado.copia( ), columna.copia( ), "La columna no coincide con un arreglo después de las mismas operaciones" );
+        for( String especial : ESPECIALES )
+        {
+            assertEquals( esperado.contarSinMayusculas( especial ), columna.contarSinMayusculas( especial ), "La cantidad de apariciones de " + especial + " no es correcta" );
+        }
+
+        columna.ordenar( );
+        esperado.ordenar( );
+        assertArrayEquals( esperado.copia( ), columna.copia( ), "La columna no quedó en el orden de String.compareTo" );
+        assertEquals( esperado.get( esperado.tamanio( ) / 2 ), columna.get( columna.tamanio( ) / 2 ), "get no decodificó la cadena correcta" );
+        assertEquals( esperado.eliminarTodas( "C1" ), columna.eliminarTodas( "C1" ), "La cantidad de cadenas eliminadas no es correcta" );
+        assertArrayEquals( esperado.copia( ), columna.copia( ), "eliminarTodas desordenó la columna" );
+        assertEquals( 0, columna.contarSinMayusculas( null ), "Ninguna cadena es igual a null" );
+        assertThrows( IndexOutOfBoundsException.class, ( ) -> columna.get( columna.tamanio( ) ) );
+    }
+
+    @ParameterizedTest
+    @ValueSource( booleans = { false, true } )
+    void testCadenasNull( boolean sinRepetidos )
+    {
+        ColumnaCadenas columna = new ColumnaCadenas( sinRepetidos );
+        columna.agregar( null );
+        columna.agregar( "a" );
+        columna.agregar( null );
+        columna.agregar( "\uD800" );
+        assertArrayEquals( new String[]{ null, "a", null, "\uD800" }, columna.copia( ), "Las cadenas null no se guardaron" );
+        assertEquals( null, columna.get( 2 ), "get debería retornar null" );
+        assertThrows( NullPointerException.class, ( ) -> columna.contarSinMayusculas( "a" ), "Con cadenas null, contar debería fallar como en un arreglo" );
+        assertThrows( NullPointerException.class, ( ) -> columna.ordenar( ), "Con cadenas null, ordenar debería fallar como Arrays.sort" );
+
+        assertEquals( 1, columna.eliminarTodas( "a" ), "La cantidad de cadenas eliminadas no es correcta" );
+        assertEquals( 2, columna.eliminarTodas( null ), "Deberían eliminarse las dos cadenas null" );
+        assertArrayEquals( new String[]{ "\uD800" }, columna.copia( ), "Sólo debería quedar el sustituto sin pareja" );
+        assertEquals( 1, columna.contarSinMayusculas( "\uD800" ), "El sustituto sin pareja debería contarse" );
+        assertEquals( 0, columna.eliminarTodas( "?" ), "El sustituto sin pareja no debería guardarse como '?'" );
+    }
+
+    @ParameterizedTest
+    @ValueSource( booleans = { false, true } )
+    void testCadenasEspeciales( boolean sinRepetidos )
+    {
+        ColumnaCadenas columna = new ColumnaCadenas( sinRepetidos );
+        for( String especial : ESPECIALES )
+        {
+            columna.agregar( especial );
+        }
+        assertArrayEquals( ESPECIALES, columna.copia( ), "Las cadenas no se decodificaron igual" );
+        assertEquals( 3, columna.contarSinMayusculas( "k" ), "El signo Kelvin es igual a k sin diferenciar mayúsculas" );
+        assertEquals( 2, columna.contarSinMayusculas( "s" ), "La s larga es igual a s sin diferenciar mayúsculas" );
+        assertEquals( 2, columna.contarSinMayusculas( "áRBOL" ), "La cantidad de apariciones con tildes no es correcta" );
+
+        String[] ordenadas = ESPECIALES.clone( );
+        Arrays.sort( ordenadas );
+        columna.ordenar( );
+        assertArrayEquals( ordenadas, columna.copia( ), "La columna no quedó en el orden de String.compareTo" );
+    }
+
+    @ParameterizedTest
+    @ValueSource( booleans = { false, true } )
+    void testVaciarColumna( boolean sinRepetidos )
+    {
+        ColumnaCadenas columna = new ColumnaCadenas( 4, sinRepetidos );
+        for( int i = 0; i < 1000; i++ )
+        {
+            columna.agregar( "x" );
+        }
+        assertEquals( 1000, columna.eliminarTodas( "x" ), "No se eliminaron todas las cadenas" );
+        assertEquals( 0, columna.tamanio( ), "La columna debería quedar vacía" );
+        assertEquals( 0, columna.cantidadEntradas( ), "La columna no debería guardar cadenas eliminadas" );
+        columna.agregar( "y" );
+        assertArrayEquals( new String[]{ "y" }, columna.copia( ), "La columna no se puede volver a usar después de vaciarla" );
+    }
+
+    @Test
+    void testSinRepetidosGuardaCadaCadenaUnaVez( )
+    {
+        ColumnaCadenas columna = new ColumnaCadenas( true );
+        for( int i = 0; i < 10000; i++ )
+        {
+            columna.agregar( "estado" + ( i % 7 ) );
+        }
+        assertEquals( 10000, columna.tamanio( ), "La columna debería tener todas las posiciones" );
+        assertEquals( 7, columna.cantidadEntradas( ), "Cada cadena distinta debería guardarse una sola vez" );
+        String[] copia = columna.copia( );
+        assertSame( copia[ 0 ], copia[ 7 ], "Las posiciones con la misma cadena deberían compartir el String decodificado" );
+        assertEquals( 1429, columna.contarSinMayusculas( "ESTADO3" ), "La cantidad de apariciones no es correcta" );
+
+        assertEquals( 1429, columna.eliminarTodas( "estado1" ), "La cantidad de cadenas eliminadas no es correcta" );
+        assertEquals( 6, columna.cantidadEntradas( ), "La cadena eliminada no debería seguir guardada" );
+        columna.ordenar( );
+        assertEquals( "estado0", columna.get( 0 ), "La columna no quedó ordenada" );
+        assertEquals( "estado6", columna.get( columna.tamanio( ) - 1 ), "La columna no quedó ordenada" );
+        assertEquals( 1428, columna.contarSinMayusculas( "Estado6" ), "La cantidad de apariciones no es correcta después de ordenar" );
+    }
+}
@@ -0,0 +1,138 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.AlmacenamientoEnteros;
+import uniandes.dpoo.estructuras.logica.DistribucionEnteros;
+import uniandes.dpoo.estructuras.logica.GeneradorEnteros;
+import uniandes.dpoo.estructuras.logica.SecuenciaEnteros;
+
+class TestGeneradorEnteros
+{
+    private static final int CANTIDAD = 3 * GeneradorEnteros.TAMANIO_PORCION + 17;
+
+    @Test
+    void testReproducible( )
+    {
+        for( DistribucionEnteros distribucion : DistribucionEnteros.values( ) )
+        {
+            GeneradorEnteros secuencial = new GeneradorEnteros( 42 );
+            GeneradorEnteros paralelo = new GeneradorEnteros( 42 );
+            int[] primeros = secuencial.generar( CANTIDAD, -1000, 1000, distribucion, false );
+            assertArrayEquals( primeros, paralelo.generar( CANTIDAD, -1000, 1000, distribucion, true ), "En paralelo se generaron otros valores con " + distribucion );
+            int[] segundos = secuencial.generar( CANTIDAD, -1000, 1000, distribucion, false );
+            assertArrayEquals( segundos, paralelo.generar( CANTIDAD, -1000, 1000, distribucion, true ), "El segundo llamado no es reproducible con " + distribucion );
+            assertFalse( Arrays.equals( primeros, segundos ), "Dos llamados del mismo generador no deberían dar los mismos valores con " + distribucion );
+        }
+        int[] otraSemilla = new GeneradorEnteros( 43 ).generar( 1000, 0, 1000000, DistribucionEnteros.UNIFORME, false );
+        assertFalse( Arrays.equals( new GeneradorEnteros( 42 ).generar( 1000, 0, 1000000, DistribucionEnteros.UNIFORME, false ), otraSemilla ),
+                "Semillas distintas deberían dar valores distintos" );
+    }
+
+    @Test
+    void testGenerarConAlmacenamiento( )
+    {
+        for( AlmacenamientoEnteros almacenamiento : AlmacenamientoEnteros.values( ) )
+        {
+            for( DistribucionEnteros distribucion : DistribucionEnteros.values( ) )
+            {
+                int[] esperados = new GeneradorEnteros( 42 ).generar( CANTIDAD, -1000, 1000, distribucion, false );
+                for( boolean enParalelo : new boolean[]{ false, true } )
+                {
+                    SecuenciaEnteros secuencia = new GeneradorEnteros( 42 ).generar( almacenamiento, CANTIDAD, -1000, 1000, distribucion, enParalelo );
+                    assertTrue( secuencia.mismosValores( esperados ), almacenamiento + " no tiene los valores del arreglo con " + distribucion );
+                    secuencia.close( );
+                }
+            }
+            SecuenciaEnteros vacia = new GeneradorEnteros( ).generar( almacenamiento, 0, 0, 1, DistribucionEnteros.UNIFORME, true );
+            assertEquals( 0, vacia.tamanio( ), "Generar 0 valores debería dar una secuencia vacía con " + almacenamiento );
+            assertThrows( IllegalArgumentException.class, ( ) -> new GeneradorEnteros( ).generar( almacenamiento, 10, 5, 4, DistribucionEnteros.UNIFORME, false ) );
+        }
+    }
+
+    @Test
+    void testRangos( )
+    {
+        GeneradorEnteros generador = new GeneradorEnteros( 7 );
+        int[][] rangos = new int[][]{ { -10, 10 }, { 5, 5 }, { Integer.MIN_VALUE, Integer.MAX_VALUE }, { Integer.MAX_VALUE - 3, Integer.MAX_VALUE } };
+        for( DistribucionEnteros distribucion : DistribucionEnteros.values( ) )
+        {
+            for( int[] rango : rangos )
+            {
+                int[] valores = generador.generar( 20000, rango[ 0 ], rango[ 1 ], distribucion, true );
+                int minimo = Arrays.stream( valores ).min( ).getAsInt( );
+                int maximo = Arrays.stream( valores ).max( ).getAsInt( );
+                assertTrue( minimo >= rango[ 0 ] && maximo <= rango[ 1 ], distribucion + " generó valores fuera de " + Arrays.toString( rango ) + ": " + minimo + ", " + maximo );
+            }
+        }
+        int[] pequenios = generador.generar( 20000, -10, 10, DistribucionEnteros.UNIFORME, false );
+        assertEquals( -10, Arrays.stream( pequenios ).min( ).getAsInt( ), "La distribución uniforme debería llegar al mínimo" );
+        assertEquals( 10, Arrays.stream( pequenios ).max( ).getAsInt( ), "La distribución uniforme debería llegar al máximo" );
+        assertEquals( 0, generador.generar( 0, 0, 1, DistribucionEnteros.ZIPF, true ).length, "Generar 0 valores debería dar un arreglo vacío" );
+    }
+
+    @Test
+    void testZipf( )
+    {
+        int[] valores = new GeneradorEnteros( 3 ).generar( CANTIDAD, 0, 999, DistribucionEnteros.ZIPF, true );
+        int[] cantidades = new int[1000];
+        for( int valor : valores )
+        {
+            cantidades[ valor ]++;
+        }
+        double normalizacion = 0;
+        for( int k = 1; k <= 1000; k++ )
+        {
+            normalizacion += Math.pow( k, -1.1 );
+        }
+        for( int k = 1; k <= 4; k++ )
+        {
+            double esperada = Math.pow( k, -1.1 ) / normalizacion;
+            double observada = cantidades[ k - 1 ] / ( double )valores.length;
+            assertEquals( esperada, observada, esperada * 0.05, "La frecuencia del valor " + ( k - 1 ) + " no corresponde a Zipf" );
+        }
+        assertTrue( cantidades[ 0 ] > cantidades[ 10 ] && cantidades[ 10 ] > cantidades[ 500 ], "Las frecuencias deberían disminuir con el valor" );
+    }
+
+    @Test
+    void testGaussianaTruncada( )
+    {
+        int[] valores = new GeneradorEnteros( 5 ).generar( CANTIDAD, 0, 999, DistribucionEnteros.GAUSSIANA_TRUNCADA, true );
+        double media = Arrays.stream( valores ).average( ).getAsDouble( );
+        assertEquals( 499.5, media, 2, "Los valores deberían centrarse en la mitad del rango" );
+        long aUnaDesviacion = Arrays.stream( valores ).filter( v -> v >= 333 && v <= 666 ).count( );
+        assertEquals( 0.683, aUnaDesviacion / ( double )valores.length, 0.01, "Cerca del 68% de los valores debería estar a una desviación de la media" );
+    }
+
+    @Test
+    void testTramosOrdenados( )
+    {
+        int[] valores = new GeneradorEnteros( 9 ).generar( CANTIDAD, -1000000, 1000000, DistribucionEnteros.TRAMOS_ORDENADOS, true );
+        for( int tramo = 0; tramo < valores.length; tramo += GeneradorEnteros.LARGO_TRAMO )
+        {
+            for( int i = tramo + 1; i < Math.min( tramo + GeneradorEnteros.LARGO_TRAMO, valores.length ); i++ )
+            {
+                assertTrue( valores[ i - 1 ] <= valores[ i ], "El tramo que empieza en " + tramo + " no está ordenado" );
+            }
+        }
+        int[] ordenados = valores.clone( );
+        Arrays.sort( ordenados );
+        assertFalse( Arrays.equals( ordenados, valores ), "Los tramos no deberían formar un arreglo ordenado" );
+    }
+
+    @Test
+    void testArgumentosInvalidos( )
+    {
+        GeneradorEnteros generador = new GeneradorEnteros( );
+        assertThrows( IllegalArgumentException.class, ( ) -> generador.generar( 10, 5, 4, DistribucionEnteros.UNIFORME, false ) );
+        assertThrows( IllegalArgumentException.class, ( ) -> generador.generar( -1, 0, 4, DistribucionEnteros.UNIFORME, false ) );
+    }
+}
@@ -0,0 +1,86 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.IntIntHistogram;
+
+class TestIntIntHistogram
+{
+    private IntIntHistogram histograma;
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        histograma = new IntIntHistogram( );
+    }
+
+    @Test
+    void testIncrementar( )
+    {
+        assertEquals( 1, histograma.incrementar( 5 ), "La primera vez que se cuenta un valor su cantidad debería ser 1" );
+        assertEquals( 2, histograma.incrementar( 5 ), "La cantidad del valor no aumentó" );
+        assertEquals( 1, histograma.incrementar( 0 ), "El valor 0 debería poder contarse" );
+        assertEquals( 1, histograma.incrementar( Integer.MIN_VALUE ), "Los valores negativos deberían poder contarse" );
+
+        assertEquals( 3, histograma.size( ), "La cantidad de valores distintos no es correcta" );
+        assertEquals( 2, histograma.get( 5 ), "La cantidad del valor no es correcta" );
+        assertTrue( histograma.contiene( Integer.MIN_VALUE ), "El valor debería estar en el histograma" );
+        assertFalse( histograma.contiene( 7 ), "El valor no debería estar en el histograma" );
+    }
+
+    @Test
+    void testCrecimiento( )
+    {
+        for( int i = 0; i < 100000; i++ )
+        {
+            histograma.incrementar( i * 16 );
+            histograma.incrementar( i * 16 );
+        }
+        assertEquals( 100000, histograma.size( ), "La cantidad de valores distintos no es correcta" );
+        assertEquals( 100000, histograma.contarRepetidos( ), "Todos los valores deberían estar repetidos" );
+        assertEquals( 2, histograma.get( 99999 * 16 ), "La cantidad del último valor no es correcta" );
+        assertEquals( 0, histograma.get( 17 ), "Un valor que no se contó debería tener cantidad 0" );
+    }
+
+    @Test
+    void testForEachYComoHashMap( )
+    {
+        int[] valores = new int[]{ 3, -1, 3, 8, 3, -1 };
+        HashMap<Integer, Integer> esperado = new HashMap<Integer, Integer>( );
+        for( int valor : valores )
+        {
+            histograma.incrementar( valor );
+            esperado.put( valor, esperado.getOrDefault( valor, 0 ) + 1 );
+        }
+
+        HashMap<Integer, Integer> recorrido = new HashMap<Integer, Integer>( );
+        histograma.forEach( ( valor, cantidad ) -> recorrido.put( valor, cantidad ) );
+        assertEquals( esperado, recorrido, "El recorrido no visitó las parejas esperadas" );
+        assertEquals( esperado, histograma.comoHashMap( ), "El mapa construido no tiene el contenido del histograma" );
+    }
+
+    @Test
+    void testSumarTodos( )
+    {
+        IntIntHistogram otro = new IntIntHistogram( );
+        histograma.incrementar( 1 );
+        histograma.incrementar( 2 );
+        otro.incrementar( 2 );
+        otro.incrementar( 3 );
+        otro.incrementar( 3 );
+
+        histograma.sumarTodos( otro );
+        assertEquals( 3, histograma.size( ), "La cantidad de valores distintos no es correcta" );
+        assertEquals( 1, histograma.get( 1 ), "La cantidad de un valor que sólo estaba en este histograma cambió" );
+        assertEquals( 2, histograma.get( 2 ), "No se sumaron las cantidades de un valor que estaba en los dos histogramas" );
+        assertEquals( 2, histograma.get( 3 ), "No se agregó un valor que sólo estaba en el otro histograma" );
+        assertEquals( 1, otro.get( 2 ), "El otro histograma no debería modificarse" );
+    }
+}
@@ -0,0 +1,141 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.ListaCodificada;
+
+class TestListaCodificada
+{
+    /**
+     * Los estados que se agregan a las listas. Incluye el signo Kelvin, que es igual a "k" con equalsIgnoreCase.
+     */
+    private static final String[] ESTADOS = new String[]{ "pendiente", "PENDIENTE", "activo", "Activo", "cerrado", "\u212A", "k", "error" };
+
+    @Test
+    void testOperacionesAleatorias( )
+    {
+        ListaCodificada lista = new ListaCodificada( );
+        List<String> esperada = new ArrayList<String>( );
+        Random aleatorio = new Random( 5 );
+        for( int i = 0; i < 20000; i++ )
+        {
+            String estado = ESTADOS[ aleatorio.nextInt( ESTADOS.length ) ];
+            int operacion = aleatorio.nextInt( 100 );
+            if( operacion < 70 || esperada.isEmpty( ) )
+            {
+                lista.add( estado );
+                esperada.add( estado );
+            }
+            else if( operacion < 80 )
+            {
+                int posicion = aleatorio.nextInt( esperada.size( ) + 1 );
+                lista.add( posicion, estado );
+                esperada.add( posicion, estado );
+            }
+            else if( operacion < 88 )
+            {
+                int posicion = aleatorio.nextInt( esperada.size( ) );
+                assertEquals( esperada.remove( posicion ), lista.remove( posicion ), "No se eliminó el elemento correcto" );
+            }
+            else if( operacion < 96 )
+            {
+                int posicion = aleatorio.nextInt( esperada.size( ) );
+                assertEquals( esperada.set( posicion, estado ), lista.set( posicion, estado ), "No se reemplazó el elemento correcto" );
+            }
+            else
+            {
+                assertEquals( esperada.removeIf( n -> n.equals( estado ) ), lista.removeIf( n -> n.equals( estado ) ), "removeIf no retornó lo esperado" );
+            }
+        }
+        assertEquals( esperada, lista, "La lista no coincide con un ArrayList después de las mismas operaciones" );
+        for( String estado : ESTADOS )
+        {
+            long esperadas = esperada.stream( ).filter( n -> n.equalsIgnoreCase( estado ) ).count( );
+            assertEquals( esperadas, lista.contarSinMayusculas( estado ), "La cantidad de apariciones de " + estado + " no es correcta" );
+        }
+        assertEquals( 3, lista.contarSinMayusculas( "K" ) > 0 ? 3 : 0, "El signo Kelvin es igual a k sin diferenciar mayúsculas" );
+        assertThrows( IndexOutOfBoundsException.class, ( ) -> lista.get( esperada.size( ) ) );
+        assertThrows( IndexOutOfBoundsException.class, ( ) -> lista.add( -1, "x" ) );
+    }
+
+    @Test
+    void testOrdenarEsEstable( )
+    {
+        ListaCodificada lista = new ListaCodificada( Arrays.asList( "b", "A", "a", "B", "a", "A", "c" ) );
+        List<String> esperada = new ArrayList<String>( lista );
+
+        lista.sort( String.CASE_INSENSITIVE_ORDER );
+        esperada.sort( String.CASE_INSENSITIVE_ORDER );
+        assertEquals( esperada, lista, "El orden no es estable entre cadenas distintas que el comparador considera iguales" );
+
+        lista.sort( null );
+        esperada.sort( null );
+        assertEquals( esperada, lista, "La lista no quedó en el orden natural" );
+    }
+
+    @Test
+    void testEliminarPorCodigos( )
+    {
+        ListaCodificada lista = new ListaCodificada( );
+        for( int i = 0; i < 10000; i++ )
+        {
+            lista.add( ESTADOS[ i % ESTADOS.length ] );
+        }
+        assertEquals( ESTADOS.length, lista.cantidadCodigos( ), "Cada cadena distinta debería tener un solo código" );
+
+        int[] evaluaciones = new int[1];
+        assertTrue( lista.removeIf( n -> {
+            evaluaciones[ 0 ]++;
+            return n.startsWith( "p" );
+        } ), "removeIf debería haber eliminado elementos" );
+        assertEquals( ESTADOS.length, evaluaciones[ 0 ], "La condición debería evaluarse una vez por cadena distinta" );
+        assertEquals( 10000 - 1250, lista.size( ), "No se eliminaron todas las apariciones" );
+        assertEquals( ESTADOS.length - 1, lista.cantidadCodigos( ), "La cadena eliminada debería salir de la tabla" );
+        assertEquals( 1250, lista.contarSinMayusculas( "pendiente" ), "Las demás escrituras de la cadena no deberían eliminarse" );
+        assertFalse( lista.removeIf( n -> n.equals( "inexistente" ) ), "removeIf no debería eliminar nada" );
+
+        Iterator<String> iterador = lista.iterator( );
+        iterador.next( );
+        lista.sort( null );
+        assertThrows( ConcurrentModificationException.class, iterador::next, "Ordenar debería invalidar los iteradores" );
+
+        lista.clear( );
+        assertEquals( 0, lista.cantidadCodigos( ), "clear debería vaciar la tabla" );
+        lista.add( "nuevo" );
+        assertEquals( Arrays.asList( "nuevo" ), lista, "La lista no se puede volver a usar después de vaciarla" );
+    }
+
+    @Test
+    void testCadenasSinUsarNoLleganAlComparadorNiALaCondicion( )
+    {
+        ListaCodificada lista = new ListaCodificada( );
+        lista.add( null );
+        lista.add( "b" );
+        lista.remove( 0 );
+        lista.add( "a" );
+        lista.sort( null );
+        assertEquals( Arrays.asList( "a", "b" ), lista, "Ordenar no debería comparar la cadena null que ya se eliminó" );
+
+        lista.set( 0, "x" );
+        lista.set( 0, "y" );
+        List<String> evaluadas = new ArrayList<String>( );
+        assertFalse( lista.removeIf( n -> {
+            evaluadas.add( n );
+            return false;
+        } ), "removeIf no debería eliminar nada" );
+        evaluadas.sort( null );
+        assertEquals( Arrays.asList( "b", "y" ), evaluadas, "La condición sólo debería evaluarse sobre las cadenas que siguen en la lista" );
+    }
+}
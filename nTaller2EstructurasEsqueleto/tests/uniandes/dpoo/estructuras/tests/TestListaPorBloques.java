@@ -0,0 +1,152 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.ListaPorBloques;
+
+class TestListaPorBloques
+{
+    private static final int CANTIDAD = 3 * ListaPorBloques.TAMANIO_BLOQUE + 17;
+
+    private ListaPorBloques<Integer> lista;
+
+    private List<Integer> esperada;
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        lista = new ListaPorBloques<Integer>( );
+        esperada = new ArrayList<Integer>( );
+        for( int i = 0; i < CANTIDAD; i++ )
+        {
+            lista.add( i );
+            esperada.add( i );
+        }
+    }
+
+    @Test
+    void testAgregarYConsultar( )
+    {
+        assertEquals( CANTIDAD, lista.size( ), "El tamaño de la lista no es correcto" );
+        assertEquals( esperada, lista, "La lista no tiene los elementos en orden" );
+        assertEquals( CANTIDAD - 1, lista.get( CANTIDAD - 1 ), "El último elemento no es correcto" );
+        assertThrows( IndexOutOfBoundsException.class, ( ) -> lista.get( CANTIDAD ) );
+        assertThrows( IndexOutOfBoundsException.class, ( ) -> lista.get( -1 ) );
+    }
+
+    @Test
+    void testOperacionesPorPosicionAleatorias( )
+    {
+        Random aleatorio = new Random( 2023 );
+        for( int i = 0; i < 5000; i++ )
+        {
+            int operacion = aleatorio.nextInt( 3 );
+            if( operacion == 0 || esperada.isEmpty( ) )
+            {
+                int posicion = aleatorio.nextInt( esperada.size( ) + 1 );
+                lista.add( posicion, -i );
+                esperada.add( posicion, -i );
+            }
+            else if( operacion == 1 )
+            {
+                int posicion = aleatorio.nextInt( esperada.size( ) );
+                assertEquals( esperada.remove( posicion ), lista.remove( posicion ), "No se eliminó el elemento correcto" );
+            }
+            else
+            {
+                int posicion = aleatorio.nextInt( esperada.size( ) );
+                assertEquals( esperada.set( posicion, i ), lista.set( posicion, i ), "No se reemplazó el elemento correcto" );
+            }
+        }
+        assertEquals( esperada, lista, "La lista no coincide con un ArrayList después de las mismas operaciones" );
+    }
+
+    @Test
+    void testIteradorModifica( )
+    {
+        ListIterator<Integer> iterador = lista.listIterator( );
+        while( iterador.hasNext( ) )
+        {
+            int valor = iterador.next( );
+            if( valor % 3 == 0 )
+            {
+                iterador.remove( );
+            }
+            else if( valor % 3 == 1 )
+            {
+                iterador.set( -valor );
+            }
+            else
+            {
+                iterador.add( 1000000 + valor );
+            }
+        }
+        ListIterator<Integer> esperado = esperada.listIterator( );
+        while( esperado.hasNext( ) )
+        {
+            int valor = esperado.next( );
+            if( valor % 3 == 0 )
+            {
+                esperado.remove( );
+            }
+            else if( valor % 3 == 1 )
+            {
+                esperado.set( -valor );
+            }
+            else
+            {
+                esperado.add( 1000000 + valor );
+            }
+        }
+        assertEquals( esperada, lista, "Las modificaciones con el iterador no dejaron la lista esperada" );
+
+        ListIterator<Integer> atras = lista.listIterator( lista.size( ) );
+        List<Integer> invertida = new ArrayList<Integer>( );
+        while( atras.hasPrevious( ) )
+        {
+            invertida.add( atras.previous( ) );
+        }
+        Collections.reverse( invertida );
+        assertEquals( esperada, invertida, "El recorrido hacia atrás no coincide" );
+    }
+
+    @Test
+    void testOrdenarYEliminarSi( )
+    {
+        Collections.shuffle( esperada, new Random( 7 ) );
+        lista.clear( );
+        lista.addAll( esperada );
+
+        Collections.sort( lista );
+        Collections.sort( esperada );
+        assertEquals( esperada, lista, "La lista no quedó ordenada" );
+
+        assertTrue( lista.removeIf( valor -> valor % 2 == 0 ), "removeIf debería indicar que eliminó elementos" );
+        esperada.removeIf( valor -> valor % 2 == 0 );
+        assertEquals( esperada, lista, "removeIf no eliminó los elementos correctos" );
+        assertFalse( lista.removeIf( valor -> valor < 0 ), "removeIf no debería indicar cambios si no eliminó nada" );
+    }
+
+    @Test
+    void testModificacionConcurrente( )
+    {
+        Iterator<Integer> iterador = lista.iterator( );
+        iterador.next( );
+        lista.add( 5 );
+        assertThrows( ConcurrentModificationException.class, ( ) -> iterador.next( ) );
+    }
+}
@@ -1,20 +1,38 @@
 package uniandes.dpoo.estructuras.tests;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.DoubleStream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import uniandes.dpoo.estructuras.logica.DistribucionEnteros;
+import uniandes.dpoo.estructuras.logica.IntIntHistogram;
 import uniandes.dpoo.estructuras.logica.SandboxArreglos;
+import uniandes.dpoo.estructuras.logica.SecuenciaEnteros;
 
 class TestSandboxArreglos
 {
@@ -23,15 +41,27 @@ class TestSandboxArreglos
     private SandboxArreglos sinRepetidos;
     private SandboxArreglos vacio;
 
+    @TempDir
+    Path carpeta;
+
     private static final int[] enterosSencillos = new int[]{ 9, 8, 7, 6, 5, 4, 3, 2, 1, 0, 6, -2, -3, -4, -5, 6, 7, 8, 9 };
     private static final String[] cadenasSencillas = new String[]{ "a", "b", "c", "d", "e", "d", "c", "b", "a" };
 
     private static final int[] enterosSinRepetidos = new int[]{ 9, 8, 7, 6, 5, 4, 3, 2, 1, 0 };
 
+    /**
+     * Crea el sandbox sobre el que se ejecutan las pruebas. Las subclases lo redefinen para ejecutar las mismas pruebas con otro almacenamiento.
+     * @return Un sandbox vacío
+     */
+    SandboxArreglos crearSandbox( )
+    {
+        return new SandboxArreglos( );
+    }
+
     @BeforeEach
     void setUp( ) throws Exception
     {
-        sencillo = new SandboxArreglos( );
+        sencillo = crearSandbox( );
 
         for( int i = 0; i < enterosSencillos.length; i++ )
         {
@@ -42,18 +72,21 @@ class TestSandboxArreglos
             sencillo.agregarCadena( cadenasSencillas[ i ] );
         }
 
-        sinRepetidos = new SandboxArreglos( );
+        sinRepetidos = crearSandbox( );
         for( int i = 0; i < enterosSinRepetidos.length; i++ )
         {
             sinRepetidos.agregarEntero( enterosSinRepetidos[ i ] );
         }
 
-        vacio = new SandboxArreglos( );
+        vacio = crearSandbox( );
     }
 
     @AfterEach
     void reset( )
     {
+        sencillo.close( );
+        sinRepetidos.close( );
+        vacio.close( );
         sencillo = null;
         sinRepetidos = null;
         vacio = null;
@@ -121,6 +154,128 @@ class TestSandboxArreglos
         assertEquals( 0, copia.length, "La cantidad de cadenas en el sandbox vacío no es correcta" );
     }
 
+    @Test
+    void testVistas( )
+    {
+        SecuenciaEnteros enteros = sencillo.getVistaEnteros( );
+        List<String> cadenas = sencillo.getVistaCadenas( );
+        assertArrayEquals( enterosSencillos, enteros.copia( ), "La vista no tiene los enteros del sandbox" );
+        assertEquals( Arrays.asList( cadenasSencillas ), cadenas, "La vista no tiene las cadenas del sandbox" );
+
+        sencillo.agregarEntero( 100 );
+        sencillo.volverPositivos( );
+        sencillo.agregarCadena( "z" );
+        assertEquals( enterosSencillos.length + 1, enteros.tamanio( ), "La vista debería reflejar los enteros agregados" );
+        assertEquals( 100, enteros.get( enterosSencillos.length ), "La vista debería reflejar los enteros agregados" );
+        assertEquals( 0, enteros.contar( -2 ), "La vista debería reflejar los cambios de los enteros" );
+        assertEquals( "z", cadenas.get( cadenasSencillas.length ), "La vista debería reflejar las cadenas agregadas" );
+
+        sencillo.reiniciarArregloEnteros( new double[]{ 1.0, 2.0 } );
+        sencillo.reiniciarArregloCadenas( new Object[]{ "x" } );
+        assertArrayEquals( new int[]{ 1, 2 }, enteros.copia( ), "La vista debería seguir al arreglo reiniciado" );
+        assertEquals( List.of( "x" ), cadenas, "La vista debería seguir al arreglo reiniciado" );
+
+        assertThrows( UnsupportedOperationException.class, ( ) -> enteros.agregar( 3 ) );
+        assertThrows( UnsupportedOperationException.class, ( ) -> enteros.eliminarValores( new int[0] ) );
+        assertThrows( UnsupportedOperationException.class, ( ) -> cadenas.add( "y" ) );
+        assertThrows( UnsupportedOperationException.class, ( ) -> cadenas.set( 0, "y" ) );
+        assertArrayEquals( new int[]{ 1, 2 }, sencillo.getCopiaEnteros( ), "La vista no debería modificar el sandbox" );
+    }
+
+    @Test
+    void testInstantaneaEnteros( )
+    {
+        SecuenciaEnteros instantanea = sencillo.getInstantaneaEnteros( );
+        assertArrayEquals( enterosSencillos, instantanea.copia( ), "La instantánea no tiene los enteros del sandbox" );
+        assertSame( instantanea, sencillo.getInstantaneaEnteros( ), "Sin modificaciones, la instantánea debería ser la misma" );
+
+        sencillo.agregarEntero( 100 );
+        sencillo.eliminarEntero( 6 );
+        sencillo.organizarEnteros( );
+        assertArrayEquals( enterosSencillos, instantanea.copia( ), "La instantánea no debería cambiar con el sandbox" );
+        assertEquals( 3, instantanea.contar( 6 ), "La instantánea no debería cambiar con el sandbox" );
+        assertEquals( enterosSencillos.length - 2, sencillo.getCantidadEnteros( ), "El sandbox debería modificarse después de la instantánea" );
+        assertArrayEquals( new int[]{ -5, 100 }, sencillo.calcularRangoEnteros( ), "El sandbox debería modificarse después de la instantánea" );
+
+        SecuenciaEnteros segunda = sencillo.getInstantaneaEnteros( );
+        assertArrayEquals( sencillo.getCopiaEnteros( ), segunda.copia( ), "La segunda instantánea debería tener los valores nuevos" );
+        sencillo.reiniciarArregloEnteros( new double[]{ 7.0 } );
+        assertEquals( enterosSencillos.length - 2, segunda.tamanio( ), "Reiniciar el sandbox no debería cambiar la instantánea" );
+        assertArrayEquals( enterosSencillos, instantanea.copia( ), "La primera instantánea no debería cambiar" );
+        assertThrows( UnsupportedOperationException.class, ( ) -> instantanea.set( 0, 1 ) );
+
+        SecuenciaEnteros vacia = vacio.getInstantaneaEnteros( );
+        vacio.agregarEntero( 1 );
+        assertEquals( 0, vacia.tamanio( ), "La instantánea del sandbox vacío debería seguir vacía" );
+        assertArrayEquals( new int[]{ 1 }, vacio.getCopiaEnteros( ), "El sandbox vacío debería modificarse después de la instantánea" );
+    }
+
+    @Test
+    void testInstantaneaEnterosSeLeeAparte( ) throws InterruptedException
+    {
+        vacio.setSemilla( 3 );
+        vacio.generarEnteros( 200000, -1000000, 1000000 );
+        int[] esperados = vacio.getCopiaEnteros( );
+        SecuenciaEnteros instantanea = vacio.getInstantaneaEnteros( );
+        SecuenciaEnteros vista = vacio.getVistaEnteros( );
+        int[] errores = new int[1];
+        Thread lector = new Thread( ( ) -> {
+            Random aleatorio = new Random( 1 );
+            for( int i = 0; i < 500000; i++ )
+            {
+                int posicion = aleatorio.nextInt( esperados.length );
+                if( instantanea.get( posicion ) != esperados[ posicion ] )
+                {
+                    errores[ 0 ]++;
+                }
+            }
+        } );
+        lector.start( );
+        Random aleatorio = new Random( 2 );
+        int erroresSandbox = 0;
+        for( int i = 0; i < 500000; i++ )
+        {
+            int posicion = aleatorio.nextInt( esperados.length );
+            if( vista.get( posicion ) != esperados[ posicion ] )
+            {
+                erroresSandbox++;
+            }
+        }
+        lector.join( );
+        assertEquals( 0, errores[ 0 ], "La instantánea no debería verse afectada por las consultas del sandbox" );
+        assertEquals( 0, erroresSandbox, "El sandbox no debería verse afectado por las consultas de la instantánea" );
+    }
+
+    @Test
+    void testInstantaneaEnterosNoSeRetieneDespuesDeModificar( ) throws InterruptedException
+    {
+        SecuenciaEnteros instantanea = sencillo.getInstantaneaEnteros( );
+        WeakReference<SecuenciaEnteros> referencia = new WeakReference<SecuenciaEnteros>( instantanea );
+        sencillo.agregarEntero( 100 );
+        instantanea = null;
+        for( int intento = 0; intento < 20 && referencia.get( ) != null; intento++ )
+        {
+            System.gc( );
+            Thread.sleep( 10 );
+        }
+        assertEquals( null, referencia.get( ), "Después de copiar sus enteros, el sandbox no debería retener la instantánea" );
+        assertEquals( enterosSencillos.length + 1, sencillo.getCantidadEnteros( ), "El sandbox debería tener su propia copia" );
+    }
+
+    @Test
+    void testInstantaneaEnterosMapeados( ) throws IOException
+    {
+        Path archivo = carpeta.resolve( "enteros.bin" );
+        sencillo.guardar( archivo );
+        vacio.mapear( archivo );
+        SecuenciaEnteros instantanea = vacio.getInstantaneaEnteros( );
+        vacio.volverPositivos( );
+        assertArrayEquals( enterosSencillos, instantanea.copia( ), "La instantánea del arreglo mapeado no debería cambiar" );
+        vacio.close( );
+        assertArrayEquals( enterosSencillos, instantanea.copia( ), "La instantánea debería poder usarse después de cerrar el sandbox" );
+        vacio = crearSandbox( );
+    }
+
     @Test
     void testAgregarEntero( )
     {
@@ -169,6 +324,16 @@ class TestSandboxArreglos
         assertEquals( "mmmm", copia[ 0 ], "La nueva cadena no quedó almacenado al final del arreglo" );
     }
 
+    @Test
+    void testAgregarCadenaNullYSustitutoSinPareja( )
+    {
+        vacio.agregarCadena( null );
+        vacio.agregarCadena( "x\uD800" );
+
+        assertArrayEquals( new String[]{ null, "x\uD800" }, vacio.getCopiaCadenas( ), "Las cadenas no se guardaron tal como se agregaron" );
+        assertEquals( "x\uD800", vacio.getVistaCadenas( ).get( 1 ), "El sustituto sin pareja no debería cambiar por '?'" );
+    }
+
     @Test
     void testEliminarEnteroUnico( )
     {
@@ -224,6 +389,18 @@ class TestSandboxArreglos
         assertEquals( cadenasSencillas.length, sencillo.getCantidadCadenas( ), "La cantidad de cadenas debería seguir siendo la misma" );
     }
 
+    @Test
+    void testEliminarCadenaConNull( )
+    {
+        vacio.agregarCadena( null );
+        vacio.agregarCadena( "a" );
+        vacio.eliminarCadena( new String( "a" ) );
+        assertArrayEquals( new String[]{ null }, vacio.getCopiaCadenas( ), "Debería eliminarse la cadena igual aunque sea otro objeto, y quedar la null" );
+
+        vacio.eliminarCadena( null );
+        assertEquals( 0, vacio.getCantidadCadenas( ), "La cadena null debería eliminarse" );
+    }
+
     @Test
     void testEliminarCadenaInexistenteVacio( )
     {
@@ -372,6 +549,57 @@ class TestSandboxArreglos
         }
     }
 
+    @Test
+    void testOperacionesPorLotes( )
+    {
+        sencillo.agregarEnteros( new int[]{ 1, 2 } );
+        sencillo.insertarEnteros( new int[]{ 50, 51, 52 }, 2 );
+        sencillo.insertarEnteros( new int[]{ -9 }, -4 );
+        sencillo.insertarEnteros( new int[]{ 70 }, 1000 );
+        sencillo.insertarEnteros( new int[0], 3 );
+        int[] esperados = new int[]{ -9, 9, 8, 50, 51, 52, 7, 6, 5, 4, 3, 2, 1, 0, 6, -2, -3, -4, -5, 6, 7, 8, 9, 1, 2, 70 };
+        assertArrayEquals( esperados, sencillo.getCopiaEnteros( ), "Los enteros no quedaron en las posiciones correctas" );
+
+        sencillo.eliminarEnteros( 6, 9, 6, 42 );
+        esperados = new int[]{ -9, 8, 50, 51, 52, 7, 5, 4, 3, 2, 1, 0, -2, -3, -4, -5, 7, 8, 1, 2, 70 };
+        assertArrayEquals( esperados, sencillo.getCopiaEnteros( ), "No se eliminaron todas las apariciones de los valores" );
+        sencillo.eliminarEnteros( );
+        assertArrayEquals( esperados, sencillo.getCopiaEnteros( ), "Eliminar sin valores no debería cambiar el arreglo" );
+
+        sencillo.agregarCadenas( Arrays.asList( "x", "a" ) );
+        assertArrayEquals( new String[]{ "a", "b", "c", "d", "e", "d", "c", "b", "a", "x", "a" }, sencillo.getCopiaCadenas( ), "Las cadenas no se agregaron al final" );
+        vacio.agregarCadenas( Arrays.asList( ) );
+        assertEquals( 0, vacio.getCantidadCadenas( ), "Agregar una colección vacía no debería cambiar el arreglo" );
+    }
+
+    @Test
+    void testOperacionesPorLotesGrandes( )
+    {
+        Random aleatorio = new Random( 23 );
+        int[] primeros = aleatorio.ints( 100000, -1000, 1000 ).toArray( );
+        int[] segundos = aleatorio.ints( 5000, -1000, 1000 ).toArray( );
+        vacio.agregarEnteros( primeros );
+        vacio.insertarEnteros( segundos, 777 );
+        int[] esperados = new int[primeros.length + segundos.length];
+        System.arraycopy( primeros, 0, esperados, 0, 777 );
+        System.arraycopy( segundos, 0, esperados, 777, segundos.length );
+        System.arraycopy( primeros, 777, esperados, 777 + segundos.length, primeros.length - 777 );
+        assertArrayEquals( esperados, vacio.getCopiaEnteros( ), "Los lotes no quedaron en las posiciones correctas" );
+
+        vacio.eliminarEnteros( 0, 1, -1000, 999, 500 );
+        int[] restantes = Arrays.stream( esperados ).filter( v -> v != 0 && v != 1 && v != -1000 && v != 999 && v != 500 ).toArray( );
+        assertArrayEquals( restantes, vacio.getCopiaEnteros( ), "No se eliminaron todas las apariciones de los valores" );
+
+        int[] muchos = new int[40];
+        for( int i = 0; i < muchos.length; i++ )
+        {
+            muchos[ i ] = i * 37 - 700;
+        }
+        vacio.eliminarEnteros( muchos );
+        restantes = Arrays.stream( restantes ).filter( v -> v < -700 || v > 743 || ( v + 700 ) % 37 != 0 ).toArray( );
+        assertArrayEquals( restantes, vacio.getCopiaEnteros( ), "No se eliminaron todas las apariciones de muchos valores" );
+    }
+
     @Test
     void testReiniciarArregloEnteros( )
     {
@@ -423,6 +651,155 @@ class TestSandboxArreglos
         }
     }
 
+    @Test
+    void testReiniciarArregloEnterosDesdeStream( )
+    {
+        double[] nuevosValores = new double[]{ -3.7, -0.5, 0.1, 1.2, 2.99, 1e10, -1e10, Double.NaN };
+        int[] esperados = new int[nuevosValores.length];
+        for( int i = 0; i < nuevosValores.length; i++ )
+        {
+            esperados[ i ] = ( int )nuevosValores[ i ];
+        }
+
+        sencillo.reiniciarArregloEnteros( DoubleStream.of( nuevosValores ) );
+        assertArrayEquals( esperados, sencillo.getCopiaEnteros( ), "Los valores del stream no se truncaron igual que con un arreglo" );
+
+        sencillo.reiniciarArregloEnteros( DoubleStream.of( nuevosValores ).filter( valor -> valor > 0 ) );
+        assertArrayEquals( new int[]{ 0, 1, 2, Integer.MAX_VALUE }, sencillo.getCopiaEnteros( ), "No se usaron los valores de un stream sin tamaño conocido" );
+
+        sencillo.reiniciarArregloEnteros( DoubleStream.iterate( 0.5, valor -> valor + 1 ).limit( 5000 ).iterator( ) );
+        assertEquals( 5000, sencillo.getCantidadEnteros( ), "No se consumió todo el iterador" );
+        assertArrayEquals( new int[]{ 0, 4999 }, sencillo.calcularRangoEnteros( ), "Los valores del iterador no se truncaron correctamente" );
+        assertArrayEquals( new int[]{ 17, 18 }, sencillo.buscarEnteroOrdenado( 17 ), "Los valores llegaron ordenados y el arreglo debería saberlo" );
+    }
+
+    @Test
+    void testReiniciarArregloEnterosDesdeCanal( ) throws IOException
+    {
+        int cantidad = 20000;
+        ByteBuffer bytes = ByteBuffer.allocate( cantidad * Double.BYTES ).order( ByteOrder.LITTLE_ENDIAN );
+        for( int i = 0; i < cantidad; i++ )
+        {
+            bytes.putDouble( i % 2 == 0 ? i + 0.75 : -i - 0.75 );
+        }
+
+        sencillo.reiniciarArregloEnteros( Channels.newChannel( new ByteArrayInputStream( bytes.array( ) ) ) );
+        int[] copia = sencillo.getCopiaEnteros( );
+        assertEquals( cantidad, copia.length, "No se leyeron todos los valores del canal" );
+        for( int i = 0; i < cantidad; i++ )
+        {
+            assertEquals( i % 2 == 0 ? i : -i, copia[ i ], "El valor " + i + " del canal no se truncó correctamente" );
+        }
+
+        byte[] incompletos = Arrays.copyOf( bytes.array( ), 3 * Double.BYTES + 5 );
+        assertThrows( IOException.class, ( ) -> sencillo.reiniciarArregloEnteros( Channels.newChannel( new ByteArrayInputStream( incompletos ) ) ),
+                "Un canal con un double incompleto debería fallar" );
+        assertEquals( cantidad, sencillo.getCantidadEnteros( ), "Si la lectura falla, el arreglo no debería cambiar" );
+    }
+
+    @Test
+    void testReiniciarArregloCadenasDesdeIterador( )
+    {
+        List<Object> objetos = Arrays.asList( 0.01, 'a', "Hello", 25, false );
+        int[] consumidos = new int[1];
+        Iterator<Object> perezoso = new Iterator<Object>( )
+        {
+            private final Iterator<Object> base = objetos.iterator( );
+
+            @Override
+            public boolean hasNext( )
+            {
+                return base.hasNext( );
+            }
+
+            @Override
+            public Object next( )
+            {
+                consumidos[ 0 ]++;
+                return base.next( );
+            }
+        };
+
+        sencillo.reiniciarArregloCadenas( perezoso );
+        assertEquals( objetos.size( ), consumidos[ 0 ], "Cada objeto debería pedirse una sola vez" );
+        String[] copia = sencillo.getCopiaCadenas( );
+        assertEquals( objetos.size( ), copia.length, "La nueva cantidad de cadenas no es la correcta" );
+        for( int i = 0; i < copia.length; i++ )
+        {
+            assertEquals( objetos.get( i ).toString( ), copia[ i ], "No se ajustaron correctamente las cadenas existentes" );
+        }
+    }
+
+    @Test
+    void testGuardarYCargar( ) throws IOException
+    {
+        Path archivo = carpeta.resolve( "enteros.bin" );
+        sencillo.guardar( archivo );
+        vacio.cargar( archivo );
+        assertArrayEquals( enterosSencillos, vacio.getCopiaEnteros( ), "Los enteros cargados no son los que se guardaron" );
+        assertThrows( IllegalStateException.class, ( ) -> vacio.buscarEnteroOrdenado( 6 ), "El arreglo guardado no estaba ordenado" );
+
+        sencillo.organizarEnteros( );
+        sencillo.guardar( archivo );
+        vacio.cargar( archivo );
+        assertArrayEquals( sencillo.getCopiaEnteros( ), vacio.getCopiaEnteros( ), "Los enteros cargados no son los que se guardaron" );
+        assertArrayEquals( new int[]{ 10, 13 }, vacio.buscarEnteroOrdenado( 6 ), "Al cargar un arreglo ordenado se debería saber que está ordenado" );
+
+        SandboxArreglos otro = crearSandbox( );
+        otro.guardar( archivo );
+        sencillo.cargar( archivo );
+        assertEquals( 0, sencillo.getCantidadEnteros( ), "No se cargó correctamente un arreglo vacío" );
+    }
+
+    @Test
+    void testCargarArchivoDaniado( ) throws IOException
+    {
+        Path archivo = carpeta.resolve( "enteros.bin" );
+        sinRepetidos.guardar( archivo );
+        byte[] bytes = Files.readAllBytes( archivo );
+
+        byte[] daniado = bytes.clone( );
+        daniado[ daniado.length - 3 ] ^= 1;
+        Files.write( archivo, daniado );
+        assertThrows( IOException.class, ( ) -> sencillo.cargar( archivo ), "Un archivo con un entero alterado debería fallar al cargarse" );
+        assertArrayEquals( enterosSencillos, sencillo.getCopiaEnteros( ), "Si la carga falla, el arreglo no debería cambiar" );
+
+        Files.write( archivo, Arrays.copyOf( bytes, bytes.length - 2 ) );
+        assertThrows( IOException.class, ( ) -> sencillo.cargar( archivo ), "Un archivo incompleto debería fallar al cargarse" );
+        assertThrows( IOException.class, ( ) -> sencillo.mapear( archivo ), "Un archivo incompleto debería fallar al mapearse" );
+
+        Files.write( archivo, new byte[]{ 1, 2, 3 } );
+        assertThrows( IOException.class, ( ) -> sencillo.cargar( archivo ), "Un archivo sin encabezado debería fallar al cargarse" );
+        assertArrayEquals( enterosSencillos, sencillo.getCopiaEnteros( ), "Si la carga falla, el arreglo no debería cambiar" );
+    }
+
+    @Test
+    void testConsultasSobreArchivoMapeado( ) throws IOException
+    {
+        Path archivo = carpeta.resolve( "enteros.bin" );
+        sencillo.guardar( archivo );
+        vacio.mapear( archivo );
+
+        assertArrayEquals( enterosSencillos, vacio.getCopiaEnteros( ), "Los enteros mapeados no son los que se guardaron" );
+        assertEquals( 3, vacio.contarApariciones( 6 ), "No contó correctamente sobre el archivo mapeado" );
+        assertArrayEquals( sencillo.buscarEntero( 9 ), vacio.buscarEntero( 9 ), "No encontró las posiciones sobre el archivo mapeado" );
+        assertArrayEquals( new int[]{ -5, 9 }, vacio.calcularRangoEnteros( ), "El rango sobre el archivo mapeado no es correcto" );
+        assertEquals( sencillo.calcularHistograma( ), vacio.calcularHistograma( ), "El histograma sobre el archivo mapeado no es correcto" );
+
+        sinRepetidos.organizarEnteros( );
+        sinRepetidos.guardar( archivo );
+        vacio.mapear( archivo );
+        assertArrayEquals( new int[]{ 3, 4 }, vacio.buscarEnteroOrdenado( 3 ), "La búsqueda binaria sobre el archivo mapeado no es correcta" );
+        assertEquals( 1, vacio.contarApariciones( 3 ), "No contó correctamente sobre el archivo mapeado ordenado" );
+
+        vacio.agregarEntero( 100 );
+        vacio.insertarEntero( -100, 0 );
+        assertEquals( 12, vacio.getCantidadEnteros( ), "No se pudo modificar el arreglo mapeado" );
+        assertArrayEquals( new int[]{ -100, 100 }, vacio.calcularRangoEnteros( ), "El rango después de modificar el arreglo mapeado no es correcto" );
+        sencillo.cargar( archivo );
+        assertArrayEquals( sinRepetidos.getCopiaEnteros( ), sencillo.getCopiaEnteros( ), "Modificar el arreglo mapeado no debería modificar el archivo" );
+    }
+
     @Test
     void testVolverPositivos( )
     {
@@ -556,6 +933,63 @@ class TestSandboxArreglos
         assertEquals( 0, posiciones99.length, "No reconocio un valor que no está en el arreglo" );
     }
 
+    @Test
+    void testConsultasOrdenadas( )
+    {
+        sencillo.organizarEnteros( );
+
+        assertArrayEquals( new int[]{ 17, 18 }, sencillo.buscarEntero( 9 ), "No encontró las posiciones en el arreglo ordenado" );
+        assertArrayEquals( new int[]{ 10, 11, 12 }, sencillo.buscarEntero( 6 ), "No encontró las posiciones en el arreglo ordenado" );
+        assertEquals( 0, sencillo.buscarEntero( 99 ).length, "No reconocio un valor que no está en el arreglo ordenado" );
+        assertEquals( 3, sencillo.contarApariciones( 6 ), "No contó correctamente en el arreglo ordenado" );
+        assertEquals( 0, sencillo.contarApariciones( -1 ), "No contó correctamente un valor que no está en el arreglo ordenado" );
+        assertArrayEquals( new int[]{ -5, 9 }, sencillo.calcularRangoEnteros( ), "El rango del arreglo ordenado no es correcto" );
+
+        assertArrayEquals( new int[]{ 10, 13 }, sencillo.buscarEnteroOrdenado( 6 ), "El rango de posiciones no es correcto" );
+        assertArrayEquals( new int[]{ 4, 4 }, sencillo.buscarEnteroOrdenado( -1 ), "Un valor ausente debería tener un rango vacío en su posición de inserción" );
+        assertArrayEquals( new int[]{ 19, 19 }, sencillo.buscarEnteroOrdenado( 99 ), "Un valor mayor que todos debería tener un rango vacío al final" );
+    }
+
+    @Test
+    void testConsultasDespuesDeDesordenar( )
+    {
+        assertThrows( IllegalStateException.class, ( ) -> sencillo.buscarEnteroOrdenado( 9 ), "El arreglo no está ordenado" );
+
+        sencillo.organizarEnteros( );
+        sencillo.insertarEntero( 6, 10 );
+        sencillo.agregarEntero( 9 );
+        assertArrayEquals( new int[]{ 10, 14 }, sencillo.buscarEnteroOrdenado( 6 ), "Insertar en orden no debería desordenar el arreglo" );
+        assertArrayEquals( new int[]{ 18, 19, 20 }, sencillo.buscarEntero( 9 ), "Agregar en orden no debería desordenar el arreglo" );
+
+        sencillo.insertarEntero( 100, 0 );
+        assertThrows( IllegalStateException.class, ( ) -> sencillo.buscarEnteroOrdenado( 100 ), "El arreglo ya no está ordenado" );
+        assertEquals( 1, sencillo.contarApariciones( 100 ), "No contó correctamente después de desordenar el arreglo" );
+        assertArrayEquals( new int[]{ 0 }, sencillo.buscarEntero( 100 ), "No encontró la posición después de desordenar el arreglo" );
+        assertArrayEquals( new int[]{ -5, 100 }, sencillo.calcularRangoEnteros( ), "El rango no es correcto después de desordenar el arreglo" );
+
+        sencillo.organizarEnteros( );
+        sencillo.volverPositivos( );
+        assertArrayEquals( new int[]{ 0, 100 }, sencillo.calcularRangoEnteros( ), "El rango no es correcto después de volver positivos los valores" );
+    }
+
+    @Test
+    void testConsultasOrdenadasDespuesDeLotes( )
+    {
+        sencillo.organizarEnteros( );
+        sencillo.agregarEnteros( new int[]{ 9, 10, 11 } );
+        assertArrayEquals( new int[]{ 20, 21 }, sencillo.buscarEnteroOrdenado( 10 ), "Agregar un lote en orden no debería desordenar el arreglo" );
+        sencillo.insertarEnteros( new int[]{ 6, 6 }, 10 );
+        assertArrayEquals( new int[]{ 10, 15 }, sencillo.buscarEnteroOrdenado( 6 ), "Insertar un lote en orden no debería desordenar el arreglo" );
+        sencillo.eliminarEnteros( 6, 11 );
+        assertArrayEquals( new int[]{ 17, 18 }, sencillo.buscarEnteroOrdenado( 10 ), "Eliminar valores no debería desordenar el arreglo" );
+
+        sencillo.insertarEnteros( new int[]{ 3, 1 }, 0 );
+        assertThrows( IllegalStateException.class, ( ) -> sencillo.buscarEnteroOrdenado( 3 ), "Un lote desordenado desordena el arreglo" );
+        sencillo.organizarEnteros( );
+        sencillo.agregarEnteros( new int[]{ -100 } );
+        assertThrows( IllegalStateException.class, ( ) -> sencillo.buscarEnteroOrdenado( 3 ), "Un lote menor que el último valor desordena el arreglo" );
+    }
+
     @Test
     void testEncontrarEnteroVacio( )
     {
@@ -610,6 +1044,17 @@ class TestSandboxArreglos
         assertEquals( 0, histograma.size( ), "La cantidad de valores en el histograma no es la correcta" );
     }
 
+    @Test
+    void testHistograma( )
+    {
+        IntIntHistogram histograma = sencillo.histograma( );
+
+        assertEquals( 14, histograma.size( ), "La cantidad de valores en el histograma no es la correcta" );
+        assertEquals( sencillo.calcularHistograma( ), histograma.comoHashMap( ), "El histograma primitivo no coincide con el histograma como mapa" );
+        assertEquals( 3, histograma.get( 6 ), "La cantidad de veces que aparece el valor en el histograma no es la correcta" );
+        assertEquals( 0, vacio.histograma( ).size( ), "El histograma del arreglo vacío debería estar vacío" );
+    }
+
     @Test
     void testContarEnterosRepetidos( )
     {
@@ -633,8 +1078,9 @@ class TestSandboxArreglos
     {
         assertTrue( sencillo.compararArregloEnteros( enterosSencillos ), "No comparó correctamente los arreglos cuando eran iguales" );
 
-        enterosSencillos[ 0 ] = -99;
-        assertFalse( sencillo.compararArregloEnteros( enterosSencillos ), "No comparó correctamente los arreglos cuando eran diferentes" );
+        int[] diferentes = enterosSencillos.clone( );
+        diferentes[ 0 ] = -99;
+        assertFalse( sencillo.compararArregloEnteros( diferentes ), "No comparó correctamente los arreglos cuando eran diferentes" );
     }
 
     @Test
@@ -694,6 +1140,24 @@ class TestSandboxArreglos
         assertEquals( 10, rango[ 1 ], "El mayor valor del rango no es el correcto" );
     }
 
+    @Test
+    void testGenerarEnterosConSemilla( )
+    {
+        sencillo.setSemilla( 11 );
+        vacio.setSemilla( 11 );
+        sencillo.generarEnteros( 1000, -50, 50 );
+        vacio.generarEnteros( 1000, -50, 50 );
+        assertArrayEquals( sencillo.getCopiaEnteros( ), vacio.getCopiaEnteros( ), "Con la misma semilla se deberían generar los mismos enteros" );
+
+        vacio.setUmbralParalelo( 0 );
+        sencillo.generarEnteros( 100000, 0, 999, DistribucionEnteros.ZIPF );
+        vacio.generarEnteros( 100000, 0, 999, DistribucionEnteros.ZIPF );
+        assertArrayEquals( sencillo.getCopiaEnteros( ), vacio.getCopiaEnteros( ), "Generar en paralelo no debería cambiar los enteros" );
+        assertTrue( sencillo.contarApariciones( 0 ) > sencillo.contarApariciones( 100 ), "Con Zipf el mínimo debería ser el valor más frecuente" );
+        int[] rango = sencillo.calcularRangoEnteros( );
+        assertTrue( rango[ 0 ] == 0 && rango[ 1 ] <= 999, "Los enteros generados deberían estar en el rango" );
+    }
+
     @Test
     void testGenerarEnterosDistribucion( )
     {
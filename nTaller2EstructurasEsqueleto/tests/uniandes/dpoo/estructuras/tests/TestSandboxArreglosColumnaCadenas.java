@@ -0,0 +1,17 @@
+package uniandes.dpoo.estructuras.tests;
+
+import uniandes.dpoo.estructuras.logica.AlmacenamientoCadenas;
+import uniandes.dpoo.estructuras.logica.AlmacenamientoEnteros;
+import uniandes.dpoo.estructuras.logica.SandboxArreglos;
+
+/**
+ * Ejecuta todas las pruebas de TestSandboxArreglos guardando el arreglo de cadenas en una ColumnaCadenas sin repetidos
+ */
+class TestSandboxArreglosColumnaCadenas extends TestSandboxArreglos
+{
+    @Override
+    SandboxArreglos crearSandbox( )
+    {
+        return new SandboxArreglos( AlmacenamientoEnteros.ARREGLO, AlmacenamientoCadenas.COLUMNA_SIN_REPETIDOS );
+    }
+}
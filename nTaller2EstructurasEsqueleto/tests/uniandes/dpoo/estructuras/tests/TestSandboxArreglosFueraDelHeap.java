@@ -0,0 +1,16 @@
+package uniandes.dpoo.estructuras.tests;
+
+import uniandes.dpoo.estructuras.logica.AlmacenamientoEnteros;
+import uniandes.dpoo.estructuras.logica.SandboxArreglos;
+
+/**
+ * Ejecuta todas las pruebas de TestSandboxArreglos guardando el arreglo de enteros fuera del heap
+ */
+class TestSandboxArreglosFueraDelHeap extends TestSandboxArreglos
+{
+    @Override
+    SandboxArreglos crearSandbox( )
+    {
+        return new SandboxArreglos( AlmacenamientoEnteros.FUERA_DEL_HEAP );
+    }
+}
@@ -0,0 +1,65 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.AlmacenamientoEnteros;
+import uniandes.dpoo.estructuras.logica.SandboxArreglos;
+
+/**
+ * Ejecuta todas las pruebas de TestSandboxArreglos con umbral de paralelismo 0, así que todas las operaciones que lo admiten usan varios hilos
+ */
+class TestSandboxArreglosParalelo extends TestSandboxArreglos
+{
+    @Override
+    SandboxArreglos crearSandbox( )
+    {
+        SandboxArreglos sandbox = new SandboxArreglos( );
+        sandbox.setUmbralParalelo( 0 );
+        return sandbox;
+    }
+
+    @Test
+    void testMismosResultadosQueSecuencial( )
+    {
+        Random aleatorio = new Random( 14 );
+        double[] valores = new double[200000];
+        for( int i = 0; i < valores.length; i++ )
+        {
+            valores[ i ] = aleatorio.nextInt( 2001 ) - 1000;
+        }
+
+        for( AlmacenamientoEnteros almacenamiento : AlmacenamientoEnteros.values( ) )
+        {
+            SandboxArreglos paralelo = new SandboxArreglos( almacenamiento );
+            paralelo.setUmbralParalelo( 0 );
+            SandboxArreglos secuencial = new SandboxArreglos( almacenamiento );
+            secuencial.setUmbralParalelo( Integer.MAX_VALUE );
+            paralelo.reiniciarArregloEnteros( valores );
+            secuencial.reiniciarArregloEnteros( valores );
+
+            assertEquals( secuencial.contarApariciones( 17 ), paralelo.contarApariciones( 17 ), "El conteo en paralelo no es correcto" );
+            assertArrayEquals( secuencial.calcularRangoEnteros( ), paralelo.calcularRangoEnteros( ), "El rango en paralelo no es correcto" );
+            assertEquals( secuencial.calcularHistograma( ), paralelo.calcularHistograma( ), "El histograma en paralelo no es correcto" );
+
+            paralelo.volverPositivos( );
+            secuencial.volverPositivos( );
+            assertArrayEquals( secuencial.getCopiaEnteros( ), paralelo.getCopiaEnteros( ), "volverPositivos en paralelo no dejó los valores esperados" );
+
+            paralelo.organizarEnteros( );
+            secuencial.organizarEnteros( );
+            assertArrayEquals( secuencial.getCopiaEnteros( ), paralelo.getCopiaEnteros( ), "El ordenamiento en paralelo no es correcto" );
+        }
+    }
+
+    @Test
+    void testUmbralNegativo( )
+    {
+        assertThrows( IllegalArgumentException.class, ( ) -> new SandboxArreglos( ).setUmbralParalelo( -1 ) );
+    }
+}
@@ -3,11 +3,13 @@ package uniandes.dpoo.estructuras.tests;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.TreeSet;
 
@@ -22,6 +24,7 @@ class TestSandboxConjuntos
     private SandboxConjuntos sencillo;
     private SandboxConjuntos sinRepetidos;
     private SandboxConjuntos vacio;
+    private SandboxConjuntos indexado;
 
     private static final String[] cadenasSencillas = new String[]{ "a", "a", "B", "c", "d", "e", "a", "d", "c", "B", "a" };
     private static final String[] cadenasSinRepetidos = new String[]{ "e", "d", "c", "B", "a" };
@@ -44,6 +47,13 @@ class TestSandboxConjuntos
             sinRepetidos.agregarCadena( cadenasSinRepetidos[ i ] );
         }
         vacio = new SandboxConjuntos( );
+
+        indexado = new SandboxConjuntos( true );
+        for( int i = 0; i < cadenasSencillas.length; i++ )
+        {
+            indexado.agregarCadena( cadenasSencillas[ i ] );
+        }
+        indexado.agregarCadena( "b" );
     }
 
     @AfterEach
@@ -52,6 +62,7 @@ class TestSandboxConjuntos
         sencillo = null;
         sinRepetidos = null;
         vacio = null;
+        indexado = null;
     }
 
     @Test
@@ -78,6 +89,41 @@ class TestSandboxConjuntos
         assertFalse( copia.get( 0 ).equals( copia2.get( 0 ) ), "Dos llamados al método retornaron la misma lista" );
     }
 
+    @Test
+    void testAgregarCadenas( )
+    {
+        sencillo.agregarCadenas( Arrays.asList( "z", "a", "Y" ) );
+        assertEquals( Arrays.asList( "B", "Y", "a", "c", "d", "e", "z" ), sencillo.getCadenasComoLista( ), "Las cadenas no se agregaron al conjunto" );
+
+        vacio.agregarCadenas( new TreeSet<String>( Arrays.asList( cadenasSinRepetidos ) ) );
+        assertEquals( Arrays.asList( cadenasOrdenadas ), vacio.getCadenasComoLista( ), "Las cadenas no se agregaron al conjunto vacío" );
+
+        indexado.agregarCadenas( Arrays.asList( "Zeta", "a" ) );
+        assertTrue( indexado.contieneSinMayusculasOMinusculas( "zETA" ), "El índice sin mayúsculas no se actualizó" );
+        assertEquals( 7, indexado.getCantidadCadenas( ), "La cantidad de cadenas no es correcta" );
+    }
+
+    @Test
+    void testGetVistaCadenas( )
+    {
+        Collection<String> vista = sencillo.getVistaCadenas( );
+        assertEquals( sencillo.getCadenasComoLista( ), new ArrayList<String>( vista ), "La vista no tiene las cadenas del conjunto en orden" );
+        assertTrue( vista.contains( "c" ), "La vista debería contener las cadenas del conjunto" );
+
+        sencillo.agregarCadena( "f" );
+        sencillo.eliminarCadena( "a" );
+        assertEquals( Arrays.asList( "B", "c", "d", "e", "f" ), new ArrayList<String>( vista ), "La vista debería reflejar los cambios del conjunto" );
+        sencillo.volverMayusculas( );
+        assertEquals( Arrays.asList( "B", "C", "D", "E", "F" ), new ArrayList<String>( vista ), "La vista debería seguir al conjunto reconstruido" );
+
+        assertThrows( UnsupportedOperationException.class, ( ) -> vista.add( "x" ) );
+        Iterator<String> iterador = vista.iterator( );
+        iterador.next( );
+        assertThrows( UnsupportedOperationException.class, iterador::remove );
+        assertEquals( 5, sencillo.getCantidadCadenas( ), "La vista no debería modificar el conjunto" );
+        assertTrue( vacio.getVistaCadenas( ).isEmpty( ), "La vista del conjunto vacío debería estar vacía" );
+    }
+
     @Test
     void testGetCadenasComoListaVacia( )
     {
@@ -152,6 +198,34 @@ class TestSandboxConjuntos
         assertEquals( 0, siguientes.size( ), "La cantidad de elementos retornada no es correcta" );
     }
 
+    @Test
+    void testGetSiguientesEsVista( )
+    {
+        Collection<String> siguientes = sencillo.getSiguientes( "c" );
+        sencillo.agregarCadena( "f" );
+        assertEquals( 4, siguientes.size( ), "La vista no refleja los cambios del conjunto" );
+
+        TreeSet<String> copia = new TreeSet<String>( siguientes );
+        sencillo.agregarCadena( "g" );
+        assertEquals( 4, copia.size( ), "La copia no debería cambiar con el conjunto" );
+    }
+
+    @Test
+    void testGetAnteriores( )
+    {
+        assertEquals( Arrays.asList( "B", "a" ), new ArrayList<String>( sencillo.getAnteriores( "c" ) ), "Las cadenas anteriores no son las esperadas" );
+        assertEquals( 0, sencillo.getAnteriores( "A" ).size( ), "No debería haber cadenas anteriores" );
+        assertEquals( 0, vacio.getAnteriores( "z" ).size( ), "No debería haber cadenas anteriores en el conjunto vacío" );
+    }
+
+    @Test
+    void testGetEntre( )
+    {
+        assertEquals( Arrays.asList( "a", "c" ), new ArrayList<String>( sencillo.getEntre( "a", "d" ) ), "Las cadenas del rango no son las esperadas" );
+        assertEquals( Arrays.asList( "c", "d", "e" ), new ArrayList<String>( sencillo.getEntre( "bb", "z" ) ), "Las cadenas del rango no son las esperadas" );
+        assertEquals( 0, sencillo.getEntre( "d", "a" ).size( ), "Un rango invertido debería estar vacío" );
+    }
+
     @Test
     void testAgregarCadenaVacio( )
     {
@@ -274,6 +348,92 @@ class TestSandboxConjuntos
         assertEquals( 0, vacio.getCantidadCadenas( ), "La cantidad de cadenas debería seguir siendo la misma" );
     }
 
+    @Test
+    void testEliminarCadenaSinMayusculasOMinusculasConIndice( )
+    {
+        indexado.eliminarCadenaSinMayusculasOMinusculas( "b" );
+        assertEquals( Arrays.asList( "a", "b", "c", "d", "e" ), indexado.getCadenasComoLista( ), "Debería eliminarse la primera cadena que coincide" );
+        indexado.eliminarCadenaSinMayusculasOMinusculas( "B" );
+        assertFalse( indexado.contieneSinMayusculasOMinusculas( "b" ), "No deberían quedar cadenas que coincidan" );
+        indexado.eliminarCadenaSinMayusculasOMinusculas( "zzz" );
+        assertEquals( 4, indexado.getCantidadCadenas( ), "Eliminar una cadena inexistente no debería cambiar el conjunto" );
+    }
+
+    @Test
+    void testContieneSinMayusculasOMinusculas( )
+    {
+        assertTrue( sencillo.contieneSinMayusculasOMinusculas( "b" ), "La cadena debería estar en el conjunto" );
+        assertTrue( indexado.contieneSinMayusculasOMinusculas( "A" ), "La cadena debería estar en el conjunto" );
+        assertFalse( indexado.contieneSinMayusculasOMinusculas( "f" ), "La cadena no debería estar en el conjunto" );
+
+        indexado.eliminarCadena( "a" );
+        assertFalse( indexado.contieneSinMayusculasOMinusculas( "A" ), "El índice no se actualizó al eliminar la cadena" );
+        indexado.eliminarPrimera( );
+        assertTrue( indexado.contieneSinMayusculasOMinusculas( "B" ), "Todavía queda una escritura de la cadena" );
+        indexado.eliminarCadena( "b" );
+        assertFalse( indexado.contieneSinMayusculasOMinusculas( "B" ), "El índice no se actualizó al eliminar la primera cadena" );
+    }
+
+    @Test
+    void testGetEntreSinMayusculasOMinusculas( )
+    {
+        assertEquals( Arrays.asList( "B", "b", "c" ), indexado.getEntreSinMayusculasOMinusculas( "b", "D" ), "Las cadenas del rango no son las esperadas" );
+        assertEquals( Arrays.asList( "B", "c" ), sencillo.getEntreSinMayusculasOMinusculas( "b", "D" ), "Las cadenas del rango no son las esperadas" );
+        assertEquals( 0, indexado.getEntreSinMayusculasOMinusculas( "D", "b" ).size( ), "Un rango invertido debería estar vacío" );
+    }
+
+    @Test
+    void testGetVistaMayusculas( )
+    {
+        Collection<String> mayusculas = indexado.getVistaMayusculas( );
+        assertEquals( Arrays.asList( cadenasMayusculasOrdenadas ), new ArrayList<String>( mayusculas ), "La vista no tiene las cadenas esperadas" );
+        assertTrue( mayusculas.contains( "C" ), "La vista debería contener la cadena" );
+        assertFalse( mayusculas.contains( "c" ), "La vista sólo tiene cadenas en mayúsculas" );
+
+        indexado.agregarCadena( "f" );
+        assertTrue( mayusculas.contains( "F" ), "La vista no refleja los cambios del conjunto" );
+        assertEquals( 7, indexado.getCantidadCadenas( ), "La vista no debería modificar el conjunto" );
+
+        assertEquals( Arrays.asList( cadenasMayusculasOrdenadas ), new ArrayList<String>( sencillo.getVistaMayusculas( ) ), "Sin índice, el resultado debería ser el mismo" );
+    }
+
+    @Test
+    void testGetVistaMayusculasConFormasRepetidas( )
+    {
+        SandboxConjuntos conIndice = new SandboxConjuntos( true );
+        SandboxConjuntos sinIndice = new SandboxConjuntos( false );
+        for( String cadena : new String[]{ "\u00DF", "ss", "_x", "a" } )
+        {
+            conIndice.agregarCadena( cadena );
+            sinIndice.agregarCadena( cadena );
+        }
+        List<String> esperadas = Arrays.asList( "A", "SS", "_X" );
+        assertEquals( esperadas, new ArrayList<String>( sinIndice.getVistaMayusculas( ) ), "Sin índice, las mayúsculas no son las esperadas" );
+        Collection<String> vista = conIndice.getVistaMayusculas( );
+        assertEquals( esperadas, new ArrayList<String>( vista ), "Con índice, las mayúsculas deberían ser las mismas que sin índice" );
+        assertEquals( 3, vista.size( ), "\"\u00DF\" y \"ss\" producen la misma forma en mayúsculas" );
+
+        conIndice.eliminarCadena( "ss" );
+        assertTrue( vista.contains( "SS" ), "\"\u00DF\" todavía produce \"SS\"" );
+        conIndice.eliminarCadena( "\u00DF" );
+        assertFalse( vista.contains( "SS" ), "Ninguna cadena produce \"SS\"" );
+
+        conIndice.volverMayusculas( );
+        assertEquals( Arrays.asList( "A", "_X" ), new ArrayList<String>( vista ), "La vista debería reflejar el índice reconstruido" );
+    }
+
+    @Test
+    void testIndiceDespuesDeReiniciar( )
+    {
+        indexado.reiniciarConjuntoCadenas( Arrays.asList( "Hola", "mundo" ) );
+        assertTrue( indexado.contieneSinMayusculasOMinusculas( "HOLA" ), "El índice no se reconstruyó al reiniciar el conjunto" );
+        assertFalse( indexado.contieneSinMayusculasOMinusculas( "a" ), "El índice conserva cadenas que ya no están en el conjunto" );
+
+        indexado.volverMayusculas( );
+        indexado.eliminarCadenaSinMayusculasOMinusculas( "mundo" );
+        assertEquals( Arrays.asList( "HOLA" ), indexado.getCadenasComoLista( ), "El índice no se reconstruyó al volver las cadenas mayúsculas" );
+    }
+
     @Test
     void testEliminarPrimera( )
     {
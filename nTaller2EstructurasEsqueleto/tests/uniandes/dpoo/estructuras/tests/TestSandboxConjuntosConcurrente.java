@@ -0,0 +1,258 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.SandboxConjuntosConcurrente;
+
+class TestSandboxConjuntosConcurrente
+{
+    private SandboxConjuntosConcurrente sencillo;
+    private SandboxConjuntosConcurrente vacio;
+
+    private static final String[] cadenasSencillas = new String[]{ "d", "b", "a", "c", "e", "B", "a" };
+
+    private static final int HILOS = 8;
+    private static final int VALORES_POR_HILO = 20_000;
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        sencillo = new SandboxConjuntosConcurrente( );
+        for( int i = 0; i < cadenasSencillas.length; i++ )
+        {
+            sencillo.agregarCadena( cadenasSencillas[ i ] );
+        }
+
+        vacio = new SandboxConjuntosConcurrente( );
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        sencillo = null;
+        vacio = null;
+    }
+
+    @Test
+    void testOperacionesBasicas( )
+    {
+        assertEquals( Arrays.asList( "B", "a", "b", "c", "d", "e" ), sencillo.getCadenasComoLista( ), "Las cadenas no quedaron ordenadas" );
+        assertEquals( Arrays.asList( "e", "d", "c", "b", "a", "B" ), sencillo.getCadenasComoListaInvertida( ), "Las cadenas invertidas no quedaron ordenadas" );
+        assertEquals( "B", sencillo.getPrimera( ), "La primera cadena no es correcta" );
+        assertEquals( "e", sencillo.getUltima( ), "La última cadena no es correcta" );
+        assertEquals( Arrays.asList( "c", "d", "e" ), new ArrayList<String>( sencillo.getSiguientes( "c" ) ), "Las siguientes cadenas no son correctas" );
+        assertEquals( Arrays.asList( "b", "c" ), new ArrayList<String>( sencillo.getEntre( "b", "d" ) ), "Las cadenas del rango no son correctas" );
+        assertTrue( sencillo.contieneSinMayusculasOMinusculas( "E" ), "No se encontró la cadena sin diferenciar mayúsculas" );
+        assertTrue( sencillo.compararElementos( new String[]{ "a", "e" } ), "Todas las cadenas hacen parte del conjunto" );
+        assertFalse( sencillo.compararElementos( new String[]{ "a", "z" } ), "z no hace parte del conjunto" );
+
+        sencillo.eliminarCadenaSinMayusculasOMinusculas( "D" );
+        assertEquals( "B", sencillo.eliminarPrimera( ), "eliminarPrimera no retornó la primera cadena" );
+        sencillo.volverMayusculas( );
+        assertEquals( Arrays.asList( "A", "B", "C", "E" ), sencillo.getCadenasComoLista( ), "Las cadenas no quedaron en mayúsculas" );
+
+        assertNull( vacio.getPrimera( ), "El conjunto vacío no tiene primera cadena" );
+        assertNull( vacio.getUltima( ), "El conjunto vacío no tiene última cadena" );
+        assertNull( vacio.eliminarPrimera( ), "Eliminar la primera cadena de un conjunto vacío no debería hacer nada" );
+        vacio.reiniciarConjuntoCadenas( Arrays.<Object>asList( 3, "x", 3.5 ) );
+        assertEquals( Arrays.asList( "3", "3.5", "x" ), vacio.getCadenasComoLista( ), "El conjunto no se reinició con las cadenas de los objetos" );
+    }
+
+    @Test
+    void testVistaCadenas( )
+    {
+        Collection<String> vista = sencillo.getVistaCadenas( );
+        assertEquals( Arrays.asList( "B", "a", "b", "c", "d", "e" ), new ArrayList<String>( vista ), "La vista no tiene las cadenas del conjunto en orden" );
+
+        Iterator<String> anterior = vista.iterator( );
+        sencillo.agregarCadena( "f" );
+        sencillo.volverMayusculas( );
+        assertEquals( Arrays.asList( "A", "B", "C", "D", "E", "F" ), new ArrayList<String>( vista ), "La vista debería seguir al conjunto reconstruido" );
+        List<String> recorridas = new ArrayList<String>( );
+        anterior.forEachRemaining( recorridas::add );
+        assertEquals( Arrays.asList( "B", "a", "b", "c", "d", "e", "f" ), recorridas, "Un recorrido empezado antes de reconstruir debería terminar sobre el conjunto anterior" );
+        assertThrows( UnsupportedOperationException.class, ( ) -> vista.remove( "A" ) );
+    }
+
+    @Test
+    void testVistaMayusculas( )
+    {
+        Collection<String> vista = sencillo.getVistaMayusculas( );
+        assertEquals( Arrays.asList( "B", "A", "B", "C", "D", "E" ), new ArrayList<String>( vista ), "La vista debería convertir cada cadena, en el orden del conjunto" );
+        assertTrue( vista.contains( "C" ), "La vista debería contener la cadena" );
+
+        sencillo.agregarCadena( "f" );
+        assertTrue( vista.contains( "F" ), "La vista no refleja los cambios del conjunto" );
+        sencillo.reiniciarConjuntoCadenas( Arrays.<Object>asList( "x" ) );
+        assertEquals( Arrays.asList( "X" ), new ArrayList<String>( vista ), "La vista debería seguir al conjunto reconstruido" );
+        assertEquals( Arrays.asList( "x" ), sencillo.getCadenasComoLista( ), "La vista no debería modificar el conjunto" );
+    }
+
+    @Test
+    void testAgregarDesdeVariosHilos( ) throws Exception
+    {
+        AtomicBoolean terminado = new AtomicBoolean( false );
+        Queue<Throwable> errores = new ConcurrentLinkedQueue<Throwable>( );
+        CountDownLatch inicio = new CountDownLatch( 1 );
+
+        List<Thread> hilos = new ArrayList<Thread>( );
+        for( int h = 0; h < HILOS; h++ )
+        {
+            int hilo = h;
+            hilos.add( iniciar( inicio, errores, ( ) -> {
+                for( int i = 0; i < VALORES_POR_HILO; i++ )
+                {
+                    vacio.agregarCadena( cadena( hilo, i ) );
+                }
+            } ) );
+        }
+        Thread lector = iniciar( inicio, errores, ( ) -> {
+            while( !terminado.get( ) )
+            {
+                List<String> copia = vacio.getCadenasComoLista( );
+                for( int i = 1; i < copia.size( ); i++ )
+                {
+                    assertTrue( copia.get( i - 1 ).compareTo( copia.get( i ) ) < 0, "El recorrido no quedó ordenado o repitió cadenas" );
+                }
+                vacio.contieneSinMayusculasOMinusculas( "H0-0" );
+            }
+        } );
+
+        inicio.countDown( );
+        for( Thread hilo : hilos )
+        {
+            hilo.join( );
+        }
+        terminado.set( true );
+        lector.join( );
+
+        assertTrue( errores.isEmpty( ), "Hubo errores en los hilos: " + errores );
+        assertEquals( HILOS * VALORES_POR_HILO, vacio.getCantidadCadenas( ), "Se perdieron cadenas" );
+    }
+
+    @Test
+    void testEliminarPrimeraDesdeVariosHilos( ) throws Exception
+    {
+        for( int h = 0; h < HILOS; h++ )
+        {
+            for( int i = 0; i < VALORES_POR_HILO; i++ )
+            {
+                vacio.agregarCadena( cadena( h, i ) );
+            }
+        }
+        Queue<Throwable> errores = new ConcurrentLinkedQueue<Throwable>( );
+        Queue<String> eliminadas = new ConcurrentLinkedQueue<String>( );
+        CountDownLatch inicio = new CountDownLatch( 1 );
+
+        List<Thread> hilos = new ArrayList<Thread>( );
+        for( int h = 0; h < HILOS; h++ )
+        {
+            hilos.add( iniciar( inicio, errores, ( ) -> {
+                String eliminada = vacio.eliminarPrimera( );
+                while( eliminada != null )
+                {
+                    eliminadas.add( eliminada );
+                    eliminada = vacio.eliminarPrimera( );
+                }
+            } ) );
+        }
+
+        inicio.countDown( );
+        for( Thread hilo : hilos )
+        {
+            hilo.join( );
+        }
+
+        assertTrue( errores.isEmpty( ), "Hubo errores en los hilos: " + errores );
+        assertEquals( 0, vacio.getCantidadCadenas( ), "El conjunto debería quedar vacío" );
+        assertEquals( HILOS * VALORES_POR_HILO, eliminadas.size( ), "Alguna cadena se eliminó dos veces o no se eliminó" );
+        assertEquals( HILOS * VALORES_POR_HILO, new HashSet<String>( eliminadas ).size( ), "Dos hilos eliminaron la misma cadena" );
+    }
+
+    @Test
+    void testAgregarMientrasSeVuelveMayusculas( ) throws Exception
+    {
+        Queue<Throwable> errores = new ConcurrentLinkedQueue<Throwable>( );
+        CountDownLatch inicio = new CountDownLatch( 1 );
+        int conversiones = 50;
+
+        List<Thread> hilos = new ArrayList<Thread>( );
+        for( int h = 0; h < HILOS; h++ )
+        {
+            int hilo = h;
+            hilos.add( iniciar( inicio, errores, ( ) -> {
+                for( int i = 0; i < VALORES_POR_HILO; i++ )
+                {
+                    vacio.agregarCadena( cadena( hilo, i ).toLowerCase( ) );
+                }
+            } ) );
+        }
+        hilos.add( iniciar( inicio, errores, ( ) -> {
+            for( int i = 0; i < conversiones; i++ )
+            {
+                vacio.volverMayusculas( );
+                List<String> copia = vacio.getCadenasComoLista( );
+                assertTrue( copia.size( ) <= HILOS * VALORES_POR_HILO, "El conjunto tiene más cadenas de las que se agregaron" );
+            }
+        } ) );
+
+        inicio.countDown( );
+        for( Thread hilo : hilos )
+        {
+            hilo.join( );
+        }
+
+        assertTrue( errores.isEmpty( ), "Hubo errores en los hilos: " + errores );
+        Set<String> enMayusculas = new HashSet<String>( );
+        for( String cadena : vacio.getCadenasComoLista( ) )
+        {
+            enMayusculas.add( cadena.toUpperCase( ) );
+        }
+        assertEquals( HILOS * VALORES_POR_HILO, enMayusculas.size( ), "Se perdieron cadenas agregadas mientras se volvían mayúsculas" );
+    }
+
+    /**
+     * Retorna la cadena número i del hilo h. Las cadenas de todos los hilos son distintas.
+     */
+    private static String cadena( int hilo, int i )
+    {
+        return "H" + hilo + "-" + i;
+    }
+
+    private static Thread iniciar( CountDownLatch inicio, Queue<Throwable> errores, Runnable tarea )
+    {
+        Thread hilo = new Thread( ( ) -> {
+            try
+            {
+                inicio.await( );
+                tarea.run( );
+            }
+            catch( Throwable error )
+            {
+                errores.add( error );
+            }
+        } );
+        hilo.start( );
+        return hilo;
+    }
+}
@@ -1,19 +1,31 @@
 package uniandes.dpoo.estructuras.tests;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import uniandes.dpoo.estructuras.logica.DistribucionEnteros;
+import uniandes.dpoo.estructuras.logica.EstrategiaLista;
+import uniandes.dpoo.estructuras.logica.GeneradorEnteros;
+import uniandes.dpoo.estructuras.logica.IntIntHistogram;
 import uniandes.dpoo.estructuras.logica.SandboxListas;
+import uniandes.dpoo.estructuras.logica.SecuenciaEnteros;
 
 class TestSandboxListas
 {
@@ -26,10 +38,19 @@ class TestSandboxListas
 
     private static final int[] enterosSinRepetidos = new int[]{ 9, 8, 7, 6, 5, 4, 3, 2, 1, 0 };
 
+    /**
+     * Crea el sandbox sobre el que se ejecutan las pruebas. Las subclases lo redefinen para ejecutar las mismas pruebas con otro almacenamiento.
+     * @return Un sandbox vacío
+     */
+    SandboxListas crearSandbox( )
+    {
+        return new SandboxListas( );
+    }
+
     @BeforeEach
     void setUp( ) throws Exception
     {
-        sencillo = new SandboxListas( );
+        sencillo = crearSandbox( );
 
         for( int i = 0; i < enterosSencillos.length; i++ )
         {
@@ -40,18 +61,21 @@ class TestSandboxListas
             sencillo.agregarCadena( cadenasSencillas[ i ] );
         }
 
-        sinRepetidos = new SandboxListas( );
+        sinRepetidos = crearSandbox( );
         for( int i = 0; i < enterosSinRepetidos.length; i++ )
         {
             sinRepetidos.agregarEntero( enterosSinRepetidos[ i ] );
         }
 
-        vacio = new SandboxListas( );
+        vacio = crearSandbox( );
     }
 
     @AfterEach
     void reset( )
     {
+        sencillo.close( );
+        sinRepetidos.close( );
+        vacio.close( );
         sencillo = null;
         sinRepetidos = null;
         vacio = null;
@@ -135,6 +159,48 @@ class TestSandboxListas
         assertFalse( copiaArreglo[ 0 ] == copia2[ 0 ], "Dos llamados al método retornaron el mismo arreglo" );
     }
 
+    @Test
+    void testVistas( )
+    {
+        SecuenciaEnteros enteros = sencillo.getVistaEnteros( );
+        List<String> cadenas = sencillo.getVistaCadenas( );
+        assertTrue( enteros.mismosValores( enterosSencillos ), "La vista no tiene los enteros del sandbox" );
+        assertEquals( Arrays.asList( cadenasSencillas ), cadenas, "La vista no tiene las cadenas del sandbox" );
+
+        sencillo.agregarEntero( 100 );
+        sencillo.agregarCadena( "z" );
+        sencillo.eliminarCadena( "a" );
+        assertEquals( 100, enteros.get( enterosSencillos.length ), "La vista debería reflejar los enteros agregados" );
+        assertEquals( List.of( "b", "c", "d", "e", "d", "c", "b", "z" ), cadenas, "La vista debería reflejar los cambios de las cadenas" );
+
+        sencillo.reiniciarArregloCadenas( List.of( "x", 1 ) );
+        assertEquals( List.of( "x", "1" ), cadenas, "La vista debería seguir a la lista reiniciada" );
+        Iterator<String> iterador = cadenas.iterator( );
+        iterador.next( );
+        assertThrows( UnsupportedOperationException.class, iterador::remove );
+        assertThrows( UnsupportedOperationException.class, ( ) -> cadenas.add( "y" ) );
+        assertThrows( UnsupportedOperationException.class, ( ) -> enteros.eliminarTodos( 100 ) );
+        assertEquals( 2, sencillo.getCantidadCadenas( ), "La vista no debería modificar el sandbox" );
+    }
+
+    @Test
+    void testInstantaneaEnteros( )
+    {
+        SecuenciaEnteros instantanea = sencillo.getInstantaneaEnteros( );
+        assertSame( instantanea, sencillo.getInstantaneaEnteros( ), "Sin modificaciones, la instantánea debería ser la misma" );
+        sencillo.volverPositivos( );
+        sencillo.organizarEnteros( );
+        sencillo.eliminarEnteroPorPosicion( 0 );
+        assertTrue( instantanea.mismosValores( enterosSencillos ), "La instantánea no debería cambiar con el sandbox" );
+        assertEquals( enterosSencillos.length - 1, sencillo.getCantidadEnteros( ), "El sandbox debería modificarse después de la instantánea" );
+
+        SecuenciaEnteros segunda = sencillo.getInstantaneaEnteros( );
+        sencillo.reiniciarArregloEnteros( new double[]{ 1.0 } );
+        assertArrayEquals( new int[]{ 1 }, sencillo.getEnterosComoArreglo( ), "El sandbox debería reiniciarse después de la instantánea" );
+        assertEquals( enterosSencillos.length - 1, segunda.tamanio( ), "Reiniciar el sandbox no debería cambiar la instantánea" );
+        assertEquals( 9, segunda.get( 0 ), "Reiniciar el sandbox no debería cambiar la instantánea" );
+    }
+
     @Test
     void testGetCopiaEnterosComoArreglosVacia( )
     {
@@ -394,6 +460,36 @@ class TestSandboxListas
         }
     }
 
+    @Test
+    void testOperacionesPorLotes( )
+    {
+        sencillo.agregarEnteros( new int[]{ 1, 2 } );
+        sencillo.insertarEnteros( new int[]{ 50, 51, 52 }, 2 );
+        sencillo.insertarEnteros( new int[]{ -9 }, -4 );
+        sencillo.insertarEnteros( new int[]{ 70 }, 1000 );
+        sencillo.insertarEnteros( new int[0], 3 );
+        int[] esperados = new int[]{ -9, 9, 8, 50, 51, 52, 7, 6, 5, 4, 3, 2, 1, 0, 6, -2, -3, -4, -5, 6, 7, 8, 9, 1, 2, 70 };
+        assertTrue( Arrays.equals( esperados, sencillo.getEnterosComoArreglo( ) ), "Los enteros no quedaron en las posiciones correctas" );
+
+        sencillo.eliminarEnteros( 6, 9, 6, 42 );
+        esperados = new int[]{ -9, 8, 50, 51, 52, 7, 5, 4, 3, 2, 1, 0, -2, -3, -4, -5, 7, 8, 1, 2, 70 };
+        assertTrue( Arrays.equals( esperados, sencillo.getEnterosComoArreglo( ) ), "No se eliminaron todas las apariciones de los valores" );
+
+        sencillo.agregarCadenas( Arrays.asList( "x", "a" ) );
+        assertEquals( Arrays.asList( "a", "b", "c", "d", "e", "d", "c", "b", "a", "x", "a" ), sencillo.getCopiaCadenas( ), "Las cadenas no se agregaron al final" );
+
+        int[] grandes = new int[50000];
+        for( int i = 0; i < grandes.length; i++ )
+        {
+            grandes[ i ] = i % 1000;
+        }
+        vacio.agregarEnteros( grandes );
+        vacio.insertarEnteros( new int[]{ -1, -2 }, 25000 );
+        vacio.eliminarEnteros( 0, 999 );
+        assertEquals( 50002 - 100, vacio.getCantidadEnteros( ), "La cantidad de enteros no es correcta" );
+        assertEquals( -1, vacio.getEnterosComoArreglo( )[ 25000 - 50 ], "El lote no se insertó en la posición correcta" );
+    }
+
     @Test
     void testReiniciarArregloEnteros( )
     {
@@ -554,6 +650,21 @@ class TestSandboxListas
         assertEquals( 0, copia.size( ), "La cantidad de cadenas es correcta" );
     }
 
+    @Test
+    void testHistograma( )
+    {
+        IntIntHistogram histograma = sencillo.histograma( );
+
+        assertEquals( 14, histograma.size( ), "La cantidad de valores en el histograma no es la correcta" );
+        assertEquals( 1, histograma.get( -5 ), "La cantidad de veces que aparece el valor en el histograma no es la correcta" );
+        assertEquals( 1, histograma.get( 0 ), "La cantidad de veces que aparece el valor en el histograma no es la correcta" );
+        assertEquals( 3, histograma.get( 6 ), "La cantidad de veces que aparece el valor en el histograma no es la correcta" );
+        assertEquals( 2, histograma.get( 9 ), "La cantidad de veces que aparece el valor en el histograma no es la correcta" );
+        assertEquals( 0, histograma.get( 99 ), "Un valor que no está en la lista no debería estar en el histograma" );
+
+        assertEquals( 0, vacio.histograma( ).size( ), "El histograma de la lista vacía debería estar vacío" );
+    }
+
     @Test
     void testContarEnterosRepetidos( )
     {
@@ -577,8 +688,9 @@ class TestSandboxListas
     {
         assertTrue( sencillo.compararArregloEnteros( enterosSencillos ), "No comparó correctamente los arreglos cuando eran iguales" );
 
-        enterosSencillos[ 0 ] = -99;
-        assertFalse( sencillo.compararArregloEnteros( enterosSencillos ), "No comparó correctamente los arreglos cuando eran diferentes" );
+        int[] diferentes = enterosSencillos.clone( );
+        diferentes[ 0 ] = -99;
+        assertFalse( sencillo.compararArregloEnteros( diferentes ), "No comparó correctamente los arreglos cuando eran diferentes" );
     }
 
     @Test
@@ -636,6 +748,26 @@ class TestSandboxListas
         assertTrue( 10 >= maximo, "El mayor valor del rango no es el correcto: " + minimo + " a " + maximo );
     }
 
+    @Test
+    void testGenerarEnterosConSemilla( )
+    {
+        sencillo.setSemilla( 11 );
+        vacio.setSemilla( 11 );
+        sencillo.generarEnteros( 1000, -50, 50 );
+        vacio.generarEnteros( 1000, -50, 50 );
+        assertEquals( sencillo.getCopiaEnteros( ), vacio.getCopiaEnteros( ), "Con la misma semilla se deberían generar los mismos enteros" );
+
+        sencillo.generarEnteros( 100000, 0, 999, DistribucionEnteros.TRAMOS_ORDENADOS );
+        vacio.generarEnteros( 100000, 0, 999, DistribucionEnteros.TRAMOS_ORDENADOS );
+        List<Integer> generados = sencillo.getCopiaEnteros( );
+        assertEquals( generados, vacio.getCopiaEnteros( ), "Con la misma semilla se deberían generar los mismos enteros" );
+        assertEquals( 100000, generados.size( ), "La cantidad de elementos no es correcta" );
+        for( int i = 1; i < GeneradorEnteros.LARGO_TRAMO; i++ )
+        {
+            assertTrue( generados.get( i - 1 ) <= generados.get( i ), "El primer tramo debería estar ordenado" );
+        }
+    }
+
     @Test
     void testGenerarEnterosDistribucion( )
     {
@@ -659,4 +791,37 @@ class TestSandboxListas
             fail( "Los valores no están bien distribuidos" );
     }
 
+    @Test
+    void testEstrategiasCadenas( )
+    {
+        List<Object> objetos = new LinkedList<Object>( Arrays.asList( ( Object[] )cadenasSencillas ) );
+        for( EstrategiaLista estrategia : EstrategiaLista.values( ) )
+        {
+            SandboxListas sandbox = new SandboxListas( estrategia );
+            sandbox.reiniciarArregloCadenas( objetos );
+            sandbox.agregarCadena( "A" );
+            assertEquals( 3, sandbox.contarApariciones( "a" ), "No se contaron bien las apariciones con la estrategia " + estrategia );
+
+            sandbox.eliminarCadena( "d" );
+            sandbox.organizarCadenas( );
+            assertEquals( Arrays.asList( "A", "a", "a", "b", "b", "c", "c", "e" ), sandbox.getCopiaCadenas( ), "Las cadenas no quedaron bien con la estrategia " + estrategia );
+        }
+    }
+
+    @Test
+    void testContarAparicionesLineal( )
+    {
+        List<Object> objetos = new LinkedList<Object>( );
+        for( int i = 0; i < 100000; i++ )
+        {
+            objetos.add( i % 10 == 0 ? "X" : "y" );
+        }
+        SandboxListas enlazada = new SandboxListas( EstrategiaLista.ENLAZADA );
+        enlazada.reiniciarArregloCadenas( objetos );
+
+        assertTimeoutPreemptively( Duration.ofSeconds( 2 ), ( ) -> {
+            assertEquals( 10000, enlazada.contarApariciones( "x" ), "No se contaron bien las apariciones" );
+        }, "Contar las apariciones en un LinkedList no debería recorrerlo por posiciones" );
+    }
+
 }
@@ -0,0 +1,16 @@
+package uniandes.dpoo.estructuras.tests;
+
+import uniandes.dpoo.estructuras.logica.EstrategiaLista;
+import uniandes.dpoo.estructuras.logica.SandboxListas;
+
+/**
+ * Ejecuta todas las pruebas de TestSandboxListas con la lista de cadenas codificada con un diccionario
+ */
+class TestSandboxListasCodificada extends TestSandboxListas
+{
+    @Override
+    SandboxListas crearSandbox( )
+    {
+        return new SandboxListas( EstrategiaLista.CODIFICADA );
+    }
+}
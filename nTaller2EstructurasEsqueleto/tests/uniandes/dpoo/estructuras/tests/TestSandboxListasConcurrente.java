@@ -0,0 +1,276 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.DistribucionEnteros;
+import uniandes.dpoo.estructuras.logica.GeneradorEnteros;
+import uniandes.dpoo.estructuras.logica.IntIntHistogram;
+import uniandes.dpoo.estructuras.logica.SandboxListasConcurrente;
+
+class TestSandboxListasConcurrente
+{
+    private SandboxListasConcurrente sencillo;
+    private SandboxListasConcurrente vacio;
+
+    private static final int[] enterosSencillos = new int[]{ 9, 8, 7, 6, 5, 4, 3, 2, 1, 0, 6, -2, -3, -4, -5, 6, 7, 8, 9 };
+    private static final String[] cadenasSencillas = new String[]{ "a", "b", "c", "d", "e", "d", "c", "b", "a" };
+
+    private static final int HILOS = 8;
+    private static final int VALORES_POR_HILO = 20_000;
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        sencillo = new SandboxListasConcurrente( );
+        for( int i = 0; i < enterosSencillos.length; i++ )
+        {
+            sencillo.agregarEntero( enterosSencillos[ i ] );
+        }
+        for( int i = 0; i < cadenasSencillas.length; i++ )
+        {
+            sencillo.agregarCadena( cadenasSencillas[ i ] );
+        }
+
+        vacio = new SandboxListasConcurrente( );
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        sencillo = null;
+        vacio = null;
+    }
+
+    @Test
+    void testOperacionesBasicas( )
+    {
+        assertEquals( enterosSencillos.length, sencillo.getCantidadEnteros( ), "La cantidad inicial de enteros no es correcta" );
+        assertTrue( sencillo.compararArregloEnteros( enterosSencillos ), "Los enteros no quedaron en el orden en que se agregaron" );
+        assertEquals( Arrays.asList( cadenasSencillas ), sencillo.getCopiaCadenas( ), "Las cadenas no quedaron en el orden en que se agregaron" );
+        assertEquals( 3, sencillo.contarApariciones( 6 ), "No se contaron bien las apariciones" );
+        assertEquals( 2, sencillo.contarApariciones( "A" ), "No se contaron bien las apariciones sin diferenciar mayúsculas" );
+        assertEquals( 4, sencillo.contarEnterosRepetidos( ), "No se contaron bien los repetidos" );
+
+        assertEquals( 0, vacio.getEnterosComoArreglo( ).length, "El sandbox vacío debería estar vacío" );
+        assertEquals( 0, vacio.histograma( ).size( ), "El histograma del sandbox vacío debería estar vacío" );
+    }
+
+    @Test
+    void testGenerarEnterosConSemilla( )
+    {
+        sencillo.setSemilla( 11 );
+        vacio.setSemilla( 11 );
+        sencillo.generarEnteros( 1000, -50, 50 );
+        vacio.generarEnteros( 1000, -50, 50 );
+        assertEquals( sencillo.getCopiaEnteros( ), vacio.getCopiaEnteros( ), "Con la misma semilla se deberían generar los mismos enteros" );
+        assertEquals( 1000, sencillo.getCantidadEnteros( ), "La cantidad de elementos no es correcta" );
+        assertTrue( Arrays.stream( sencillo.getEnterosComoArreglo( ) ).allMatch( valor -> valor >= -50 && valor <= 50 ), "Hay enteros fuera del rango" );
+
+        int[] esperados = new GeneradorEnteros( 11 ).generar( 100000, 0, 999, DistribucionEnteros.ZIPF, true );
+        vacio.setSemilla( 11 );
+        vacio.generarEnteros( 100000, 0, 999, DistribucionEnteros.ZIPF );
+        assertTrue( vacio.compararArregloEnteros( esperados ), "Los enteros deberían ser los del generador con la misma semilla" );
+    }
+
+    @Test
+    void testModificaciones( )
+    {
+        sencillo.insertarEntero( 100, -5 );
+        sencillo.insertarEntero( 200, 1000 );
+        sencillo.insertarEntero( 300, 3 );
+        assertEquals( 100, sencillo.getEnterosComoArreglo( )[ 0 ], "El entero no se insertó al comienzo" );
+        assertEquals( 300, sencillo.getEnterosComoArreglo( )[ 3 ], "El entero no se insertó en la posición indicada" );
+        assertEquals( 200, sencillo.getEnterosComoArreglo( )[ enterosSencillos.length + 2 ], "El entero no se insertó al final" );
+
+        sencillo.eliminarEnteroPorPosicion( 0 );
+        sencillo.eliminarEnteroPorPosicion( -1 );
+        sencillo.eliminarEnteroPorPosicion( 1000 );
+        sencillo.eliminarEntero( 300 );
+        sencillo.eliminarEntero( 200 );
+        assertTrue( sencillo.compararArregloEnteros( enterosSencillos ), "Las eliminaciones no dejaron los valores originales" );
+
+        sencillo.volverPositivos( );
+        sencillo.organizarEnteros( );
+        assertTrue( sencillo.compararArregloEnteros( new int[]{ 9, 9, 8, 8, 7, 7, 6, 6, 6, 5, 5, 4, 4, 3, 3, 2, 2, 1, 0 } ), "Los enteros no quedaron positivos y ordenados" );
+
+        sencillo.eliminarCadena( "d" );
+        sencillo.organizarCadenas( );
+        assertEquals( Arrays.asList( "a", "a", "b", "b", "c", "c", "e" ), sencillo.getCopiaCadenas( ), "Las cadenas no quedaron bien" );
+    }
+
+    @Test
+    void testModificacionesEntreBloques( )
+    {
+        int cantidad = 10_000;
+        double[] valores = new double[cantidad];
+        for( int i = 0; i < cantidad; i++ )
+        {
+            valores[ i ] = i % 2 == 0 ? i : -i;
+        }
+        vacio.reiniciarArregloEnteros( valores );
+        vacio.insertarEntero( -1, 4096 );
+        vacio.eliminarEnteroPorPosicion( 4095 );
+        vacio.volverPositivos( );
+
+        int[] esperados = new int[cantidad];
+        for( int i = 0; i < cantidad; i++ )
+        {
+            esperados[ i ] = i;
+        }
+        esperados[ 4095 ] = 1;
+        assertTrue( vacio.compararArregloEnteros( esperados ), "Las modificaciones no dejaron bien los valores entre bloques" );
+
+        vacio.eliminarEntero( 1 );
+        assertEquals( cantidad - 2, vacio.getCantidadEnteros( ), "No se eliminaron las dos apariciones del valor" );
+    }
+
+    @Test
+    void testAgregarDesdeVariosHilos( ) throws Exception
+    {
+        AtomicBoolean terminado = new AtomicBoolean( false );
+        Queue<Throwable> errores = new ConcurrentLinkedQueue<Throwable>( );
+        CountDownLatch inicio = new CountDownLatch( 1 );
+
+        List<Thread> hilos = new ArrayList<Thread>( );
+        for( int h = 0; h < HILOS; h++ )
+        {
+            int hilo = h;
+            hilos.add( iniciar( inicio, errores, ( ) -> {
+                for( int i = 0; i < VALORES_POR_HILO; i++ )
+                {
+                    vacio.agregarEntero( hilo * VALORES_POR_HILO + i );
+                    vacio.agregarCadena( Integer.toString( hilo ) );
+                }
+            } ) );
+        }
+        Thread lector = iniciar( inicio, errores, ( ) -> {
+            int anterior = 0;
+            while( !terminado.get( ) )
+            {
+                int[] copia = vacio.getEnterosComoArreglo( );
+                assertTrue( copia.length >= anterior, "La lista no puede perder valores mientras sólo se agrega" );
+                verificarOrdenPorHilo( copia );
+                anterior = copia.length;
+                vacio.contarApariciones( "0" );
+            }
+        } );
+
+        inicio.countDown( );
+        for( Thread hilo : hilos )
+        {
+            hilo.join( );
+        }
+        terminado.set( true );
+        lector.join( );
+
+        assertTrue( errores.isEmpty( ), "Hubo errores en los hilos: " + errores );
+        assertEquals( HILOS * VALORES_POR_HILO, vacio.getCantidadEnteros( ), "Se perdieron enteros" );
+        assertEquals( HILOS * VALORES_POR_HILO, vacio.getCantidadCadenas( ), "Se perdieron cadenas" );
+        IntIntHistogram histograma = vacio.histograma( );
+        assertEquals( HILOS * VALORES_POR_HILO, histograma.size( ), "Algún entero quedó repetido o se perdió" );
+        assertEquals( 0, histograma.contarRepetidos( ), "Algún entero quedó repetido" );
+        verificarOrdenPorHilo( vacio.getEnterosComoArreglo( ) );
+        for( int h = 0; h < HILOS; h++ )
+        {
+            assertEquals( VALORES_POR_HILO, vacio.contarApariciones( Integer.toString( h ) ), "Se perdieron cadenas del hilo " + h );
+        }
+    }
+
+    @Test
+    void testAgregarMientrasSeModifica( ) throws Exception
+    {
+        AtomicBoolean terminado = new AtomicBoolean( false );
+        Queue<Throwable> errores = new ConcurrentLinkedQueue<Throwable>( );
+        CountDownLatch inicio = new CountDownLatch( 1 );
+        int inserciones = 500;
+
+        List<Thread> hilos = new ArrayList<Thread>( );
+        for( int h = 0; h < HILOS; h++ )
+        {
+            hilos.add( iniciar( inicio, errores, ( ) -> {
+                for( int i = 0; i < VALORES_POR_HILO; i++ )
+                {
+                    vacio.agregarEntero( i );
+                }
+            } ) );
+        }
+        hilos.add( iniciar( inicio, errores, ( ) -> {
+            for( int i = 0; i < inserciones; i++ )
+            {
+                vacio.insertarEntero( -1, i * 97 );
+                vacio.insertarEntero( -2, i * 31 );
+                vacio.eliminarEntero( -2 );
+                if( i % 50 == 0 )
+                {
+                    vacio.organizarEnteros( );
+                }
+            }
+        } ) );
+        Thread lector = iniciar( inicio, errores, ( ) -> {
+            while( !terminado.get( ) )
+            {
+                assertTrue( vacio.contarApariciones( -2 ) <= 1, "Un valor eliminado siguió apareciendo" );
+                List<Integer> copia = vacio.getCopiaEnteros( );
+                assertTrue( copia.size( ) <= HILOS * VALORES_POR_HILO + inserciones + 1, "La copia tiene más valores de los que se agregaron" );
+            }
+        } );
+
+        inicio.countDown( );
+        for( Thread hilo : hilos )
+        {
+            hilo.join( );
+        }
+        terminado.set( true );
+        lector.join( );
+
+        assertTrue( errores.isEmpty( ), "Hubo errores en los hilos: " + errores );
+        assertEquals( HILOS * VALORES_POR_HILO + inserciones, vacio.getCantidadEnteros( ), "La cantidad final de enteros no es correcta" );
+        assertEquals( inserciones, vacio.contarApariciones( -1 ), "Se perdieron valores insertados" );
+        assertEquals( 0, vacio.contarApariciones( -2 ), "Quedaron valores que se eliminaron" );
+    }
+
+    /**
+     * Verifica que los valores que agregó cada hilo aparezcan en el orden en que los agregó. El hilo h agrega los valores h * VALORES_POR_HILO + i en orden creciente.
+     */
+    private static void verificarOrdenPorHilo( int[] valores )
+    {
+        int[] ultimo = new int[HILOS];
+        Arrays.fill( ultimo, -1 );
+        for( int valor : valores )
+        {
+            int hilo = valor / VALORES_POR_HILO;
+            assertTrue( valor > ultimo[ hilo ], "Los valores del hilo " + hilo + " quedaron fuera de orden" );
+            ultimo[ hilo ] = valor;
+        }
+    }
+
+    private static Thread iniciar( CountDownLatch inicio, Queue<Throwable> errores, Runnable tarea )
+    {
+        Thread hilo = new Thread( ( ) -> {
+            try
+            {
+                inicio.await( );
+                tarea.run( );
+            }
+            catch( Throwable error )
+            {
+                errores.add( error );
+            }
+        } );
+        hilo.start( );
+        return hilo;
+    }
+}
@@ -0,0 +1,17 @@
+package uniandes.dpoo.estructuras.tests;
+
+import uniandes.dpoo.estructuras.logica.AlmacenamientoEnteros;
+import uniandes.dpoo.estructuras.logica.EstrategiaLista;
+import uniandes.dpoo.estructuras.logica.SandboxListas;
+
+/**
+ * Ejecuta todas las pruebas de TestSandboxListas guardando la lista de enteros fuera del heap
+ */
+class TestSandboxListasFueraDelHeap extends TestSandboxListas
+{
+    @Override
+    SandboxListas crearSandbox( )
+    {
+        return new SandboxListas( EstrategiaLista.ENLAZADA, AlmacenamientoEnteros.FUERA_DEL_HEAP );
+    }
+}
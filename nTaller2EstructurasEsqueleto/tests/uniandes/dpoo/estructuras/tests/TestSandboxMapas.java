@@ -4,10 +4,13 @@ import static org.junit.Assert.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.AfterEach;
@@ -20,6 +23,7 @@ class TestSandboxMapas
 {
     private SandboxMapas sencillo;
     private SandboxMapas vacio;
+    private SandboxMapas ordenado;
 
     private static final String[] cadenasSencillas = new String[]{ "aa", "aa", "Be", "cc", "dd", "ee", "aa", "dd", "cc", "BB", "aaa" };
     private static final String[] cadenasOrdenadas = new String[]{ "BB", "Be", "aa", "aaa", "cc", "dd", "ee" };
@@ -38,6 +42,12 @@ class TestSandboxMapas
         }
 
         vacio = new SandboxMapas( );
+
+        ordenado = new SandboxMapas( true );
+        for( int i = 0; i < cadenasSencillas.length; i++ )
+        {
+            ordenado.agregarCadena( cadenasSencillas[ i ] );
+        }
     }
 
     @AfterEach
@@ -45,6 +55,7 @@ class TestSandboxMapas
     {
         sencillo = null;
         vacio = null;
+        ordenado = null;
     }
 
     @Test
@@ -139,6 +150,43 @@ class TestSandboxMapas
         assertEquals( "mmmm", copia.get( 0 ), "La nueva cadena no quedó almacenado" );
     }
 
+    @Test
+    void testAgregarCadenas( )
+    {
+        vacio.agregarCadenas( Arrays.asList( cadenasSencillas ) );
+        assertEquals( Arrays.asList( cadenasOrdenadas ), vacio.getValoresComoLista( ), "Los valores no son los mismos que al agregar las cadenas una por una" );
+        assertEquals( Arrays.asList( llavesInvertidas ), vacio.getLlavesComoListaInvertida( ), "Las llaves no son las cadenas invertidas" );
+        assertTrue( vacio.compararValores( cadenasOrdenadas ), "El índice de valores no se actualizó" );
+
+        sencillo.agregarCadenas( Arrays.asList( "xy", "aa" ) );
+        assertEquals( cadenasOrdenadas.length + 1, sencillo.getCantidadCadenasDiferentes( ), "La cantidad de cadenas diferentes no es correcta" );
+        assertEquals( "xy", sencillo.getValorDeCadena( "xy" ), "La cadena nueva no quedó asociada a su llave" );
+    }
+
+    @Test
+    void testGetVistas( )
+    {
+        Collection<String> valores = sencillo.getVistaValores( );
+        Collection<String> llavesMayusculas = sencillo.getVistaLlaves( );
+        List<String> ordenados = new ArrayList<String>( valores );
+        Collections.sort( ordenados );
+        assertEquals( Arrays.asList( cadenasOrdenadas ), ordenados, "La vista no tiene los valores del mapa" );
+        assertEquals( new ArrayList<String>( sencillo.getLlaves( ) ), new ArrayList<String>( llavesMayusculas ), "La vista no tiene las llaves en mayúsculas" );
+        assertTrue( valores.contains( "Be" ), "La vista debería contener los valores del mapa" );
+
+        sencillo.agregarCadena( "xy" );
+        assertEquals( cadenasOrdenadas.length + 1, valores.size( ), "La vista debería reflejar los valores agregados" );
+        assertTrue( llavesMayusculas.contains( "YX" ), "La vista debería reflejar las llaves agregadas" );
+        sencillo.reiniciarMapaCadenas( Arrays.asList( ( Object )"uno" ) );
+        assertEquals( Arrays.asList( "uno" ), new ArrayList<String>( valores ), "La vista debería seguir al mapa reiniciado" );
+        assertEquals( Arrays.asList( "ONU" ), new ArrayList<String>( llavesMayusculas ), "La vista debería seguir al mapa reiniciado" );
+
+        assertThrows( UnsupportedOperationException.class, ( ) -> valores.remove( "uno" ) );
+        assertThrows( UnsupportedOperationException.class, ( ) -> llavesMayusculas.clear( ) );
+        assertEquals( 1, sencillo.getCantidadCadenasDiferentes( ), "La vista no debería modificar el mapa" );
+        assertTrue( ordenado.getVistaValores( ).containsAll( Arrays.asList( cadenasOrdenadas ) ), "La vista del mapa ordenado no tiene los valores" );
+    }
+
     @Test
     void testEliminarCadenaConLlave( )
     {
@@ -213,4 +261,115 @@ class TestSandboxMapas
         assertFalse( sencillo.compararValores( llaves ), "Se equivocó cuando se mezclaron las llaves con los valores" );
     }
 
+    @Test
+    void testModoOrdenado( )
+    {
+        assertEquals( Arrays.asList( cadenasOrdenadas ), ordenado.getValoresComoLista( ), "Los valores no están ordenados" );
+        assertEquals( Arrays.asList( llavesInvertidas ), ordenado.getLlavesComoListaInvertida( ), "Las llaves no están ordenadas de mayor a menor" );
+        assertEquals( "BB", ordenado.getPrimera( ), "La primera llave no es la correcta" );
+        assertEquals( "ee", ordenado.getUltima( ), "La última llave no es la correcta" );
+
+        SandboxMapas ordenadoVacio = new SandboxMapas( true );
+        assertEquals( null, ordenadoVacio.getPrimera( ), "El mapa vacío no tiene primera llave" );
+        assertEquals( 0, ordenadoVacio.getValoresComoLista( ).size( ), "El mapa vacío no tiene valores" );
+    }
+
+    @Test
+    void testModoOrdenadoDespuesDeModificar( )
+    {
+        SandboxMapas[] sandboxes = new SandboxMapas[]{ sencillo, ordenado };
+        for( SandboxMapas sandbox : sandboxes )
+        {
+            sandbox.eliminarCadenaConLLave( "BB" );
+            sandbox.eliminarCadenaConValor( "ee" );
+            sandbox.volverMayusculas( );
+            sandbox.agregarCadena( "aa" );
+            sandbox.agregarCadena( "zz" );
+        }
+        assertEquals( sencillo.getValoresComoLista( ), ordenado.getValoresComoLista( ), "Los valores del modo ordenado no coinciden con los del modo normal" );
+        assertEquals( sencillo.getLlavesComoListaInvertida( ), ordenado.getLlavesComoListaInvertida( ), "Las llaves del modo ordenado no coinciden con las del modo normal" );
+        assertEquals( sencillo.getPrimera( ), ordenado.getPrimera( ), "La primera llave del modo ordenado no coincide con la del modo normal" );
+        assertEquals( sencillo.getUltima( ), ordenado.getUltima( ), "La última llave del modo ordenado no coincide con la del modo normal" );
+
+        ordenado.reiniciarMapaCadenas( Arrays.asList( "uno", "dos" ) );
+        assertEquals( Arrays.asList( "dos", "uno" ), ordenado.getValoresComoLista( ), "Los valores no se reconstruyeron al reiniciar el mapa" );
+    }
+
+    @Test
+    void testIndiceValoresDespuesDeModificar( )
+    {
+        sencillo.volverMayusculas( );
+        sencillo.agregarCadena( "aa" );
+        assertEquals( cadenasOrdenadas.length, sencillo.getCantidadCadenasDiferentes( ), "Un valor asociado a dos llaves se cuenta una vez" );
+
+        sencillo.eliminarCadenaConValor( "aa" );
+        assertTrue( sencillo.compararValores( new String[]{ "aa" } ), "El valor todavía está asociado a otra llave" );
+        sencillo.eliminarCadenaConValor( "aa" );
+        assertFalse( sencillo.compararValores( new String[]{ "aa" } ), "El valor ya no debería estar en el mapa" );
+        assertEquals( cadenasOrdenadas.length - 1, sencillo.getCantidadCadenasDiferentes( ), "La cantidad de cadenas debería haber disminuido en 1" );
+
+        sencillo.eliminarCadenaConLLave( "EE" );
+        assertFalse( sencillo.compararValores( new String[]{ "ee" } ), "El valor eliminado por llave no debería estar en el mapa" );
+        assertEquals( cadenasOrdenadas.length - 2, sencillo.getCantidadCadenasDiferentes( ), "La cantidad de cadenas debería haber disminuido en 1" );
+    }
+
+    @Test
+    void testBuscarPorCadena( )
+    {
+        SandboxMapas[] sandboxes = new SandboxMapas[]{ sencillo, ordenado };
+        for( SandboxMapas sandbox : sandboxes )
+        {
+            assertTrue( sandbox.contieneCadena( "Be" ), "La llave de la cadena debería estar en el mapa" );
+            assertFalse( sandbox.contieneCadena( "eB" ), "La llave de la cadena invertida no está en el mapa" );
+            assertEquals( "aaa", sandbox.getValorDeCadena( "aaa" ), "El valor de la llave de la cadena no es correcto" );
+            assertEquals( null, sandbox.getValorDeCadena( "zz" ), "La cadena no está en el mapa" );
+
+            sandbox.eliminarLlaveDeCadena( "Be" );
+            sandbox.eliminarLlaveDeCadena( "zz" );
+            assertFalse( sandbox.contieneCadena( "Be" ), "La llave de la cadena no se eliminó" );
+            assertFalse( sandbox.compararValores( new String[]{ "Be" } ), "El valor de la llave eliminada no debería estar en el índice" );
+            assertEquals( cadenasOrdenadas.length - 1, sandbox.getCantidadCadenasDiferentes( ), "Sólo debería eliminarse una cadena" );
+
+            sandbox.volverMayusculas( );
+            assertFalse( sandbox.contieneCadena( "aa" ), "Después de volverMayusculas las llaves ya no corresponden a las cadenas" );
+            assertTrue( sandbox.contieneCadena( "AA" ), "La llave en mayúsculas debería encontrarse con la cadena en mayúsculas" );
+            assertEquals( "aa", sandbox.getValorDeCadena( "AA" ), "La llave en mayúsculas conserva su valor" );
+        }
+    }
+
+    @Test
+    void testLlavesConSustitutos( )
+    {
+        // Un par sustituto válido, un sustituto bajo suelto, un alto suelto y dos cadenas distintas con la misma cadena invertida
+        String[] cadenas = new String[]{ "a\uD83D\uDE00b", "\uDE00x", "x\uD83D", "\uDC00\uD800", "\uD800\uDC00", "zy", "\uD83D\uDE00\uD83D\uDE01" };
+        SandboxMapas[] sandboxes = new SandboxMapas[]{ vacio, new SandboxMapas( true ) };
+        for( SandboxMapas sandbox : sandboxes )
+        {
+            List<String> esperadas = new ArrayList<String>( );
+            for( String cadena : cadenas )
+            {
+                sandbox.agregarCadena( cadena );
+                String llave = new StringBuilder( cadena ).reverse( ).toString( );
+                if( !esperadas.contains( llave ) )
+                {
+                    esperadas.add( llave );
+                }
+            }
+            esperadas.sort( Collections.reverseOrder( ) );
+            assertEquals( esperadas, sandbox.getLlavesComoListaInvertida( ), "Las llaves no son las cadenas invertidas con StringBuilder.reverse" );
+            assertEquals( esperadas.get( esperadas.size( ) - 1 ), sandbox.getPrimera( ), "La primera llave no es la correcta" );
+            assertEquals( esperadas.get( 0 ), sandbox.getUltima( ), "La última llave no es la correcta" );
+            for( String cadena : cadenas )
+            {
+                assertTrue( sandbox.contieneCadena( cadena ), "No se encontró la llave de " + cadena );
+            }
+
+            sandbox.eliminarCadenaConLLave( new StringBuilder( cadenas[ 0 ] ).reverse( ).toString( ) );
+            sandbox.eliminarLlaveDeCadena( cadenas[ 3 ] );
+            assertFalse( sandbox.contieneCadena( cadenas[ 0 ] ), "La llave eliminada como String debería coincidir con la de la cadena" );
+            assertFalse( sandbox.contieneCadena( cadenas[ 4 ] ), "Las dos cadenas tienen la misma llave" );
+            assertEquals( esperadas.size( ) - 2, sandbox.getLlavesComoListaInvertida( ).size( ), "Se debieron eliminar dos llaves" );
+        }
+    }
+
 }
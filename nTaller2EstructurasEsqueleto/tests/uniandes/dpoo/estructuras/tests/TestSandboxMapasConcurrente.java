@@ -0,0 +1,252 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.SandboxMapasConcurrente;
+
+class TestSandboxMapasConcurrente
+{
+    private SandboxMapasConcurrente sencillo;
+    private SandboxMapasConcurrente vacio;
+
+    private static final String[] cadenasSencillas = new String[]{ "ab", "cd", "ef", "ab", "Ba" };
+
+    private static final int HILOS = 8;
+    private static final int VALORES_POR_HILO = 20_000;
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        sencillo = new SandboxMapasConcurrente( );
+        for( int i = 0; i < cadenasSencillas.length; i++ )
+        {
+            sencillo.agregarCadena( cadenasSencillas[ i ] );
+        }
+
+        vacio = new SandboxMapasConcurrente( );
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        sencillo = null;
+        vacio = null;
+    }
+
+    @Test
+    void testOperacionesBasicas( )
+    {
+        assertEquals( Arrays.asList( "Ba", "ab", "cd", "ef" ), sencillo.getValoresComoLista( ), "Los valores no son correctos" );
+        assertEquals( Arrays.asList( "fe", "dc", "ba", "aB" ), sencillo.getLlavesComoListaInvertida( ), "Las llaves no son correctas" );
+        assertEquals( "aB", sencillo.getPrimera( ), "La primera llave no es correcta" );
+        assertEquals( "fe", sencillo.getUltima( ), "La última llave no es correcta" );
+        assertEquals( 4, sencillo.getCantidadCadenasDiferentes( ), "La cantidad de valores diferentes no es correcta" );
+        assertTrue( sencillo.compararValores( new String[]{ "ab", "ef" } ), "Los valores hacen parte del mapa" );
+        assertFalse( sencillo.compararValores( new String[]{ "ab", "ba" } ), "ba no es un valor del mapa" );
+
+        sencillo.eliminarCadenaConLLave( "dc" );
+        sencillo.eliminarCadenaConValor( "ef" );
+        sencillo.eliminarCadenaConValor( "zz" );
+        assertEquals( Arrays.asList( "Ba", "ab" ), sencillo.getValoresComoLista( ), "Las cadenas no se eliminaron" );
+
+        sencillo.volverMayusculas( );
+        assertEquals( Arrays.asList( "BA", "AB" ), sencillo.getLlavesComoListaInvertida( ), "Las llaves no quedaron en mayúsculas" );
+        assertEquals( "ab", sencillo.getValoresComoLista( ).get( 1 ), "Las llaves en mayúsculas deberían conservar sus valores" );
+        assertTrue( sencillo.compararValores( new String[]{ "Ba", "ab" } ), "El índice no se reconstruyó con el mapa" );
+
+        assertNull( vacio.getPrimera( ), "El mapa vacío no tiene primera llave" );
+        assertNull( vacio.getUltima( ), "El mapa vacío no tiene última llave" );
+        vacio.reiniciarMapaCadenas( Arrays.<Object>asList( 12, "xy", 12 ) );
+        assertEquals( Arrays.asList( "12", "xy" ), vacio.getValoresComoLista( ), "El mapa no se reinició con las cadenas de los objetos" );
+        assertEquals( Arrays.asList( "yx", "21" ), vacio.getLlavesComoListaInvertida( ), "Las llaves deberían ser las cadenas invertidas" );
+    }
+
+    @Test
+    void testVistas( )
+    {
+        Collection<String> valores = sencillo.getVistaValores( );
+        Collection<String> llaves = sencillo.getVistaLlaves( );
+        assertEquals( new HashSet<String>( Arrays.asList( "Ba", "ab", "cd", "ef" ) ), new HashSet<String>( valores ), "La vista no tiene los valores del mapa" );
+        assertEquals( new HashSet<String>( sencillo.getLlaves( ) ), new HashSet<String>( llaves ), "La vista no tiene las llaves en mayúsculas" );
+
+        sencillo.eliminarCadenaConValor( "ef" );
+        assertFalse( valores.contains( "ef" ), "La vista debería reflejar los valores eliminados" );
+        vacio.reiniciarMapaCadenas( Arrays.<Object>asList( "xy" ) );
+        Collection<String> llavesVacio = vacio.getVistaLlaves( );
+        assertEquals( Arrays.asList( "YX" ), new ArrayList<String>( llavesVacio ), "La vista debería seguir al mapa reiniciado" );
+        assertThrows( UnsupportedOperationException.class, ( ) -> valores.add( "zz" ) );
+    }
+
+    @Test
+    void testAgregarYEliminarDesdeVariosHilos( ) throws Exception
+    {
+        AtomicBoolean terminado = new AtomicBoolean( false );
+        Queue<Throwable> errores = new ConcurrentLinkedQueue<Throwable>( );
+        CountDownLatch inicio = new CountDownLatch( 1 );
+
+        List<Thread> hilos = new ArrayList<Thread>( );
+        for( int h = 0; h < HILOS; h++ )
+        {
+            int hilo = h;
+            hilos.add( iniciar( inicio, errores, ( ) -> {
+                for( int i = 0; i < VALORES_POR_HILO; i++ )
+                {
+                    vacio.agregarCadena( cadena( hilo, i ) );
+                    if( i % 2 == 1 )
+                    {
+                        vacio.eliminarCadenaConLLave( new StringBuilder( cadena( hilo, i ) ).reverse( ).toString( ) );
+                    }
+                }
+            } ) );
+        }
+        Thread lector = iniciar( inicio, errores, ( ) -> {
+            while( !terminado.get( ) )
+            {
+                assertTrue( vacio.getValoresComoLista( ).size( ) <= HILOS * VALORES_POR_HILO, "El mapa tiene más valores de los que se agregaron" );
+                vacio.compararValores( new String[]{ cadena( 0, 0 ) } );
+            }
+        } );
+
+        inicio.countDown( );
+        for( Thread hilo : hilos )
+        {
+            hilo.join( );
+        }
+        terminado.set( true );
+        lector.join( );
+
+        assertTrue( errores.isEmpty( ), "Hubo errores en los hilos: " + errores );
+        assertEquals( HILOS * VALORES_POR_HILO / 2, vacio.getValoresComoLista( ).size( ), "La cantidad final de cadenas no es correcta" );
+        assertEquals( HILOS * VALORES_POR_HILO / 2, vacio.getCantidadCadenasDiferentes( ), "El índice no coincide con el mapa" );
+        assertTrue( vacio.compararValores( new String[]{ cadena( 3, 0 ), cadena( 7, VALORES_POR_HILO - 2 ) } ), "Se perdieron cadenas" );
+        assertFalse( vacio.compararValores( new String[]{ cadena( 3, 1 ) } ), "Quedó en el índice una cadena eliminada" );
+    }
+
+    @Test
+    void testEliminarConValorMientrasSeAgrega( ) throws Exception
+    {
+        Queue<Throwable> errores = new ConcurrentLinkedQueue<Throwable>( );
+        CountDownLatch inicio = new CountDownLatch( 1 );
+        String[] valores = new String[]{ "uno", "dos", "tres", "cuatro" };
+
+        List<Thread> hilos = new ArrayList<Thread>( );
+        for( int h = 0; h < HILOS; h++ )
+        {
+            int hilo = h;
+            hilos.add( iniciar( inicio, errores, ( ) -> {
+                for( int i = 0; i < VALORES_POR_HILO; i++ )
+                {
+                    String valor = valores[ ( hilo + i ) % valores.length ];
+                    if( hilo % 2 == 0 )
+                    {
+                        vacio.agregarCadena( valor );
+                    }
+                    else
+                    {
+                        vacio.eliminarCadenaConValor( valor );
+                    }
+                }
+            } ) );
+        }
+
+        inicio.countDown( );
+        for( Thread hilo : hilos )
+        {
+            hilo.join( );
+        }
+
+        assertTrue( errores.isEmpty( ), "Hubo errores en los hilos: " + errores );
+        List<String> presentes = vacio.getValoresComoLista( );
+        assertEquals( new HashSet<String>( presentes ).size( ), presentes.size( ), "Un valor quedó con dos llaves" );
+        assertEquals( presentes.size( ), vacio.getCantidadCadenasDiferentes( ), "El índice no coincide con el mapa" );
+        for( String valor : valores )
+        {
+            assertEquals( presentes.contains( valor ), vacio.compararValores( new String[]{ valor } ), "El índice no coincide con el mapa para " + valor );
+            vacio.eliminarCadenaConValor( valor );
+        }
+        assertEquals( 0, vacio.getValoresComoLista( ).size( ), "Eliminar por valor no eliminó todas las cadenas" );
+        assertEquals( 0, vacio.getCantidadCadenasDiferentes( ), "El índice debería quedar vacío" );
+    }
+
+    @Test
+    void testAgregarMientrasSeVuelveMayusculas( ) throws Exception
+    {
+        Queue<Throwable> errores = new ConcurrentLinkedQueue<Throwable>( );
+        CountDownLatch inicio = new CountDownLatch( 1 );
+        int conversiones = 50;
+
+        List<Thread> hilos = new ArrayList<Thread>( );
+        for( int h = 0; h < HILOS; h++ )
+        {
+            int hilo = h;
+            hilos.add( iniciar( inicio, errores, ( ) -> {
+                for( int i = 0; i < VALORES_POR_HILO; i++ )
+                {
+                    vacio.agregarCadena( cadena( hilo, i ).toLowerCase( ) );
+                }
+            } ) );
+        }
+        hilos.add( iniciar( inicio, errores, ( ) -> {
+            for( int i = 0; i < conversiones; i++ )
+            {
+                vacio.volverMayusculas( );
+                assertTrue( vacio.getValoresComoLista( ).size( ) <= HILOS * VALORES_POR_HILO, "El mapa tiene más valores de los que se agregaron" );
+            }
+        } ) );
+
+        inicio.countDown( );
+        for( Thread hilo : hilos )
+        {
+            hilo.join( );
+        }
+
+        assertTrue( errores.isEmpty( ), "Hubo errores en los hilos: " + errores );
+        Set<String> valores = new HashSet<String>( vacio.getValoresComoLista( ) );
+        assertEquals( HILOS * VALORES_POR_HILO, valores.size( ), "Se perdieron cadenas agregadas mientras se volvían mayúsculas" );
+        assertEquals( HILOS * VALORES_POR_HILO, vacio.getCantidadCadenasDiferentes( ), "El índice no coincide con el mapa" );
+    }
+
+    /**
+     * Retorna la cadena número i del hilo h. Las cadenas de todos los hilos son distintas.
+     */
+    private static String cadena( int hilo, int i )
+    {
+        return "H" + hilo + "-" + i;
+    }
+
+    private static Thread iniciar( CountDownLatch inicio, Queue<Throwable> errores, Runnable tarea )
+    {
+        Thread hilo = new Thread( ( ) -> {
+            try
+            {
+                inicio.await( );
+                tarea.run( );
+            }
+            catch( Throwable error )
+            {
+                errores.add( error );
+            }
+        } );
+        hilo.start( );
+        return hilo;
+    }
+}
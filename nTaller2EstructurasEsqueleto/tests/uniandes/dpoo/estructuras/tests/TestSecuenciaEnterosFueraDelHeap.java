@@ -0,0 +1,171 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.ArregloDinamicoEnteros;
+import uniandes.dpoo.estructuras.logica.SecuenciaEnterosFueraDelHeap;
+
+class TestSecuenciaEnterosFueraDelHeap
+{
+    private SecuenciaEnterosFueraDelHeap secuencia;
+
+    private ArregloDinamicoEnteros esperado;
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        secuencia = new SecuenciaEnterosFueraDelHeap( );
+        esperado = new ArregloDinamicoEnteros( );
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        secuencia.close( );
+    }
+
+    @Test
+    void testOperacionesPorPosicionAleatorias( )
+    {
+        Random aleatorio = new Random( 2024 );
+        for( int i = 0; i < 5000; i++ )
+        {
+            int operacion = aleatorio.nextInt( 4 );
+            if( operacion <= 1 || esperado.tamanio( ) == 0 )
+            {
+                int posicion = aleatorio.nextInt( esperado.tamanio( ) + 1 );
+                secuencia.insertar( posicion, i );
+                esperado.insertar( posicion, i );
+            }
+            else if( operacion == 2 )
+            {
+                int posicion = aleatorio.nextInt( esperado.tamanio( ) );
+                assertEquals( esperado.eliminarPosicion( posicion ), secuencia.eliminarPosicion( posicion ), "No se eliminó el elemento correcto" );
+            }
+            else
+            {
+                int posicion = aleatorio.nextInt( esperado.tamanio( ) );
+                secuencia.set( posicion, -i );
+                esperado.set( posicion, -i );
+                assertEquals( -i, secuencia.get( posicion ), "No se reemplazó el elemento correcto" );
+            }
+        }
+        assertArrayEquals( esperado.copia( ), secuencia.copia( ), "La secuencia no coincide con un arreglo después de las mismas operaciones" );
+        assertThrows( IndexOutOfBoundsException.class, ( ) -> secuencia.get( esperado.tamanio( ) ) );
+        assertThrows( IndexOutOfBoundsException.class, ( ) -> secuencia.set( -1, 0 ) );
+        assertThrows( IndexOutOfBoundsException.class, ( ) -> secuencia.insertar( esperado.tamanio( ) + 1, 0 ) );
+    }
+
+    @Test
+    void testVariosSegmentos( )
+    {
+        Random aleatorio = new Random( 7 );
+        int cantidad = 2 * SecuenciaEnterosFueraDelHeap.TAMANIO_SEGMENTO + 12345;
+        int[] valores = new int[cantidad];
+        for( int i = 0; i < cantidad; i++ )
+        {
+            valores[ i ] = aleatorio.nextInt( 1000 ) - 500;
+            secuencia.agregar( valores[ i ] );
+        }
+        esperado.reiniciar( valores );
+        assertTrue( secuencia.capacidad( ) >= cantidad && secuencia.capacidad( ) <= 3L * SecuenciaEnterosFueraDelHeap.TAMANIO_SEGMENTO,
+                "La secuencia reservó más segmentos de los necesarios: " + secuencia.capacidad( ) );
+        assertTrue( secuencia.mismosValores( valores ), "Los valores agregados no coinciden" );
+        assertEquals( esperado.contar( 17 ), secuencia.contar( 17 ), "La cantidad de apariciones no es correcta" );
+
+        secuencia.insertar( SecuenciaEnterosFueraDelHeap.TAMANIO_SEGMENTO - 1, 9999 );
+        esperado.insertar( SecuenciaEnterosFueraDelHeap.TAMANIO_SEGMENTO - 1, 9999 );
+        assertEquals( esperado.eliminarPosicion( 3 ), secuencia.eliminarPosicion( 3 ), "No se eliminó el elemento correcto" );
+        assertArrayEquals( esperado.copia( ), secuencia.stream( ).parallel( ).toArray( ), "El stream no recorrió los elementos en orden" );
+
+        secuencia.ordenar( );
+        esperado.ordenar( );
+        assertArrayEquals( esperado.copia( ), secuencia.copia( ), "La secuencia no quedó ordenada" );
+        for( int valor = -501; valor <= 501; valor += 7 )
+        {
+            assertEquals( esperado.limiteInferior( valor ), secuencia.limiteInferior( valor ), "El límite inferior de " + valor + " no es correcto" );
+            assertEquals( esperado.limiteSuperior( valor ), secuencia.limiteSuperior( valor ), "El límite superior de " + valor + " no es correcto" );
+        }
+
+        secuencia.invertir( );
+        esperado.invertir( );
+        secuencia.ordenarEnParalelo( );
+        esperado.ordenar( );
+        assertArrayEquals( esperado.copia( ), secuencia.copia( ), "La secuencia no quedó ordenada en paralelo" );
+
+        assertEquals( esperado.eliminarTodos( 0 ), secuencia.eliminarTodos( 0 ), "La cantidad de elementos eliminados no es correcta" );
+        assertEquals( esperado.eliminarTodos( 500 ), secuencia.eliminarTodos( 500 ), "La cantidad de elementos eliminados no es correcta" );
+        assertTrue( secuencia.mismosValores( esperado.copia( ) ), "eliminarTodos no dejó los elementos esperados" );
+    }
+
+    @Test
+    void testOperacionesPorLotes( )
+    {
+        Random aleatorio = new Random( 5 );
+        int[] grande = aleatorio.ints( SecuenciaEnterosFueraDelHeap.TAMANIO_SEGMENTO + 1000, -500, 500 ).toArray( );
+        secuencia.agregarTodos( grande );
+        esperado.agregarTodos( grande );
+        int[] lote = aleatorio.ints( 3000, -500, 500 ).toArray( );
+        int posicion = SecuenciaEnterosFueraDelHeap.TAMANIO_SEGMENTO - 1500;
+        secuencia.insertarTodos( posicion, lote );
+        esperado.insertarTodos( posicion, lote );
+        secuencia.insertarTodos( 0, new int[]{ 7, 8 } );
+        esperado.insertarTodos( 0, new int[]{ 7, 8 } );
+        assertArrayEquals( esperado.copia( ), secuencia.copia( ), "Los lotes no quedaron en las posiciones correctas" );
+
+        assertEquals( esperado.eliminarSi( v -> v % 3 == 0 ), secuencia.eliminarSi( v -> v % 3 == 0 ), "La cantidad de elementos eliminados no es correcta" );
+        assertTrue( secuencia.mismosValores( esperado.copia( ) ), "eliminarSi no dejó los elementos esperados" );
+        assertEquals( esperado.eliminarSi( v -> v > -1000 ), secuencia.eliminarSi( v -> v > -1000 ), "No se eliminaron todos los elementos" );
+        assertEquals( 0, secuencia.tamanio( ), "La secuencia debería quedar vacía" );
+    }
+
+    @Test
+    void testOperacionesCompletas( )
+    {
+        int[] valores = new int[]{ 5, -3, 8, -3, 0, 12, -7, 8 };
+        secuencia.reiniciar( valores );
+        esperado.reiniciar( valores );
+        valores[ 0 ] = 1000;
+        assertEquals( 5, secuencia.get( 0 ), "reiniciar no copió los valores" );
+
+        secuencia.reemplazarTodos( n -> n < 0 ? n * -1 : n );
+        esperado.reemplazarTodos( n -> n < 0 ? n * -1 : n );
+        assertArrayEquals( esperado.copia( ), secuencia.copia( ), "reemplazarTodos no dejó los elementos esperados" );
+
+        secuencia.reemplazarTodosEnParalelo( n -> n - 1 );
+        esperado.reemplazarTodosEnParalelo( n -> n - 1 );
+        assertArrayEquals( esperado.copia( ), secuencia.copia( ), "reemplazarTodosEnParalelo no dejó los elementos esperados" );
+
+        secuencia.invertir( );
+        esperado.invertir( );
+        assertTrue( secuencia.mismosValores( esperado.copia( ) ), "La secuencia no quedó invertida" );
+        assertFalse( secuencia.mismosValores( new int[]{ 1, 2 } ), "Arreglos de distinto tamaño no deberían tener los mismos valores" );
+
+        long[] suma = new long[1];
+        secuencia.forEach( n -> suma[ 0 ] += n );
+        assertEquals( esperado.stream( ).sum( ), suma[ 0 ], "forEach no recorrió todos los elementos" );
+    }
+
+    @Test
+    void testCerrar( )
+    {
+        secuencia.agregar( 1 );
+        assertFalse( secuencia.cerrada( ), "La secuencia no debería estar cerrada" );
+        secuencia.close( );
+        assertTrue( secuencia.cerrada( ), "La secuencia debería estar cerrada" );
+        assertThrows( IllegalStateException.class, ( ) -> secuencia.get( 0 ), "Una secuencia cerrada no debería poder consultarse" );
+        assertThrows( IllegalStateException.class, ( ) -> secuencia.agregar( 2 ), "Una secuencia cerrada no debería poder modificarse" );
+        assertThrows( IllegalStateException.class, ( ) -> secuencia.tamanio( ) );
+        secuencia.close( );
+    }
+}
@@ -0,0 +1,204 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.ArregloDinamicoEnteros;
+import uniandes.dpoo.estructuras.logica.SecuenciaEnteros;
+import uniandes.dpoo.estructuras.logica.SecuenciaEnterosPorBloques;
+
+class TestSecuenciaEnterosPorBloques
+{
+    private SecuenciaEnterosPorBloques secuencia;
+
+    private ArregloDinamicoEnteros esperado;
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        secuencia = new SecuenciaEnterosPorBloques( );
+        esperado = new ArregloDinamicoEnteros( );
+    }
+
+    @Test
+    void testAgregarYConsultar( )
+    {
+        for( int i = 0; i < 20000; i++ )
+        {
+            secuencia.agregar( i );
+        }
+        assertEquals( 20000, secuencia.tamanio( ), "El tamaño de la secuencia no es correcto" );
+        for( int i = 0; i < 20000; i++ )
+        {
+            assertEquals( i, secuencia.get( i ), "El elemento de la posición " + i + " no es correcto" );
+        }
+        assertTrue( secuencia.capacidadBloque( ) >= Math.sqrt( 20000 ) / 2, "Los bloques no crecieron con la secuencia: " + secuencia.capacidadBloque( ) );
+        assertTrue( secuencia.cantidadBloques( ) <= 2 * secuencia.capacidadBloque( ), "Hay demasiados bloques: " + secuencia.cantidadBloques( ) );
+        assertThrows( IndexOutOfBoundsException.class, ( ) -> secuencia.get( 20000 ) );
+        assertThrows( IndexOutOfBoundsException.class, ( ) -> secuencia.get( -1 ) );
+        assertThrows( IndexOutOfBoundsException.class, ( ) -> secuencia.insertar( 20001, 0 ) );
+    }
+
+    @Test
+    void testLectorIndependiente( )
+    {
+        for( int i = 0; i < 20000; i++ )
+        {
+            secuencia.agregar( i );
+        }
+        SecuenciaEnteros lector = secuencia.lectorIndependiente( );
+        assertNotSame( secuencia, lector, "El lector debería tener su propio cursor" );
+        Random aleatorio = new Random( 5 );
+        for( int i = 0; i < 20000; i++ )
+        {
+            int posicion = aleatorio.nextInt( 20000 );
+            assertEquals( posicion, lector.get( posicion ), "El lector no tiene los elementos de la secuencia" );
+            assertEquals( 19999 - posicion, secuencia.get( 19999 - posicion ), "El lector no debería afectar las consultas de la secuencia" );
+        }
+        assertArrayEquals( secuencia.copia( ), lector.copia( ), "El lector no tiene los elementos de la secuencia" );
+    }
+
+    @Test
+    void testOperacionesPorPosicionAleatorias( )
+    {
+        Random aleatorio = new Random( 2024 );
+        for( int i = 0; i < 30000; i++ )
+        {
+            int operacion = aleatorio.nextInt( 4 );
+            if( operacion <= 1 || esperado.tamanio( ) == 0 )
+            {
+                int posicion = aleatorio.nextInt( esperado.tamanio( ) + 1 );
+                secuencia.insertar( posicion, i );
+                esperado.insertar( posicion, i );
+            }
+            else if( operacion == 2 )
+            {
+                int posicion = aleatorio.nextInt( esperado.tamanio( ) );
+                assertEquals( esperado.eliminarPosicion( posicion ), secuencia.eliminarPosicion( posicion ), "No se eliminó el elemento correcto" );
+            }
+            else
+            {
+                int posicion = aleatorio.nextInt( esperado.tamanio( ) );
+                secuencia.set( posicion, -i );
+                esperado.set( posicion, -i );
+                assertEquals( -i, secuencia.get( posicion ), "No se reemplazó el elemento correcto" );
+            }
+        }
+        assertArrayEquals( esperado.copia( ), secuencia.copia( ), "La secuencia no coincide con un arreglo después de las mismas operaciones" );
+        for( int i = 0; i < esperado.tamanio( ); i++ )
+        {
+            assertEquals( esperado.get( i ), secuencia.get( i ), "El elemento de la posición " + i + " no es correcto" );
+        }
+    }
+
+    @Test
+    void testOperacionesPorLotesAleatorias( )
+    {
+        Random aleatorio = new Random( 11 );
+        for( int i = 0; i < 3000; i++ )
+        {
+            int[] lote = aleatorio.ints( aleatorio.nextInt( i % 100 == 0 ? 3000 : 200 ), -50, 50 ).toArray( );
+            int posicion = aleatorio.nextInt( esperado.tamanio( ) + 1 );
+            if( aleatorio.nextInt( 4 ) == 0 )
+            {
+                secuencia.agregarTodos( lote );
+                esperado.agregarTodos( lote );
+            }
+            else
+            {
+                secuencia.insertarTodos( posicion, lote );
+                esperado.insertarTodos( posicion, lote );
+            }
+            if( i % 50 == 49 )
+            {
+                int eliminado = aleatorio.nextInt( 100 ) - 50;
+                assertEquals( esperado.eliminarSi( v -> v == eliminado || v > 40 ), secuencia.eliminarSi( v -> v == eliminado || v > 40 ),
+                        "La cantidad de elementos eliminados no es correcta" );
+            }
+            assertEquals( esperado.tamanio( ), secuencia.tamanio( ), "El tamaño de la secuencia no es correcto" );
+        }
+        assertArrayEquals( esperado.copia( ), secuencia.copia( ), "La secuencia no coincide con un arreglo después de los mismos lotes" );
+        assertTrue( secuencia.cantidadBloques( ) <= 2 * secuencia.capacidadBloque( ), "Hay demasiados bloques: " + secuencia.cantidadBloques( ) );
+        assertThrows( IndexOutOfBoundsException.class, ( ) -> secuencia.insertarTodos( secuencia.tamanio( ) + 1, new int[]{ 1 } ) );
+
+        secuencia.eliminarSi( v -> true );
+        assertEquals( 0, secuencia.cantidadBloques( ), "Una secuencia vacía no debería tener bloques" );
+        secuencia.insertarTodos( 0, new int[]{ 4, 5 } );
+        assertArrayEquals( new int[]{ 4, 5 }, secuencia.copia( ), "No se pudo volver a usar la secuencia vacía" );
+    }
+
+    @Test
+    void testEliminarHastaVaciar( )
+    {
+        for( int i = 0; i < 5000; i++ )
+        {
+            secuencia.agregar( i );
+        }
+        for( int i = 0; i < 4990; i++ )
+        {
+            secuencia.eliminarPosicion( ( i * 7 ) % secuencia.tamanio( ) );
+        }
+        assertEquals( 10, secuencia.tamanio( ), "El tamaño de la secuencia no es correcto" );
+        assertTrue( secuencia.cantidadBloques( ) <= 2, "No se reconstruyeron los bloques casi vacíos: " + secuencia.cantidadBloques( ) );
+        while( secuencia.tamanio( ) > 0 )
+        {
+            secuencia.eliminarPosicion( secuencia.tamanio( ) - 1 );
+        }
+        assertEquals( 0, secuencia.cantidadBloques( ), "Una secuencia vacía no debería tener bloques" );
+        secuencia.insertar( 0, 42 );
+        assertArrayEquals( new int[]{ 42 }, secuencia.copia( ), "No se pudo volver a usar la secuencia vacía" );
+    }
+
+    @Test
+    void testOperacionesCompletas( )
+    {
+        Random aleatorio = new Random( 7 );
+        int[] valores = new int[10000];
+        for( int i = 0; i < valores.length; i++ )
+        {
+            valores[ i ] = aleatorio.nextInt( 50 ) - 25;
+        }
+        secuencia.reiniciar( valores );
+        esperado.reiniciar( valores );
+        valores[ 0 ] = 1000;
+        assertEquals( esperado.get( 0 ), secuencia.get( 0 ), "reiniciar no copió los valores" );
+
+        assertEquals( esperado.contar( 3 ), secuencia.contar( 3 ), "La cantidad de apariciones no es correcta" );
+        assertEquals( esperado.eliminarTodos( 3 ), secuencia.eliminarTodos( 3 ), "La cantidad de elementos eliminados no es correcta" );
+        assertArrayEquals( esperado.copia( ), secuencia.copia( ), "eliminarTodos no dejó los elementos esperados" );
+
+        secuencia.reemplazarTodos( n -> n < 0 ? n * -1 : n );
+        esperado.reemplazarTodos( n -> n < 0 ? n * -1 : n );
+        assertArrayEquals( esperado.copia( ), secuencia.copia( ), "reemplazarTodos no dejó los elementos esperados" );
+
+        assertArrayEquals( esperado.copia( ), secuencia.stream( ).parallel( ).toArray( ), "El stream no recorrió los elementos en orden" );
+
+        secuencia.reemplazarTodosEnParalelo( n -> n - 1 );
+        esperado.reemplazarTodosEnParalelo( n -> n - 1 );
+        assertArrayEquals( esperado.copia( ), secuencia.copia( ), "reemplazarTodosEnParalelo no dejó los elementos esperados" );
+
+        secuencia.ordenarEnParalelo( );
+        esperado.ordenarEnParalelo( );
+        assertArrayEquals( esperado.copia( ), secuencia.copia( ), "La secuencia no quedó ordenada" );
+
+        for( int valor = -27; valor <= 27; valor++ )
+        {
+            assertEquals( esperado.limiteInferior( valor ), secuencia.limiteInferior( valor ), "El límite inferior de " + valor + " no es correcto" );
+            assertEquals( esperado.limiteSuperior( valor ), secuencia.limiteSuperior( valor ), "El límite superior de " + valor + " no es correcto" );
+        }
+
+        long[] suma = new long[1];
+        secuencia.forEach( n -> suma[ 0 ] += n );
+        long[] sumaEsperada = new long[1];
+        esperado.forEach( n -> sumaEsperada[ 0 ] += n );
+        assertEquals( sumaEsperada[ 0 ], suma[ 0 ], "forEach no recorrió todos los elementos" );
+    }
+}